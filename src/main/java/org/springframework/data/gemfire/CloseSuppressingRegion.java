@@ -0,0 +1,544 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import com.gemstone.gemfire.cache.AttributesMutator;
+import com.gemstone.gemfire.cache.Cache;
+import com.gemstone.gemfire.cache.CacheStatistics;
+import com.gemstone.gemfire.cache.InterestResultPolicy;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.RegionAttributes;
+import com.gemstone.gemfire.cache.RegionService;
+import com.gemstone.gemfire.cache.query.FunctionDomainException;
+import com.gemstone.gemfire.cache.query.NameResolutionException;
+import com.gemstone.gemfire.cache.query.QueryInvocationTargetException;
+import com.gemstone.gemfire.cache.query.SelectResults;
+import com.gemstone.gemfire.cache.query.TypeMismatchException;
+import com.gemstone.gemfire.cache.snapshot.RegionSnapshotService;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link CloseSuppressingRegion} class is a {@link Region} delegating all operations to the wrapped
+ * {@link Region}, except {@link #close()}, which is suppressed.  It is the {@link Region} exposed to
+ * {@link GemfireCallback GemfireCallbacks} by the {@link GemfireTemplate} unless the native {@link Region}
+ * is exposed, and costs a single virtual call per operation rather than the reflective invocation of
+ * a JDK dynamic proxy.
+ *
+ * Like the JDK dynamic proxy it replaces, a {@link CloseSuppressingRegion} is only equal to itself.
+ * Unlike that proxy, it implements the {@link Region} interface only; set
+ * {@link GemfireTemplate#setExposeNativeRegion(boolean)} to cast the {@link Region} to other interfaces
+ * implemented by the native {@link Region}.
+ *
+ * @param <K> the Region key class type.
+ * @param <V> the Region value class type.
+ * @see com.gemstone.gemfire.cache.Region
+ * @see org.springframework.data.gemfire.GemfireTemplate#createRegionProxy(Region)
+ * @since 1.10.0
+ */
+@SuppressWarnings({ "deprecation", "unused" })
+public class CloseSuppressingRegion<K, V> implements Region<K, V> {
+
+	private final Region<K, V> delegate;
+
+	/**
+	 * Constructs an instance of {@link CloseSuppressingRegion} wrapping the given {@link Region}.
+	 *
+	 * @param delegate the {@link Region} to delegate to.
+	 * @throws IllegalArgumentException if the {@link Region} is null.
+	 */
+	public CloseSuppressingRegion(Region<K, V> delegate) {
+		Assert.notNull(delegate, "The Region to delegate to must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Returns the {@link Region} wrapped by this {@link CloseSuppressingRegion}.
+	 *
+	 * @return the native {@link Region}.
+	 */
+	public Region<K, V> getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Suppresses closing the {@link Region}, which would close it for all users of the cache.
+	 */
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public String getFullPath() {
+		return delegate.getFullPath();
+	}
+
+	@Override
+	public <PK, PV> Region<PK, PV> getParentRegion() {
+		return delegate.getParentRegion();
+	}
+
+	@Override
+	public RegionAttributes<K, V> getAttributes() {
+		return delegate.getAttributes();
+	}
+
+	@Override
+	public AttributesMutator<K, V> getAttributesMutator() {
+		return delegate.getAttributesMutator();
+	}
+
+	@Override
+	public CacheStatistics getStatistics() {
+		return delegate.getStatistics();
+	}
+
+	@Override
+	public void invalidateRegion() {
+		delegate.invalidateRegion();
+	}
+
+	@Override
+	public void invalidateRegion(Object callbackArgument) {
+		delegate.invalidateRegion(callbackArgument);
+	}
+
+	@Override
+	public void localInvalidateRegion() {
+		delegate.localInvalidateRegion();
+	}
+
+	@Override
+	public void localInvalidateRegion(Object callbackArgument) {
+		delegate.localInvalidateRegion(callbackArgument);
+	}
+
+	@Override
+	public void destroyRegion() {
+		delegate.destroyRegion();
+	}
+
+	@Override
+	public void destroyRegion(Object callbackArgument) {
+		delegate.destroyRegion(callbackArgument);
+	}
+
+	@Override
+	public void localDestroyRegion() {
+		delegate.localDestroyRegion();
+	}
+
+	@Override
+	public void localDestroyRegion(Object callbackArgument) {
+		delegate.localDestroyRegion(callbackArgument);
+	}
+
+	@Override
+	public RegionSnapshotService<K, V> getSnapshotService() {
+		return delegate.getSnapshotService();
+	}
+
+	@Override
+	public void saveSnapshot(OutputStream outputStream) throws IOException {
+		delegate.saveSnapshot(outputStream);
+	}
+
+	@Override
+	public void loadSnapshot(InputStream inputStream) throws IOException, ClassNotFoundException {
+		delegate.loadSnapshot(inputStream);
+	}
+
+	@Override
+	public <SK, SV> Region<SK, SV> getSubregion(String path) {
+		return delegate.getSubregion(path);
+	}
+
+	@Override
+	public <SK, SV> Region<SK, SV> createSubregion(String subregionName, RegionAttributes<SK, SV> regionAttributes) {
+		return delegate.createSubregion(subregionName, regionAttributes);
+	}
+
+	@Override
+	public Set<Region<?, ?>> subregions(boolean recursive) {
+		return delegate.subregions(recursive);
+	}
+
+	@Override
+	public Entry<K, V> getEntry(Object key) {
+		return delegate.getEntry(key);
+	}
+
+	@Override
+	public V get(Object key) {
+		return delegate.get(key);
+	}
+
+	@Override
+	public V get(Object key, Object callbackArgument) {
+		return delegate.get(key, callbackArgument);
+	}
+
+	@Override
+	public Map<K, V> getAll(Collection<?> keys) {
+		return delegate.getAll(keys);
+	}
+
+	@Override
+	public <T extends K> Map<T, V> getAll(Collection<T> keys, Object callbackArgument) {
+		return delegate.getAll(keys, callbackArgument);
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return delegate.put(key, value);
+	}
+
+	@Override
+	public V put(K key, V value, Object callbackArgument) {
+		return delegate.put(key, value, callbackArgument);
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		delegate.putAll(map);
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map, Object callbackArgument) {
+		delegate.putAll(map, callbackArgument);
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return delegate.putIfAbsent(key, value);
+	}
+
+	@Override
+	public void create(K key, V value) {
+		delegate.create(key, value);
+	}
+
+	@Override
+	public void create(K key, V value, Object callbackArgument) {
+		delegate.create(key, value, callbackArgument);
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		return delegate.replace(key, value);
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		return delegate.replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public void invalidate(Object key) {
+		delegate.invalidate(key);
+	}
+
+	@Override
+	public void invalidate(Object key, Object callbackArgument) {
+		delegate.invalidate(key, callbackArgument);
+	}
+
+	@Override
+	public void localInvalidate(Object key) {
+		delegate.localInvalidate(key);
+	}
+
+	@Override
+	public void localInvalidate(Object key, Object callbackArgument) {
+		delegate.localInvalidate(key, callbackArgument);
+	}
+
+	@Override
+	public V destroy(Object key) {
+		return delegate.destroy(key);
+	}
+
+	@Override
+	public V destroy(Object key, Object callbackArgument) {
+		return delegate.destroy(key, callbackArgument);
+	}
+
+	@Override
+	public void localDestroy(Object key) {
+		delegate.localDestroy(key);
+	}
+
+	@Override
+	public void localDestroy(Object key, Object callbackArgument) {
+		delegate.localDestroy(key, callbackArgument);
+	}
+
+	@Override
+	public V remove(Object key) {
+		return delegate.remove(key);
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		return delegate.remove(key, value);
+	}
+
+	@Override
+	public void removeAll(Collection<? extends K> keys) {
+		delegate.removeAll(keys);
+	}
+
+	@Override
+	public void removeAll(Collection<? extends K> keys, Object callbackArgument) {
+		delegate.removeAll(keys, callbackArgument);
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public void localClear() {
+		delegate.localClear();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return delegate.containsKey(key);
+	}
+
+	@Override
+	public boolean containsKeyOnServer(Object key) {
+		return delegate.containsKeyOnServer(key);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return delegate.containsValue(value);
+	}
+
+	@Override
+	public boolean containsValueForKey(Object key) {
+		return delegate.containsValueForKey(key);
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		return delegate.entrySet();
+	}
+
+	@Override
+	public Set<Region.Entry<?, ?>> entrySet(boolean recursive) {
+		return delegate.entrySet(recursive);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return delegate.keySet();
+	}
+
+	@Override
+	public Set<K> keySetOnServer() {
+		return delegate.keySetOnServer();
+	}
+
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	@Override
+	public Collection<V> values() {
+		return delegate.values();
+	}
+
+	@Override
+	public Cache getCache() {
+		return delegate.getCache();
+	}
+
+	@Override
+	public RegionService getRegionService() {
+		return delegate.getRegionService();
+	}
+
+	@Override
+	public Object getUserAttribute() {
+		return delegate.getUserAttribute();
+	}
+
+	@Override
+	public void setUserAttribute(Object value) {
+		delegate.setUserAttribute(value);
+	}
+
+	@Override
+	public boolean isDestroyed() {
+		return delegate.isDestroyed();
+	}
+
+	@Override
+	public Lock getRegionDistributedLock() {
+		return delegate.getRegionDistributedLock();
+	}
+
+	@Override
+	public Lock getDistributedLock(Object key) {
+		return delegate.getDistributedLock(key);
+	}
+
+	@Override
+	public void becomeLockGrantor() {
+		delegate.becomeLockGrantor();
+	}
+
+	@Override
+	public void writeToDisk() {
+		delegate.writeToDisk();
+	}
+
+	@Override
+	public boolean existsValue(String queryPredicate) throws FunctionDomainException, TypeMismatchException,
+			NameResolutionException, QueryInvocationTargetException {
+
+		return delegate.existsValue(queryPredicate);
+	}
+
+	@Override
+	public <E> SelectResults<E> query(String queryPredicate) throws FunctionDomainException, TypeMismatchException,
+			NameResolutionException, QueryInvocationTargetException {
+
+		return delegate.query(queryPredicate);
+	}
+
+	@Override
+	public Object selectValue(String queryPredicate) throws FunctionDomainException, TypeMismatchException,
+			NameResolutionException, QueryInvocationTargetException {
+
+		return delegate.selectValue(queryPredicate);
+	}
+
+	@Override
+	public void registerInterest(K key) {
+		delegate.registerInterest(key);
+	}
+
+	@Override
+	public void registerInterest(K key, boolean isDurable) {
+		delegate.registerInterest(key, isDurable);
+	}
+
+	@Override
+	public void registerInterest(K key, boolean isDurable, boolean receiveValues) {
+		delegate.registerInterest(key, isDurable, receiveValues);
+	}
+
+	@Override
+	public void registerInterest(K key, InterestResultPolicy policy) {
+		delegate.registerInterest(key, policy);
+	}
+
+	@Override
+	public void registerInterest(K key, InterestResultPolicy policy, boolean isDurable) {
+		delegate.registerInterest(key, policy, isDurable);
+	}
+
+	@Override
+	public void registerInterest(K key, InterestResultPolicy policy, boolean isDurable, boolean receiveValues) {
+		delegate.registerInterest(key, policy, isDurable, receiveValues);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex) {
+		delegate.registerInterestRegex(regex);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, boolean isDurable) {
+		delegate.registerInterestRegex(regex, isDurable);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, boolean isDurable, boolean receiveValues) {
+		delegate.registerInterestRegex(regex, isDurable, receiveValues);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, InterestResultPolicy policy) {
+		delegate.registerInterestRegex(regex, policy);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, InterestResultPolicy policy, boolean isDurable) {
+		delegate.registerInterestRegex(regex, policy, isDurable);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, InterestResultPolicy policy, boolean isDurable,
+			boolean receiveValues) {
+
+		delegate.registerInterestRegex(regex, policy, isDurable, receiveValues);
+	}
+
+	@Override
+	public void unregisterInterest(K key) {
+		delegate.unregisterInterest(key);
+	}
+
+	@Override
+	public void unregisterInterestRegex(String regex) {
+		delegate.unregisterInterestRegex(regex);
+	}
+
+	@Override
+	public List<K> getInterestList() {
+		return delegate.getInterestList();
+	}
+
+	@Override
+	public List<String> getInterestListRegex() {
+		return delegate.getInterestListRegex();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+}
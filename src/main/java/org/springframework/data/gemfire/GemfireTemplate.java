@@ -16,10 +16,6 @@
 
 package org.springframework.data.gemfire;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -38,8 +34,11 @@ import com.gemstone.gemfire.internal.cache.LocalRegion;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.support.NoOpRegionOperationMetrics;
+import org.springframework.data.gemfire.support.QueryStatisticsRecorder;
+import org.springframework.data.gemfire.support.RegionOperation;
+import org.springframework.data.gemfire.support.RegionOperationMetrics;
 import org.springframework.util.Assert;
-import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -69,8 +68,12 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 	private boolean exposeNativeRegion = false;
 
+	private QueryStatisticsRecorder queryStatisticsRecorder;
+
 	private Region<?, ?> regionProxy;
 
+	private RegionOperationMetrics regionOperationMetrics = NoOpRegionOperationMetrics.INSTANCE;
+
 	public GemfireTemplate() {
 	}
 
@@ -88,8 +91,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	/**
 	 * Sets whether to expose the native Gemfire Region to GemfireCallback code. Default is "false": a Region proxy
 	 * will be returned, suppressing <code>close</code> calls.
-	 * <p>As there is often a need to cast to a interface, the exposed proxy implements all interfaces
-	 * implemented by the original {@link Region}. If this is not sufficient, turn this flag to "true".
+	 * <p>The exposed proxy implements the {@link Region} interface only. If there is a need to cast to another
+	 * interface implemented by the original {@link Region}, turn this flag to "true".
 	 *
 	 * @param exposeNativeRegion a boolean value to indicate whether the native GemFire Cache Region should be exposed
 	 * to the GemfireCallback.
@@ -109,6 +112,51 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		return this.exposeNativeRegion;
 	}
 
+	/**
+	 * Sets the {@link QueryStatisticsRecorder} recording the shape, count and latency of the queries executed by
+	 * this template's query/finder methods.  No statistics are recorded by default.
+	 *
+	 * @param queryStatisticsRecorder {@link QueryStatisticsRecorder} recording the executed queries;
+	 * may be {@literal null}.
+	 * @see org.springframework.data.gemfire.support.QueryStatisticsRecorder
+	 */
+	public void setQueryStatisticsRecorder(QueryStatisticsRecorder queryStatisticsRecorder) {
+		this.queryStatisticsRecorder = queryStatisticsRecorder;
+	}
+
+	/**
+	 * Returns the {@link QueryStatisticsRecorder} recording the queries executed by this template.
+	 *
+	 * @return the {@link QueryStatisticsRecorder} or {@literal null} if no statistics are recorded.
+	 * @see org.springframework.data.gemfire.support.QueryStatisticsRecorder
+	 */
+	public QueryStatisticsRecorder getQueryStatisticsRecorder() {
+		return this.queryStatisticsRecorder;
+	}
+
+	/**
+	 * Sets the {@link RegionOperationMetrics} recording the latency, payload size, result size and failures
+	 * of this template's data access, query/finder and <code>execute</code> operations.  No metrics are recorded
+	 * by default.
+	 *
+	 * @param regionOperationMetrics {@link RegionOperationMetrics} recording the operations; may be {@literal null}.
+	 * @see org.springframework.data.gemfire.support.RegionOperationMetrics
+	 */
+	public void setRegionOperationMetrics(RegionOperationMetrics regionOperationMetrics) {
+		this.regionOperationMetrics = (regionOperationMetrics != null ? regionOperationMetrics
+			: NoOpRegionOperationMetrics.INSTANCE);
+	}
+
+	/**
+	 * Returns the {@link RegionOperationMetrics} recording the operations performed by this template.
+	 *
+	 * @return the {@link RegionOperationMetrics}; never {@literal null}.
+	 * @see org.springframework.data.gemfire.support.RegionOperationMetrics
+	 */
+	public RegionOperationMetrics getRegionOperationMetrics() {
+		return this.regionOperationMetrics;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.gemfire.GemfireOperations#containsKey(java.lang.Object)
 	 */
@@ -146,11 +194,14 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> void create(K key, V value) {
+		long startTime = startTime();
+
 		try {
 			getRegion().create(key, value);
+			recordOperation(RegionOperation.CREATE, startTime, value, RegionOperationMetrics.NO_RESULT);
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.CREATE, startTime, e));
 		}
 	}
 
@@ -159,11 +210,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V get(K key) {
+		long startTime = startTime();
+
 		try {
-			return this.<K, V>getRegion().get(key);
+			V value = this.<K, V>getRegion().get(key);
+
+			recordOperation(RegionOperation.GET, startTime, value, (value != null ? 1 : 0));
+
+			return value;
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.GET, startTime, e));
 		}
 	}
 
@@ -172,11 +229,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> Map<K, V> getAll(Collection<?> keys) {
+		long startTime = startTime();
+
 		try {
-			return this.<K, V>getRegion().getAll(keys);
+			Map<K, V> values = this.<K, V>getRegion().getAll(keys);
+
+			recordOperationResult(RegionOperation.GET_ALL, startTime, values, values);
+
+			return values;
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.GET_ALL, startTime, e));
 		}
 	}
 
@@ -185,11 +248,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V put(K key, V value) {
+		long startTime = startTime();
+
 		try {
-			return this.<K, V>getRegion().put(key, value);
+			V previousValue = this.<K, V>getRegion().put(key, value);
+
+			recordOperation(RegionOperation.PUT, startTime, value, RegionOperationMetrics.NO_RESULT);
+
+			return previousValue;
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.PUT, startTime, e));
 		}
 	}
 
@@ -198,11 +267,14 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> void putAll(Map<? extends K, ? extends V> map) {
+		long startTime = startTime();
+
 		try {
 			this.<K, V>getRegion().putAll(map);
+			recordOperation(RegionOperation.PUT_ALL, startTime, map, RegionOperationMetrics.NO_RESULT);
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.PUT_ALL, startTime, e));
 		}
 	}
 
@@ -211,11 +283,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V putIfAbsent(K key, V value) {
+		long startTime = startTime();
+
 		try {
-			return this.<K, V>getRegion().putIfAbsent(key, value);
+			V previousValue = this.<K, V>getRegion().putIfAbsent(key, value);
+
+			recordOperation(RegionOperation.PUT_IF_ABSENT, startTime, value, RegionOperationMetrics.NO_RESULT);
+
+			return previousValue;
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.PUT_IF_ABSENT, startTime, e));
 		}
 	}
 
@@ -224,11 +302,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V remove(K key) {
+		long startTime = startTime();
+
 		try {
-			return this.<K, V>getRegion().remove(key);
+			V value = this.<K, V>getRegion().remove(key);
+
+			recordOperation(RegionOperation.REMOVE, startTime, null, (value != null ? 1 : 0));
+
+			return value;
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.REMOVE, startTime, e));
 		}
 	}
 
@@ -237,11 +321,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> V replace(K key, V value) {
+		long startTime = startTime();
+
 		try {
-			return this.<K, V>getRegion().replace(key, value);
+			V previousValue = this.<K, V>getRegion().replace(key, value);
+
+			recordOperation(RegionOperation.REPLACE, startTime, value, RegionOperationMetrics.NO_RESULT);
+
+			return previousValue;
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.REPLACE, startTime, e));
 		}
 	}
 
@@ -250,11 +340,17 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <K, V> boolean replace(K key, V oldValue, V newValue) {
+		long startTime = startTime();
+
 		try {
-			return this.<K, V>getRegion().replace(key, oldValue, newValue);
+			boolean replaced = this.<K, V>getRegion().replace(key, oldValue, newValue);
+
+			recordOperation(RegionOperation.REPLACE, startTime, newValue, RegionOperationMetrics.NO_RESULT);
+
+			return replaced;
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.REPLACE, startTime, e));
 		}
 	}
 
@@ -264,22 +360,35 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 */
 	@Override
 	public <E> SelectResults<E> query(String query) {
+		long startTime = (queryStatisticsRecorder != null ? System.nanoTime() : startTime());
+
 		try {
-			return this.getRegion().query(query);
+			SelectResults<E> results = this.getRegion().query(query);
+
+			if (queryStatisticsRecorder != null) {
+				queryStatisticsRecorder.recordPredicate(getRegion().getFullPath(), query,
+					System.nanoTime() - startTime);
+			}
+
+			recordOperationResult(RegionOperation.QUERY, startTime, null, results);
+
+			return results;
 		}
 		catch (IndexInvalidException e) {
-			throw convertGemFireQueryException(e);
+			throw convertGemFireQueryException(recordFailure(RegionOperation.QUERY, startTime, e));
 		}
 		catch (QueryInvalidException e) {
-			throw convertGemFireQueryException(e);
+			throw convertGemFireQueryException(recordFailure(RegionOperation.QUERY, startTime, e));
 		}
 		catch (GemFireCheckedException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.QUERY, startTime, e));
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.QUERY, startTime, e));
 		}
 		catch (RuntimeException ex) {
+			recordFailure(RegionOperation.QUERY, startTime, ex);
+
 			// test for CqInvalidException (removed in 6.5)
 			if (GemfireCacheUtils.isCqInvalidException(ex)) {
 				throw GemfireCacheUtils.convertCqInvalidException(ex);
@@ -297,12 +406,15 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	@SuppressWarnings("unchecked")
 	public <E> SelectResults<E> find(String queryString, Object... params) throws InvalidDataAccessApiUsageException {
+		long startTime = startTime();
+
 		try {
 			QueryService queryService = resolveQueryService(getRegion());
 			Query query = queryService.newQuery(queryString);
-			Object result = query.execute(params);
+			Object result = execute(query, queryString, params);
 
 			if (result instanceof SelectResults) {
+				recordOperationResult(RegionOperation.FIND, startTime, null, result);
 				return (SelectResults<E>) result;
 			}
 			else {
@@ -312,18 +424,20 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 			}
 		}
 		catch (IndexInvalidException ex) {
-			throw convertGemFireQueryException(ex);
+			throw convertGemFireQueryException(recordFailure(RegionOperation.FIND, startTime, ex));
 		}
 		catch (QueryInvalidException ex) {
-			throw convertGemFireQueryException(ex);
+			throw convertGemFireQueryException(recordFailure(RegionOperation.FIND, startTime, ex));
 		}
 		catch (GemFireCheckedException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.FIND, startTime, e));
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.FIND, startTime, e));
 		}
 		catch (RuntimeException ex) {
+			recordFailure(RegionOperation.FIND, startTime, ex);
+
 			// test for CqInvalidException (removed in 6.5)
 			if (GemfireCacheUtils.isCqInvalidException(ex)) {
 				throw GemfireCacheUtils.convertCqInvalidException(ex);
@@ -341,10 +455,12 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T findUnique(String queryString, Object... params) throws InvalidDataAccessApiUsageException {
+		long startTime = startTime();
+
 		try {
 			QueryService queryService = resolveQueryService(getRegion());
 			Query query = queryService.newQuery(queryString);
-			Object result = query.execute(params);
+			Object result = execute(query, queryString, params);
 
 			if (result instanceof SelectResults) {
 				SelectResults<T> selectResults = (SelectResults<T>) result;
@@ -359,21 +475,25 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 				}
 			}
 
+			recordOperationResult(RegionOperation.FIND_UNIQUE, startTime, result, result);
+
 			return (T) result;
 		}
 		catch (IndexInvalidException ex) {
-			throw convertGemFireQueryException(ex);
+			throw convertGemFireQueryException(recordFailure(RegionOperation.FIND_UNIQUE, startTime, ex));
 		}
 		catch (QueryInvalidException ex) {
-			throw convertGemFireQueryException(ex);
+			throw convertGemFireQueryException(recordFailure(RegionOperation.FIND_UNIQUE, startTime, ex));
 		}
 		catch (GemFireCheckedException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.FIND_UNIQUE, startTime, e));
 		}
 		catch (GemFireException e) {
-			throw convertGemFireAccessException(e);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.FIND_UNIQUE, startTime, e));
 		}
 		catch (RuntimeException ex) {
+			recordFailure(RegionOperation.FIND_UNIQUE, startTime, ex);
+
 			// test for CqInvalidException (removed in 6.5)
 			if (GemfireCacheUtils.isCqInvalidException(ex)) {
 				throw GemfireCacheUtils.convertCqInvalidException(ex);
@@ -384,6 +504,56 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/* (non-Javadoc) */
+	private Object execute(Query query, String queryString, Object... params) throws GemFireCheckedException {
+		if (queryStatisticsRecorder != null) {
+			long startTime = System.nanoTime();
+			Object result = query.execute(params);
+
+			queryStatisticsRecorder.record(queryString, System.nanoTime() - startTime);
+
+			return result;
+		}
+
+		return query.execute(params);
+	}
+
+	/* (non-Javadoc) */
+	private long startTime() {
+		return (regionOperationMetrics.isEnabled() ? System.nanoTime() : 0L);
+	}
+
+	/* (non-Javadoc) */
+	private void recordOperation(RegionOperation operation, long startTime, Object payload, int resultSize) {
+		if (regionOperationMetrics.isEnabled()) {
+			regionOperationMetrics.record(getRegion().getFullPath(), operation, System.nanoTime() - startTime,
+				payload, resultSize);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void recordOperationResult(RegionOperation operation, long startTime, Object payload, Object result) {
+		if (regionOperationMetrics.isEnabled()) {
+			recordOperation(operation, startTime, payload, sizeOf(result));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private <T extends Throwable> T recordFailure(RegionOperation operation, long startTime, T failure) {
+		if (regionOperationMetrics.isEnabled()) {
+			regionOperationMetrics.recordFailure(getRegion().getFullPath(), operation, System.nanoTime() - startTime,
+				failure);
+		}
+
+		return failure;
+	}
+
+	/* (non-Javadoc) */
+	private static int sizeOf(Object result) {
+		return (result instanceof Collection ? ((Collection<?>) result).size()
+			: (result instanceof Map ? ((Map<?, ?>) result).size() : (result != null ? 1 : 0)));
+	}
+
 	/**
 	 * Returns the {@link QueryService} used by this template in its query/finder methods.
 	 *
@@ -449,24 +619,32 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	public <T> T execute(GemfireCallback<T> action, boolean exposeNativeRegion) throws DataAccessException {
 		Assert.notNull(action, "Callback object must not be null");
 
+		long startTime = startTime();
+
 		try {
 			Region<?, ?> regionArgument = (exposeNativeRegion ? getRegion() : regionProxy);
 
-			return action.doInGemfire(regionArgument);
+			T result = action.doInGemfire(regionArgument);
+
+			recordOperationResult(RegionOperation.EXECUTE, startTime, null, result);
+
+			return result;
 		}
 		catch (IndexInvalidException ex) {
-			throw convertGemFireQueryException(ex);
+			throw convertGemFireQueryException(recordFailure(RegionOperation.EXECUTE, startTime, ex));
 		}
 		catch (QueryInvalidException ex) {
-			throw convertGemFireQueryException(ex);
+			throw convertGemFireQueryException(recordFailure(RegionOperation.EXECUTE, startTime, ex));
 		}
 		catch (GemFireCheckedException ex) {
-			throw convertGemFireAccessException(ex);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.EXECUTE, startTime, ex));
 		}
 		catch (GemFireException ex) {
-			throw convertGemFireAccessException(ex);
+			throw convertGemFireAccessException(recordFailure(RegionOperation.EXECUTE, startTime, ex));
 		}
 		catch (RuntimeException ex) {
+			recordFailure(RegionOperation.EXECUTE, startTime, ex);
+
 			// test for CqInvalidException (removed in 6.5)
 			if (GemfireCacheUtils.isCqInvalidException(ex)) {
 				throw GemfireCacheUtils.convertCqInvalidException(ex);
@@ -484,55 +662,12 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	 * @param <K> the Region key class type.
 	 * @param <V> the Region value class type.
 	 * @param region the GemFire Cache Region to create a proxy for.
-	 * @return the Region proxy implementing all interfaces implemented by the passed-in Region object.
+	 * @return a {@link CloseSuppressingRegion} delegating to the passed-in Region object.
 	 * @see com.gemstone.gemfire.cache.Region#close()
+	 * @see org.springframework.data.gemfire.CloseSuppressingRegion
 	 * @see #execute(GemfireCallback, boolean)
 	 */
-	@SuppressWarnings("unchecked")
 	protected <K, V> Region<K, V> createRegionProxy(Region<K, V> region) {
-		Class<?> regionType = region.getClass();
-
-		return (Region<K, V>) Proxy.newProxyInstance(regionType.getClassLoader(),
-			ClassUtils.getAllInterfacesForClass(regionType, getClass().getClassLoader()),
-				new RegionCloseSuppressingInvocationHandler(region));
-	}
-
-	/**
-	 * InvocationHandler that suppresses close calls on GemFire Cache Regions.
-	 *
-	 * @see com.gemstone.gemfire.cache.Region#close()
-	 * @see java.lang.reflect.InvocationHandler
-	 */
-	private static class RegionCloseSuppressingInvocationHandler implements InvocationHandler {
-
-		private final Region<?, ?> target;
-
-		public RegionCloseSuppressingInvocationHandler(final Region<?, ?> target) {
-			Assert.notNull(target, "The Region to target must not be null.");
-			this.target = target;
-		}
-
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-			if (method.getName().equals("equals")) {
-				// only consider equal when proxies are identical
-				return (proxy == args[0]);
-			}
-			else if (method.getName().equals("hashCode")) {
-				// use hashCode of Region proxy
-				return System.identityHashCode(proxy);
-			}
-			else if (method.getName().equals("close")) {
-				// suppress Region.close() method call
-				return null;
-			}
-			else {
-				try {
-					return method.invoke(this.target, args);
-				}
-				catch (InvocationTargetException ex) {
-					throw ex.getTargetException();
-				}
-			}
-		}
+		return new CloseSuppressingRegion<K, V>(region);
 	}
 }
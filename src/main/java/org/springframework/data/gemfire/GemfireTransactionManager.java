@@ -291,6 +291,11 @@ public class GemfireTransactionManager extends AbstractPlatformTransactionManage
 	 * However, unless there is a measurable performance penalty, the recommendation is
 	 * to keep this setting to <code>true</code>.
 	 *
+	 * Alternatively, to limit copies to reads performed inside cache transactions, set this to <code>false</code>
+	 * and access the transactional {@link Region Regions} through a
+	 * {@link org.springframework.data.gemfire.support.TransactionAwareCopyOnReadRegion}, for example by
+	 * registering a {@link org.springframework.data.gemfire.config.support.TransactionAwareCopyOnReadRegionBeanPostProcessor}.
+	 *
 	 * @param copyOnRead boolean value indicating whether copies (default) rather then direct object references
 	 * will be returned on fetch operations.
 	 */
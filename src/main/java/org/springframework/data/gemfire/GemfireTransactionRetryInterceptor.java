@@ -0,0 +1,338 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.gemstone.gemfire.cache.CommitConflictException;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} that retries a GemFire cache transaction when the commit fails
+ * with a {@link CommitConflictException}, using jittered exponential backoff between attempts.
+ *
+ * The interceptor must be applied <em>outside</em> the Spring transaction advice (for example,
+ * a {@link org.springframework.transaction.interceptor.TransactionInterceptor}) so that each attempt
+ * begins a new GemFire cache transaction.  By default, the interceptor is ordered with the highest precedence.
+ * Invocations participating in an already active transaction are never retried since only the outermost
+ * transaction can be re-executed.  The invocation is cloned before it proceeds for the first time and every retry
+ * proceeds with a fresh clone of that original, so each attempt runs through all of the advice ordered after
+ * this interceptor again, including the transaction advice.
+ *
+ * Attempt and conflict counts are recorded per transaction name, which is the fully-qualified name
+ * of the intercepted method, following the default transaction naming used by Spring.
+ *
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.data.gemfire.GemfireTransactionManager
+ * @see com.gemstone.gemfire.cache.CommitConflictException
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class GemfireTransactionRetryInterceptor implements MethodInterceptor, Ordered {
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	public static final long DEFAULT_INITIAL_BACKOFF = 10L;
+	public static final long DEFAULT_MAX_BACKOFF = 1000L;
+
+	public static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0d;
+
+	private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+
+	private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+	private int order = Ordered.HIGHEST_PRECEDENCE;
+
+	private long initialBackoff = DEFAULT_INITIAL_BACKOFF;
+	private long maxBackoff = DEFAULT_MAX_BACKOFF;
+
+	private final ConcurrentMap<String, TransactionStatistics> transactionStatistics =
+		new ConcurrentHashMap<String, TransactionStatistics>();
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final Random random = new Random();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return invocation.proceed();
+		}
+
+		String transactionName = ClassUtils.getQualifiedMethodName(invocation.getMethod());
+
+		TransactionStatistics statistics = resolveTransactionStatistics(transactionName);
+
+		ProxyMethodInvocation originalInvocation = (invocation instanceof ProxyMethodInvocation
+			? ((ProxyMethodInvocation) invocation).invocableClone() : null);
+
+		for (int attempt = 1; ; attempt++) {
+			statistics.attempts.incrementAndGet();
+
+			try {
+				Object result = (attempt == 1 ? invocation.proceed() : originalInvocation.invocableClone().proceed());
+
+				statistics.commits.incrementAndGet();
+
+				return result;
+			}
+			catch (Throwable cause) {
+				if (!isCommitConflict(cause)) {
+					throw cause;
+				}
+
+				statistics.conflicts.incrementAndGet();
+
+				if (attempt >= maxAttempts || originalInvocation == null) {
+					statistics.exhausted.incrementAndGet();
+					throw cause;
+				}
+
+				long backoff = computeBackoff(attempt);
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Commit conflict in transaction [%1$s] on attempt %2$d of %3$d;"
+						+ " retrying in %4$d ms", transactionName, attempt, maxAttempts, backoff));
+				}
+
+				sleep(backoff);
+			}
+		}
+	}
+
+	/**
+	 * Determines whether the given {@link Throwable} was caused by a GemFire cache transaction commit conflict.
+	 *
+	 * @param cause {@link Throwable} to evaluate.
+	 * @return a boolean indicating whether the {@link Throwable} or any of its causes
+	 * is a {@link CommitConflictException}.
+	 * @see com.gemstone.gemfire.cache.CommitConflictException
+	 */
+	protected boolean isCommitConflict(Throwable cause) {
+		for (Throwable current = cause; current != null; current = current.getCause()) {
+			if (current instanceof CommitConflictException) {
+				return true;
+			}
+
+			if (current.getCause() == current) {
+				break;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Computes the backoff in milliseconds before the next attempt, applying the multiplier for each failed
+	 * attempt, capping the result at the maximum backoff and randomizing the upper half of the interval
+	 * so concurrent transactions conflicting on the same keys do not retry in lock step.
+	 *
+	 * @param attempt number of the attempt that failed, starting at 1.
+	 * @return the backoff in milliseconds.
+	 */
+	protected long computeBackoff(int attempt) {
+		double backoff = initialBackoff * Math.pow(backoffMultiplier, attempt - 1);
+		long cappedBackoff = (long) Math.min(backoff, maxBackoff);
+		long halfBackoff = cappedBackoff / 2L;
+
+		return (halfBackoff + (long) (random.nextDouble() * (cappedBackoff - halfBackoff + 1)));
+	}
+
+	/* (non-Javadoc) */
+	void sleep(long milliseconds) throws InterruptedException {
+		if (milliseconds > 0L) {
+			Thread.sleep(milliseconds);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private TransactionStatistics resolveTransactionStatistics(String transactionName) {
+		TransactionStatistics statistics = transactionStatistics.get(transactionName);
+
+		if (statistics == null) {
+			statistics = new TransactionStatistics();
+
+			TransactionStatistics existingStatistics = transactionStatistics.putIfAbsent(transactionName, statistics);
+
+			statistics = (existingStatistics != null ? existingStatistics : statistics);
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Returns the attempt and conflict statistics recorded for each transaction name.
+	 *
+	 * @return an unmodifiable {@link Map} of transaction name to {@link TransactionStatistics}.
+	 */
+	public Map<String, TransactionStatistics> getTransactionStatistics() {
+		return Collections.<String, TransactionStatistics>unmodifiableMap(transactionStatistics);
+	}
+
+	/**
+	 * Returns the attempt and conflict statistics recorded for the named transaction.
+	 *
+	 * @param transactionName name of the transaction.
+	 * @return the {@link TransactionStatistics} or {@literal null} if the transaction has not been executed.
+	 */
+	public TransactionStatistics getTransactionStatistics(String transactionName) {
+		return transactionStatistics.get(transactionName);
+	}
+
+	/**
+	 * Sets the multiplier applied to the backoff after each failed attempt.
+	 *
+	 * @param backoffMultiplier multiplier applied to the backoff; must be greater than or equal to 1.
+	 */
+	public void setBackoffMultiplier(double backoffMultiplier) {
+		Assert.isTrue(backoffMultiplier >= 1.0d, String.format(
+			"Backoff multiplier [%s] must be greater than or equal to 1", backoffMultiplier));
+		this.backoffMultiplier = backoffMultiplier;
+	}
+
+	/**
+	 * Sets the backoff in milliseconds after the first failed attempt.
+	 *
+	 * @param initialBackoff initial backoff in milliseconds.
+	 */
+	public void setInitialBackoff(long initialBackoff) {
+		Assert.isTrue(initialBackoff >= 0L, String.format(
+			"Initial backoff [%d] must be greater than or equal to 0", initialBackoff));
+		this.initialBackoff = initialBackoff;
+	}
+
+	/**
+	 * Sets the maximum number of attempts, including the first, before the commit conflict is propagated.
+	 *
+	 * @param maxAttempts maximum number of attempts.
+	 */
+	public void setMaxAttempts(int maxAttempts) {
+		Assert.isTrue(maxAttempts > 0, String.format("Max attempts [%d] must be greater than 0", maxAttempts));
+		this.maxAttempts = maxAttempts;
+	}
+
+	/**
+	 * Gets the maximum number of attempts, including the first.
+	 *
+	 * @return the maximum number of attempts.
+	 */
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * Sets the upper bound in milliseconds on the backoff between attempts.
+	 *
+	 * @param maxBackoff maximum backoff in milliseconds.
+	 */
+	public void setMaxBackoff(long maxBackoff) {
+		Assert.isTrue(maxBackoff >= 0L, String.format(
+			"Max backoff [%d] must be greater than or equal to 0", maxBackoff));
+		this.maxBackoff = maxBackoff;
+	}
+
+	/**
+	 * Sets the order of this interceptor, which must be applied before the transaction advice.
+	 *
+	 * @param order order value of this interceptor.
+	 * @see org.springframework.core.Ordered
+	 */
+	public void setOrder(int order) {
+		this.order = order;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getOrder() {
+		return order;
+	}
+
+	/**
+	 * Attempt and commit conflict counts recorded for a single transaction name.
+	 */
+	public static class TransactionStatistics {
+
+		private final AtomicLong attempts = new AtomicLong(0L);
+		private final AtomicLong commits = new AtomicLong(0L);
+		private final AtomicLong conflicts = new AtomicLong(0L);
+		private final AtomicLong exhausted = new AtomicLong(0L);
+
+		/**
+		 * Returns the total number of attempts, including retries.
+		 *
+		 * @return the number of attempts.
+		 */
+		public long getAttempts() {
+			return attempts.get();
+		}
+
+		/**
+		 * Returns the number of attempts that completed without a commit conflict.
+		 *
+		 * @return the number of successful attempts.
+		 */
+		public long getCommits() {
+			return commits.get();
+		}
+
+		/**
+		 * Returns the number of attempts that failed with a commit conflict.
+		 *
+		 * @return the number of commit conflicts.
+		 */
+		public long getConflicts() {
+			return conflicts.get();
+		}
+
+		/**
+		 * Returns the number of invocations that failed with a commit conflict on the last allowed attempt.
+		 *
+		 * @return the number of invocations for which retries were exhausted.
+		 */
+		public long getExhausted() {
+			return exhausted.get();
+		}
+
+		/**
+		 * Returns the ratio of commit conflicts to attempts.
+		 *
+		 * @return the conflict rate, between 0 and 1.
+		 */
+		public double getConflictRate() {
+			long attempts = getAttempts();
+			return (attempts > 0L ? (double) getConflicts() / attempts : 0.0d);
+		}
+	}
+}
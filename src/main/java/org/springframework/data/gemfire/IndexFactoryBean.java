@@ -26,6 +26,7 @@ import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.support.BatchIndexCreator;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
@@ -62,6 +63,8 @@ public class IndexFactoryBean implements InitializingBean, FactoryBean<Index>, B
 	private boolean define = false;
 	private boolean override = true;
 
+	private BatchIndexCreator batchIndexCreator;
+
 	private BeanFactory beanFactory;
 
 	private Index index;
@@ -139,6 +142,11 @@ public class IndexFactoryBean implements InitializingBean, FactoryBean<Index>, B
 			}
 		}
 
+		if (batchIndexCreator != null) {
+			batchIndexCreator.define(indexName, indexType, expression, from, imports);
+			return new IndexWrapper(queryService, indexName);
+		}
+
 		try {
 			if (IndexType.isKey(indexType)) {
 				return createKeyIndex(queryService, indexName, expression, from);
@@ -308,6 +316,19 @@ public class IndexFactoryBean implements InitializingBean, FactoryBean<Index>, B
 		this.name = name;
 	}
 
+	/**
+	 * Sets the {@link BatchIndexCreator} creating the Index declared by this FactoryBean in a batch with
+	 * the other Indexes on the same Region, once all Regions have been initialized.  Takes precedence
+	 * over {@link #setDefine(boolean) define}.
+	 *
+	 * @param batchIndexCreator the {@link BatchIndexCreator} creating the Index; {@literal null} to create the Index
+	 * immediately, or define it, as configured with {@link #setDefine(boolean)}.
+	 * @see org.springframework.data.gemfire.support.BatchIndexCreator
+	 */
+	public void setBatchIndexCreator(BatchIndexCreator batchIndexCreator) {
+		this.batchIndexCreator = batchIndexCreator;
+	}
+
 	/**
 	 * Sets a boolean condition to indicate whether the Index declared and defined by this FactoryBean will only be
 	 * defined initially, or defined and created.  If defined-only, the IndexFactoryBean will receive a callback at
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+/**
+ * The ObjectSizerType enum is an enumeration of the ways an Eviction policy resolves the GemFire
+ * {@link com.gemstone.gemfire.cache.util.ObjectSizer} used to size {@link com.gemstone.gemfire.cache.Region}
+ * entry values for memory size Eviction.
+ *
+ * @see com.gemstone.gemfire.cache.util.ObjectSizer
+ * @see org.springframework.data.gemfire.mapping.MappingObjectSizer
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public enum ObjectSizerType {
+
+	/**
+	 * Uses the named {@link com.gemstone.gemfire.cache.util.ObjectSizer} bean if specified,
+	 * otherwise GemFire's default {@link com.gemstone.gemfire.cache.util.ObjectSizer}.
+	 */
+	DEFAULT,
+
+	/**
+	 * Uses a {@link org.springframework.data.gemfire.mapping.MappingObjectSizer} derived from
+	 * the entity mapping meta-data.
+	 */
+	AUTO
+
+}
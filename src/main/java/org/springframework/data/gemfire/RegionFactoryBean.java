@@ -36,6 +36,7 @@ import com.gemstone.gemfire.cache.RegionShortcut;
 import com.gemstone.gemfire.cache.Scope;
 import com.gemstone.gemfire.cache.asyncqueue.AsyncEventQueue;
 import com.gemstone.gemfire.cache.wan.GatewaySender;
+import com.gemstone.gemfire.compression.Compressor;
 import com.gemstone.gemfire.internal.cache.UserSpecifiedRegionAttributes;
 
 import org.apache.commons.logging.Log;
@@ -74,6 +75,7 @@ public abstract class RegionFactoryBean<K, V> extends RegionLookupFactoryBean<K,
 	private boolean running;
 
 	private Boolean enableGateway;
+	private Boolean offHeap;
 	private Boolean persistent;
 
 	private AsyncEventQueue[] asyncEventQueues;
@@ -87,6 +89,8 @@ public abstract class RegionFactoryBean<K, V> extends RegionLookupFactoryBean<K,
 	private Class<K> keyConstraint;
 	private Class<V> valueConstraint;
 
+	private Compressor compressor;
+
 	private DataPolicy dataPolicy;
 
 	private EvictionAttributes evictionAttributes;
@@ -108,9 +112,17 @@ public abstract class RegionFactoryBean<K, V> extends RegionLookupFactoryBean<K,
 	 * @inheritDoc
 	 */
 	@Override
-	public void afterPropertiesSet() throws Exception {
-		super.afterPropertiesSet();
-		postProcess(getRegion());
+	protected void postProcessRegion(Region<K, V> region) throws Exception {
+		postProcess(region);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected String getColocatedWith() {
+		PartitionAttributes partitionAttributes = (attributes != null ? attributes.getPartitionAttributes() : null);
+		return (partitionAttributes != null ? partitionAttributes.getColocatedWith() : null);
 	}
 
 	/**
@@ -164,6 +176,10 @@ public abstract class RegionFactoryBean<K, V> extends RegionLookupFactoryBean<K,
 			regionFactory.setCacheWriter(cacheWriter);
 		}
 
+		if (compressor != null) {
+			regionFactory.setCompressor(compressor);
+		}
+
 		resolveDataPolicy(regionFactory, persistent, dataPolicy);
 
 		if (isDiskStoreConfigurationAllowed()) {
@@ -178,6 +194,10 @@ public abstract class RegionFactoryBean<K, V> extends RegionLookupFactoryBean<K,
 			regionFactory.setKeyConstraint(keyConstraint);
 		}
 
+		if (offHeap != null) {
+			regionFactory.setEnableOffHeapMemory(offHeap);
+		}
+
 		if (scope != null) {
 			regionFactory.setScope(scope);
 		}
@@ -308,6 +328,7 @@ public abstract class RegionFactoryBean<K, V> extends RegionLookupFactoryBean<K,
 			regionFactory.setDiskSynchronous(regionAttributes.isDiskSynchronous());
 			regionFactory.setEnableAsyncConflation(regionAttributes.getEnableAsyncConflation());
 			regionFactory.setEnableSubscriptionConflation(regionAttributes.getEnableSubscriptionConflation());
+			regionFactory.setEnableOffHeapMemory(regionAttributes.getEnableOffHeapMemory());
 			regionFactory.setEntryIdleTimeout(regionAttributes.getEntryIdleTimeout());
 			regionFactory.setEntryTimeToLive(regionAttributes.getEntryTimeToLive());
 
@@ -632,6 +653,28 @@ public abstract class RegionFactoryBean<K, V> extends RegionLookupFactoryBean<K,
 		this.cacheWriter = cacheWriter;
 	}
 
+	/**
+	 * Sets the {@link Compressor} used to compress the {@link Region} entry values.
+	 * Overrides the settings specified through {@link #setAttributes(RegionAttributes)}.
+	 *
+	 * @param compressor the {@link Compressor} used to compress the {@link Region} entry values.
+	 * @see com.gemstone.gemfire.compression.Compressor
+	 */
+	public void setCompressor(Compressor compressor) {
+		this.compressor = compressor;
+	}
+
+	/**
+	 * Returns the {@link Compressor} used to compress the {@link Region} entry values.
+	 *
+	 * @return the {@link Compressor} used to compress the {@link Region} entry values,
+	 * or {@literal null} if unspecified.
+	 * @see com.gemstone.gemfire.compression.Compressor
+	 */
+	public Compressor getCompressor() {
+		return compressor;
+	}
+
 	/**
 	 * Indicates whether the Region referred to by this factory bean will be closed on shutdown (default true).
 	 *
@@ -720,6 +763,26 @@ public abstract class RegionFactoryBean<K, V> extends RegionLookupFactoryBean<K,
 		this.keyConstraint = keyConstraint;
 	}
 
+	/**
+	 * Sets whether the {@link Region} stores its entry values in off-heap memory, outside the JVM Heap.
+	 * Overrides the settings specified through {@link #setAttributes(RegionAttributes)}.
+	 *
+	 * @param offHeap boolean indicating whether the {@link Region} stores its entry values off-heap.
+	 */
+	public void setOffHeap(Boolean offHeap) {
+		this.offHeap = offHeap;
+	}
+
+	/**
+	 * Returns whether the {@link Region} stores its entry values in off-heap memory.
+	 *
+	 * @return a {@link Boolean} indicating whether the {@link Region} stores its entry values off-heap,
+	 * or {@literal null} if unspecified.
+	 */
+	public Boolean getOffHeap() {
+		return offHeap;
+	}
+
 	public void setPersistent(Boolean persistent) {
 		this.persistent = persistent;
 	}
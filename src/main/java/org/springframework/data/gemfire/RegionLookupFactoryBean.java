@@ -16,6 +16,10 @@
 
 package org.springframework.data.gemfire;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
 import com.gemstone.gemfire.cache.GemFireCache;
 import com.gemstone.gemfire.cache.Region;
 
@@ -25,6 +29,7 @@ import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.gemfire.support.ParallelRegionInitializer;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -50,6 +55,10 @@ public abstract class RegionLookupFactoryBean<K, V> implements FactoryBean<Regio
 
 	private Region<?, ?> parent;
 
+	private ParallelRegionInitializer parallelRegionInitializer;
+
+	private volatile Future<Region<K, V>> regionFuture;
+
 	private volatile Region<K, V> region;
 
 	private String beanName;
@@ -68,21 +77,76 @@ public abstract class RegionLookupFactoryBean<K, V> implements FactoryBean<Regio
 
 		Assert.hasText(regionName, "'regionName', 'name' or 'beanName' property must be set");
 
-		synchronized (this.cache) {
-			if (isLookupEnabled()) {
-				this.region = (getParent() != null ? getParent().<K, V>getSubregion(regionName)
-					: this.cache.<K, V>getRegion(regionName));
-			}
+		if (this.parallelRegionInitializer != null) {
+			final String resolvedRegionName = regionName;
 
-			if (region != null) {
-				log.info(String.format("Found Region [%1$s] in Cache [%2$s]", regionName, cache.getName()));
-			}
-			else {
-				log.info(String.format("Falling back to creating Region [%1$s] in Cache [%2$s]",
-					regionName, cache.getName()));
-				region = lookupFallback(cache, regionName);
+			this.regionFuture = this.parallelRegionInitializer.submit(resolveRegionPath(regionName),
+				getColocatedWith(), new Callable<Region<K, V>>() {
+					@Override
+					public Region<K, V> call() throws Exception {
+						Region<K, V> region = lookupOrCreateRegion(resolvedRegionName);
+						RegionLookupFactoryBean.this.region = region;
+						postProcessRegion(region);
+						return region;
+					}
+				});
+		}
+		else {
+			synchronized (this.cache) {
+				this.region = lookupOrCreateRegion(regionName);
 			}
+
+			postProcessRegion(this.region);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Region<K, V> lookupOrCreateRegion(String regionName) throws Exception {
+		Region<K, V> region = null;
+
+		if (isLookupEnabled()) {
+			region = (getParent() != null ? getParent().<K, V>getSubregion(regionName)
+				: this.cache.<K, V>getRegion(regionName));
 		}
+
+		if (region != null) {
+			log.info(String.format("Found Region [%1$s] in Cache [%2$s]", regionName, cache.getName()));
+		}
+		else {
+			log.info(String.format("Falling back to creating Region [%1$s] in Cache [%2$s]",
+				regionName, cache.getName()));
+			region = lookupFallback(cache, regionName);
+		}
+
+		return region;
+	}
+
+	/* (non-Javadoc) */
+	private String resolveRegionPath(String regionName) {
+		return (getParent() != null ? getParent().getFullPath() + Region.SEPARATOR + regionName : regionName);
+	}
+
+	/**
+	 * Post-processes the {@link Region} once it has been looked up or created, on the {@link Thread}
+	 * that initialized the {@link Region}.  By default, this implementation does nothing.
+	 *
+	 * @param region the {@link Region} resolved by this {@link FactoryBean}.
+	 * @throws Exception if the post-processing fails.
+	 * @see com.gemstone.gemfire.cache.Region
+	 */
+	protected void postProcessRegion(Region<K, V> region) throws Exception {
+	}
+
+	/**
+	 * Returns the name or path of the {@link Region} the {@link Region} of this {@link FactoryBean} is colocated with,
+	 * which must be initialized first when {@link Region Regions} are initialized in parallel.
+	 *
+	 * @return the name or path of the colocated {@link Region} or {@literal null} if the {@link Region}
+	 * is not colocated.  By default, this implementation returns {@literal null}.
+	 * @see #setParallelRegionInitializer(ParallelRegionInitializer)
+	 */
+	protected String getColocatedWith() {
+		return null;
 	}
 
 	/**
@@ -113,9 +177,24 @@ public abstract class RegionLookupFactoryBean<K, V> implements FactoryBean<Regio
 	 */
 	@Override
 	public Region<K, V> getObject() throws Exception {
+		awaitRegion();
 		return getRegion();
 	}
 
+	/* (non-Javadoc) */
+	private void awaitRegion() throws Exception {
+		Future<Region<K, V>> regionFuture = this.regionFuture;
+
+		if (regionFuture != null) {
+			try {
+				regionFuture.get();
+			}
+			catch (ExecutionException e) {
+				throw (e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+			}
+		}
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -227,6 +306,30 @@ public abstract class RegionLookupFactoryBean<K, V> implements FactoryBean<Regio
 		return this.region;
 	}
 
+	/**
+	 * Sets the {@link ParallelRegionInitializer} used to look up or create the {@link Region} asynchronously,
+	 * in parallel with the other {@link Region Regions} of the cache.  {@link #getObject()} blocks until
+	 * the {@link Region} has been initialized.
+	 *
+	 * @param parallelRegionInitializer {@link ParallelRegionInitializer} initializing the {@link Region};
+	 * {@literal null} to initialize the {@link Region} synchronously, during {@link #afterPropertiesSet()}.
+	 * @see org.springframework.data.gemfire.support.ParallelRegionInitializer
+	 */
+	public void setParallelRegionInitializer(ParallelRegionInitializer parallelRegionInitializer) {
+		this.parallelRegionInitializer = parallelRegionInitializer;
+	}
+
+	/**
+	 * Returns the {@link ParallelRegionInitializer} used to look up or create the {@link Region} asynchronously.
+	 *
+	 * @return the {@link ParallelRegionInitializer} or {@literal null} if the {@link Region} is initialized
+	 * synchronously.
+	 * @see org.springframework.data.gemfire.support.ParallelRegionInitializer
+	 */
+	public ParallelRegionInitializer getParallelRegionInitializer() {
+		return this.parallelRegionInitializer;
+	}
+
 	/**
 	 * Sets the name of the cache {@link Region}.  If no {@link Region} is found with the given name,
 	 * a new one will be created.  If no name is given, the value of the 'name' property will be used.
@@ -28,6 +28,7 @@ import com.gemstone.gemfire.cache.client.ClientCache;
 import com.gemstone.gemfire.cache.client.ClientRegionFactory;
 import com.gemstone.gemfire.cache.client.ClientRegionShortcut;
 import com.gemstone.gemfire.cache.client.Pool;
+import com.gemstone.gemfire.compression.Compressor;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -75,6 +76,7 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 
 	private BeanFactory beanFactory;
 
+	private Boolean offHeap;
 	private Boolean persistent;
 
 	private CacheListener<K, V>[] cacheListeners;
@@ -88,6 +90,8 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 
 	private ClientRegionShortcut shortcut = null;
 
+	private Compressor compressor;
+
 	private DataPolicy dataPolicy;
 
 	private EvictionAttributes evictionAttributes;
@@ -122,8 +126,10 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 
 		setAttributes(clientRegionFactory);
 		addCacheListeners(clientRegionFactory);
+		setCompressor(clientRegionFactory);
 		setDiskStoreName(clientRegionFactory);
 		setEvictionAttributes(clientRegionFactory);
+		setOffHeap(clientRegionFactory);
 		setPoolName(clientRegionFactory);
 
 		if (keyConstraint != null) {
@@ -259,6 +265,7 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 			clientRegionFactory.setCustomEntryTimeToLive(localAttributes.getCustomEntryTimeToLive());
 			clientRegionFactory.setDiskStoreName(localAttributes.getDiskStoreName());
 			clientRegionFactory.setDiskSynchronous(localAttributes.isDiskSynchronous());
+			clientRegionFactory.setEnableOffHeapMemory(localAttributes.getEnableOffHeapMemory());
 			clientRegionFactory.setEntryIdleTimeout(localAttributes.getEntryIdleTimeout());
 			clientRegionFactory.setEntryTimeToLive(localAttributes.getEntryTimeToLive());
 			clientRegionFactory.setEvictionAttributes(localAttributes.getEvictionAttributes());
@@ -297,6 +304,15 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 				: new CacheListener[0]);
 	}
 
+	/* (non-Javadoc) */
+	private ClientRegionFactory<K, V> setCompressor(ClientRegionFactory<K, V> clientRegionFactory) {
+		if (this.compressor != null) {
+			clientRegionFactory.setCompressor(this.compressor);
+		}
+
+		return clientRegionFactory;
+	}
+
 	/* (non-Javadoc) */
 	private ClientRegionFactory<K, V> setDiskStoreName(ClientRegionFactory<K, V> clientRegionFactory) {
 		if (StringUtils.hasText(this.diskStoreName)) {
@@ -315,6 +331,15 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 		return clientRegionFactory;
 	}
 
+	/* (non-Javadoc) */
+	private ClientRegionFactory<K, V> setOffHeap(ClientRegionFactory<K, V> clientRegionFactory) {
+		if (this.offHeap != null) {
+			clientRegionFactory.setEnableOffHeapMemory(this.offHeap);
+		}
+
+		return clientRegionFactory;
+	}
+
 	/* (non-Javadoc) */
 	private ClientRegionFactory<K, V> setPoolName(ClientRegionFactory<K, V> clientRegionFactory) {
 		String poolName = resolvePoolName();
@@ -447,6 +472,16 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 		this.attributes = attributes;
 	}
 
+	/**
+	 * Returns the {@link RegionAttributes} used to configure the client {@link Region} created by this factory.
+	 *
+	 * @return the {@link RegionAttributes} used to configure the client {@link Region}.
+	 * @see com.gemstone.gemfire.cache.RegionAttributes
+	 */
+	public RegionAttributes<K, V> getAttributes() {
+		return this.attributes;
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		this.beanFactory = beanFactory;
@@ -501,6 +536,27 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 		this.cacheWriter = cacheWriter;
 	}
 
+	/**
+	 * Sets the {@link Compressor} used to compress the client {@link Region} entry values.
+	 *
+	 * @param compressor the {@link Compressor} used to compress the client {@link Region} entry values.
+	 * @see com.gemstone.gemfire.compression.Compressor
+	 */
+	public void setCompressor(Compressor compressor) {
+		this.compressor = compressor;
+	}
+
+	/**
+	 * Returns the {@link Compressor} used to compress the client {@link Region} entry values.
+	 *
+	 * @return the {@link Compressor} used to compress the client {@link Region} entry values,
+	 * or {@literal null} if unspecified.
+	 * @see com.gemstone.gemfire.compression.Compressor
+	 */
+	public Compressor getCompressor() {
+		return this.compressor;
+	}
+
 	/**
 	 * Sets the Data Policy. Used only when a new Region is created.
 	 *
@@ -576,6 +632,25 @@ public class ClientRegionFactoryBean<K, V> extends RegionLookupFactoryBean<K, V>
 		this.keyConstraint = keyConstraint;
 	}
 
+	/**
+	 * Sets whether the client {@link Region} stores its entry values in off-heap memory.
+	 *
+	 * @param offHeap boolean indicating whether the client {@link Region} stores its entry values off-heap.
+	 */
+	public void setOffHeap(Boolean offHeap) {
+		this.offHeap = offHeap;
+	}
+
+	/**
+	 * Returns whether the client {@link Region} stores its entry values in off-heap memory.
+	 *
+	 * @return a {@link Boolean} indicating whether the client {@link Region} stores its entry values off-heap,
+	 * or {@literal null} if unspecified.
+	 */
+	public Boolean getOffHeap() {
+		return this.offHeap;
+	}
+
 	protected boolean isPersistentUnspecified() {
 		return (persistent == null);
 	}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.RegionFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport;
+import org.springframework.data.gemfire.support.CompressionMetrics;
+import org.springframework.data.gemfire.support.DeflateCompressor;
+import org.springframework.data.gemfire.support.MeteredCompressor;
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.gemstone.gemfire.cache.RegionAttributes;
+import com.gemstone.gemfire.compression.Compressor;
+
+/**
+ * The {@link CompressionConfiguration} class is a Spring {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar}
+ * that registers a {@link BeanPostProcessor} compressing the entry values of the selected
+ * {@link com.gemstone.gemfire.cache.Region Regions}, along with the {@link CompressionMetrics} bean
+ * recording the compression ratio and latencies of every compressed {@link com.gemstone.gemfire.cache.Region}.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.EnableCompression
+ * @see org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport
+ * @see org.springframework.data.gemfire.support.CompressionMetrics
+ * @see org.springframework.data.gemfire.support.MeteredCompressor
+ * @since 1.10.0
+ */
+public class CompressionConfiguration extends EmbeddedServiceConfigurationSupport {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Class getAnnotationType() {
+		return EnableCompression.class;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void registerBeanDefinitions(AnnotationMetadata importingClassMetaData,
+			Map<String, Object> annotationAttributes, BeanDefinitionRegistry registry) {
+
+		String compressionMetricsBeanName = generateBeanName(CompressionMetrics.class);
+
+		registry.registerBeanDefinition(compressionMetricsBeanName,
+			BeanDefinitionBuilder.genericBeanDefinition(CompressionMetrics.class).getBeanDefinition());
+
+		String compressorName = (String) annotationAttributes.get("compressorName");
+
+		Object compressor = (StringUtils.hasText(compressorName) ? new RuntimeBeanReference(compressorName.trim())
+			: BeanDefinitionBuilder.genericBeanDefinition(DeflateCompressor.class)
+				.addConstructorArgValue(annotationAttributes.get("level")).getBeanDefinition());
+
+		BeanDefinitionBuilder compressionBeanPostProcessorBuilder =
+			BeanDefinitionBuilder.genericBeanDefinition(CompressionBeanPostProcessor.class)
+				.addConstructorArgValue(annotationAttributes.get("regionNames"))
+				.addConstructorArgValue(compressor)
+				.addConstructorArgReference(compressionMetricsBeanName)
+				.setRole(AbstractBeanDefinition.ROLE_INFRASTRUCTURE);
+
+		registry.registerBeanDefinition(generateBeanName(CompressionBeanPostProcessor.class),
+			compressionBeanPostProcessorBuilder.getBeanDefinition());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Properties toGemFireProperties(Map<String, Object> annotationAttributes) {
+		return new Properties();
+	}
+
+	/**
+	 * Spring {@link BeanPostProcessor} compressing the entry values of the {@link com.gemstone.gemfire.cache.Region Regions}
+	 * created by {@link RegionFactoryBean RegionFactoryBeans} and {@link ClientRegionFactoryBean ClientRegionFactoryBeans}.
+	 *
+	 * A {@link com.gemstone.gemfire.cache.Region} already configured with a {@link Compressor} (e.g. with
+	 * the {@literal compressorName} attribute of its entity {@link com.gemstone.gemfire.cache.Region} annotation,
+	 * or with a {@literal <gfe:compressor>} element in its {@link com.gemstone.gemfire.cache.RegionAttributes})
+	 * keeps its {@link Compressor}, which is metered as well.
+	 */
+	protected static class CompressionBeanPostProcessor implements BeanPostProcessor {
+
+		private final Compressor compressor;
+
+		private final CompressionMetrics compressionMetrics;
+
+		private final Set<String> regionNames = new HashSet<String>();
+
+		/**
+		 * Constructs an instance of {@link CompressionBeanPostProcessor} compressing the entry values
+		 * of the named {@link com.gemstone.gemfire.cache.Region Regions} with the given {@link Compressor}.
+		 *
+		 * @param regionNames names of the {@link com.gemstone.gemfire.cache.Region Regions} to compress;
+		 * all {@link com.gemstone.gemfire.cache.Region Regions} if empty.
+		 * @param compressor {@link Compressor} used to compress the entry values.
+		 * @param compressionMetrics {@link CompressionMetrics} registering the {@link MeteredCompressor} of every
+		 * compressed {@link com.gemstone.gemfire.cache.Region}.
+		 * @throws IllegalArgumentException if the {@link Compressor} or {@link CompressionMetrics} is null.
+		 */
+		protected CompressionBeanPostProcessor(String[] regionNames, Compressor compressor,
+				CompressionMetrics compressionMetrics) {
+
+			Assert.notNull(compressor, "Compressor must not be null");
+			Assert.notNull(compressionMetrics, "CompressionMetrics must not be null");
+
+			Collections.addAll(this.regionNames, ArrayUtils.nullSafeArray(regionNames, String.class));
+			this.compressor = compressor;
+			this.compressionMetrics = compressionMetrics;
+		}
+
+		/* (non-Javadoc) */
+		protected boolean accepts(String regionName) {
+			return (this.regionNames.isEmpty() || this.regionNames.contains(regionName));
+		}
+
+		/* (non-Javadoc) */
+		protected Compressor resolveConfiguredCompressor(Compressor compressor, RegionAttributes<?, ?> attributes) {
+			return (compressor != null ? compressor : (attributes != null ? attributes.getCompressor() : null));
+		}
+
+		/* (non-Javadoc) */
+		protected Compressor meter(String regionName, Compressor configuredCompressor) {
+			if (configuredCompressor instanceof MeteredCompressor) {
+				return configuredCompressor;
+			}
+
+			return compressionMetrics.register(new MeteredCompressor(regionName,
+				(configuredCompressor != null ? configuredCompressor : compressor)));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+			if (bean instanceof RegionFactoryBean) {
+				RegionFactoryBean regionFactoryBean = (RegionFactoryBean) bean;
+				String regionName = regionFactoryBean.resolveRegionName();
+
+				if (accepts(regionName)) {
+					regionFactoryBean.setCompressor(meter(regionName, resolveConfiguredCompressor(
+						regionFactoryBean.getCompressor(), regionFactoryBean.getAttributes())));
+				}
+			}
+			else if (bean instanceof ClientRegionFactoryBean) {
+				ClientRegionFactoryBean clientRegionFactoryBean = (ClientRegionFactoryBean) bean;
+				String regionName = clientRegionFactoryBean.resolveRegionName();
+
+				if (accepts(regionName)) {
+					clientRegionFactoryBean.setCompressor(meter(regionName, resolveConfiguredCompressor(
+						clientRegionFactoryBean.getCompressor(), clientRegionFactoryBean.getAttributes())));
+				}
+			}
+
+			return bean;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+			return bean;
+		}
+	}
+}
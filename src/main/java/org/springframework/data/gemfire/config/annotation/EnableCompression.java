@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.zip.Deflater;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableCompression} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class to compress the entry values of the selected {@link com.gemstone.gemfire.cache.Region Regions}.
+ *
+ * Every compressed {@link com.gemstone.gemfire.cache.Region} records its compression ratio and compress
+ * and decompress latencies, exposed by the {@link org.springframework.data.gemfire.support.CompressionMetrics} bean.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.CompressionConfiguration
+ * @see org.springframework.data.gemfire.support.CompressionMetrics
+ * @see org.springframework.data.gemfire.support.DeflateCompressor
+ * @since 1.10.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(CompressionConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableCompression {
+
+	/**
+	 * Name of the Spring bean of type {@link com.gemstone.gemfire.compression.Compressor} used to compress
+	 * the {@link com.gemstone.gemfire.cache.Region} entry values (e.g. a GemFire
+	 * {@link com.gemstone.gemfire.compression.SnappyCompressor}).
+	 *
+	 * Defaults to unset, using the built-in {@link org.springframework.data.gemfire.support.DeflateCompressor}.
+	 */
+	String compressorName() default "";
+
+	/**
+	 * Deflate compression level, between {@literal 0} and {@literal 9}, of the built-in
+	 * {@link org.springframework.data.gemfire.support.DeflateCompressor}.
+	 *
+	 * Defaults to {@link Deflater#BEST_SPEED}.
+	 */
+	int level() default Deflater.BEST_SPEED;
+
+	/**
+	 * Names of the {@link com.gemstone.gemfire.cache.Region Regions} to compress.
+	 *
+	 * Defaults to empty, which compresses all {@link com.gemstone.gemfire.cache.Region Regions}.
+	 */
+	String[] regionNames() default {};
+
+}
@@ -35,6 +35,12 @@ import org.springframework.core.annotation.AliasFor;
  * annotated class to enable the creation of the GemFire/Geode {@link Region Regions} based on
  * the application domain model object entities.
  *
+ * When the application is compiled with the
+ * {@link org.springframework.data.gemfire.config.annotation.support.EntityDefinedRegionsIndexProcessor},
+ * the entities of the base packages whose classpath roots all carry the index it writes are resolved from the index
+ * rather than by scanning these base packages, unless {@link #includeFilters()} are specified.  Base packages
+ * also found in a classpath root compiled without the processor, e.g. a JAR of another module, are still scanned.
+ *
  * @author John Blum
  * @see org.springframework.context.annotation.ComponentScan
  * @see org.springframework.context.annotation.ComponentScan.Filter
@@ -43,6 +49,7 @@ import org.springframework.core.annotation.AliasFor;
  * @see org.springframework.data.gemfire.config.annotation.EnableIndexes
  * @see org.springframework.data.gemfire.config.annotation.EntityDefinedRegionsConfiguration
  * @see org.springframework.data.gemfire.config.annotation.IndexConfiguration
+ * @see org.springframework.data.gemfire.config.annotation.support.EntityDefinedRegionsIndexProcessor
  * @see com.gemstone.gemfire.cache.Region
  * @since 1.9.0
  */
@@ -31,6 +31,7 @@ import com.gemstone.gemfire.cache.util.ObjectSizer;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.gemfire.EvictionActionType;
 import org.springframework.data.gemfire.EvictionPolicyType;
+import org.springframework.data.gemfire.ObjectSizerType;
 
 /**
  * The {@link EnableEviction} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
@@ -85,6 +86,18 @@ public @interface EnableEviction {
 		 */
 		int maximum() default EvictionAttributes.DEFAULT_ENTRIES_MAXIMUM;
 
+		/**
+		 * Determines how the {@link ObjectSizer} used to size {@link Region} entry values is resolved.
+		 * {@link ObjectSizerType#AUTO} derives an {@link ObjectSizer} from the entity mapping meta-data,
+		 * ignoring {@link #objectSizerName()}.
+		 *
+		 * Defaults to {@link ObjectSizerType#DEFAULT}.
+		 *
+		 * @see org.springframework.data.gemfire.ObjectSizerType
+		 * @see org.springframework.data.gemfire.mapping.MappingObjectSizer
+		 */
+		ObjectSizerType objectSizer() default ObjectSizerType.DEFAULT;
+
 		/**
 		 * Name of a Spring bean of type {@link ObjectSizer} defined in the Spring context used
 		 * to size {@link Region} entry values.
@@ -301,6 +301,16 @@ public @interface EnableGemFireProperties {
 	 */
 	String membershipPortRange() default GemFirePropertiesConfiguration.DEFAULT_MEMBERSHIP_PORT_RANGE;
 
+	/**
+	 * Total amount of off-heap memory allocated to this member for storing the entry values of off-heap Regions,
+	 * specified as a number followed by a unit: {@literal m} for megabytes or {@literal g} for gigabytes.
+	 *
+	 * Defaults to unset (no off-heap memory).
+	 *
+	 * @see org.springframework.data.gemfire.config.annotation.EnableOffHeap
+	 */
+	String offHeapMemorySize() default "";
+
 	/**
 	 * Defines this member’s redundancy zone. Used to separate member’s into different groups for satisfying
 	 * Partitioned Region redundancy. If this property is set, GemFire will not put redundant copies of data
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableIndexAdvisor} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class to record per-shape statistics of the OQL queries executed by
+ * {@link org.springframework.data.gemfire.GemfireTemplate GemfireTemplates} and repository query methods,
+ * and recommend the {@link org.springframework.data.gemfire.mapping.Indexed @Indexed} declarations that would
+ * serve them, ranked by estimated time saved.
+ *
+ * The recommendations are available from the {@link org.springframework.data.gemfire.support.IndexAdvisor} bean
+ * and logged when the Spring context is closed.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.IndexAdvisorConfiguration
+ * @see org.springframework.data.gemfire.support.IndexAdvisor
+ * @see org.springframework.data.gemfire.support.QueryStatisticsRecorder
+ * @since 1.10.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(IndexAdvisorConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableIndexAdvisor {
+
+	/**
+	 * Determines whether the recommended Indexes are logged when the Spring context is closed.
+	 *
+	 * Defaults to {@literal true}.
+	 */
+	boolean logOnShutdown() default true;
+
+	/**
+	 * Maximum number of distinct query shapes recorded.  Once reached, queries not seen before are recorded,
+	 * unparsed, in a single overflow bucket.
+	 *
+	 * Defaults to {@literal 1000}.
+	 */
+	int maxQueryShapes() default 1000;
+
+	/**
+	 * Number of executions from which the queries of a shape are considered for recommendations.
+	 *
+	 * Defaults to {@literal 10}.
+	 */
+	long minimumQueryCount() default 10L;
+
+	/**
+	 * Number of most recent latencies of every query shape from which percentiles are computed.
+	 *
+	 * Defaults to {@literal 512}.
+	 */
+	int sampleSize() default 512;
+
+}
@@ -43,6 +43,22 @@ import com.gemstone.gemfire.cache.query.Index;
 @SuppressWarnings({ "unused" })
 public @interface EnableIndexes {
 
+	/**
+	 * Determines whether GemFire/Geode {@link Index Indexes} will be created in batches, one batch per
+	 * {@link com.gemstone.gemfire.cache.Region}, once all {@link com.gemstone.gemfire.cache.Region Regions}
+	 * have been initialized.  The entries of every {@link com.gemstone.gemfire.cache.Region} are iterated once
+	 * for all of its {@link Index Indexes}, {@link com.gemstone.gemfire.cache.Region Regions} are indexed
+	 * in parallel and {@link Index Indexes} failing in a batch are retried individually.  Any {@link Index}
+	 * still failing fails the startup of the Spring container once all batches are done.
+	 *
+	 * Ignored when {@link #define()} is {@literal true}.
+	 *
+	 * Defaults to true.
+	 *
+	 * @see org.springframework.data.gemfire.support.BatchIndexCreator
+	 */
+	boolean batch() default true;
+
 	/**
 	 * Determines whether all GemFire/Geode {@link Index Indexes} will be defined before created.
 	 * If set to {@literal true}, then all {@link Index Indexes} are defined first and the created
@@ -52,4 +68,12 @@ public @interface EnableIndexes {
 	 */
 	boolean define() default false;
 
+	/**
+	 * Maximum number of {@link com.gemstone.gemfire.cache.Region Regions} indexed concurrently
+	 * when {@link #batch()} is {@literal true}.
+	 *
+	 * Defaults to the number of available processors.
+	 */
+	int poolSize() default 0;
+
 }
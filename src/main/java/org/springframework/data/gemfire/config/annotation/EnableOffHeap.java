@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableOffHeap} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class to allocate off-heap memory to the GemFire cache member and store the entry values
+ * of the selected {@link com.gemstone.gemfire.cache.Region Regions} off-heap, outside the JVM Heap.
+ *
+ * Sets {@literal off-heap-memory-size} and registers an {@link org.springframework.data.gemfire.support.OffHeapMemoryMetrics}
+ * bean reporting the off-heap memory usage.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.OffHeapConfiguration
+ * @see org.springframework.data.gemfire.support.OffHeapMemoryMetrics
+ * @since 1.10.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(OffHeapConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableOffHeap {
+
+	/**
+	 * Total amount of off-heap memory allocated to the GemFire cache member, specified as a number
+	 * followed by a unit: {@literal m} for megabytes or {@literal g} for gigabytes (e.g. {@literal 64g}).
+	 *
+	 * Required.
+	 */
+	String memorySize();
+
+	/**
+	 * Names of the {@link com.gemstone.gemfire.cache.Region Regions} storing their entry values off-heap.
+	 *
+	 * Defaults to empty, which stores the entry values of all {@link com.gemstone.gemfire.cache.Region Regions}
+	 * off-heap.
+	 */
+	String[] regionNames() default {};
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableParallelRegionInitialization} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class to create peer cache {@link com.gemstone.gemfire.cache.Region Regions}, and recover persistent
+ * {@link com.gemstone.gemfire.cache.Region Regions} from disk, concurrently on a bounded pool of threads at startup.
+ *
+ * {@link com.gemstone.gemfire.cache.Region Regions} colocated with another {@link com.gemstone.gemfire.cache.Region}
+ * are initialized after the other {@link com.gemstone.gemfire.cache.Region}.  The time taken to initialize every
+ * {@link com.gemstone.gemfire.cache.Region} is logged at startup and exposed by the
+ * {@link org.springframework.data.gemfire.support.RegionStartupTimeline} of the
+ * {@link org.springframework.data.gemfire.support.ParallelRegionInitializer} bean.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.ParallelRegionInitializationConfiguration
+ * @see org.springframework.data.gemfire.support.ParallelRegionInitializer
+ * @see org.springframework.data.gemfire.support.RegionStartupTimeline
+ * @since 1.10.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(ParallelRegionInitializationConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableParallelRegionInitialization {
+
+	/**
+	 * Maximum number of {@link com.gemstone.gemfire.cache.Region Regions} initialized concurrently.
+	 *
+	 * Defaults to {@literal 0}, which uses the number of available processors.
+	 */
+	int poolSize() default 0;
+
+	/**
+	 * Names of the {@link com.gemstone.gemfire.cache.Region Regions} to initialize in parallel.
+	 *
+	 * Defaults to empty, which initializes all {@link com.gemstone.gemfire.cache.Region Regions} in parallel.
+	 */
+	String[] regionNames() default {};
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableRegionOperationMetrics} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class to record per-Region, per-operation latency, payload size and result size histograms
+ * along with failure counts of the operations performed by
+ * {@link org.springframework.data.gemfire.GemfireTemplate GemfireTemplates} and repositories, including derived
+ * and {@link org.springframework.data.gemfire.repository.Query @Query} query methods.
+ *
+ * The meters are available from the {@link org.springframework.data.gemfire.support.HistogramRegionOperationMetrics}
+ * bean.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.RegionOperationMetricsConfiguration
+ * @see org.springframework.data.gemfire.support.HistogramRegionOperationMetrics
+ * @see org.springframework.data.gemfire.support.RegionOperationMetrics
+ * @since 1.10.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(RegionOperationMetricsConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableRegionOperationMetrics {
+
+	/**
+	 * Determines whether the size of the values written and read is recorded, as computed by
+	 * the GemFire {@link com.gemstone.gemfire.cache.util.ObjectSizer#DEFAULT default ObjectSizer}, which
+	 * reflectively walks the object graph of every value and may cost more than the operation itself.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean recordPayloadSize() default false;
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.support.RegionWarmUp;
+import org.springframework.data.gemfire.support.RegionWarmUpService;
+
+/**
+ * The {@link EnableRegionWarmUp} annotation marks a Spring {@link org.springframework.context.annotation.Configuration @Configuration}
+ * annotated class to preload {@link com.gemstone.gemfire.cache.Region Regions} from a snapshot, a list of keys
+ * or the keys returned by an OQL query once the Spring container has started.
+ *
+ * By default, the cache servers, gateway senders and any later {@link org.springframework.context.SmartLifecycle}
+ * only start once all {@link com.gemstone.gemfire.cache.Region Regions} are warm.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.RegionWarmUpConfiguration
+ * @see org.springframework.data.gemfire.support.RegionWarmUp
+ * @see org.springframework.data.gemfire.support.RegionWarmUpService
+ * @since 1.10.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(RegionWarmUpConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableRegionWarmUp {
+
+	/**
+	 * Determines whether the Spring container waits for the warm-up to complete before starting the next
+	 * {@link org.springframework.context.SmartLifecycle} phase.
+	 *
+	 * Defaults to {@literal true}.
+	 */
+	boolean awaitWarmUp() default true;
+
+	/**
+	 * Maximum number of entries loaded per second across all {@link com.gemstone.gemfire.cache.Region Regions}.
+	 * Snapshots are imported at full speed, the entries they add only delaying the warm-ups that follow.
+	 *
+	 * Defaults to {@literal 0}, which does not limit the rate.
+	 */
+	long maxEntriesPerSecond() default 0L;
+
+	/**
+	 * {@link org.springframework.context.SmartLifecycle} phase in which the warm-up starts.
+	 *
+	 * Defaults to {@link RegionWarmUpService#DEFAULT_PHASE}, the phase before the cache servers start.
+	 */
+	int phase() default RegionWarmUpService.DEFAULT_PHASE;
+
+	/**
+	 * Maximum number of {@link com.gemstone.gemfire.cache.Region Regions} warmed up concurrently.
+	 *
+	 * Defaults to {@literal 0}, which uses the number of available processors.
+	 */
+	int poolSize() default 0;
+
+	/**
+	 * Describes the {@link com.gemstone.gemfire.cache.Region Regions} to warm up.
+	 *
+	 * Defaults to empty.
+	 */
+	WarmUp[] warmUps() default {};
+
+	/**
+	 * Maximum time, in milliseconds, the Spring container waits for the warm-up to complete.
+	 *
+	 * Defaults to {@literal 0}, which waits indefinitely.
+	 */
+	long warmUpTimeout() default 0L;
+
+	/**
+	 * Definition of the entries preloaded into a {@link com.gemstone.gemfire.cache.Region}; any combination
+	 * of a snapshot, keys and query.
+	 */
+	@interface WarmUp {
+
+		/**
+		 * Number of keys loaded by each {@link com.gemstone.gemfire.cache.Region#getAll} call.
+		 *
+		 * Defaults to {@link RegionWarmUp#DEFAULT_BATCH_SIZE}.
+		 */
+		int batchSize() default RegionWarmUp.DEFAULT_BATCH_SIZE;
+
+		/**
+		 * {@link String} keys loaded into the {@link com.gemstone.gemfire.cache.Region}.
+		 *
+		 * Defaults to empty.
+		 */
+		String[] keys() default {};
+
+		/**
+		 * OQL query selecting the keys loaded into the {@link com.gemstone.gemfire.cache.Region}.
+		 *
+		 * Defaults to empty.
+		 */
+		String query() default "";
+
+		/**
+		 * Name or path of the {@link com.gemstone.gemfire.cache.Region} to warm up.
+		 */
+		String regionName();
+
+		/**
+		 * Location of a snapshot loaded into the {@link com.gemstone.gemfire.cache.Region}
+		 * (e.g. {@literal classpath:customers.gfd}), in the
+		 * {@link com.gemstone.gemfire.cache.snapshot.RegionSnapshotService} format.  The snapshot entries are put
+		 * into the {@link com.gemstone.gemfire.cache.Region}; other entries are kept.
+		 *
+		 * Defaults to empty.
+		 */
+		String snapshot() default "";
+
+	}
+}
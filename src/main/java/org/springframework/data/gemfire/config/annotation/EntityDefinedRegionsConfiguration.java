@@ -59,6 +59,7 @@ import org.springframework.data.gemfire.RegionLookupFactoryBean;
 import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
 import org.springframework.data.gemfire.ScopeType;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.support.EntityDefinedRegionsIndex;
 import org.springframework.data.gemfire.config.annotation.support.GemFireCacheTypeAwareRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
@@ -265,6 +266,7 @@ public class EntityDefinedRegionsConfiguration
 			enableEntityDefinedRegionsAttributes);
 
 		return GemFireComponentClassTypeScanner.from(resolvedBasePackages).with(resolveBeanClassLoader())
+			.withIndex(resolveEntityDefinedRegionsIndex(enableEntityDefinedRegionsAttributes))
 			.withExcludes(resolveExcludes(enableEntityDefinedRegionsAttributes))
 			.withIncludes(resolveIncludes(enableEntityDefinedRegionsAttributes))
 			.withIncludes(regionAnnotatedPersistentEntityTypeFilters());
@@ -293,6 +295,26 @@ public class EntityDefinedRegionsConfiguration
 		return resolvedBasePackages;
 	}
 
+	/**
+	 * Resolves the {@link EntityDefinedRegionsIndex} written at compile time, from which the persistent entities
+	 * of the base packages whose classpath roots all carry an index are resolved instead of scanning these
+	 * base packages; the other base packages are still scanned.  The index only lists entities annotated with
+	 * a {@link org.springframework.data.gemfire.mapping.Region} mapping annotation, therefore it is not used
+	 * when include filters are configured.
+	 *
+	 * @param enableEntityDefinedRegionsAttributes {@link EnableEntityDefinedRegions} annotation attributes.
+	 * @return the {@link EntityDefinedRegionsIndex}, or {@literal null} if all base packages must be scanned.
+	 * @see org.springframework.data.gemfire.config.annotation.support.EntityDefinedRegionsIndex
+	 */
+	protected EntityDefinedRegionsIndex resolveEntityDefinedRegionsIndex(
+			AnnotationAttributes enableEntityDefinedRegionsAttributes) {
+
+		boolean includeFiltersConfigured = !ObjectUtils.isEmpty(
+			enableEntityDefinedRegionsAttributes.getAnnotationArray("includeFilters"));
+
+		return (includeFiltersConfigured ? null : EntityDefinedRegionsIndex.load(resolveBeanClassLoader()));
+	}
+
 	/* (non-Javadoc) */
 	protected ClassLoader resolveBeanClassLoader() {
 		return (this.beanClassLoader != null ? this.beanClassLoader : Thread.currentThread().getContextClassLoader());
@@ -434,6 +456,14 @@ public class EntityDefinedRegionsConfiguration
 				regionFactoryBeanBuilder.addPropertyValue("valueConstraint", resolveDomainType(persistentEntity));
 			}
 
+			if (regionAnnotationAttributes.containsKey("compressorName")) {
+				String compressorName = regionAnnotationAttributes.getString("compressorName");
+
+				if (StringUtils.hasText(compressorName)) {
+					regionFactoryBeanBuilder.addPropertyReference("compressor", compressorName);
+				}
+			}
+
 			if (regionAnnotationAttributes.containsKey("diskStoreName")) {
 				String diskStoreName = regionAnnotationAttributes.getString("diskStoreName");
 
@@ -444,6 +474,11 @@ public class EntityDefinedRegionsConfiguration
 				}
 			}
 
+			if (regionAnnotationAttributes.containsKey("offHeap")) {
+				setPropertyValueIfNotDefault(regionFactoryBeanBuilder, "offHeap",
+					regionAnnotationAttributes.getBoolean("offHeap"), false);
+			}
+
 			if (regionAnnotationAttributes.containsKey("persistent")) {
 				setPropertyValueIfNotDefault(regionFactoryBeanBuilder, "persistent",
 					regionAnnotationAttributes.getBoolean("persistent"), false);
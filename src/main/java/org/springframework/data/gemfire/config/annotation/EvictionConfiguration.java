@@ -42,9 +42,12 @@ import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.EvictionActionType;
 import org.springframework.data.gemfire.EvictionAttributesFactoryBean;
 import org.springframework.data.gemfire.EvictionPolicyType;
+import org.springframework.data.gemfire.ObjectSizerType;
 import org.springframework.data.gemfire.RegionFactoryBean;
 import org.springframework.data.gemfire.RegionLookupFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.MappingObjectSizer;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.util.Assert;
@@ -300,7 +303,8 @@ public class EvictionConfiguration implements ApplicationContextAware, ImportAwa
 			return from((Integer) evictionPolicyAttributes.get("maximum"),
 				evictionPolicyAttributes.<EvictionPolicyType>getEnum("type"),
 					evictionPolicyAttributes.<EvictionActionType>getEnum("action"),
-						resolveObjectSizer(evictionPolicyAttributes.getString("objectSizerName"), applicationContext),
+						resolveObjectSizer(evictionPolicyAttributes.<ObjectSizerType>getEnum("objectSizer"),
+							evictionPolicyAttributes.getString("objectSizerName"), applicationContext),
 							evictionPolicyAttributes.getStringArray("regionNames"));
 		}
 
@@ -308,7 +312,8 @@ public class EvictionConfiguration implements ApplicationContextAware, ImportAwa
 				ApplicationContext applicationContext) {
 
 			return from(evictionPolicy.maximum(), evictionPolicy.type(), evictionPolicy.action(),
-				resolveObjectSizer(evictionPolicy.objectSizerName(), applicationContext), evictionPolicy.regionNames());
+				resolveObjectSizer(evictionPolicy.objectSizer(), evictionPolicy.objectSizerName(), applicationContext),
+					evictionPolicy.regionNames());
 		}
 
 		protected static EvictionPolicyMetaData from(int maximum, EvictionPolicyType type, EvictionActionType action,
@@ -329,6 +334,13 @@ public class EvictionConfiguration implements ApplicationContextAware, ImportAwa
 			return new EvictionPolicyMetaData(EvictionAttributes.createLRUEntryAttributes());
 		}
 
+		protected static ObjectSizer resolveObjectSizer(ObjectSizerType objectSizerType, String objectSizerName,
+				ApplicationContext applicationContext) {
+
+			return (ObjectSizerType.AUTO.equals(objectSizerType) ? newMappingObjectSizer(applicationContext)
+				: resolveObjectSizer(objectSizerName, applicationContext));
+		}
+
 		protected static ObjectSizer resolveObjectSizer(String objectSizerName, ApplicationContext applicationContext) {
 			boolean resolvable = StringUtils.hasText(objectSizerName)
 				&& applicationContext.containsBean(objectSizerName);
@@ -336,6 +348,26 @@ public class EvictionConfiguration implements ApplicationContextAware, ImportAwa
 			return (resolvable ? applicationContext.getBean(objectSizerName, ObjectSizer.class) : null);
 		}
 
+		/**
+		 * Constructs a {@link MappingObjectSizer} sizing {@link Region} entry values from the entity mapping meta-data
+		 * of the single {@link GemfireMappingContext} bean defined in the Spring context, or of a new
+		 * {@link GemfireMappingContext} if there is none.
+		 *
+		 * @param applicationContext Spring {@link ApplicationContext} in which to lookup the {@link GemfireMappingContext}.
+		 * @return a new {@link MappingObjectSizer}.
+		 * @see org.springframework.data.gemfire.mapping.MappingObjectSizer
+		 */
+		protected static ObjectSizer newMappingObjectSizer(ApplicationContext applicationContext) {
+			String[] mappingContextBeanNames = (applicationContext != null
+				? applicationContext.getBeanNamesForType(GemfireMappingContext.class) : new String[0]);
+
+			GemfireMappingContext mappingContext = (mappingContextBeanNames.length == 1
+				? applicationContext.getBean(mappingContextBeanNames[0], GemfireMappingContext.class)
+				: new GemfireMappingContext());
+
+			return new MappingObjectSizer(mappingContext);
+		}
+
 		/**
 		 * Resolves the Eviction policy threshold (a.k.a. maximum) based on the {@link EvictionPolicyType}.
 		 *
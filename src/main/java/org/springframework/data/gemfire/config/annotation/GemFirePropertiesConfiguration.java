@@ -149,6 +149,8 @@ public class GemFirePropertiesConfiguration extends EmbeddedServiceConfiguration
 		gemfireProperties.setPropertyIfNotDefault("membership-port-range",
 			annotationAttributes.get("membershipPortRange"), DEFAULT_MEMBERSHIP_PORT_RANGE);
 
+		gemfireProperties.setProperty("off-heap-memory-size", annotationAttributes.get("offHeapMemorySize"));
+
 		gemfireProperties.setProperty("redundancy-zone", annotationAttributes.get("redundancyZone"));
 
 		gemfireProperties.setProperty("remote-locators", annotationAttributes.get("remoteLocators"));
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport;
+import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.gemfire.support.IndexAdvisor;
+import org.springframework.data.gemfire.support.QueryStatisticsRecorder;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link IndexAdvisorConfiguration} class is a Spring {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar}
+ * that registers the {@link QueryStatisticsRecorder} and {@link IndexAdvisor} beans along with
+ * a {@link BeanPostProcessor} setting the {@link QueryStatisticsRecorder} on the {@link GemfireTemplate}
+ * and {@link GemfireRepositoryFactoryBean repository} beans.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.EnableIndexAdvisor
+ * @see org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport
+ * @see org.springframework.data.gemfire.support.IndexAdvisor
+ * @see org.springframework.data.gemfire.support.QueryStatisticsRecorder
+ * @since 1.10.0
+ */
+public class IndexAdvisorConfiguration extends EmbeddedServiceConfigurationSupport {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Class getAnnotationType() {
+		return EnableIndexAdvisor.class;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void registerBeanDefinitions(AnnotationMetadata importingClassMetaData,
+			Map<String, Object> annotationAttributes, BeanDefinitionRegistry registry) {
+
+		String queryStatisticsRecorderBeanName = generateBeanName(QueryStatisticsRecorder.class);
+
+		registry.registerBeanDefinition(queryStatisticsRecorderBeanName,
+			BeanDefinitionBuilder.genericBeanDefinition(QueryStatisticsRecorder.class)
+				.addPropertyValue("maxQueryShapes", annotationAttributes.get("maxQueryShapes"))
+				.addPropertyValue("sampleSize", annotationAttributes.get("sampleSize"))
+				.getBeanDefinition());
+
+		registry.registerBeanDefinition(generateBeanName(IndexAdvisor.class),
+			BeanDefinitionBuilder.genericBeanDefinition(IndexAdvisor.class)
+				.addConstructorArgReference(queryStatisticsRecorderBeanName)
+				.addPropertyReference("cache", GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME)
+				.addPropertyValue("logOnShutdown", annotationAttributes.get("logOnShutdown"))
+				.addPropertyValue("minimumQueryCount", annotationAttributes.get("minimumQueryCount"))
+				.getBeanDefinition());
+
+		registry.registerBeanDefinition(generateBeanName(QueryStatisticsBeanPostProcessor.class),
+			BeanDefinitionBuilder.genericBeanDefinition(QueryStatisticsBeanPostProcessor.class)
+				.addConstructorArgReference(queryStatisticsRecorderBeanName)
+				.setRole(AbstractBeanDefinition.ROLE_INFRASTRUCTURE)
+				.getBeanDefinition());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Properties toGemFireProperties(Map<String, Object> annotationAttributes) {
+		return new Properties();
+	}
+
+	/**
+	 * Spring {@link BeanPostProcessor} setting the {@link QueryStatisticsRecorder} on the {@link GemfireTemplate}
+	 * and {@link GemfireRepositoryFactoryBean} beans that do not already record their queries.
+	 */
+	protected static class QueryStatisticsBeanPostProcessor implements BeanPostProcessor {
+
+		private final QueryStatisticsRecorder queryStatisticsRecorder;
+
+		/**
+		 * Constructs an instance of {@link QueryStatisticsBeanPostProcessor} initialized with
+		 * the given {@link QueryStatisticsRecorder}.
+		 *
+		 * @param queryStatisticsRecorder {@link QueryStatisticsRecorder} recording the executed queries.
+		 * @throws IllegalArgumentException if the {@link QueryStatisticsRecorder} is null.
+		 */
+		protected QueryStatisticsBeanPostProcessor(QueryStatisticsRecorder queryStatisticsRecorder) {
+			Assert.notNull(queryStatisticsRecorder, "QueryStatisticsRecorder must not be null");
+			this.queryStatisticsRecorder = queryStatisticsRecorder;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+			if (bean instanceof GemfireTemplate) {
+				GemfireTemplate template = (GemfireTemplate) bean;
+
+				if (template.getQueryStatisticsRecorder() == null) {
+					template.setQueryStatisticsRecorder(queryStatisticsRecorder);
+				}
+			}
+			else if (bean instanceof GemfireRepositoryFactoryBean) {
+				((GemfireRepositoryFactoryBean) bean).setQueryStatisticsRecorder(queryStatisticsRecorder);
+			}
+
+			return bean;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+			return bean;
+		}
+	}
+}
@@ -33,6 +33,7 @@ import org.springframework.data.gemfire.config.xml.GemfireConstants;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.mapping.Indexed;
+import org.springframework.data.gemfire.support.BatchIndexCreator;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.util.StringUtils;
 
@@ -53,12 +54,15 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
  * @see org.springframework.data.gemfire.mapping.GemfirePersistentProperty
  * @see org.springframework.data.gemfire.mapping.Indexed
+ * @see org.springframework.data.gemfire.support.BatchIndexCreator
  * @see com.gemstone.gemfire.cache.Region
  * @see com.gemstone.gemfire.cache.query.Index
  * @since 1.9.0
  */
 public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 
+	protected static final String BATCH_INDEX_CREATOR_BEAN_NAME = BatchIndexCreator.class.getName();
+
 	/**
 	 * Returns the {@link Annotation} {@link Class type} that configures and creates {@link Region} Indexes
 	 * from application persistent entity properties.
@@ -175,6 +179,11 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 
 			indexFactoryBeanBuilder.addPropertyValue("define", resolveDefine(enableIndexesAttributes));
 
+			if (resolveBatch(enableIndexesAttributes)) {
+				indexFactoryBeanBuilder.addPropertyReference("batchIndexCreator",
+					registerBatchIndexCreatorBeanDefinition(enableIndexesAttributes, registry));
+			}
+
 			indexFactoryBeanBuilder.addPropertyValue("expression",
 				resolveExpression(persistentEntity, persistentProperty, indexAnnotationAttributes));
 
@@ -190,6 +199,46 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 		}
 	}
 
+	/**
+	 * Registers the {@link BatchIndexCreator} creating all Indexes in per-{@link Region} batches,
+	 * unless already registered.
+	 *
+	 * @param enableIndexesAttributes {@link AnnotationAttributes} containing meta-data
+	 * for the {@link EnableIndexes} annotation.
+	 * @param registry {@link BeanDefinitionRegistry} used to register the {@link BatchIndexCreator} bean definition.
+	 * @return the name of the {@link BatchIndexCreator} bean.
+	 * @see org.springframework.data.gemfire.support.BatchIndexCreator
+	 */
+	protected String registerBatchIndexCreatorBeanDefinition(AnnotationAttributes enableIndexesAttributes,
+			BeanDefinitionRegistry registry) {
+
+		if (!registry.containsBeanDefinition(BATCH_INDEX_CREATOR_BEAN_NAME)) {
+			BeanDefinitionBuilder batchIndexCreatorBuilder =
+				BeanDefinitionBuilder.genericBeanDefinition(BatchIndexCreator.class);
+
+			batchIndexCreatorBuilder.addPropertyReference("cache", GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
+
+			int poolSize = (enableIndexesAttributes.containsKey("poolSize")
+				? enableIndexesAttributes.<Integer>getNumber("poolSize") : 0);
+
+			if (poolSize > 0) {
+				batchIndexCreatorBuilder.addPropertyValue("poolSize", poolSize);
+			}
+
+			registry.registerBeanDefinition(BATCH_INDEX_CREATOR_BEAN_NAME,
+				batchIndexCreatorBuilder.getBeanDefinition());
+		}
+
+		return BATCH_INDEX_CREATOR_BEAN_NAME;
+	}
+
+	/* (non-Javadoc) */
+	private boolean resolveBatch(AnnotationAttributes enableIndexesAnnotationAttributes) {
+		return (!resolveDefine(enableIndexesAnnotationAttributes)
+			&& enableIndexesAnnotationAttributes.containsKey("batch")
+			&& enableIndexesAnnotationAttributes.getBoolean("batch"));
+	}
+
 	/* (non-Javadoc) */
 	private boolean resolveDefine(AnnotationAttributes enableIndexesAnnotationAttributes) {
 		return (enableIndexesAnnotationAttributes.containsKey("define")
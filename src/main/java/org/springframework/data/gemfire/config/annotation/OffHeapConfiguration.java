@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.RegionFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport;
+import org.springframework.data.gemfire.support.OffHeapMemoryMetrics;
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.data.gemfire.util.PropertiesBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link OffHeapConfiguration} class is a Spring {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar}
+ * that applies additional GemFire configuration by way of GemFire System properties to allocate off-heap memory,
+ * and registers a {@link BeanPostProcessor} storing the entry values of the selected
+ * {@link com.gemstone.gemfire.cache.Region Regions} off-heap.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.EnableOffHeap
+ * @see org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport
+ * @see org.springframework.data.gemfire.support.OffHeapMemoryMetrics
+ * @since 1.10.0
+ */
+public class OffHeapConfiguration extends EmbeddedServiceConfigurationSupport {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Class getAnnotationType() {
+		return EnableOffHeap.class;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void registerBeanDefinitions(AnnotationMetadata importingClassMetaData,
+			Map<String, Object> annotationAttributes, BeanDefinitionRegistry registry) {
+
+		BeanDefinitionBuilder offHeapBeanPostProcessorBuilder =
+			BeanDefinitionBuilder.genericBeanDefinition(OffHeapBeanPostProcessor.class)
+				.addConstructorArgValue(annotationAttributes.get("regionNames"))
+				.setRole(AbstractBeanDefinition.ROLE_INFRASTRUCTURE);
+
+		registry.registerBeanDefinition(generateBeanName(OffHeapBeanPostProcessor.class),
+			offHeapBeanPostProcessorBuilder.getBeanDefinition());
+
+		BeanDefinitionBuilder offHeapMemoryMetricsBuilder =
+			BeanDefinitionBuilder.genericBeanDefinition(OffHeapMemoryMetrics.class)
+				.setAutowireMode(AutowireCapableBeanFactory.AUTOWIRE_CONSTRUCTOR);
+
+		registry.registerBeanDefinition(generateBeanName(OffHeapMemoryMetrics.class),
+			offHeapMemoryMetricsBuilder.getBeanDefinition());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Properties toGemFireProperties(Map<String, Object> annotationAttributes) {
+		String memorySize = (String) annotationAttributes.get("memorySize");
+
+		Assert.hasText(memorySize, "Off-heap memory size must be specified");
+
+		return PropertiesBuilder.create().setProperty("off-heap-memory-size", memorySize.trim()).build();
+	}
+
+	/**
+	 * Spring {@link BeanPostProcessor} storing the entry values of the {@link com.gemstone.gemfire.cache.Region Regions}
+	 * created by {@link RegionFactoryBean RegionFactoryBeans} and {@link ClientRegionFactoryBean ClientRegionFactoryBeans}
+	 * off-heap.
+	 */
+	protected static class OffHeapBeanPostProcessor implements BeanPostProcessor {
+
+		private final Set<String> regionNames = new HashSet<String>();
+
+		/**
+		 * Constructs an instance of {@link OffHeapBeanPostProcessor} storing the entry values
+		 * of the named {@link com.gemstone.gemfire.cache.Region Regions} off-heap.
+		 *
+		 * @param regionNames names of the {@link com.gemstone.gemfire.cache.Region Regions} to store off-heap;
+		 * all {@link com.gemstone.gemfire.cache.Region Regions} if empty.
+		 */
+		protected OffHeapBeanPostProcessor(String[] regionNames) {
+			Collections.addAll(this.regionNames, ArrayUtils.nullSafeArray(regionNames, String.class));
+		}
+
+		/* (non-Javadoc) */
+		protected boolean accepts(String regionName) {
+			return (this.regionNames.isEmpty() || this.regionNames.contains(regionName));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+			if (bean instanceof RegionFactoryBean) {
+				RegionFactoryBean regionFactoryBean = (RegionFactoryBean) bean;
+
+				if (accepts(regionFactoryBean.resolveRegionName())) {
+					regionFactoryBean.setOffHeap(true);
+				}
+			}
+			else if (bean instanceof ClientRegionFactoryBean) {
+				ClientRegionFactoryBean clientRegionFactoryBean = (ClientRegionFactoryBean) bean;
+
+				if (accepts(clientRegionFactoryBean.resolveRegionName())) {
+					clientRegionFactoryBean.setOffHeap(true);
+				}
+			}
+
+			return bean;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+			return bean;
+		}
+	}
+}
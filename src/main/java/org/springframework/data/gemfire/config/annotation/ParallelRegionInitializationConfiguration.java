@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.RegionFactoryBean;
+import org.springframework.data.gemfire.RegionLookupFactoryBean;
+import org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport;
+import org.springframework.data.gemfire.config.annotation.support.GemFireCacheTypeAwareRegionFactoryBean;
+import org.springframework.data.gemfire.support.ParallelRegionInitializer;
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ParallelRegionInitializationConfiguration} class is a Spring {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar}
+ * that registers the {@link ParallelRegionInitializer} bean along with a {@link BeanPostProcessor} submitting
+ * the initialization of the selected {@link com.gemstone.gemfire.cache.Region Regions} to
+ * the {@link ParallelRegionInitializer}.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.EnableParallelRegionInitialization
+ * @see org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport
+ * @see org.springframework.data.gemfire.support.ParallelRegionInitializer
+ * @since 1.10.0
+ */
+public class ParallelRegionInitializationConfiguration extends EmbeddedServiceConfigurationSupport {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Class getAnnotationType() {
+		return EnableParallelRegionInitialization.class;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void registerBeanDefinitions(AnnotationMetadata importingClassMetaData,
+			Map<String, Object> annotationAttributes, BeanDefinitionRegistry registry) {
+
+		int poolSize = (Integer) annotationAttributes.get("poolSize");
+
+		String parallelRegionInitializerBeanName = generateBeanName(ParallelRegionInitializer.class);
+
+		registry.registerBeanDefinition(parallelRegionInitializerBeanName,
+			BeanDefinitionBuilder.genericBeanDefinition(ParallelRegionInitializer.class)
+				.addConstructorArgValue(poolSize > 0 ? poolSize : ParallelRegionInitializer.DEFAULT_POOL_SIZE)
+				.getBeanDefinition());
+
+		BeanDefinitionBuilder parallelRegionInitializationBeanPostProcessorBuilder =
+			BeanDefinitionBuilder.genericBeanDefinition(ParallelRegionInitializationBeanPostProcessor.class)
+				.addConstructorArgValue(annotationAttributes.get("regionNames"))
+				.addConstructorArgReference(parallelRegionInitializerBeanName)
+				.setRole(AbstractBeanDefinition.ROLE_INFRASTRUCTURE);
+
+		registry.registerBeanDefinition(generateBeanName(ParallelRegionInitializationBeanPostProcessor.class),
+			parallelRegionInitializationBeanPostProcessorBuilder.getBeanDefinition());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Properties toGemFireProperties(Map<String, Object> annotationAttributes) {
+		return new Properties();
+	}
+
+	/**
+	 * Spring {@link BeanPostProcessor} setting the {@link ParallelRegionInitializer} on the
+	 * {@link RegionFactoryBean RegionFactoryBeans} and {@link GemFireCacheTypeAwareRegionFactoryBean entity-defined}
+	 * {@link com.gemstone.gemfire.cache.Region} beans.
+	 *
+	 * Client {@link com.gemstone.gemfire.cache.Region Regions}, which recover no data from disk, and
+	 * {@link com.gemstone.gemfire.cache.Region Regions} only looked up are initialized synchronously, as before.
+	 */
+	protected static class ParallelRegionInitializationBeanPostProcessor implements BeanPostProcessor {
+
+		private final ParallelRegionInitializer parallelRegionInitializer;
+
+		private final Set<String> regionNames = new HashSet<String>();
+
+		/**
+		 * Constructs an instance of {@link ParallelRegionInitializationBeanPostProcessor} submitting
+		 * the initialization of the named {@link com.gemstone.gemfire.cache.Region Regions}
+		 * to the given {@link ParallelRegionInitializer}.
+		 *
+		 * @param regionNames names of the {@link com.gemstone.gemfire.cache.Region Regions} to initialize
+		 * in parallel; all {@link com.gemstone.gemfire.cache.Region Regions} if empty.
+		 * @param parallelRegionInitializer {@link ParallelRegionInitializer} initializing
+		 * the {@link com.gemstone.gemfire.cache.Region Regions}.
+		 * @throws IllegalArgumentException if the {@link ParallelRegionInitializer} is null.
+		 */
+		protected ParallelRegionInitializationBeanPostProcessor(String[] regionNames,
+				ParallelRegionInitializer parallelRegionInitializer) {
+
+			Assert.notNull(parallelRegionInitializer, "ParallelRegionInitializer must not be null");
+
+			Collections.addAll(this.regionNames, ArrayUtils.nullSafeArray(regionNames, String.class));
+			this.parallelRegionInitializer = parallelRegionInitializer;
+		}
+
+		/* (non-Javadoc) */
+		protected boolean accepts(String regionName) {
+			return (this.regionNames.isEmpty() || this.regionNames.contains(regionName));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+			if (bean instanceof RegionFactoryBean || bean instanceof GemFireCacheTypeAwareRegionFactoryBean) {
+				RegionLookupFactoryBean regionFactoryBean = (RegionLookupFactoryBean) bean;
+
+				if (regionFactoryBean.getParallelRegionInitializer() == null
+						&& accepts(regionFactoryBean.resolveRegionName())) {
+
+					regionFactoryBean.setParallelRegionInitializer(parallelRegionInitializer);
+				}
+			}
+
+			return bean;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+			return bean;
+		}
+	}
+}
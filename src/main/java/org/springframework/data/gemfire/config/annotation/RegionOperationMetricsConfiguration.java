@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.gemfire.support.HistogramRegionOperationMetrics;
+import org.springframework.data.gemfire.support.NoOpRegionOperationMetrics;
+import org.springframework.data.gemfire.support.RegionOperationMetrics;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link RegionOperationMetricsConfiguration} class is a Spring {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar}
+ * that registers the {@link HistogramRegionOperationMetrics} bean along with a {@link BeanPostProcessor} setting it
+ * on the {@link GemfireTemplate} and {@link GemfireRepositoryFactoryBean repository} beans.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.EnableRegionOperationMetrics
+ * @see org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport
+ * @see org.springframework.data.gemfire.support.HistogramRegionOperationMetrics
+ * @since 1.10.0
+ */
+public class RegionOperationMetricsConfiguration extends EmbeddedServiceConfigurationSupport {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Class getAnnotationType() {
+		return EnableRegionOperationMetrics.class;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void registerBeanDefinitions(AnnotationMetadata importingClassMetaData,
+			Map<String, Object> annotationAttributes, BeanDefinitionRegistry registry) {
+
+		String regionOperationMetricsBeanName = generateBeanName(HistogramRegionOperationMetrics.class);
+
+		registry.registerBeanDefinition(regionOperationMetricsBeanName,
+			BeanDefinitionBuilder.genericBeanDefinition(HistogramRegionOperationMetrics.class)
+				.addPropertyValue("recordPayloadSize", annotationAttributes.get("recordPayloadSize"))
+				.getBeanDefinition());
+
+		registry.registerBeanDefinition(generateBeanName(RegionOperationMetricsBeanPostProcessor.class),
+			BeanDefinitionBuilder.genericBeanDefinition(RegionOperationMetricsBeanPostProcessor.class)
+				.addConstructorArgReference(regionOperationMetricsBeanName)
+				.setRole(AbstractBeanDefinition.ROLE_INFRASTRUCTURE)
+				.getBeanDefinition());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Properties toGemFireProperties(Map<String, Object> annotationAttributes) {
+		return new Properties();
+	}
+
+	/**
+	 * Spring {@link BeanPostProcessor} setting the {@link RegionOperationMetrics} on the {@link GemfireTemplate}
+	 * and {@link GemfireRepositoryFactoryBean} beans that do not already record their operations.
+	 */
+	protected static class RegionOperationMetricsBeanPostProcessor implements BeanPostProcessor {
+
+		private final RegionOperationMetrics regionOperationMetrics;
+
+		/**
+		 * Constructs an instance of {@link RegionOperationMetricsBeanPostProcessor} initialized with
+		 * the given {@link RegionOperationMetrics}.
+		 *
+		 * @param regionOperationMetrics {@link RegionOperationMetrics} recording the operations.
+		 * @throws IllegalArgumentException if the {@link RegionOperationMetrics} is null.
+		 */
+		protected RegionOperationMetricsBeanPostProcessor(RegionOperationMetrics regionOperationMetrics) {
+			Assert.notNull(regionOperationMetrics, "RegionOperationMetrics must not be null");
+			this.regionOperationMetrics = regionOperationMetrics;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+			if (bean instanceof GemfireTemplate) {
+				GemfireTemplate template = (GemfireTemplate) bean;
+
+				if (template.getRegionOperationMetrics() == NoOpRegionOperationMetrics.INSTANCE) {
+					template.setRegionOperationMetrics(regionOperationMetrics);
+				}
+			}
+			else if (bean instanceof GemfireRepositoryFactoryBean) {
+				((GemfireRepositoryFactoryBean) bean).setRegionOperationMetrics(regionOperationMetrics);
+			}
+
+			return bean;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+			return bean;
+		}
+	}
+}
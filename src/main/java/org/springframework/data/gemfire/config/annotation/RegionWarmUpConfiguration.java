@@ -0,0 +1,108 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.ManagedList;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport;
+import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.support.RegionWarmUp;
+import org.springframework.data.gemfire.support.RegionWarmUpService;
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link RegionWarmUpConfiguration} class is a Spring {@link org.springframework.context.annotation.ImportBeanDefinitionRegistrar}
+ * that registers the {@link RegionWarmUpService} bean preloading the {@link com.gemstone.gemfire.cache.Region Regions}
+ * described by the {@link EnableRegionWarmUp.WarmUp} annotations.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.EnableRegionWarmUp
+ * @see org.springframework.data.gemfire.config.annotation.support.EmbeddedServiceConfigurationSupport
+ * @see org.springframework.data.gemfire.support.RegionWarmUpService
+ * @since 1.10.0
+ */
+public class RegionWarmUpConfiguration extends EmbeddedServiceConfigurationSupport {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Class getAnnotationType() {
+		return EnableRegionWarmUp.class;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void registerBeanDefinitions(AnnotationMetadata importingClassMetaData,
+			Map<String, Object> annotationAttributes, BeanDefinitionRegistry registry) {
+
+		ManagedList<BeanDefinition> warmUps = new ManagedList<BeanDefinition>();
+
+		for (AnnotationAttributes warmUpAttributes : ArrayUtils.nullSafeArray(
+				(AnnotationAttributes[]) annotationAttributes.get("warmUps"), AnnotationAttributes.class)) {
+
+			warmUps.add(newRegionWarmUpBeanDefinition(warmUpAttributes));
+		}
+
+		int poolSize = (Integer) annotationAttributes.get("poolSize");
+
+		BeanDefinitionBuilder regionWarmUpServiceBuilder =
+			BeanDefinitionBuilder.genericBeanDefinition(RegionWarmUpService.class)
+				.addPropertyReference("cache", GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME)
+				.addPropertyValue("awaitWarmUp", annotationAttributes.get("awaitWarmUp"))
+				.addPropertyValue("maxEntriesPerSecond", annotationAttributes.get("maxEntriesPerSecond"))
+				.addPropertyValue("phase", annotationAttributes.get("phase"))
+				.addPropertyValue("poolSize", (poolSize > 0 ? poolSize : RegionWarmUpService.DEFAULT_POOL_SIZE))
+				.addPropertyValue("warmUps", warmUps)
+				.addPropertyValue("warmUpTimeout", annotationAttributes.get("warmUpTimeout"));
+
+		registry.registerBeanDefinition(generateBeanName(RegionWarmUpService.class),
+			regionWarmUpServiceBuilder.getBeanDefinition());
+	}
+
+	/* (non-Javadoc) */
+	private BeanDefinition newRegionWarmUpBeanDefinition(AnnotationAttributes warmUpAttributes) {
+		String snapshot = warmUpAttributes.getString("snapshot");
+
+		return BeanDefinitionBuilder.genericBeanDefinition(RegionWarmUp.class)
+			.addConstructorArgValue(warmUpAttributes.getString("regionName"))
+			.addConstructorArgValue(StringUtils.hasText(snapshot) ? snapshot.trim() : null)
+			.addConstructorArgValue(Arrays.asList(warmUpAttributes.getStringArray("keys")))
+			.addConstructorArgValue(warmUpAttributes.getString("query"))
+			.addConstructorArgValue(warmUpAttributes.getNumber("batchSize"))
+			.getBeanDefinition();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Properties toGemFireProperties(Map<String, Object> annotationAttributes) {
+		return new Properties();
+	}
+}
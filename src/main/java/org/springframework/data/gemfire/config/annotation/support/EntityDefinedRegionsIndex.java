@@ -0,0 +1,240 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link EntityDefinedRegionsIndex} class is the index of the application persistent entities annotated with
+ * one of the {@link org.springframework.data.gemfire.mapping.Region} mapping annotations, written at compile time
+ * by the {@link EntityDefinedRegionsIndexProcessor} to {@link #INDEX_LOCATION}.
+ *
+ * The index is a properties file keyed by the binary class name of every entity; the values are not used.
+ * Each classpath root (directory or JAR) compiled with the processor carries its own index.  The entities
+ * of a base package are only resolved from the index when every classpath root containing the base package
+ * carries an index, since the entities of a root compiled without the processor, e.g. a JAR of another module,
+ * are not listed in any index.  The other base packages are still scanned.  Setting
+ * the {@link #IGNORE_INDEX_PROPERTY} System property to {@literal true} ignores the index.
+ *
+ * The index only lists the entity classes; the {@link org.springframework.data.gemfire.mapping.Indexed}
+ * properties of the entities are still read by reflection when the entity {@link com.gemstone.gemfire.cache.Region
+ * Regions} and their OQL Indexes are created, which is out of scope for this index.
+ *
+ * @see org.springframework.data.gemfire.config.annotation.support.EntityDefinedRegionsIndexProcessor
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class EntityDefinedRegionsIndex {
+
+	public static final String IGNORE_INDEX_PROPERTY = "spring.data.gemfire.entities.index.ignore";
+
+	public static final String INDEX_LOCATION = "META-INF/spring.gemfire.entities";
+
+	private static final Log log = LogFactory.getLog(EntityDefinedRegionsIndex.class);
+
+	private final Set<String> entities;
+
+	private final Set<String> indexedRoots;
+
+	/**
+	 * Loads and merges all {@link #INDEX_LOCATION indexes} visible to the given {@link ClassLoader}.
+	 *
+	 * @param classLoader {@link ClassLoader} used to find the indexes.
+	 * @return the merged {@link EntityDefinedRegionsIndex}, or {@literal null} if no index is present,
+	 * the index could not be read or the {@link #IGNORE_INDEX_PROPERTY} System property is set.
+	 */
+	public static EntityDefinedRegionsIndex load(ClassLoader classLoader) {
+		if (Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+			return null;
+		}
+
+		try {
+			Enumeration<URL> indexUrls = (classLoader != null ? classLoader.getResources(INDEX_LOCATION)
+				: ClassLoader.getSystemResources(INDEX_LOCATION));
+
+			if (!indexUrls.hasMoreElements()) {
+				return null;
+			}
+
+			Properties index = new Properties();
+			Set<String> indexedRoots = new HashSet<String>();
+
+			while (indexUrls.hasMoreElements()) {
+				URL indexUrl = indexUrls.nextElement();
+				InputStream in = indexUrl.openStream();
+
+				indexedRoots.add(rootOf(indexUrl, INDEX_LOCATION));
+
+				try {
+					index.load(in);
+				}
+				finally {
+					in.close();
+				}
+			}
+
+			return new EntityDefinedRegionsIndex(new TreeSet<String>(index.stringPropertyNames()), indexedRoots);
+		}
+		catch (IOException e) {
+			log.warn(String.format("Failed to read entity index [%s]; scanning for entities", INDEX_LOCATION), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Constructs an {@link EntityDefinedRegionsIndex} from the given index {@link Properties}, covering
+	 * no classpath root.
+	 *
+	 * @param index {@link Properties} keyed by entity class name.
+	 * @return a new {@link EntityDefinedRegionsIndex}.
+	 * @see #from(Properties, URL...)
+	 */
+	public static EntityDefinedRegionsIndex from(Properties index) {
+		return from(index, new URL[0]);
+	}
+
+	/**
+	 * Constructs an {@link EntityDefinedRegionsIndex} from the given index {@link Properties}, covering
+	 * the given classpath roots.
+	 *
+	 * @param index {@link Properties} keyed by entity class name.
+	 * @param indexedRoots {@link URL URLs} of the classpath roots (directories or JARs) whose entities
+	 * are all listed in the index.
+	 * @return a new {@link EntityDefinedRegionsIndex}.
+	 */
+	public static EntityDefinedRegionsIndex from(Properties index, URL... indexedRoots) {
+		Set<String> indexedRootSet = new HashSet<String>();
+
+		for (URL indexedRoot : indexedRoots) {
+			indexedRootSet.add(rootOf(indexedRoot, ""));
+		}
+
+		return new EntityDefinedRegionsIndex(new TreeSet<String>(index.stringPropertyNames()), indexedRootSet);
+	}
+
+	/* (non-Javadoc) */
+	private static String rootOf(URL url, String path) {
+		String externalForm = url.toExternalForm();
+
+		externalForm = (externalForm.endsWith("/") ? externalForm.substring(0, externalForm.length() - 1)
+			: externalForm);
+
+		externalForm = (externalForm.endsWith(path)
+			? externalForm.substring(0, externalForm.length() - path.length()) : externalForm);
+
+		return (externalForm.endsWith("/") ? externalForm : externalForm.concat("/"));
+	}
+
+	/* (non-Javadoc) */
+	private EntityDefinedRegionsIndex(Set<String> entities, Set<String> indexedRoots) {
+		this.entities = entities;
+		this.indexedRoots = indexedRoots;
+	}
+
+	/**
+	 * Returns the class names of all indexed entities.
+	 *
+	 * @return a {@link Set} of entity class names.
+	 */
+	public Set<String> getEntityClassNames() {
+		return Collections.unmodifiableSet(entities);
+	}
+
+	/**
+	 * Returns the class names of the indexed entities in the given base package or its sub-packages.
+	 *
+	 * @param basePackage name of the base package.
+	 * @return a {@link Set} of entity class names.
+	 */
+	public Set<String> getEntityClassNames(String basePackage) {
+		Set<String> entityClassNames = new LinkedHashSet<String>();
+		String packagePrefix = (StringUtils.hasText(basePackage) ? basePackage.trim().concat(".") : "");
+
+		for (String entityClassName : entities) {
+			if (entityClassName.startsWith(packagePrefix)) {
+				entityClassNames.add(entityClassName);
+			}
+		}
+
+		return entityClassNames;
+	}
+
+	/**
+	 * Determines whether the index lists all entities of the given base package, that is, whether every classpath
+	 * root containing the base package, as found by the given {@link ClassLoader}, carries an index.
+	 *
+	 * @param basePackage name of the base package.
+	 * @param classLoader {@link ClassLoader} used to find the classpath roots containing the base package.
+	 * @return a boolean indicating whether the entities of the base package can be resolved from the index
+	 * instead of scanning the base package.
+	 */
+	public boolean covers(String basePackage, ClassLoader classLoader) {
+		if (indexedRoots.isEmpty() || !StringUtils.hasText(basePackage)) {
+			return false;
+		}
+
+		String packagePath = basePackage.trim().replace('.', '/');
+
+		try {
+			Enumeration<URL> packageUrls = (classLoader != null ? classLoader.getResources(packagePath)
+				: ClassLoader.getSystemResources(packagePath));
+
+			while (packageUrls.hasMoreElements()) {
+				String root = rootOf(packageUrls.nextElement(), packagePath);
+
+				if (!indexedRoots.contains(root)) {
+					log.info(String.format("Scanning base package [%1$s] since [%2$s] carries no entity index [%3$s]",
+						basePackage, root, INDEX_LOCATION));
+
+					return false;
+				}
+			}
+
+			return true;
+		}
+		catch (IOException e) {
+			log.warn(String.format("Failed to resolve the classpath roots of base package [%s]; scanning for entities",
+				basePackage), e);
+
+			return false;
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, entities = %2$s, indexedRoots = %3$s }", getClass().getName(),
+			entities, indexedRoots);
+	}
+}
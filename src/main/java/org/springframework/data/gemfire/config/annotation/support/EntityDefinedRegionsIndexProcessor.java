@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * The {@link EntityDefinedRegionsIndexProcessor} class is a Java annotation processor writing
+ * the {@link EntityDefinedRegionsIndex} of the application persistent entities annotated, directly, by way of
+ * a meta-annotation or by inheritance, with one of the {@link org.springframework.data.gemfire.mapping.Region}
+ * mapping annotations.
+ *
+ * Only concrete, top-level or static nested classes are indexed, the same classes found by scanning.
+ * On incremental compilation, the entries of the existing index are kept for the classes not being compiled.
+ *
+ * The processor is not registered as a service and must be enabled explicitly, e.g. with the {@literal -processor}
+ * compiler option or the {@literal annotationProcessors} configuration of the Maven compiler plugin.  Base packages
+ * spanning classpath roots compiled without the processor are still scanned.  The {@literal @Indexed} properties
+ * of the entities are not recorded in the index.
+ *
+ * @see javax.annotation.processing.AbstractProcessor
+ * @see org.springframework.data.gemfire.config.annotation.support.EntityDefinedRegionsIndex
+ * @since 1.10.0
+ */
+@SupportedAnnotationTypes("*")
+public class EntityDefinedRegionsIndexProcessor extends AbstractProcessor {
+
+	protected static final Set<String> REGION_ANNOTATION_TYPE_NAMES = new HashSet<String>(Arrays.asList(
+		"org.springframework.data.gemfire.mapping.ClientRegion", "org.springframework.data.gemfire.mapping.LocalRegion",
+		"org.springframework.data.gemfire.mapping.PartitionRegion", "org.springframework.data.gemfire.mapping.Region",
+		"org.springframework.data.gemfire.mapping.ReplicateRegion"));
+
+	private final Set<String> entities = new TreeSet<String>();
+
+	private final Set<String> compiledClassNames = new HashSet<String>();
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+		for (TypeElement typeElement : ElementFilter.typesIn(roundEnvironment.getRootElements())) {
+			processType(typeElement);
+		}
+
+		if (roundEnvironment.processingOver()) {
+			writeIndex();
+		}
+
+		return false;
+	}
+
+	/* (non-Javadoc) */
+	private void processType(TypeElement typeElement) {
+		String className = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+
+		compiledClassNames.add(className);
+
+		if (isCandidate(typeElement) && isRegionAnnotated(typeElement)) {
+			entities.add(className);
+		}
+
+		for (TypeElement nestedTypeElement : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+			processType(nestedTypeElement);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private boolean isCandidate(TypeElement typeElement) {
+		Set<Modifier> modifiers = typeElement.getModifiers();
+
+		return (ElementKind.CLASS.equals(typeElement.getKind()) && !modifiers.contains(Modifier.ABSTRACT)
+			&& (NestingKind.TOP_LEVEL.equals(typeElement.getNestingKind()) || modifiers.contains(Modifier.STATIC)));
+	}
+
+	/* (non-Javadoc) */
+	private boolean isRegionAnnotated(TypeElement typeElement) {
+		List<? extends AnnotationMirror> annotations =
+			processingEnv.getElementUtils().getAllAnnotationMirrors(typeElement);
+
+		return isRegionAnnotated(annotations, new HashSet<String>());
+	}
+
+	/* (non-Javadoc) */
+	private boolean isRegionAnnotated(List<? extends AnnotationMirror> annotations, Set<String> visitedAnnotations) {
+		for (AnnotationMirror annotation : annotations) {
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			String annotationTypeName = annotationType.getQualifiedName().toString();
+
+			if (REGION_ANNOTATION_TYPE_NAMES.contains(annotationTypeName)) {
+				return true;
+			}
+
+			if (!annotationTypeName.startsWith("java.lang.annotation.") && visitedAnnotations.add(annotationTypeName)
+					&& isRegionAnnotated(annotationType.getAnnotationMirrors(), visitedAnnotations)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/* (non-Javadoc) */
+	private void writeIndex() {
+		Set<String> index = readExistingIndex();
+
+		index.addAll(entities);
+
+		if (index.isEmpty()) {
+			return;
+		}
+
+		try {
+			FileObject indexFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+				EntityDefinedRegionsIndex.INDEX_LOCATION);
+
+			Writer writer = new OutputStreamWriter(indexFile.openOutputStream(), "ISO-8859-1");
+
+			try {
+				for (String entityClassName : index) {
+					writer.write(entityClassName);
+					writer.write("=\n");
+				}
+			}
+			finally {
+				writer.close();
+			}
+		}
+		catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(
+				"Failed to write entity index [%1$s]: %2$s", EntityDefinedRegionsIndex.INDEX_LOCATION, e));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Set<String> readExistingIndex() {
+		Set<String> existingIndex = new TreeSet<String>();
+
+		try {
+			FileObject indexFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+				EntityDefinedRegionsIndex.INDEX_LOCATION);
+
+			InputStream in = indexFile.openInputStream();
+
+			try {
+				Properties properties = new Properties();
+
+				properties.load(in);
+
+				EntityDefinedRegionsIndex index = EntityDefinedRegionsIndex.from(properties);
+
+				for (String className : index.getEntityClassNames()) {
+					if (!compiledClassNames.contains(className)) {
+						existingIndex.add(className);
+					}
+				}
+			}
+			finally {
+				in.close();
+			}
+		}
+		catch (Exception ignore) {
+			// no existing index; the index is written from scratch
+		}
+
+		return existingIndex;
+	}
+}
@@ -22,6 +22,7 @@ import static org.springframework.data.gemfire.util.SpringUtils.defaultIfEmpty;
 
 import com.gemstone.gemfire.cache.DataPolicy;
 import com.gemstone.gemfire.cache.GemFireCache;
+import com.gemstone.gemfire.cache.PartitionAttributes;
 import com.gemstone.gemfire.cache.Region;
 import com.gemstone.gemfire.cache.RegionAttributes;
 import com.gemstone.gemfire.cache.RegionShortcut;
@@ -150,6 +151,19 @@ public class GemFireCacheTypeAwareRegionFactoryBean<K, V> extends RegionLookupFa
 		return this.regionAttributes;
 	}
 
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected String getColocatedWith() {
+		RegionAttributes<K, V> regionAttributes = getRegionAttributes();
+
+		PartitionAttributes partitionAttributes = (regionAttributes != null
+			? regionAttributes.getPartitionAttributes() : null);
+
+		return (partitionAttributes != null ? partitionAttributes.getColocatedWith() : null);
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -17,6 +17,7 @@
 
 package org.springframework.data.gemfire.config.annotation.support;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -29,6 +30,10 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.TypeFilter;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
@@ -86,6 +91,8 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 
 	private ConfigurableApplicationContext applicationContext;
 
+	private EntityDefinedRegionsIndex index;
+
 	private Set<TypeFilter> excludes = new HashSet<TypeFilter>();
 	private Set<TypeFilter> includes = new HashSet<TypeFilter>();
 
@@ -156,6 +163,17 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 		return (applicationContext != null ? applicationContext.getEnvironment() : new StandardEnvironment());
 	}
 
+	/**
+	 * Returns the {@link EntityDefinedRegionsIndex} from which the component classes of the base packages
+	 * {@link EntityDefinedRegionsIndex#covers(String, ClassLoader) covered} by the index are resolved
+	 * instead of scanning the classpath.
+	 *
+	 * @return the {@link EntityDefinedRegionsIndex}, or {@literal null} if all base packages are scanned.
+	 */
+	protected EntityDefinedRegionsIndex getIndex() {
+		return this.index;
+	}
+
 	/**
 	 * Returns a collection of {@link TypeFilter TypeFilters} used to exclude types found
 	 * during the classpath component scan.
@@ -188,35 +206,115 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 
 	/**
 	 * Scans the {@link Set} of base packages searching for GemFire application components accepted by the filters
-	 * of this scanner.
+	 * of this scanner.  The base packages for which every classpath root containing the base package carries
+	 * an {@link EntityDefinedRegionsIndex}, if any, are searched from the index; the other base packages
+	 * are scanned on the classpath.
 	 *
 	 * @return a {@link Set} of GemFire application component {@link Class} types.
 	 * @see #newClassPathScanningCandidateComponentProvider(boolean)
 	 * @see java.util.Set
+	 * @see #scanIndex(Set, MetadataReaderFactory, ClassLoader, Set)
 	 */
 	public Set<Class<?>> scan() {
 		Set<Class<?>> componentClasses = new HashSet<Class<?>>();
 
 		ClassLoader entityClassLoader = getEntityClassLoader();
 
-		ClassPathScanningCandidateComponentProvider componentProvider =
-			newClassPathScanningCandidateComponentProvider();
+		EntityDefinedRegionsIndex index = getIndex();
+
+		ClassPathScanningCandidateComponentProvider componentProvider = null;
+
+		MetadataReaderFactory metadataReaderFactory = null;
 
 		for (String packageName : this) {
-			for (BeanDefinition beanDefinition : componentProvider.findCandidateComponents(packageName)) {
-				try {
-					componentClasses.add(ClassUtils.forName(beanDefinition.getBeanClassName(), entityClassLoader));
-				}
-				catch (ClassNotFoundException ignore) {
-					log.warn(String.format("Class not found for component type [%s]",
-						beanDefinition.getBeanClassName()));
-				}
+			if (index != null && index.covers(packageName, entityClassLoader)) {
+				metadataReaderFactory = (metadataReaderFactory != null ? metadataReaderFactory
+					: new CachingMetadataReaderFactory(entityClassLoader));
+
+				scanIndex(index.getEntityClassNames(packageName), metadataReaderFactory, entityClassLoader,
+					componentClasses);
+			}
+			else {
+				componentProvider = (componentProvider != null ? componentProvider
+					: newClassPathScanningCandidateComponentProvider());
+
+				scanClasspath(packageName, componentProvider, entityClassLoader, componentClasses);
 			}
 		}
 
 		return componentClasses;
 	}
 
+	/* (non-Javadoc) */
+	private void scanClasspath(String packageName, ClassPathScanningCandidateComponentProvider componentProvider,
+			ClassLoader entityClassLoader, Set<Class<?>> componentClasses) {
+
+		for (BeanDefinition beanDefinition : componentProvider.findCandidateComponents(packageName)) {
+			try {
+				componentClasses.add(ClassUtils.forName(beanDefinition.getBeanClassName(), entityClassLoader));
+			}
+			catch (ClassNotFoundException ignore) {
+				log.warn(String.format("Class not found for component type [%s]",
+					beanDefinition.getBeanClassName()));
+			}
+		}
+	}
+
+	/**
+	 * Adds the given classes listed in the {@link EntityDefinedRegionsIndex} that are accepted by the filters
+	 * of this scanner, reading only the class files of the indexed classes.
+	 *
+	 * @param indexedClassNames {@link Set} of the names of the indexed classes in a base package.
+	 * @param metadataReaderFactory {@link MetadataReaderFactory} reading the class files.
+	 * @param entityClassLoader {@link ClassLoader} loading the accepted classes.
+	 * @param componentClasses {@link Set} to which the accepted component classes are added.
+	 * @see org.springframework.data.gemfire.config.annotation.support.EntityDefinedRegionsIndex
+	 */
+	protected void scanIndex(Set<String> indexedClassNames, MetadataReaderFactory metadataReaderFactory,
+			ClassLoader entityClassLoader, Set<Class<?>> componentClasses) {
+
+		for (String className : indexedClassNames) {
+			try {
+				MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(className);
+
+				if (isCandidateComponent(metadataReader, metadataReaderFactory)) {
+					componentClasses.add(ClassUtils.forName(className, entityClassLoader));
+				}
+			}
+			catch (IOException ignore) {
+				log.warn(String.format("Class not found for indexed component type [%s]", className));
+			}
+			catch (ClassNotFoundException ignore) {
+				log.warn(String.format("Class not found for indexed component type [%s]", className));
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private boolean isCandidateComponent(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory)
+			throws IOException {
+
+		ClassMetadata classMetadata = metadataReader.getClassMetadata();
+
+		if (!(classMetadata.isIndependent() && classMetadata.isConcrete())) {
+			return false;
+		}
+
+		for (TypeFilter exclude : getExcludes()) {
+			if (exclude.match(metadataReader, metadataReaderFactory)) {
+				return false;
+			}
+		}
+
+		for (TypeFilter include : getIncludes()) {
+			if (include.match(metadataReader, metadataReaderFactory)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * Constructs a new instance of the {@link ClassPathScanningCandidateComponentProvider} initialized with
 	 * no default filters.
@@ -268,6 +366,12 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 		return this;
 	}
 
+	/* (non-Javadoc) */
+	public GemFireComponentClassTypeScanner withIndex(EntityDefinedRegionsIndex index) {
+		this.index = index;
+		return this;
+	}
+
 	/* (non-Javadoc) */
 	public GemFireComponentClassTypeScanner withExcludes(TypeFilter... excludes) {
 		return withExcludes(CollectionUtils.asSet(ArrayUtils.nullSafeArray(excludes, TypeFilter.class)));
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.support;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.gemfire.support.TransactionAwareCopyOnReadRegion;
+
+import com.gemstone.gemfire.cache.Region;
+
+/**
+ * The {@link TransactionAwareCopyOnReadRegionBeanPostProcessor} wraps GemFire {@link Region} Spring beans
+ * in a {@link TransactionAwareCopyOnReadRegion} so that values are only copied on read inside
+ * GemFire cache transactions, allowing {@link org.springframework.data.gemfire.GemfireTransactionManager}
+ * to be configured with {@code copyOnRead} set to {@literal false}.
+ *
+ * Only the {@link Region Regions} explicitly named with {@link #setRegionNames(Set)} are wrapped;
+ * when no {@link Region} names are configured, no {@link Region} bean is wrapped.
+ *
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.data.gemfire.support.TransactionAwareCopyOnReadRegion
+ * @see com.gemstone.gemfire.cache.Region
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class TransactionAwareCopyOnReadRegionBeanPostProcessor implements BeanPostProcessor {
+
+	protected final Log log = LogFactory.getLog(getClass());
+
+	private Set<String> regionNames = Collections.emptySet();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		return bean;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		if (bean instanceof Region && isIncluded((Region<?, ?>) bean, beanName)) {
+			if (log.isDebugEnabled()) {
+				log.debug(String.format("Applying transaction-scoped copy-on-read to Region bean [%s]", beanName));
+			}
+
+			return new TransactionAwareCopyOnReadRegion<Object, Object>((Region<Object, Object>) bean);
+		}
+
+		return bean;
+	}
+
+	/* (non-Javadoc) */
+	boolean isIncluded(Region<?, ?> region, String beanName) {
+		return (regionNames.contains(beanName) || regionNames.contains(region.getName())
+			|| regionNames.contains(region.getFullPath()));
+	}
+
+	/**
+	 * Sets the names (bean names, {@link Region} names or full paths) of the {@link Region Regions}
+	 * to wrap.  {@link Region Regions} not named are left as is.
+	 *
+	 * @param regionNames names of the {@link Region Regions} to wrap.
+	 */
+	public void setRegionNames(Set<String> regionNames) {
+		this.regionNames = (regionNames != null ? new HashSet<String>(regionNames) : Collections.<String>emptySet());
+	}
+}
@@ -114,6 +114,7 @@ abstract class AbstractRegionParser extends AbstractSingleBeanDefinitionParser {
 		ParsingUtils.setPropertyValue(element, regionBuilder, "name");
 		ParsingUtils.setPropertyValue(element, regionBuilder, "ignore-if-exists", "lookupEnabled");
 		ParsingUtils.setPropertyValue(element, regionBuilder, "data-policy");
+		ParsingUtils.setPropertyValue(element, regionBuilder, "off-heap");
 		ParsingUtils.setPropertyValue(element, regionBuilder, "persistent");
 		ParsingUtils.setPropertyValue(element, regionBuilder, "shortcut");
 
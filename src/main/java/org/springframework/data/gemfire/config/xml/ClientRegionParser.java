@@ -70,6 +70,7 @@ class ClientRegionParser extends AbstractRegionParser {
 		ParsingUtils.setPropertyValue(element, regionBuilder, "name");
 		ParsingUtils.setPropertyValue(element, regionBuilder, "data-policy", "dataPolicyName");
 		ParsingUtils.setPropertyValue(element, regionBuilder, "ignore-if-exists", "lookupEnabled");
+		ParsingUtils.setPropertyValue(element, regionBuilder, "off-heap");
 		ParsingUtils.setPropertyValue(element, regionBuilder, "persistent");
 		ParsingUtils.setPropertyValue(element, regionBuilder, "pool-name");
 		ParsingUtils.setPropertyValue(element, regionBuilder, "shortcut");
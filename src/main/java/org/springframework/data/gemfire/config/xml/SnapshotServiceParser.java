@@ -52,6 +52,10 @@ class SnapshotServiceParser extends AbstractSingleBeanDefinitionParser {
 
 		ParsingUtils.setCacheReference(element, builder);
 		ParsingUtils.setRegionReference(element, builder);
+		ParsingUtils.setPropertyValue(element, builder, "asynchronous");
+		ParsingUtils.setPropertyValue(element, builder, "export-schedule");
+		ParsingUtils.setPropertyValue(element, builder, "max-bytes-per-second");
+		ParsingUtils.setPropertyValue(element, builder, "parallelism");
 		ParsingUtils.setPropertyValue(element, builder, "suppress-import-on-init");
 		builder.addPropertyValue("exports", parseExports(element, parserContext));
 		builder.addPropertyValue("imports", parseImports(element, parserContext));
@@ -87,13 +91,22 @@ class SnapshotServiceParser extends AbstractSingleBeanDefinitionParser {
 
 		snapshotMetadataBuilder.addConstructorArgValue(snapshotMetadataElement.getAttribute("location"));
 
+		boolean compressSpecified = snapshotMetadataElement.hasAttribute("compress");
+
 		if (isSnapshotFilterSpecified(snapshotMetadataElement)) {
 			snapshotMetadataBuilder.addConstructorArgValue(ParsingUtils.parseRefOrNestedBeanDeclaration(
 				parserContext, snapshotMetadataElement, snapshotMetadataBuilder, "filter-ref", true));
 		}
+		else if (compressSpecified) {
+			snapshotMetadataBuilder.addConstructorArgValue(null);
+		}
 
 		snapshotMetadataBuilder.addConstructorArgValue(snapshotMetadataElement.getAttribute("format"));
 
+		if (compressSpecified) {
+			snapshotMetadataBuilder.addConstructorArgValue(snapshotMetadataElement.getAttribute("compress"));
+		}
+
 		return snapshotMetadataBuilder.getBeanDefinition();
 	}
 
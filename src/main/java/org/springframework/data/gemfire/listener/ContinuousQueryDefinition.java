@@ -32,7 +32,17 @@ import com.gemstone.gemfire.cache.query.CqQuery;
 @SuppressWarnings("unused")
 public class ContinuousQueryDefinition implements InitializingBean {
 
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	public static final long DEFAULT_BATCH_TIME_INTERVAL = 100L;
+
+	private boolean conflate = false;
 	private boolean durable = false;
+	private boolean executeWithInitialResults = false;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private long batchTimeInterval = DEFAULT_BATCH_TIME_INTERVAL;
 
 	private ContinuousQueryListener listener;
 
@@ -70,6 +80,98 @@ public class ContinuousQueryDefinition implements InitializingBean {
 		Assert.notNull(listener, "A non-null listener is required.");
 	}
 
+	/**
+	 * Sets the maximum number of CQ events collected in a batch before the batch is delivered
+	 * to a {@link BatchingContinuousQueryListener}.
+	 *
+	 * @param batchSize maximum number of CQ events in a batch.
+	 * @see org.springframework.data.gemfire.listener.BatchingContinuousQueryListener
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Gets the maximum number of CQ events collected in a batch.
+	 *
+	 * @return the maximum number of CQ events in a batch.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Sets the maximum amount of time in milliseconds CQ events are collected before a (possibly partial) batch
+	 * is delivered to a {@link BatchingContinuousQueryListener}.
+	 *
+	 * @param batchTimeInterval time in milliseconds between flushes of a pending batch.
+	 * @see org.springframework.data.gemfire.listener.BatchingContinuousQueryListener
+	 */
+	public void setBatchTimeInterval(long batchTimeInterval) {
+		Assert.isTrue(batchTimeInterval > 0, String.format("Batch time interval [%d] must be greater than 0",
+			batchTimeInterval));
+		this.batchTimeInterval = batchTimeInterval;
+	}
+
+	/**
+	 * Gets the maximum amount of time in milliseconds CQ events are collected before a batch is delivered.
+	 *
+	 * @return the batch time interval in milliseconds.
+	 */
+	public long getBatchTimeInterval() {
+		return batchTimeInterval;
+	}
+
+	/**
+	 * Sets whether a batch only retains the latest CQ event per key.
+	 *
+	 * @param conflate a boolean indicating whether CQ events for the same key are conflated within a batch.
+	 */
+	public void setConflate(boolean conflate) {
+		this.conflate = conflate;
+	}
+
+	/**
+	 * Determines whether a batch only retains the latest CQ event per key.
+	 *
+	 * @return a boolean indicating whether CQ events for the same key are conflated within a batch.
+	 */
+	public boolean isConflate() {
+		return conflate;
+	}
+
+	/**
+	 * Sets whether the CQ is executed with {@link CqQuery#executeWithInitialResults()} so the listener first
+	 * receives the current matching entries as {@link com.gemstone.gemfire.cache.Operation#CREATE} events
+	 * before any live events.
+	 *
+	 * @param executeWithInitialResults a boolean indicating whether to deliver the CQ's initial results.
+	 * @see com.gemstone.gemfire.cache.query.CqQuery#executeWithInitialResults()
+	 */
+	public void setExecuteWithInitialResults(boolean executeWithInitialResults) {
+		this.executeWithInitialResults = executeWithInitialResults;
+	}
+
+	/**
+	 * Determines whether the CQ is executed with initial results.
+	 *
+	 * @return a boolean indicating whether the CQ's initial results are delivered to the listener.
+	 */
+	public boolean isExecuteWithInitialResults() {
+		return executeWithInitialResults;
+	}
+
+	/**
+	 * Determines whether the CQ events are delivered to the listener in batches.
+	 *
+	 * @return a boolean indicating whether the listener is a {@link BatchingContinuousQueryListener}.
+	 * @see org.springframework.data.gemfire.listener.BatchingContinuousQueryListener
+	 */
+	public boolean isBatching() {
+		return (listener instanceof BatchingContinuousQueryListener);
+	}
+
 	/**
 	 * Determines whether the CQ is durable.
 	 *
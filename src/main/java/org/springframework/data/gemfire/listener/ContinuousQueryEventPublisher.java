@@ -0,0 +1,518 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.util.Assert;
+
+import com.gemstone.gemfire.cache.query.CqEvent;
+import com.gemstone.gemfire.cache.query.CqQuery;
+
+/**
+ * Reactive Streams {@link Publisher} of {@link CqEvent CqEvents} with demand-based delivery and bounded buffering.
+ *
+ * Register an instance as the listener of a {@link ContinuousQueryDefinition} with
+ * the {@link ContinuousQueryListenerContainer}.  CQ events are buffered until the single {@link Subscriber}
+ * requests them.  When the number of buffered events reaches the high watermark, the configured
+ * {@link OverflowAction} either discards the oldest buffered event (the default), blocks the GemFire CQ event
+ * Thread, letting events queue up on the server (in the client's subscription queue, which may be durable),
+ * or stops the {@link CqQuery}.  Delivery resumes once the buffer has been drained to the low watermark.
+ *
+ * Note that the GemFire CQ event Thread is shared by all CQs of the client cache's Pool, so
+ * {@link OverflowAction#BLOCK} stalls event delivery to every CQ and listener in the Pool while a slow
+ * {@link Subscriber} catches up.  Events occurring on the server while a {@link CqQuery} is stopped are
+ * not delivered, so {@link OverflowAction#PAUSE_QUERY} is only suitable for consumers interested in
+ * the latest state.
+ *
+ * @see org.reactivestreams.Publisher
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see com.gemstone.gemfire.cache.query.CqEvent
+ * @see com.gemstone.gemfire.cache.query.CqQuery
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class ContinuousQueryEventPublisher implements FlowControlledContinuousQueryListener, Publisher<CqEvent> {
+
+	public static final int DEFAULT_HIGH_WATERMARK = 10000;
+	public static final int DEFAULT_LOW_WATERMARK = 1000;
+
+	private final AtomicBoolean paused = new AtomicBoolean(false);
+	private final AtomicBoolean subscribed = new AtomicBoolean(false);
+	private final AtomicBoolean terminated = new AtomicBoolean(false);
+
+	private final AtomicInteger workInProgress = new AtomicInteger(0);
+
+	private final AtomicLong droppedEventCount = new AtomicLong(0L);
+	private final AtomicLong pauseCount = new AtomicLong(0L);
+	private final AtomicLong requested = new AtomicLong(0L);
+
+	private volatile boolean cancelled = false;
+	private volatile boolean completed = false;
+
+	private final int highWatermark;
+	private final int lowWatermark;
+
+	private volatile CqQuery cq;
+
+	private volatile Throwable error;
+
+	private final LinkedList<CqEvent> buffer = new LinkedList<CqEvent>();
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final OverflowAction overflowAction;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition drainedToLowWatermark = lock.newCondition();
+
+	private volatile Subscriber<? super CqEvent> subscriber;
+
+	/**
+	 * Constructs an instance of the {@link ContinuousQueryEventPublisher} with the default watermarks
+	 * and {@link OverflowAction#DROP_OLDEST}.
+	 */
+	public ContinuousQueryEventPublisher() {
+		this(DEFAULT_HIGH_WATERMARK, DEFAULT_LOW_WATERMARK, OverflowAction.DROP_OLDEST);
+	}
+
+	/**
+	 * Constructs an instance of the {@link ContinuousQueryEventPublisher} with the given watermarks
+	 * and {@link OverflowAction}.
+	 *
+	 * @param highWatermark number of buffered events at which the {@link OverflowAction} is applied.
+	 * @param lowWatermark number of buffered events at which delivery from the CQ resumes.
+	 * @param overflowAction {@link OverflowAction} applied when the high watermark is reached;
+	 * defaults to {@link OverflowAction#DROP_OLDEST} if {@literal null}.
+	 * @throws IllegalArgumentException if the watermarks are invalid.
+	 */
+	public ContinuousQueryEventPublisher(int highWatermark, int lowWatermark, OverflowAction overflowAction) {
+		Assert.isTrue(highWatermark > 0, String.format("High watermark [%d] must be greater than 0", highWatermark));
+		Assert.isTrue(lowWatermark >= 0 && lowWatermark < highWatermark, String.format(
+			"Low watermark [%1$d] must be greater than or equal to 0 and less than the high watermark [%2$d]",
+				lowWatermark, highWatermark));
+
+		this.highWatermark = highWatermark;
+		this.lowWatermark = lowWatermark;
+		this.overflowAction = (overflowAction != null ? overflowAction : OverflowAction.DROP_OLDEST);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void bind(CqQuery cq) {
+		this.cq = cq;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void subscribe(Subscriber<? super CqEvent> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("Subscriber must not be null");
+		}
+
+		if (subscribed.compareAndSet(false, true)) {
+			this.subscriber = subscriber;
+			subscriber.onSubscribe(new CqEventSubscription());
+			drain();
+		}
+		else {
+			subscriber.onSubscribe(new Subscription() {
+				public void request(long n) {
+				}
+
+				public void cancel() {
+				}
+			});
+
+			subscriber.onError(new IllegalStateException(String.format(
+				"%s only supports a single Subscriber", getClass().getSimpleName())));
+		}
+	}
+
+	/**
+	 * Buffers the CQ event and delivers it to the {@link Subscriber} if there is outstanding demand.
+	 *
+	 * @param event the event from the CQ.
+	 */
+	@Override
+	public void onEvent(CqEvent event) {
+		if (!cancelled) {
+			int size;
+
+			lock.lock();
+
+			try {
+				if (cancelled) {
+					return;
+				}
+
+				if (OverflowAction.DROP_OLDEST.equals(overflowAction) && buffer.size() >= highWatermark) {
+					buffer.pollFirst();
+					logDroppedEvent(droppedEventCount.incrementAndGet());
+				}
+
+				buffer.addLast(event);
+				size = buffer.size();
+			}
+			finally {
+				lock.unlock();
+			}
+
+			drain();
+
+			if (size >= highWatermark && !cancelled && OverflowAction.BLOCK.equals(overflowAction)) {
+				awaitLowWatermark();
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void logDroppedEvent(long droppedEventCount) {
+		if (droppedEventCount == 1L || droppedEventCount % highWatermark == 0L) {
+			logger.warn(String.format("Dropped [%1$d] CQ event(s) since the Subscriber did not keep up"
+				+ " with the high watermark [%2$d]", droppedEventCount, highWatermark));
+		}
+	}
+
+	/**
+	 * Signals completion to the {@link Subscriber} once all buffered events have been delivered.
+	 */
+	@Override
+	public void close() {
+		completed = true;
+		signalDrainedToLowWatermark();
+		drain();
+	}
+
+	/* (non-Javadoc) */
+	private void awaitLowWatermark() {
+		lock.lock();
+
+		try {
+			while (buffer.size() > lowWatermark && !cancelled && !completed) {
+				drainedToLowWatermark.await();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void signalDrainedToLowWatermark() {
+		lock.lock();
+
+		try {
+			drainedToLowWatermark.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/* (non-Javadoc) */
+	private CqEvent poll() {
+		lock.lock();
+
+		try {
+			CqEvent event = buffer.pollFirst();
+
+			if (buffer.size() <= lowWatermark) {
+				drainedToLowWatermark.signalAll();
+			}
+
+			return event;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Delivers buffered events up to the outstanding demand and stops or restarts the {@link CqQuery} as the buffer
+	 * crosses the watermarks.  Concurrent calls are serialized; a call made while another is in progress makes that
+	 * one loop again, so every change to the buffer or the demand is followed by a pause or resume decision on
+	 * the latest buffer size.
+	 */
+	private void drain() {
+		if (workInProgress.getAndIncrement() != 0) {
+			return;
+		}
+
+		int missed = 1;
+
+		do {
+			Subscriber<? super CqEvent> localSubscriber = this.subscriber;
+
+			Throwable localError = this.error;
+
+			if (localSubscriber != null && localError != null) {
+				if (terminated.compareAndSet(false, true)) {
+					localSubscriber.onError(localError);
+				}
+			}
+			else if (localSubscriber != null && !terminated.get()) {
+				long demand = requested.get();
+				long emitted = 0L;
+
+				while (emitted != demand && !cancelled) {
+					CqEvent event = poll();
+
+					if (event == null) {
+						break;
+					}
+
+					localSubscriber.onNext(event);
+					emitted++;
+				}
+
+				if (emitted > 0L && demand != Long.MAX_VALUE) {
+					requested.addAndGet(-emitted);
+				}
+
+				if (completed && !cancelled && getBufferedEventCount() == 0
+						&& terminated.compareAndSet(false, true)) {
+
+					localSubscriber.onComplete();
+				}
+			}
+
+			applyFlowControl();
+
+			missed = workInProgress.addAndGet(-missed);
+		}
+		while (missed != 0);
+	}
+
+	/* (non-Javadoc) */
+	private void applyFlowControl() {
+		if (cancelled) {
+			resume();
+		}
+		else if (OverflowAction.PAUSE_QUERY.equals(overflowAction)) {
+			int bufferedEventCount = getBufferedEventCount();
+
+			if (bufferedEventCount >= highWatermark) {
+				pause();
+			}
+			else if (bufferedEventCount <= lowWatermark) {
+				resume();
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void pause() {
+		CqQuery localCq = this.cq;
+
+		if (localCq != null && paused.compareAndSet(false, true)) {
+			try {
+				localCq.stop();
+				pauseCount.incrementAndGet();
+			}
+			catch (Exception e) {
+				paused.set(false);
+				logger.warn(String.format("Failed to pause query [%1$s]; state is [%2$s]",
+					localCq.getName(), localCq.getState()), e);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void resume() {
+		CqQuery localCq = this.cq;
+
+		if (localCq != null && paused.compareAndSet(true, false)) {
+			try {
+				localCq.execute();
+			}
+			catch (Exception e) {
+				logger.warn(String.format("Failed to resume query [%1$s]; state is [%2$s]",
+					localCq.getName(), localCq.getState()), e);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private long addDemand(long n) {
+		while (true) {
+			long current = requested.get();
+
+			if (current == Long.MAX_VALUE) {
+				return Long.MAX_VALUE;
+			}
+
+			long update = current + n;
+
+			if (update < 0L) {
+				update = Long.MAX_VALUE;
+			}
+
+			if (requested.compareAndSet(current, update)) {
+				return update;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of CQ events buffered and waiting to be requested by the {@link Subscriber}.
+	 *
+	 * @return the number of buffered CQ events.
+	 */
+	public int getBufferedEventCount() {
+		lock.lock();
+
+		try {
+			return buffer.size();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the high watermark.
+	 *
+	 * @return the number of buffered events at which the {@link OverflowAction} is applied.
+	 */
+	public int getHighWatermark() {
+		return highWatermark;
+	}
+
+	/**
+	 * Returns the low watermark.
+	 *
+	 * @return the number of buffered events at which delivery from the CQ resumes.
+	 */
+	public int getLowWatermark() {
+		return lowWatermark;
+	}
+
+	/**
+	 * Returns the configured {@link OverflowAction}.
+	 *
+	 * @return the {@link OverflowAction} applied when the high watermark is reached.
+	 */
+	public OverflowAction getOverflowAction() {
+		return overflowAction;
+	}
+
+	/**
+	 * Returns the number of CQ events discarded by {@link OverflowAction#DROP_OLDEST}.
+	 *
+	 * @return the number of dropped CQ events.
+	 */
+	public long getDroppedEventCount() {
+		return droppedEventCount.get();
+	}
+
+	/**
+	 * Returns the number of times the {@link CqQuery} was stopped because the high watermark was reached.
+	 *
+	 * @return the number of times the CQ was paused.
+	 */
+	public long getPauseCount() {
+		return pauseCount.get();
+	}
+
+	/**
+	 * Determines whether the {@link CqQuery} is currently stopped by this publisher.
+	 *
+	 * @return a boolean indicating whether the CQ is paused.
+	 */
+	public boolean isPaused() {
+		return paused.get();
+	}
+
+	/**
+	 * Action applied when the number of buffered CQ events reaches the high watermark.
+	 */
+	public enum OverflowAction {
+
+		/**
+		 * Blocks the GemFire CQ event Thread until the buffer is drained to the low watermark,
+		 * which leaves undelivered events queued on the server.  The CQ event Thread is shared
+		 * by all CQs of the Pool, so blocking stalls every other CQ listener as well.
+		 */
+		BLOCK,
+
+		/**
+		 * Discards the oldest buffered event to make room for the newest one without blocking
+		 * the GemFire CQ event Thread.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Stops the {@link CqQuery} until the buffer is drained to the low watermark.
+		 */
+		PAUSE_QUERY
+
+	}
+
+	/* (non-Javadoc) */
+	private class CqEventSubscription implements Subscription {
+
+		@Override
+		public void request(long n) {
+			if (n <= 0L) {
+				error = new IllegalArgumentException(String.format(
+					"Requested number of events [%d] must be greater than 0 (Reactive Streams rule 3.9)", n));
+
+				cancel();
+				drain();
+			}
+			else {
+				addDemand(n);
+				drain();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			lock.lock();
+
+			try {
+				cancelled = true;
+				buffer.clear();
+				drainedToLowWatermark.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+
+			drain();
+		}
+	}
+}
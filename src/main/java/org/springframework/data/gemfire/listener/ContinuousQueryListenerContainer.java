@@ -16,11 +16,20 @@
 
 package org.springframework.data.gemfire.listener;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -31,18 +40,21 @@ import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.SmartLifecycle;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.gemfire.GemfireQueryException;
 import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.client.support.DefaultableDelegatingPoolAdapter;
 import org.springframework.data.gemfire.client.support.DelegatingPoolAdapter;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.listener.KeyPartitionedTaskExecutor.OverflowPolicy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ErrorHandler;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
+import com.gemstone.gemfire.cache.Operation;
 import com.gemstone.gemfire.cache.RegionService;
 import com.gemstone.gemfire.cache.client.Pool;
 import com.gemstone.gemfire.cache.client.PoolManager;
@@ -51,8 +63,10 @@ import com.gemstone.gemfire.cache.query.CqAttributesFactory;
 import com.gemstone.gemfire.cache.query.CqEvent;
 import com.gemstone.gemfire.cache.query.CqListener;
 import com.gemstone.gemfire.cache.query.CqQuery;
+import com.gemstone.gemfire.cache.query.CqResults;
 import com.gemstone.gemfire.cache.query.QueryException;
 import com.gemstone.gemfire.cache.query.QueryService;
+import com.gemstone.gemfire.cache.query.Struct;
 
 /**
  * Container providing asynchronous behaviour for GemFire continuous queries.
@@ -63,8 +77,8 @@ import com.gemstone.gemfire.cache.query.QueryService;
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.InitializingBean
  * @see org.springframework.context.SmartLifecycle
- * @see org.springframework.core.task.SimpleAsyncTaskExecutor
  * @see org.springframework.core.task.TaskExecutor
+ * @see org.springframework.data.gemfire.listener.KeyPartitionedTaskExecutor
  * @see com.gemstone.gemfire.cache.RegionService
  * @see com.gemstone.gemfire.cache.client.Pool
  * @see com.gemstone.gemfire.cache.client.PoolManager
@@ -87,6 +101,8 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	private volatile boolean manageExecutor = false;
 	private volatile boolean running = false;
 
+	private int dispatchLaneCount = KeyPartitionedTaskExecutor.DEFAULT_LANE_COUNT;
+	private int dispatchQueueCapacity = KeyPartitionedTaskExecutor.DEFAULT_QUEUE_CAPACITY;
 	private int phase = Integer.MAX_VALUE;
 
 	private BeanFactory beanFactory;
@@ -95,12 +111,16 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	private Executor taskExecutor;
 
+	private OverflowPolicy dispatchOverflowPolicy = OverflowPolicy.BLOCK;
+
 	protected final Log logger = LogFactory.getLog(getClass());
 
 	private Queue<CqQuery> continuousQueries = new ConcurrentLinkedQueue<CqQuery>();
 
 	private QueryService queryService;
 
+	private ScheduledExecutorService batchFlushScheduler;
+
 	private Set<ContinuousQueryDefinition> continuousQueryDefinitions = new LinkedHashSet<ContinuousQueryDefinition>();
 
 	private String beanName;
@@ -166,15 +186,16 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	/**
 	 * Creates a default TaskExecutor. Called if no explicit TaskExecutor has been configured.
-	 * <p>The default implementation builds a {@link org.springframework.core.task.SimpleAsyncTaskExecutor}
-	 * with the specified bean name (or the class name, if no bean name is specified) as thread name prefix.</p>
+	 * <p>The default implementation builds a {@link KeyPartitionedTaskExecutor} with a fixed number
+	 * of single-threaded lanes so that CQ events for the same key are processed in order, using
+	 * the specified bean name (or the class name, if no bean name is specified) as thread name prefix.</p>
 	 *
 	 * @return an instance of the TaskExecutor used to process CQ events asynchronously.
-	 * @see org.springframework.core.task.SimpleAsyncTaskExecutor#SimpleAsyncTaskExecutor(String)
+	 * @see org.springframework.data.gemfire.listener.KeyPartitionedTaskExecutor
 	 */
 	protected TaskExecutor createDefaultTaskExecutor() {
-		return new SimpleAsyncTaskExecutor(beanName != null ? String.format("%s-", beanName)
-			: DEFAULT_THREAD_NAME_PREFIX);
+		return new KeyPartitionedTaskExecutor(beanName != null ? String.format("%s-", beanName)
+			: DEFAULT_THREAD_NAME_PREFIX, dispatchLaneCount, dispatchQueueCapacity, dispatchOverflowPolicy);
 	}
 
 	private void initContinuousQueries(Set<ContinuousQueryDefinition> continuousQueryDefinitions) {
@@ -211,7 +232,16 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	private void executeQuery(CqQuery cq) {
 		try {
-			cq.execute();
+			CqListener cqListener = cq.getCqAttributes().getCqListener();
+
+			if (cqListener instanceof InitialResultsCqListener
+					&& ((InitialResultsCqListener) cqListener).beginInitialResults()) {
+
+				((InitialResultsCqListener) cqListener).executeWithInitialResults(cq);
+			}
+			else {
+				cq.execute();
+			}
 		}
 		catch (QueryException e) {
 			throw new GemfireQueryException(String.format("Could not execute query [%1$s]; state is [%2$s].",
@@ -252,6 +282,7 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	public void destroy() throws Exception {
 		stop();
 		closeQueries();
+		destroyBatchFlushScheduler();
 		destroyExecutor();
 		initialized = false;
 	}
@@ -272,6 +303,13 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		continuousQueries.clear();
 	}
 
+	private synchronized void destroyBatchFlushScheduler() {
+		if (batchFlushScheduler != null) {
+			batchFlushScheduler.shutdownNow();
+			batchFlushScheduler = null;
+		}
+	}
+
 	private void destroyExecutor() throws Exception {
 		if (manageExecutor) {
 			if (taskExecutor instanceof DisposableBean) {
@@ -357,6 +395,38 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		setQueryService(cache.getQueryService());
 	}
 
+	/**
+	 * Sets the number of single-threaded lanes used by the default {@link KeyPartitionedTaskExecutor}
+	 * to dispatch CQ events.  Ignored when an explicit Task Executor has been configured.
+	 *
+	 * @param dispatchLaneCount number of lanes used to dispatch CQ events.
+	 * @see #setTaskExecutor(Executor)
+	 */
+	public void setDispatchLaneCount(int dispatchLaneCount) {
+		this.dispatchLaneCount = dispatchLaneCount;
+	}
+
+	/**
+	 * Sets the {@link OverflowPolicy} applied by the default {@link KeyPartitionedTaskExecutor} when a lane's
+	 * queue is full.  Ignored when an explicit Task Executor has been configured.
+	 *
+	 * @param dispatchOverflowPolicy {@link OverflowPolicy} applied when a lane's queue is full.
+	 * @see org.springframework.data.gemfire.listener.KeyPartitionedTaskExecutor.OverflowPolicy
+	 */
+	public void setDispatchOverflowPolicy(OverflowPolicy dispatchOverflowPolicy) {
+		this.dispatchOverflowPolicy = dispatchOverflowPolicy;
+	}
+
+	/**
+	 * Sets the maximum number of pending CQ events per lane of the default {@link KeyPartitionedTaskExecutor}.
+	 * Ignored when an explicit Task Executor has been configured.
+	 *
+	 * @param dispatchQueueCapacity maximum number of pending CQ events per lane.
+	 */
+	public void setDispatchQueueCapacity(int dispatchQueueCapacity) {
+		this.dispatchQueueCapacity = dispatchQueueCapacity;
+	}
+
 	/**
 	 * Set an ErrorHandler to be invoked in case of any uncaught exceptions thrown while processing a CQ event.
 	 * By default there will be <b>no</b> ErrorHandler so that error-level logging is the only result.
@@ -418,9 +488,10 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	/**
 	 * Sets the Task Executor used for running the event listeners when messages are received.
-	 * If no task executor is set, an instance of {@link SimpleAsyncTaskExecutor} will be used by default.
+	 * If no task executor is set, an instance of {@link KeyPartitionedTaskExecutor} will be used by default.
 	 * The task executor can be adjusted depending on the work done by the listeners and the number of
-	 * messages coming in.
+	 * messages coming in.  Events are only guaranteed to be processed in order per key when the Task Executor
+	 * is a {@link KeyPartitionedTaskExecutor}.
 	 *
 	 * @param taskExecutor The Task Executor used to run event listeners when query results messages are received.
 	 * @see java.util.concurrent.Executor
@@ -429,6 +500,18 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Returns the Task Executor used for running the event listeners when messages are received.
+	 * When using the default {@link KeyPartitionedTaskExecutor}, queue depth and overflow metrics
+	 * are available from the returned instance.
+	 *
+	 * @return the Task Executor used to run event listeners.
+	 * @see java.util.concurrent.Executor
+	 */
+	public Executor getTaskExecutor() {
+		return taskExecutor;
+	}
+
 	/**
 	 * Adds a Continuous Query (CQ) definition to the (potentially running) container. If the container is running,
 	 * the listener starts receiving (matching) messages as soon as possible.
@@ -453,7 +536,7 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		try {
 			CqAttributesFactory continuousQueryAttributesFactory = new CqAttributesFactory();
 
-			continuousQueryAttributesFactory.addCqListener(new EventDispatcherAdapter(definition.getListener()));
+			continuousQueryAttributesFactory.addCqListener(newCqListener(definition));
 
 			CqAttributes continuousQueryAttributes = continuousQueryAttributesFactory.create();
 
@@ -461,6 +544,10 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 				? queryService.newCq(definition.getName(), definition.getQuery(), continuousQueryAttributes, definition.isDurable())
 				: queryService.newCq(definition.getQuery(), continuousQueryAttributes, definition.isDurable()));
 
+			if (definition.getListener() instanceof FlowControlledContinuousQueryListener) {
+				((FlowControlledContinuousQueryListener) definition.getListener()).bind(cq);
+			}
+
 			continuousQueries.add(cq);
 
 			return cq;
@@ -470,12 +557,61 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
-	private void dispatchEvent(final ContinuousQueryListener listener, final CqEvent event) {
-		taskExecutor.execute(new Runnable() {
+	private CqListener newCqListener(ContinuousQueryDefinition definition) {
+		ContinuousQueryListener listener = definition.getListener();
+
+		CqListener cqListener = (listener instanceof FlowControlledContinuousQueryListener
+			? new FlowControlledEventDispatcherAdapter((FlowControlledContinuousQueryListener) listener)
+			: (definition.isBatching() ? new BatchingEventDispatcherAdapter(definition)
+			: new EventDispatcherAdapter(listener)));
+
+		return (definition.isExecuteWithInitialResults() ? new InitialResultsCqListener(cqListener) : cqListener);
+	}
+
+	private synchronized ScheduledExecutorService resolveBatchFlushScheduler() {
+		if (batchFlushScheduler == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(String.format("%sBatchFlush-",
+				(beanName != null ? String.format("%s-", beanName) : DEFAULT_THREAD_NAME_PREFIX)));
+
+			threadFactory.setDaemon(true);
+			batchFlushScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		}
+
+		return batchFlushScheduler;
+	}
+
+	private void dispatchBatch(final BatchingContinuousQueryListener listener, final List<CqEvent> events) {
+		Runnable task = new Runnable() {
+			public void run() {
+				executeListener(listener, events);
+			}
+		};
+
+		if (taskExecutor instanceof KeyPartitionedTaskExecutor) {
+			((KeyPartitionedTaskExecutor) taskExecutor).execute(new BatchDispatchKey(listener), task);
+		}
+		else {
+			taskExecutor.execute(task);
+		}
+	}
+
+	private void dispatchEvent(ContinuousQueryListener listener, CqEvent event) {
+		dispatchEvent(listener, event, new DispatchKey(listener, event.getKey()));
+	}
+
+	private void dispatchEvent(final ContinuousQueryListener listener, final CqEvent event, Object dispatchKey) {
+		Runnable task = new Runnable() {
 			public void run() {
 				executeListener(listener, event);
 			}
-		});
+		};
+
+		if (taskExecutor instanceof KeyPartitionedTaskExecutor) {
+			((KeyPartitionedTaskExecutor) taskExecutor).execute(dispatchKey, task);
+		}
+		else {
+			taskExecutor.execute(task);
+		}
 	}
 
 	/**
@@ -494,6 +630,22 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	/**
+	 * Execute the specified batching listener with a batch of CQ events.
+	 *
+	 * @param listener the BatchingContinuousQueryListener to notify of the CQ events.
+	 * @param events the batch of CQ events.
+	 * @see #handleListenerException(Throwable)
+	 */
+	protected void executeListener(BatchingContinuousQueryListener listener, List<CqEvent> events) {
+		try {
+			listener.onEvents(events);
+		}
+		catch (Throwable ex) {
+			handleListenerException(ex);
+		}
+	}
+
 	/**
 	 * Handle the given exception that arose during listener execution.
 	 * <p>The default implementation logs the exception at error level.
@@ -548,4 +700,354 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		public void close() {
 		}
 	}
+
+	private class FlowControlledEventDispatcherAdapter implements CqListener {
+
+		private final FlowControlledContinuousQueryListener delegate;
+
+		private FlowControlledEventDispatcherAdapter(FlowControlledContinuousQueryListener delegate) {
+			this.delegate = delegate;
+		}
+
+		public void onError(CqEvent event) {
+			executeListener(delegate, event);
+		}
+
+		public void onEvent(CqEvent event) {
+			executeListener(delegate, event);
+		}
+
+		public void close() {
+			delegate.close();
+		}
+	}
+
+	/**
+	 * {@link CqListener} delivering the initial results of a CQ, as {@link Operation#CREATE} events, ahead of
+	 * any live events.  Live events received while the initial results are being delivered are held back and
+	 * then collapsed to the last event per key, which is replayed unless it creates or updates the entry to
+	 * the value already delivered in the initial results.  Comparing only the last event per key ensures
+	 * an event ordered before the initial results snapshot never leaves the listener with a stale value.
+	 */
+	static class InitialResultsCqListener implements CqListener {
+
+		private boolean delivered = false;
+		private boolean delivering = false;
+
+		private final CqListener delegate;
+
+		private List<CqEvent> pendingEvents = new ArrayList<CqEvent>();
+
+		private final Object monitor = new Object();
+
+		InitialResultsCqListener(CqListener delegate) {
+			this.delegate = delegate;
+		}
+
+		/* (non-Javadoc) */
+		boolean beginInitialResults() {
+			synchronized (monitor) {
+				if (delivered || delivering) {
+					return false;
+				}
+
+				delivering = true;
+
+				return true;
+			}
+		}
+
+		/* (non-Javadoc) */
+		void executeWithInitialResults(CqQuery cq) throws QueryException {
+			Map<Object, Object> snapshot = new HashMap<Object, Object>();
+
+			boolean executed = false;
+
+			try {
+				CqResults<Object> initialResults = cq.executeWithInitialResults();
+
+				executed = true;
+
+				for (Object result : initialResults) {
+					InitialResultCqEvent event = new InitialResultCqEvent(cq, result);
+
+					if (event.getKey() != null) {
+						snapshot.put(event.getKey(), event.getNewValue());
+					}
+
+					delegate.onEvent(event);
+				}
+			}
+			finally {
+				replayPendingEvents(snapshot, executed);
+			}
+		}
+
+		/* (non-Javadoc) */
+		private void replayPendingEvents(Map<Object, Object> snapshot, boolean executed) {
+			synchronized (monitor) {
+				Map<Object, CqEvent> lastPendingEvents = new HashMap<Object, CqEvent>(pendingEvents.size());
+
+				for (CqEvent event : pendingEvents) {
+					if (event.getKey() != null) {
+						lastPendingEvents.put(event.getKey(), event);
+					}
+				}
+
+				for (CqEvent event : pendingEvents) {
+					boolean lastEventForKey = (event.getKey() == null || lastPendingEvents.get(event.getKey()) == event);
+
+					if (lastEventForKey && !isDuplicate(event, snapshot)) {
+						delegate.onEvent(event);
+					}
+				}
+
+				pendingEvents.clear();
+				delivering = false;
+				delivered = executed;
+			}
+		}
+
+		/* (non-Javadoc) */
+		boolean isDuplicate(CqEvent event, Map<Object, Object> snapshot) {
+			Operation operation = event.getQueryOperation();
+
+			return (operation != null && (operation.isCreate() || operation.isUpdate())
+				&& snapshot.containsKey(event.getKey())
+				&& ObjectUtils.nullSafeEquals(snapshot.get(event.getKey()), event.getNewValue()));
+		}
+
+		public void onError(CqEvent event) {
+			delegate.onError(event);
+		}
+
+		public void onEvent(CqEvent event) {
+			synchronized (monitor) {
+				if (delivering) {
+					pendingEvents.add(event);
+					return;
+				}
+			}
+
+			delegate.onEvent(event);
+		}
+
+		public void close() {
+			delegate.close();
+		}
+	}
+
+	/**
+	 * {@link CqEvent} for an entry in the initial results of a CQ.
+	 */
+	static final class InitialResultCqEvent implements CqEvent {
+
+		private final CqQuery cq;
+
+		private final Object key;
+		private final Object value;
+
+		InitialResultCqEvent(CqQuery cq, Object result) {
+			this.cq = cq;
+
+			if (result instanceof Struct) {
+				Struct struct = (Struct) result;
+				this.key = struct.get("key");
+				this.value = struct.get("value");
+			}
+			else {
+				this.key = null;
+				this.value = result;
+			}
+		}
+
+		public Operation getBaseOperation() {
+			return Operation.CREATE;
+		}
+
+		public Operation getQueryOperation() {
+			return Operation.CREATE;
+		}
+
+		public Object getKey() {
+			return key;
+		}
+
+		public Object getNewValue() {
+			return value;
+		}
+
+		public Throwable getThrowable() {
+			return null;
+		}
+
+		public CqQuery getCq() {
+			return cq;
+		}
+
+		public byte[] getDeltaValue() {
+			return null;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("InitialResultCqEvent [CQ = %1$s; key = %2$s]", cq.getName(), key);
+		}
+	}
+
+	private class BatchingEventDispatcherAdapter implements CqListener, Runnable {
+
+		private final boolean conflate;
+
+		private final int batchSize;
+
+		private final BatchingContinuousQueryListener delegate;
+
+		private List<CqEvent> batch;
+
+		private Map<Object, CqEvent> conflatedBatch;
+
+		private final Object monitor = new Object();
+
+		private final ScheduledFuture<?> flushFuture;
+
+		private BatchingEventDispatcherAdapter(ContinuousQueryDefinition definition) {
+			this.delegate = (BatchingContinuousQueryListener) definition.getListener();
+			this.batchSize = definition.getBatchSize();
+			this.conflate = definition.isConflate();
+			this.flushFuture = resolveBatchFlushScheduler().scheduleWithFixedDelay(this,
+				definition.getBatchTimeInterval(), definition.getBatchTimeInterval(), TimeUnit.MILLISECONDS);
+		}
+
+		public void onError(CqEvent event) {
+			synchronized (monitor) {
+				dispatch(drain());
+				dispatchEvent(delegate, event, new BatchDispatchKey(delegate));
+			}
+		}
+
+		public void onEvent(CqEvent event) {
+			synchronized (monitor) {
+				if (conflate) {
+					if (conflatedBatch == null) {
+						conflatedBatch = new LinkedHashMap<Object, CqEvent>(batchSize);
+					}
+
+					// re-insert so the batch is ordered by the latest event for each key
+					conflatedBatch.remove(event.getKey());
+					conflatedBatch.put(event.getKey(), event);
+
+					if (conflatedBatch.size() >= batchSize) {
+						dispatch(drain());
+					}
+				}
+				else {
+					if (batch == null) {
+						batch = new ArrayList<CqEvent>(batchSize);
+					}
+
+					batch.add(event);
+
+					if (batch.size() >= batchSize) {
+						dispatch(drain());
+					}
+				}
+			}
+		}
+
+		public void run() {
+			flush();
+		}
+
+		private void flush() {
+			synchronized (monitor) {
+				dispatch(drain());
+			}
+		}
+
+		/*
+		 * Batches are handed to the TaskExecutor while holding the monitor so that batches drained by the CQ
+		 * listener Thread and the flush Thread are submitted, and therefore delivered, in the order drained.
+		 */
+		private void dispatch(List<CqEvent> events) {
+			if (events != null) {
+				dispatchBatch(delegate, events);
+			}
+		}
+
+		private List<CqEvent> drain() {
+			List<CqEvent> events = null;
+
+			if (batch != null && !batch.isEmpty()) {
+				events = batch;
+			}
+			else if (conflatedBatch != null && !conflatedBatch.isEmpty()) {
+				events = new ArrayList<CqEvent>(conflatedBatch.values());
+			}
+
+			batch = null;
+			conflatedBatch = null;
+
+			return events;
+		}
+
+		public void close() {
+			flushFuture.cancel(false);
+			flush();
+		}
+	}
+
+	/**
+	 * Key used to order (and coalesce) CQ events per listener and per CQ event key.
+	 */
+	static final class DispatchKey {
+
+		private final ContinuousQueryListener listener;
+
+		private final Object key;
+
+		DispatchKey(ContinuousQueryListener listener, Object key) {
+			this.listener = listener;
+			this.key = key;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+
+			if (!(obj instanceof DispatchKey)) {
+				return false;
+			}
+
+			DispatchKey that = (DispatchKey) obj;
+
+			return (this.listener == that.listener && ObjectUtils.nullSafeEquals(this.key, that.key));
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * System.identityHashCode(listener) + ObjectUtils.nullSafeHashCode(key));
+		}
+	}
+
+	/**
+	 * Key used to order batches of CQ events per listener.  Each batch, and each error event dispatched between
+	 * batches, has a distinct key (identity equality) so pending batches are never coalesced, while the hash code
+	 * places all batches and error events for a listener on the same lane.
+	 */
+	static final class BatchDispatchKey {
+
+		private final ContinuousQueryListener listener;
+
+		BatchDispatchKey(ContinuousQueryListener listener) {
+			this.listener = listener;
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * System.identityHashCode(listener));
+		}
+	}
 }
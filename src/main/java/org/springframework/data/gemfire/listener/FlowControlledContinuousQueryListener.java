@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import com.gemstone.gemfire.cache.query.CqQuery;
+
+/**
+ * Continuous Query (CQ) listener that buffers CQ events itself and controls the flow of events from the CQ.
+ *
+ * The {@link ContinuousQueryListenerContainer} delivers CQ events to a {@link FlowControlledContinuousQueryListener}
+ * directly on the GemFire CQ event Thread, bypassing the container's Task Executor, and binds the listener
+ * to the {@link CqQuery} so the listener can pause and resume it.
+ *
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryEventPublisher
+ * @see com.gemstone.gemfire.cache.query.CqQuery
+ * @since 1.10.0
+ */
+interface FlowControlledContinuousQueryListener extends ContinuousQueryListener {
+
+	/**
+	 * Binds this listener to the {@link CqQuery} it receives events from.
+	 *
+	 * @param cq the {@link CqQuery} delivering events to this listener.
+	 */
+	void bind(CqQuery cq);
+
+	/**
+	 * Notifies this listener the {@link CqQuery} has been closed and no further events will be received.
+	 */
+	void close();
+
+}
@@ -0,0 +1,468 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link KeyPartitionedTaskExecutor} class is a Spring {@link TaskExecutor} backed by a fixed number
+ * of single-threaded lanes, each with its own bounded queue.
+ *
+ * Tasks submitted with a key are hashed to a lane by that key, so all tasks for the same key are executed
+ * in submission order by the same Thread.  When a lane's queue is full, the configured {@link OverflowPolicy}
+ * determines whether the submitting Thread blocks, the oldest pending task is dropped, or a pending task
+ * for the same key is replaced (coalesced) with the new task.
+ *
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.core.task.TaskExecutor
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class KeyPartitionedTaskExecutor implements TaskExecutor, DisposableBean {
+
+	public static final int DEFAULT_LANE_COUNT = Runtime.getRuntime().availableProcessors();
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	public static final long DEFAULT_SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+	public static final String DEFAULT_THREAD_NAME_PREFIX = "KeyPartitionedTaskExecutor-";
+
+	private final AtomicInteger unkeyedLaneIndex = new AtomicInteger(0);
+
+	private final AtomicLong blockedCount = new AtomicLong(0L);
+	private final AtomicLong coalescedCount = new AtomicLong(0L);
+	private final AtomicLong droppedCount = new AtomicLong(0L);
+	private final AtomicLong executedCount = new AtomicLong(0L);
+
+	private final int queueCapacity;
+
+	private final Lane[] lanes;
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private long shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private volatile boolean shutdown = false;
+
+	/**
+	 * Constructs an instance of the {@link KeyPartitionedTaskExecutor} with the default number of lanes,
+	 * default queue capacity and {@link OverflowPolicy#BLOCK}.
+	 *
+	 * @param threadNamePrefix prefix used to name the lane Threads.
+	 */
+	public KeyPartitionedTaskExecutor(String threadNamePrefix) {
+		this(threadNamePrefix, DEFAULT_LANE_COUNT, DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Constructs an instance of the {@link KeyPartitionedTaskExecutor} with the given number of lanes,
+	 * per lane queue capacity and {@link OverflowPolicy}.
+	 *
+	 * @param threadNamePrefix prefix used to name the lane Threads.
+	 * @param laneCount number of single-threaded lanes.
+	 * @param queueCapacity maximum number of pending tasks per lane.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when a lane's queue is full.
+	 * @throws IllegalArgumentException if the lane count or queue capacity are less than 1.
+	 */
+	public KeyPartitionedTaskExecutor(String threadNamePrefix, int laneCount, int queueCapacity,
+			OverflowPolicy overflowPolicy) {
+
+		Assert.isTrue(laneCount > 0, String.format("Lane count [%d] must be greater than 0", laneCount));
+		Assert.isTrue(queueCapacity > 0, String.format("Queue capacity [%d] must be greater than 0", queueCapacity));
+
+		this.queueCapacity = queueCapacity;
+		this.overflowPolicy = (overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK);
+		this.lanes = new Lane[laneCount];
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix != null
+			? threadNamePrefix : DEFAULT_THREAD_NAME_PREFIX);
+
+		threadFactory.setDaemon(true);
+
+		for (int index = 0; index < laneCount; index++) {
+			this.lanes[index] = new Lane(threadFactory);
+		}
+	}
+
+	/**
+	 * Executes the given task on the next lane in round-robin order.  Tasks submitted without a key
+	 * have no ordering guarantees relative to each other and are never coalesced.
+	 *
+	 * @param task {@link Runnable} to execute.
+	 * @see #execute(Object, Runnable)
+	 */
+	@Override
+	public void execute(Runnable task) {
+		int index = (unkeyedLaneIndex.getAndIncrement() & Integer.MAX_VALUE) % lanes.length;
+		lanes[index].enqueue(null, task);
+	}
+
+	/**
+	 * Executes the given task on the lane determined by the hash of the key.  All tasks submitted with equal keys
+	 * are executed in submission order.
+	 *
+	 * @param key key used to select the lane and to identify pending tasks eligible for coalescing.
+	 * @param task {@link Runnable} to execute.
+	 * @throws TaskRejectedException if this executor has been shutdown.
+	 */
+	public void execute(Object key, Runnable task) {
+		if (key == null) {
+			execute(task);
+		}
+		else {
+			lanes[laneIndexFor(key)].enqueue(key, task);
+		}
+	}
+
+	/* (non-Javadoc) */
+	int laneIndexFor(Object key) {
+		int hash = key.hashCode();
+		hash ^= (hash >>> 16);
+		return (hash & Integer.MAX_VALUE) % lanes.length;
+	}
+
+	/**
+	 * Stops accepting new tasks, waits for the pending tasks in each lane to drain
+	 * and then stops the lane Threads.
+	 *
+	 * @throws Exception if the shutdown is interrupted.
+	 * @see #setShutdownTimeout(long)
+	 */
+	@Override
+	public void destroy() throws Exception {
+		shutdown = true;
+
+		for (Lane lane : lanes) {
+			lane.signalShutdown();
+		}
+
+		long deadline = System.currentTimeMillis() + shutdownTimeout;
+
+		for (Lane lane : lanes) {
+			lane.thread.join(Math.max(1L, deadline - System.currentTimeMillis()));
+		}
+	}
+
+	/**
+	 * Determines whether this executor has been shutdown.
+	 *
+	 * @return a boolean indicating whether this executor has been shutdown.
+	 */
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	/**
+	 * Returns the number of times a submitting Thread had to wait for space in a lane's queue.
+	 *
+	 * @return the number of times submission blocked.
+	 */
+	public long getBlockedCount() {
+		return blockedCount.get();
+	}
+
+	/**
+	 * Returns the number of pending tasks replaced by a newer task for the same key.
+	 *
+	 * @return the number of coalesced tasks.
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount.get();
+	}
+
+	/**
+	 * Returns the number of pending tasks discarded to make room for newer tasks.
+	 *
+	 * @return the number of dropped tasks.
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * Returns the number of tasks that have completed execution.
+	 *
+	 * @return the number of executed tasks.
+	 */
+	public long getExecutedCount() {
+		return executedCount.get();
+	}
+
+	/**
+	 * Returns the number of single-threaded lanes.
+	 *
+	 * @return the number of lanes.
+	 */
+	public int getLaneCount() {
+		return lanes.length;
+	}
+
+	/**
+	 * Returns the configured {@link OverflowPolicy}.
+	 *
+	 * @return the {@link OverflowPolicy} applied when a lane's queue is full.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * Returns the maximum number of pending tasks per lane.
+	 *
+	 * @return the per lane queue capacity.
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * Returns the total number of pending tasks across all lanes.
+	 *
+	 * @return the total queue depth.
+	 */
+	public int getQueueDepth() {
+		int depth = 0;
+
+		for (Lane lane : lanes) {
+			depth += lane.size();
+		}
+
+		return depth;
+	}
+
+	/**
+	 * Returns the number of pending tasks in each lane.
+	 *
+	 * @return an array containing the queue depth of each lane indexed by lane.
+	 */
+	public int[] getQueueDepths() {
+		int[] depths = new int[lanes.length];
+
+		for (int index = 0; index < lanes.length; index++) {
+			depths[index] = lanes[index].size();
+		}
+
+		return depths;
+	}
+
+	/**
+	 * Sets the maximum amount of time in milliseconds to wait for the lanes to drain on shutdown.
+	 *
+	 * @param shutdownTimeout long value indicating the shutdown timeout in milliseconds.
+	 */
+	public void setShutdownTimeout(long shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	/**
+	 * Policy applied when a task is submitted to a lane whose queue is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Blocks the submitting Thread until space becomes available.
+		 */
+		BLOCK,
+
+		/**
+		 * Discards the oldest pending task in the lane.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Replaces the pending task having the same key with the new task, keeping its position in the queue;
+		 * blocks if no pending task with the same key exists.
+		 */
+		COALESCE
+
+	}
+
+	/* (non-Javadoc) */
+	private static final class Task {
+
+		private final Object key;
+
+		private Runnable runnable;
+
+		private Task(Object key, Runnable runnable) {
+			this.key = key;
+			this.runnable = runnable;
+		}
+	}
+
+	/* (non-Javadoc) */
+	private final class Lane implements Runnable {
+
+		private final LinkedList<Task> queue = new LinkedList<Task>();
+
+		private final Map<Object, Task> pendingTasksByKey = new HashMap<Object, Task>();
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Condition notEmpty = lock.newCondition();
+		private final Condition notFull = lock.newCondition();
+
+		private final Thread thread;
+
+		private Lane(CustomizableThreadFactory threadFactory) {
+			this.thread = threadFactory.newThread(this);
+			this.thread.start();
+		}
+
+		void enqueue(Object key, Runnable runnable) {
+			Assert.notNull(runnable, "Task must not be null");
+
+			lock.lock();
+
+			try {
+				assertNotShutdown();
+
+				while (queue.size() >= queueCapacity) {
+					if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+						remove(queue.removeFirst());
+						droppedCount.incrementAndGet();
+					}
+					else {
+						Task pendingTask = (overflowPolicy == OverflowPolicy.COALESCE && key != null
+							? pendingTasksByKey.get(key) : null);
+
+						if (pendingTask != null) {
+							pendingTask.runnable = runnable;
+							coalescedCount.incrementAndGet();
+							return;
+						}
+
+						blockedCount.incrementAndGet();
+						notFull.await();
+						assertNotShutdown();
+					}
+				}
+
+				Task task = new Task(key, runnable);
+
+				queue.addLast(task);
+
+				if (key != null) {
+					pendingTasksByKey.put(key, task);
+				}
+
+				notEmpty.signal();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new TaskRejectedException("Interrupted while waiting to submit task", e);
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void assertNotShutdown() {
+			if (shutdown) {
+				throw new TaskRejectedException("KeyPartitionedTaskExecutor has been shutdown");
+			}
+		}
+
+		private void remove(Task task) {
+			if (task.key != null && pendingTasksByKey.get(task.key) == task) {
+				pendingTasksByKey.remove(task.key);
+			}
+		}
+
+		int size() {
+			lock.lock();
+
+			try {
+				return queue.size();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void signalShutdown() {
+			lock.lock();
+
+			try {
+				notEmpty.signalAll();
+				notFull.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				Runnable runnable;
+
+				lock.lock();
+
+				try {
+					while (queue.isEmpty()) {
+						if (shutdown) {
+							return;
+						}
+
+						notEmpty.await();
+					}
+
+					Task task = queue.removeFirst();
+
+					remove(task);
+					runnable = task.runnable;
+					notFull.signal();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				finally {
+					lock.unlock();
+				}
+
+				try {
+					runnable.run();
+				}
+				catch (Throwable cause) {
+					logger.warn("Execution of task failed", cause);
+				}
+				finally {
+					executedCount.incrementAndGet();
+				}
+			}
+		}
+	}
+}
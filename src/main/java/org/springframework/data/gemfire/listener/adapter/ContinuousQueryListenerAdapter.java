@@ -21,6 +21,8 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -56,6 +58,10 @@ import com.gemstone.gemfire.cache.query.CqQuery;
  * and gets passed the contents of each <code>event</code> type as an
  * argument.</p>
  *
+ * <p>When several overloads of the listener method match, only one of them is invoked per event: the one with
+ * the most parameters, i.e. consuming the most event content, preferring overloads declared in the most specific
+ * class.  The method is resolved once per method name.</p>
+ *
  * <pre class="code">public interface PojoListener {
  *    void handleEvent(CqEvent event);
  *    void handleEvent(Operation baseOp);
@@ -78,7 +84,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
-	private MethodInvoker invoker;
+	private final ConcurrentMap<String, MethodInvoker> invokers = new ConcurrentHashMap<String, MethodInvoker>();
 
 	private Object delegate;
 
@@ -112,7 +118,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	public void setDelegate(Object delegate) {
 		Assert.notNull(delegate, "'delegate' must not be null");
 		this.delegate = delegate;
-		this.invoker = null;
+		this.invokers.clear();
 	}
 
 	/**
@@ -133,7 +139,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	 */
 	public void setDefaultListenerMethod(String defaultListenerMethod) {
 		this.defaultListenerMethod = defaultListenerMethod;
-		this.invoker = null;
+		this.invokers.clear();
 	}
 
 	/**
@@ -171,9 +177,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 						+ " or override the 'getListenerMethodName' method.");
 				}
 
-				invoker = (invoker != null ? invoker : new MethodInvoker(delegate, methodName));
-
-				invokeListenerMethod(event, methodName);
+				invokeListenerMethod(event, resolveMethodInvoker(methodName));
 			}
 
 		}
@@ -182,6 +186,24 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		}
 	}
 
+	/**
+	 * Resolves the listener method and its argument extraction plan for the given method name once,
+	 * caching the resolved {@link MethodInvoker} by method name for subsequent events handled by the same method.
+	 *
+	 * @param methodName the name of the listener method to invoke.
+	 * @return the resolved {@link MethodInvoker}.
+	 */
+	MethodInvoker resolveMethodInvoker(String methodName) {
+		MethodInvoker localInvoker = this.invokers.get(methodName);
+
+		if (localInvoker == null || !localInvoker.isFor(delegate, methodName)) {
+			localInvoker = new MethodInvoker(delegate, methodName);
+			this.invokers.put(methodName, localInvoker);
+		}
+
+		return localInvoker;
+	}
+
 	/**
 	 * Determine the name of the listener method that is supposed to
 	 * handle the given event.
@@ -212,8 +234,15 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	 * @see #getListenerMethodName
 	 */
 	protected void invokeListenerMethod(CqEvent event, String methodName) {
+		invokeListenerMethod(event, resolveMethodInvoker(methodName));
+	}
+
+	/* (non-Javadoc) */
+	private void invokeListenerMethod(CqEvent event, MethodInvoker methodInvoker) {
+		String methodName = methodInvoker.methodName;
+
 		try {
-			invoker.invoke(event);
+			methodInvoker.invoke(event);
 		}
 		catch (InvocationTargetException e) {
 			if (e.getTargetException() instanceof DataAccessException) {
@@ -230,32 +259,191 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		}
 	}
 
+	/**
+	 * Strategy for extracting a single listener method argument from a {@link CqEvent}.  The extraction plan
+	 * for each listener method is resolved once, when the {@link MethodInvoker} is created, so that dispatching
+	 * an event does not need to inspect the method's parameter types.
+	 */
+	enum ArgumentExtractor {
+
+		BASE_OPERATION {
+			@Override
+			Object extract(CqEvent event) {
+				return event.getBaseOperation();
+			}
+		},
+
+		CQ {
+			@Override
+			Object extract(CqEvent event) {
+				return event.getCq();
+			}
+		},
+
+		DELTA_VALUE {
+			@Override
+			Object extract(CqEvent event) {
+				return event.getDeltaValue();
+			}
+		},
+
+		EVENT {
+			@Override
+			Object extract(CqEvent event) {
+				return event;
+			}
+		},
+
+		KEY {
+			@Override
+			Object extract(CqEvent event) {
+				return event.getKey();
+			}
+		},
+
+		NEW_VALUE {
+			@Override
+			Object extract(CqEvent event) {
+				return event.getNewValue();
+			}
+		},
+
+		QUERY_OPERATION {
+			@Override
+			Object extract(CqEvent event) {
+				return event.getQueryOperation();
+			}
+		},
+
+		THROWABLE {
+			@Override
+			Object extract(CqEvent event) {
+				return event.getThrowable();
+			}
+		};
+
+		abstract Object extract(CqEvent event);
+
+	}
+
+	/* (non-Javadoc) */
+	private static final class HandlerMethod {
+
+		private final ArgumentExtractor[] argumentExtractors;
+
+		private final Method method;
+
+		HandlerMethod(Method method) {
+			this.method = method;
+			this.argumentExtractors = resolveArgumentExtractors(method.getParameterTypes());
+		}
+
+		static ArgumentExtractor[] resolveArgumentExtractors(Class<?>[] parameterTypes) {
+			ArgumentExtractor[] argumentExtractors = new ArgumentExtractor[parameterTypes.length];
+
+			boolean query = false;
+			boolean value = false;
+
+			for (int index = 0; index < parameterTypes.length; index++) {
+				Class<?> parameterType = parameterTypes[index];
+
+				if (Object.class.equals(parameterType)) {
+					argumentExtractors[index] = (value ? ArgumentExtractor.NEW_VALUE : ArgumentExtractor.KEY);
+					value = true;
+				}
+				else if (Operation.class.equals(parameterType)) {
+					argumentExtractors[index] = (query ? ArgumentExtractor.QUERY_OPERATION
+						: ArgumentExtractor.BASE_OPERATION);
+					query = true;
+				}
+				else if (byte[].class.equals(parameterType)) {
+					argumentExtractors[index] = ArgumentExtractor.DELTA_VALUE;
+				}
+				else if (CqEvent.class.equals(parameterType)) {
+					argumentExtractors[index] = ArgumentExtractor.EVENT;
+				}
+				else if (CqQuery.class.equals(parameterType)) {
+					argumentExtractors[index] = ArgumentExtractor.CQ;
+				}
+				else if (Throwable.class.equals(parameterType)) {
+					argumentExtractors[index] = ArgumentExtractor.THROWABLE;
+				}
+			}
+
+			return argumentExtractors;
+		}
+
+		void invoke(Object delegate, CqEvent event) throws InvocationTargetException, IllegalAccessException {
+			ArgumentExtractor[] argumentExtractors = this.argumentExtractors;
+			Object[] args = new Object[argumentExtractors.length];
+
+			for (int index = 0; index < argumentExtractors.length; index++) {
+				args[index] = argumentExtractors[index].extract(event);
+			}
+
+			method.invoke(delegate, args);
+		}
+	}
+
 	private class MethodInvoker {
 
 		private final Object delegate;
 
-		List<Method> methods;
+		private final HandlerMethod handlerMethod;
+
+		private final String methodName;
 
 		MethodInvoker(Object delegate, final String methodName) {
 			Class<?> c = delegate.getClass();
 
 			this.delegate = delegate;
-			methods = new ArrayList<Method>();
+			this.methodName = methodName;
+
+			final List<Method> methods = new ArrayList<Method>();
 
 			ReflectionUtils.doWithMethods(c, new MethodCallback() {
 					public void doWith(Method method) throws IllegalArgumentException, IllegalAccessException {
-						ReflectionUtils.makeAccessible(method);
 						methods.add(method);
 					}
 				}, new MethodFilter() {
 					public boolean matches(Method method) {
-						return isValidEventMethodSignature(method, methodName);
+						return (!method.isBridge() && isValidEventMethodSignature(method, methodName));
 					}
 				});
 
 			Assert.isTrue(!methods.isEmpty(), String.format(
 				"Cannot find a suitable method named [%1$s#%2$s] - is the method public and does it have the proper arguments?",
 					c.getName(), methodName));
+
+			Method method = resolveBestMatch(methods);
+
+			ReflectionUtils.makeAccessible(method);
+
+			this.handlerMethod = new HandlerMethod(method);
+		}
+
+		/**
+		 * Resolves the single listener method invoked for every event among the matching overloads, which
+		 * {@link ReflectionUtils#doWithMethods(Class, MethodCallback, MethodFilter)} lists from the most specific
+		 * class up, so that an overridden method is resolved to its override.
+		 *
+		 * @param methods the matching listener methods.
+		 * @return the matching listener method with the most parameters, found first in the class hierarchy.
+		 */
+		private Method resolveBestMatch(List<Method> methods) {
+			Method bestMatch = methods.get(0);
+
+			for (Method method : methods) {
+				if (method.getParameterTypes().length > bestMatch.getParameterTypes().length) {
+					bestMatch = method;
+				}
+			}
+
+			return bestMatch;
+		}
+
+		boolean isFor(Object delegate, String methodName) {
+			return (this.delegate == delegate && this.methodName.equals(methodName));
 		}
 
 		@SuppressWarnings("all")
@@ -299,44 +487,7 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		}
 
 		void invoke(CqEvent event) throws InvocationTargetException, IllegalAccessException {
-			for (Method method : methods) {
-				method.invoke(delegate, getMethodArguments(method, event));
-			}
-		}
-
-		Object[] getMethodArguments(Method method, CqEvent event) {
-			Class<?>[] parameterTypes = method.getParameterTypes();
-			Object[] args = new Object[parameterTypes.length];
-
-			boolean query = false;
-			boolean value = false;
-
-			for (int index = 0; index < parameterTypes.length; index++) {
-				Class<?> parameterType = parameterTypes[index];
-
-				if (Object.class.equals(parameterType)) {
-					args[index] = (value ? event.getNewValue() : event.getKey());
-					value = true;
-				}
-				else if (Operation.class.equals(parameterType)) {
-					args[index] = (query ? event.getQueryOperation() : event.getBaseOperation());
-					query = true;
-				}
-				else if (byte[].class.equals(parameterType)) {
-					args[index] = event.getDeltaValue();
-				}
-				else if (CqEvent.class.equals(parameterType)) {
-					args[index] = event;
-				}
-				else if (CqQuery.class.equals(parameterType)) {
-					args[index] = event.getCq();
-				}
-				else if (Throwable.class.equals(parameterType)) {
-					args[index] = event.getThrowable();
-				}
-			}
-
-			return args;
+			handlerMethod.invoke(delegate, event);
 		}
 	}
 
@@ -70,6 +70,16 @@ public @interface ClientRegion {
 	@AliasFor(annotation = Region.class, attribute = "value")
 	String value() default "";
 
+	/**
+	 * Name of the Spring bean of type {@link com.gemstone.gemfire.compression.Compressor} used to compress
+	 * this persistent entity's {@link com.gemstone.gemfire.cache.Region} entry values.
+	 *
+	 * Defaults to unset (no compression).
+	 *
+	 * @see org.springframework.data.gemfire.support.DeflateCompressor
+	 */
+	String compressorName() default "";
+
 	/**
 	 * Name of the {@link com.gemstone.gemfire.cache.DiskStore} in which this persistent entity's data is overflowed
 	 * and/or persisted.
@@ -87,6 +97,17 @@ public @interface ClientRegion {
 	 */
 	boolean diskSynchronous() default true;
 
+	/**
+	 * Determines whether this persistent entity's {@link com.gemstone.gemfire.cache.Region} stores its entry values
+	 * in off-heap memory, outside the JVM Heap.
+	 *
+	 * Requires the {@literal off-heap-memory-size} GemFire property to be set
+	 * (e.g. with {@link org.springframework.data.gemfire.config.annotation.EnableOffHeap}).
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean offHeap() default false;
+
 	/**
 	 * Name of the GemFire/Geode {@link Pool} used by this persistent entity's {@link com.gemstone.gemfire.cache.Region}
 	 * data access operations sent to the corresponding {@link com.gemstone.gemfire.cache.Region}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.gemstone.gemfire.cache.util.ObjectSizer;
+
+import org.springframework.data.gemfire.mapping.model.GemfireSimpleTypeHolder;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * GemFire {@link ObjectSizer} implementation that sizes {@link com.gemstone.gemfire.cache.Region} entry values
+ * from the entity mapping meta-data of a Spring Data GemFire {@link GemfireMappingContext}, for use with
+ * {@link com.gemstone.gemfire.cache.EvictionAlgorithm#LRU_MEMORY memory size} Eviction.
+ *
+ * The shallow size of every class is computed once, from the declared instance fields of the class hierarchy,
+ * and cached.  Sizing an entity then only adds the estimated sizes of the values of its non-primitive persistent
+ * properties, read with the {@link PersistentPropertyAccessor} of the entity (which Spring Data generates
+ * as bytecode per entity whenever possible), instead of walking the object graph reflectively on every put.
+ * Only the entities already known to the {@link GemfireMappingContext} are sized from their mapping meta-data;
+ * the sizer never adds entities to the mapping context.  Other application types are sized from the values
+ * of their non-primitive instance fields, resolved once per class.
+ *
+ * Strings are sized from their length and arrays from their length and component type.  {@link Collection Collections}
+ * and {@link Map Maps} are estimated from their size and the size of their first element (or entry), assuming
+ * elements of a similar size.  Sizes assume a 64-bit JVM without compressed references and therefore tend
+ * to overestimate rather than underestimate.
+ *
+ * @see com.gemstone.gemfire.cache.util.ObjectSizer
+ * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+ * @see org.springframework.data.mapping.PersistentPropertyAccessor
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class MappingObjectSizer implements ObjectSizer {
+
+	protected static final int ARRAY_HEADER_SIZE = 24;
+	protected static final int HASH_ENTRY_SIZE = 48;
+	protected static final int MAX_DEPTH = 8;
+	protected static final int OBJECT_HEADER_SIZE = 16;
+	protected static final int REFERENCE_SIZE = 8;
+
+	private final ConcurrentMap<Class<?>, TypeLayout> typeLayouts = new ConcurrentHashMap<Class<?>, TypeLayout>();
+
+	private final GemfireMappingContext mappingContext;
+
+	private final SimpleTypeHolder simpleTypeHolder = new GemfireSimpleTypeHolder();
+
+	/**
+	 * Constructs an instance of {@link MappingObjectSizer} initialized with the given {@link GemfireMappingContext}.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} providing the entity mapping meta-data.
+	 * @throws IllegalArgumentException if the {@link GemfireMappingContext} is null.
+	 */
+	public MappingObjectSizer(GemfireMappingContext mappingContext) {
+		Assert.notNull(mappingContext, "GemfireMappingContext must not be null");
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Returns the {@link GemfireMappingContext} providing the entity mapping meta-data.
+	 *
+	 * @return the {@link GemfireMappingContext}.
+	 */
+	public GemfireMappingContext getMappingContext() {
+		return mappingContext;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int sizeof(Object value) {
+		long size = sizeOf(value, 0);
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	/* (non-Javadoc) */
+	protected long sizeOf(Object value, int depth) {
+		if (value == null || value instanceof Enum || value instanceof Class) {
+			// shared instances are not accounted to the entry value
+			return 0L;
+		}
+
+		Class<?> type = value.getClass();
+
+		if (value instanceof String) {
+			return getTypeLayout(type).shallowSize + arraySize(2, ((String) value).length());
+		}
+		else if (type.isArray()) {
+			return sizeOfArray(value, type.getComponentType(), depth);
+		}
+		else if (value instanceof Collection) {
+			return sizeOfCollection((Collection<?>) value, depth);
+		}
+		else if (value instanceof Map) {
+			return sizeOfMap((Map<?, ?>) value, depth);
+		}
+
+		TypeLayout typeLayout = getTypeLayout(type);
+
+		long size = typeLayout.shallowSize;
+
+		if (typeLayout.entity != null && depth < MAX_DEPTH) {
+			PersistentPropertyAccessor propertyAccessor = typeLayout.entity.getPropertyAccessor(value);
+
+			for (GemfirePersistentProperty property : typeLayout.referenceProperties) {
+				size += sizeOf(propertyAccessor.getProperty(property), depth + 1);
+			}
+		}
+		else if (depth < MAX_DEPTH) {
+			for (Field field : typeLayout.referenceFields) {
+				size += sizeOf(ReflectionUtils.getField(field, value), depth + 1);
+			}
+		}
+
+		return size;
+	}
+
+	/* (non-Javadoc) */
+	private long sizeOfArray(Object array, Class<?> componentType, int depth) {
+		int length = Array.getLength(array);
+
+		if (componentType.isPrimitive()) {
+			return arraySize(primitiveSize(componentType), length);
+		}
+
+		long size = arraySize(REFERENCE_SIZE, length);
+
+		if (length > 0 && depth < MAX_DEPTH) {
+			size += length * sizeOf(Array.get(array, 0), depth + 1);
+		}
+
+		return size;
+	}
+
+	/* (non-Javadoc) */
+	private long sizeOfCollection(Collection<?> collection, int depth) {
+		int elementCount = collection.size();
+
+		long size = getTypeLayout(collection.getClass()).shallowSize;
+
+		size += (collection instanceof List ? arraySize(REFERENCE_SIZE, elementCount)
+			: arraySize(REFERENCE_SIZE, elementCount) + (long) elementCount * HASH_ENTRY_SIZE);
+
+		if (elementCount > 0 && depth < MAX_DEPTH) {
+			Iterator<?> iterator = collection.iterator();
+			size += (iterator.hasNext() ? elementCount * sizeOf(iterator.next(), depth + 1) : 0L);
+		}
+
+		return size;
+	}
+
+	/* (non-Javadoc) */
+	private long sizeOfMap(Map<?, ?> map, int depth) {
+		int entryCount = map.size();
+
+		long size = getTypeLayout(map.getClass()).shallowSize + arraySize(REFERENCE_SIZE, entryCount)
+			+ (long) entryCount * HASH_ENTRY_SIZE;
+
+		if (entryCount > 0 && depth < MAX_DEPTH) {
+			Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+
+			if (iterator.hasNext()) {
+				Map.Entry<?, ?> entry = iterator.next();
+				size += entryCount * (sizeOf(entry.getKey(), depth + 1) + sizeOf(entry.getValue(), depth + 1));
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * Returns the {@link TypeLayout} of the given {@link Class type}, computing it on first use.
+	 *
+	 * @param type {@link Class type} of the value to size.
+	 * @return the {@link TypeLayout} of the given {@link Class type}.
+	 */
+	protected TypeLayout getTypeLayout(Class<?> type) {
+		TypeLayout typeLayout = typeLayouts.get(type);
+
+		if (typeLayout == null) {
+			typeLayout = newTypeLayout(type);
+
+			TypeLayout existingTypeLayout = typeLayouts.putIfAbsent(type, typeLayout);
+
+			typeLayout = (existingTypeLayout != null ? existingTypeLayout : typeLayout);
+		}
+
+		return typeLayout;
+	}
+
+	/* (non-Javadoc) */
+	private TypeLayout newTypeLayout(Class<?> type) {
+		boolean applicationType = isApplicationType(type);
+
+		GemfirePersistentEntity<?> entity = (applicationType && mappingContext.hasPersistentEntityFor(type)
+			? mappingContext.getPersistentEntity(type) : null);
+
+		List<Field> referenceFields = new ArrayList<Field>();
+
+		long shallowSize = OBJECT_HEADER_SIZE;
+
+		for (Class<?> currentType = type; currentType != null; currentType = currentType.getSuperclass()) {
+			for (Field field : currentType.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					Class<?> fieldType = field.getType();
+
+					if (fieldType.isPrimitive()) {
+						shallowSize += primitiveSize(fieldType);
+					}
+					else {
+						shallowSize += REFERENCE_SIZE;
+
+						if (applicationType && entity == null && !field.isSynthetic()) {
+							ReflectionUtils.makeAccessible(field);
+							referenceFields.add(field);
+						}
+					}
+				}
+			}
+		}
+
+		final List<GemfirePersistentProperty> referenceProperties = new ArrayList<GemfirePersistentProperty>();
+
+		if (entity != null) {
+			entity.doWithProperties(new PropertyHandler<GemfirePersistentProperty>() {
+				@Override
+				public void doWithPersistentProperty(GemfirePersistentProperty persistentProperty) {
+					if (!persistentProperty.getType().isPrimitive()) {
+						referenceProperties.add(persistentProperty);
+					}
+				}
+			});
+		}
+
+		return new TypeLayout(align(shallowSize), entity, referenceProperties.toArray(
+			new GemfirePersistentProperty[referenceProperties.size()]),
+				referenceFields.toArray(new Field[referenceFields.size()]));
+	}
+
+	/* (non-Javadoc) */
+	private boolean isApplicationType(Class<?> type) {
+		return !(simpleTypeHolder.isSimpleType(type) || type.getName().startsWith("java")
+			|| type.isInterface() || type.isAnonymousClass());
+	}
+
+	/* (non-Javadoc) */
+	static long arraySize(int componentSize, int length) {
+		return align(ARRAY_HEADER_SIZE + (long) componentSize * length);
+	}
+
+	/* (non-Javadoc) */
+	static long align(long size) {
+		return ((size + 7L) & ~7L);
+	}
+
+	/* (non-Javadoc) */
+	static int primitiveSize(Class<?> type) {
+		if (long.class.equals(type) || double.class.equals(type)) {
+			return 8;
+		}
+		else if (int.class.equals(type) || float.class.equals(type)) {
+			return 4;
+		}
+		else if (short.class.equals(type) || char.class.equals(type)) {
+			return 2;
+		}
+
+		return 1;
+	}
+
+	/**
+	 * Precomputed layout of a {@link Class type}, consisting of the shallow size of its instances and,
+	 * for entities, the persistent properties referring to other objects or, for other application types,
+	 * the instance fields referring to other objects.
+	 */
+	protected static class TypeLayout {
+
+		final long shallowSize;
+
+		final GemfirePersistentEntity<?> entity;
+
+		final GemfirePersistentProperty[] referenceProperties;
+
+		final Field[] referenceFields;
+
+		TypeLayout(long shallowSize, GemfirePersistentEntity<?> entity,
+				GemfirePersistentProperty[] referenceProperties, Field[] referenceFields) {
+
+			this.shallowSize = shallowSize;
+			this.entity = entity;
+			this.referenceProperties = referenceProperties;
+			this.referenceFields = referenceFields;
+		}
+
+		/**
+		 * Returns the size of an instance, excluding the objects it refers to.
+		 *
+		 * @return the shallow size in bytes.
+		 */
+		public long getShallowSize() {
+			return shallowSize;
+		}
+	}
+}
@@ -67,6 +67,16 @@ public @interface ReplicateRegion {
 	@AliasFor(annotation = Region.class, attribute = "value")
 	String value() default "";
 
+	/**
+	 * Name of the Spring bean of type {@link com.gemstone.gemfire.compression.Compressor} used to compress
+	 * this persistent entity's {@link com.gemstone.gemfire.cache.Region} entry values.
+	 *
+	 * Defaults to unset (no compression).
+	 *
+	 * @see org.springframework.data.gemfire.support.DeflateCompressor
+	 */
+	String compressorName() default "";
+
 	/**
 	 * Name of the {@link com.gemstone.gemfire.cache.DiskStore} in which this persistent entity's data is overflowed
 	 * and/or persisted.
@@ -92,6 +102,17 @@ public @interface ReplicateRegion {
 	 */
 	boolean ignoreJta() default false;
 
+	/**
+	 * Determines whether this persistent entity's {@link com.gemstone.gemfire.cache.Region} stores its entry values
+	 * in off-heap memory, outside the JVM Heap.
+	 *
+	 * Requires the {@literal off-heap-memory-size} GemFire property to be set
+	 * (e.g. with {@link org.springframework.data.gemfire.config.annotation.EnableOffHeap}).
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean offHeap() default false;
+
 	/**
 	 * Determines whether this persistent entity's {@link com.gemstone.gemfire.cache.Region} is persistent,
 	 * storing data to disk.
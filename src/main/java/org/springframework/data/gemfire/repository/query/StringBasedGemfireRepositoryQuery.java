@@ -20,6 +20,9 @@ import java.util.Collections;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.support.NoOpRegionOperationMetrics;
+import org.springframework.data.gemfire.support.RegionOperation;
+import org.springframework.data.gemfire.support.RegionOperationMetrics;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.util.Assert;
@@ -107,6 +110,41 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 */
 	@Override
 	public Object execute(Object[] parameters) {
+		RegionOperationMetrics regionOperationMetrics = resolveRegionOperationMetrics();
+
+		long startTime = (regionOperationMetrics.isEnabled() ? System.nanoTime() : 0L);
+
+		try {
+			Object result = doExecute(parameters);
+
+			if (regionOperationMetrics.isEnabled()) {
+				regionOperationMetrics.record(template.getRegion().getFullPath(), RegionOperation.REPOSITORY_QUERY,
+					System.nanoTime() - startTime, null, (result instanceof Collection ? ((Collection<?>) result).size()
+						: (result != null ? 1 : 0)));
+			}
+
+			return result;
+		}
+		catch (RuntimeException e) {
+			if (regionOperationMetrics.isEnabled()) {
+				regionOperationMetrics.recordFailure(template.getRegion().getFullPath(),
+					RegionOperation.REPOSITORY_QUERY, System.nanoTime() - startTime, e);
+			}
+
+			throw e;
+		}
+	}
+
+	/* (non-Javadoc) */
+	RegionOperationMetrics resolveRegionOperationMetrics() {
+		RegionOperationMetrics regionOperationMetrics = (template != null ? template.getRegionOperationMetrics()
+			: null);
+
+		return (regionOperationMetrics != null ? regionOperationMetrics : NoOpRegionOperationMetrics.INSTANCE);
+	}
+
+	/* (non-Javadoc) */
+	Object doExecute(Object[] parameters) {
 		QueryMethod localQueryMethod = getQueryMethod();
 
 		QueryString query = (isUserDefinedQuery() ? this.query : this.query.forRegion(
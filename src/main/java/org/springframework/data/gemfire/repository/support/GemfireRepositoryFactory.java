@@ -30,6 +30,8 @@ import org.springframework.data.gemfire.repository.query.GemfireEntityInformatio
 import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
 import org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery;
 import org.springframework.data.gemfire.repository.query.StringBasedGemfireRepositoryQuery;
+import org.springframework.data.gemfire.support.QueryStatisticsRecorder;
+import org.springframework.data.gemfire.support.RegionOperationMetrics;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
@@ -55,8 +57,12 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 	private final MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
 
+	private QueryStatisticsRecorder queryStatisticsRecorder;
+
 	private final Regions regions;
 
+	private RegionOperationMetrics regionOperationMetrics;
+
 	/**
 	 * Creates a new {@link GemfireRepositoryFactory}.
 	 *
@@ -74,6 +80,29 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		this.regions = new Regions(regions, this.mappingContext);
 	}
 
+	/**
+	 * Sets the {@link QueryStatisticsRecorder} recording the queries executed by the repositories
+	 * created by this factory.
+	 *
+	 * @param queryStatisticsRecorder {@link QueryStatisticsRecorder} recording the executed queries;
+	 * may be {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireTemplate#setQueryStatisticsRecorder(QueryStatisticsRecorder)
+	 */
+	public void setQueryStatisticsRecorder(QueryStatisticsRecorder queryStatisticsRecorder) {
+		this.queryStatisticsRecorder = queryStatisticsRecorder;
+	}
+
+	/**
+	 * Sets the {@link RegionOperationMetrics} recording the operations and queries performed by the repositories
+	 * created by this factory.
+	 *
+	 * @param regionOperationMetrics {@link RegionOperationMetrics} recording the operations; may be {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireTemplate#setRegionOperationMetrics(RegionOperationMetrics)
+	 */
+	public void setRegionOperationMetrics(RegionOperationMetrics regionOperationMetrics) {
+		this.regionOperationMetrics = regionOperationMetrics;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getEntityInformation(java.lang.Class)
@@ -123,7 +152,12 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 					regionKeyType.getName(), entityIdType.getName()));
 		}
 
-		return new GemfireTemplate(region);
+		GemfireTemplate template = new GemfireTemplate(region);
+
+		template.setQueryStatisticsRecorder(queryStatisticsRecorder);
+		template.setRegionOperationMetrics(regionOperationMetrics);
+
+		return template;
 	}
 
 	String getRepositoryRegionName(Class<?> repositoryInterface) {
@@ -26,6 +26,8 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.support.QueryStatisticsRecorder;
+import org.springframework.data.gemfire.support.RegionOperationMetrics;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
@@ -57,6 +59,10 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ext
 	private Iterable<Region<?, ?>> regions;
 
 	private MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
+
+	private QueryStatisticsRecorder queryStatisticsRecorder;
+
+	private RegionOperationMetrics regionOperationMetrics;
 	
 	/**
 	 * Creates a new {@link GemfireRepositoryFactoryBean} for the given repository interface.
@@ -106,6 +112,47 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ext
 		return this.mappingContext;
 	}
 
+	/**
+	 * Sets the {@link QueryStatisticsRecorder} recording the queries executed by the repository.
+	 *
+	 * @param queryStatisticsRecorder {@link QueryStatisticsRecorder} recording the executed queries;
+	 * may be {@literal null}.
+	 * @see org.springframework.data.gemfire.support.QueryStatisticsRecorder
+	 */
+	public void setQueryStatisticsRecorder(QueryStatisticsRecorder queryStatisticsRecorder) {
+		this.queryStatisticsRecorder = queryStatisticsRecorder;
+	}
+
+	/**
+	 * Returns the {@link QueryStatisticsRecorder} recording the queries executed by the repository.
+	 *
+	 * @return the {@link QueryStatisticsRecorder} or {@literal null} if no statistics are recorded.
+	 * @see #setQueryStatisticsRecorder(QueryStatisticsRecorder)
+	 */
+	protected QueryStatisticsRecorder getQueryStatisticsRecorder() {
+		return this.queryStatisticsRecorder;
+	}
+
+	/**
+	 * Sets the {@link RegionOperationMetrics} recording the operations and queries performed by the repository.
+	 *
+	 * @param regionOperationMetrics {@link RegionOperationMetrics} recording the operations; may be {@literal null}.
+	 * @see org.springframework.data.gemfire.support.RegionOperationMetrics
+	 */
+	public void setRegionOperationMetrics(RegionOperationMetrics regionOperationMetrics) {
+		this.regionOperationMetrics = regionOperationMetrics;
+	}
+
+	/**
+	 * Returns the {@link RegionOperationMetrics} recording the operations performed by the repository.
+	 *
+	 * @return the {@link RegionOperationMetrics} or {@literal null} if no metrics are recorded.
+	 * @see #setRegionOperationMetrics(RegionOperationMetrics)
+	 */
+	protected RegionOperationMetrics getRegionOperationMetrics() {
+		return this.regionOperationMetrics;
+	}
+
 	/**
 	 * Returns an {@link Iterable} reference to the GemFire {@link Region}s defined
 	 * in the Spring {@link ApplicationContext}.
@@ -124,7 +171,13 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID ext
 	 */
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
-		return new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
+		GemfireRepositoryFactory repositoryFactory = new GemfireRepositoryFactory(getRegions(),
+			getGemfireMappingContext());
+
+		repositoryFactory.setQueryStatisticsRecorder(getQueryStatisticsRecorder());
+		repositoryFactory.setRegionOperationMetrics(getRegionOperationMetrics());
+
+		return repositoryFactory;
 	}
 	
 	/* 
@@ -21,8 +21,11 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.asm.ClassWriter;
@@ -62,8 +65,8 @@ public class AsmInstantiatorGenerator implements InstantiatorGenerator, Opcodes
 	// generated class counter
 	private static final AtomicLong counter = new AtomicLong(1);
 
-	// class cache
-	private final ConcurrentMap<Class<? extends DataSerializable>, Instantiator> cache = new ConcurrentHashMap<Class<? extends DataSerializable>, Instantiator>();
+	// class cache; each Instantiator is generated at most once, by the first thread requesting it
+	private final ConcurrentMap<Class<? extends DataSerializable>, FutureTask<Instantiator>> cache = new ConcurrentHashMap<Class<? extends DataSerializable>, FutureTask<Instantiator>>();
 
 
 	private static final class BytecodeClassLoader extends ClassLoader {
@@ -92,19 +95,66 @@ public class AsmInstantiatorGenerator implements InstantiatorGenerator, Opcodes
 		});
 	}
 
-	public Instantiator getInstantiator(Class<? extends DataSerializable> clazz, int classId) {
-		Instantiator instantiator = cache.get(clazz);
+	public Instantiator getInstantiator(final Class<? extends DataSerializable> clazz, final int classId) {
+		FutureTask<Instantiator> instantiator = cache.get(clazz);
+
 		if (instantiator == null) {
-			synchronized (cache) {
-				instantiator = cache.get(clazz);
-				if (instantiator == null) {
-					// create Instantiator
-					instantiator = createInstantiator(clazz, classId);
-					cache.putIfAbsent(clazz, instantiator);
+			FutureTask<Instantiator> newInstantiator = new FutureTask<Instantiator>(new Callable<Instantiator>() {
+				public Instantiator call() {
+					return createInstantiator(clazz, classId);
+				}
+			});
+
+			instantiator = cache.putIfAbsent(clazz, newInstantiator);
+
+			if (instantiator == null) {
+				instantiator = newInstantiator;
+				// create Instantiator; threads requesting the same class meanwhile wait for the result
+				newInstantiator.run();
+			}
+		}
+
+		return getInstantiator(clazz, instantiator);
+	}
+
+	/**
+	 * Waits for the generation of the Instantiator, removing the failed generation from the cache
+	 * so it can be retried.
+	 *
+	 * @param clazz the class instantiated by the Instantiator.
+	 * @param instantiator the task generating the Instantiator, cached for the class.
+	 * @return the generated Instantiator.
+	 */
+	private Instantiator getInstantiator(Class<? extends DataSerializable> clazz, FutureTask<Instantiator> instantiator) {
+		boolean interrupted = false;
+
+		try {
+			while (true) {
+				try {
+					return instantiator.get();
+				}
+				catch (InterruptedException ex) {
+					interrupted = true;
 				}
+				catch (ExecutionException ex) {
+					cache.remove(clazz, instantiator);
+
+					if (ex.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) ex.getCause();
+					}
+					if (ex.getCause() instanceof Error) {
+						throw (Error) ex.getCause();
+					}
+
+					throw new IllegalStateException("Cannot create Instantiator for " + clazz, ex.getCause());
+				}
+			}
+		}
+		finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
 			}
 		}
-		return instantiator;
 	}
 
 	/**
@@ -20,49 +20,145 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+
 import com.gemstone.gemfire.DataSerializer;
 import com.gemstone.gemfire.internal.InternalDataSerializer;
 
 /**
  * Generic Serializer for JDK Enums. The class needs to be registered only once - custom enums
  * will be then understood by the converter by calling {@link #addEnum(Class)}.
- * 
+ *
+ * By default, enums are written as their class followed by an int ordinal.  Enums can also be pre-registered
+ * at startup, either by scanning base packages through {@link #setBasePackages(String...)} or by listing them
+ * through {@link #setEnumTypes(Class...)}, in which case this serializer writes every enum in a compact encoding:
+ * a variable length type ID, a fingerprint byte and a variable length ordinal, typically 4 bytes in total.
+ * Enums that are not pre-registered are written with type ID 0, followed by their class and ordinal.
+ *
+ * The type ID of a pre-registered enum is either set explicitly through {@link #setEnumTypeIds(Map)} or derived
+ * from a hash of its class name, so it does not depend on which other enums are pre-registered.  The fingerprint
+ * is derived from the class name and the names of the enum constants, so decoding an enum pre-registered
+ * with a different type ID or with different constants on another member fails with an {@link IOException}
+ * rather than returning the wrong constant.  Since the encoding depends on whether enums are pre-registered,
+ * a serializer pre-registering enums should use its own serializer ID, distinct from the ID under which data was
+ * written in the default encoding.  Serializing or deserializing an enum never (re-)registers the serializer.
+ *
  * @author Costin Leau
  */
-public class EnumSerializer extends DataSerializer implements Serializable {
+public class EnumSerializer extends DataSerializer implements InitializingBean, Serializable {
 
 	private static final long serialVersionUID = -7069461993489626976L;
 
+	private static final int MAX_DERIVED_TYPE_ID = 16383;
+	private static final int UNREGISTERED_TYPE_ID = 0;
+
 	private static final ConcurrentMap<Class<?>, Enum[]> supportedClasses = new ConcurrentHashMap<Class<?>, Enum[]>();
 
+	private transient volatile EnumTable enumTable;
+
 	private int id = 1024;
 
+	private Map<Class<?>, Integer> enumTypeIds;
+
+	private String[] basePackages;
+
+	private Class<?>[] enumTypes;
+
 	@Override
 	public boolean toData(Object o, DataOutput out) throws IOException {
 		if (o instanceof Enum<?>) {
-			// add enum to the set
 			Enum<?> enm = (Enum<?>) o;
 			Class<?> cls = enm.getDeclaringClass();
-			addEnum(cls);
-			DataSerializer.writeClass(cls, out);
-			out.writeInt(enm.ordinal());
+			EnumTable localEnumTable = getEnumTable();
+
+			if (localEnumTable.isEmpty()) {
+				DataSerializer.writeClass(cls, out);
+				out.writeInt(enm.ordinal());
+			}
+			else {
+				EnumType enumType = localEnumTable.getEnumType(cls);
+
+				if (enumType != null) {
+					writeVarInt(enumType.typeId, out);
+					out.writeByte(enumType.fingerprint);
+				}
+				else {
+					writeVarInt(UNREGISTERED_TYPE_ID, out);
+					DataSerializer.writeClass(cls, out);
+				}
+
+				writeVarInt(enm.ordinal(), out);
+			}
+
+			return true;
 		}
+
 		return false;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Object fromData(DataInput in) throws IOException, ClassNotFoundException {
-		Class cls = DataSerializer.readClass(in);
-		if (cls.isEnum()) {
-			addEnum(cls);
-			int ordinal = in.readInt();
-			return supportedClasses.get(cls)[ordinal];
+		EnumTable localEnumTable = getEnumTable();
+		Enum[] constants;
+		int ordinal;
+
+		if (localEnumTable.isEmpty()) {
+			constants = getEnumConstants(readEnumClass(in));
+			ordinal = in.readInt();
 		}
-		throw new IOException("Non-enum class read from the stream -" + cls);
+		else {
+			int typeId = readVarInt(in);
+
+			constants = (typeId == UNREGISTERED_TYPE_ID ? getEnumConstants(readEnumClass(in))
+				: localEnumTable.getEnumConstants(typeId, in.readByte()));
+
+			ordinal = readVarInt(in);
+		}
+
+		if (ordinal < 0 || ordinal >= constants.length) {
+			throw new IOException("Invalid ordinal " + ordinal + " read from the stream for an enum with "
+				+ constants.length + " constants");
+		}
+
+		return constants[ordinal];
+	}
+
+	/* (non-Javadoc) */
+	private static Class<?> readEnumClass(DataInput in) throws IOException, ClassNotFoundException {
+		Class<?> cls = DataSerializer.readClass(in);
+
+		if (!cls.isEnum()) {
+			throw new IOException("Non-enum class read from the stream -" + cls);
+		}
+
+		return cls;
+	}
+
+	/* (non-Javadoc) */
+	private static Enum[] getEnumConstants(Class<?> enumClass) {
+		Enum[] constants = supportedClasses.get(enumClass);
+
+		if (constants == null) {
+			constants = (Enum[]) enumClass.getEnumConstants();
+			supportedClasses.putIfAbsent(enumClass, constants);
+		}
+
+		return constants;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -71,18 +167,128 @@ public class EnumSerializer extends DataSerializer implements Serializable {
 			supportedClasses.put(enumClass, (Enum[]) enumClass.getEnumConstants());
 		}
 
-		// if registered, re-register the serializer to propagate the changes
-		if (InternalDataSerializer.getSerializer(getId()) != null) {
-			if (InternalDataSerializer.getSerializer(enumClass) == null) {
+		reregisterIfNecessary(enumClass);
+	}
+
+	/**
+	 * Builds the pre-registered enum table from the configured base packages, enum types and enum type IDs.
+	 * If this serializer is already registered, it is re-registered once, to propagate the supported classes.
+	 *
+	 * @throws IllegalArgumentException if a configured type is not an enum, a type ID is not positive,
+	 * or two enums have the same type ID.
+	 */
+	public void afterPropertiesSet() throws Exception {
+		Set<Class<?>> enums = new LinkedHashSet<Class<?>>();
+
+		for (String basePackage : (basePackages != null ? basePackages : new String[0])) {
+			enums.addAll(scan(basePackage));
+		}
+
+		for (Class<?> enumType : (enumTypes != null ? enumTypes : new Class<?>[0])) {
+			enums.add(enumType);
+		}
+
+		Map<Class<?>, Integer> localEnumTypeIds = (enumTypeIds != null ? enumTypeIds
+			: Collections.<Class<?>, Integer>emptyMap());
+
+		enums.addAll(localEnumTypeIds.keySet());
+
+		Map<Class<?>, Integer> typeIds = new LinkedHashMap<Class<?>, Integer>(enums.size() * 2);
+
+		for (Class<?> enumType : enums) {
+			if (!enumType.isEnum()) {
+				throw new IllegalArgumentException("Class " + enumType + " is not an enum");
+			}
+
+			Integer typeId = localEnumTypeIds.get(enumType);
+
+			typeIds.put(enumType, (typeId != null ? typeId : deriveTypeId(enumType)));
+		}
+
+		this.enumTable = new EnumTable(typeIds);
+
+		if (!typeIds.isEmpty()) {
+			reregisterIfNecessary(typeIds.keySet().iterator().next());
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Set<Class<?>> scan(String basePackage) throws ClassNotFoundException {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				// enums with constant specific class bodies are abstract
+				return beanDefinition.getMetadata().isIndependent();
+			}
+		};
+
+		scanner.addIncludeFilter(new AssignableTypeFilter(Enum.class));
+
+		Set<Class<?>> enums = new LinkedHashSet<Class<?>>();
+		ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+		for (BeanDefinition beanDefinition : scanner.findCandidateComponents(basePackage)) {
+			Class<?> type = ClassUtils.forName(beanDefinition.getBeanClassName(), classLoader);
+
+			if (type.isEnum()) {
+				enums.add(type);
+			}
+		}
+
+		return enums;
+	}
+
+	/**
+	 * Derives the type ID of the given enum from a hash of its class name, between 1 and 16383 so that
+	 * it is written in at most 2 bytes.
+	 *
+	 * @param enumType the enum to derive the type ID of.
+	 * @return the derived type ID.
+	 */
+	static int deriveTypeId(Class<?> enumType) {
+		return 1 + (enumType.getName().hashCode() & Integer.MAX_VALUE) % MAX_DERIVED_TYPE_ID;
+	}
+
+	/**
+	 * Computes the fingerprint of the given enum from its class name and the names of its constants, in order.
+	 *
+	 * @param enumType the enum to fingerprint.
+	 * @return the fingerprint byte.
+	 */
+	static byte fingerprint(Class<?> enumType) {
+		int hash = enumType.getName().hashCode();
+
+		for (Object constant : enumType.getEnumConstants()) {
+			hash = 31 * hash + ((Enum<?>) constant).name().hashCode();
+		}
+
+		return (byte) (hash ^ (hash >>> 8) ^ (hash >>> 16) ^ (hash >>> 24));
+	}
+
+	/* (non-Javadoc) */
+	private EnumTable getEnumTable() {
+		EnumTable localEnumTable = this.enumTable;
+		return (localEnumTable != null ? localEnumTable : EnumTable.EMPTY);
+	}
+
+	/* (non-Javadoc) */
+	private void reregisterIfNecessary(Class<?> enumClass) {
+		// if registered, re-register this serializer to propagate the changes
+		DataSerializer registeredSerializer = InternalDataSerializer.getSerializer(getId());
+
+		if (registeredSerializer != null) {
+			if (registeredSerializer != this || InternalDataSerializer.getSerializer(enumClass) == null) {
 				InternalDataSerializer.unregister(getId());
-				InternalDataSerializer.register(getClass());
+				InternalDataSerializer._register(this, true);
 			}
 		}
 	}
 
 	@Override
 	public Class<?>[] getSupportedClasses() {
-		return supportedClasses.keySet().toArray(new Class<?>[supportedClasses.size()]);
+		Set<Class<?>> classes = new LinkedHashSet<Class<?>>(getEnumTable().getEnumClasses());
+		classes.addAll(supportedClasses.keySet());
+		return classes.toArray(new Class<?>[classes.size()]);
 	}
 
 	@Override
@@ -92,10 +298,163 @@ public class EnumSerializer extends DataSerializer implements Serializable {
 
 	/**
 	 * Sets the id for this serializer. Default is 1024;
-	 * 
+	 *
 	 * @param id the id to set
 	 */
 	public void setId(int id) {
 		this.id = id;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Sets the base packages scanned for enums to pre-register on initialization.
+	 *
+	 * @param basePackages the base packages to scan
+	 */
+	public void setBasePackages(String... basePackages) {
+		this.basePackages = basePackages;
+	}
+
+	/**
+	 * Sets the enums to pre-register on initialization, in addition to the enums found in the base packages.
+	 *
+	 * @param enumTypes the enums to pre-register
+	 */
+	public void setEnumTypes(Class<?>... enumTypes) {
+		this.enumTypes = enumTypes;
+	}
+
+	/**
+	 * Sets explicit type IDs of pre-registered enums, overriding the type IDs derived from their class names.
+	 * The enums are pre-registered in addition to the enums found in the base packages and the enum types.
+	 *
+	 * @param enumTypeIds the positive type IDs of the enums to pre-register, keyed by enum
+	 */
+	public void setEnumTypeIds(Map<Class<?>, Integer> enumTypeIds) {
+		this.enumTypeIds = enumTypeIds;
+	}
+
+	/**
+	 * Writes the given non-negative int using 1 to 5 bytes, 7 bits at a time.
+	 *
+	 * @param value the value to write
+	 * @param out the output to write to
+	 * @throws IOException if the value could not be written
+	 */
+	static void writeVarInt(int value, DataOutput out) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		out.writeByte(value);
+	}
+
+	/**
+	 * Reads an int written by {@link #writeVarInt(int, DataOutput)}.
+	 *
+	 * @param in the input to read from
+	 * @return the value read
+	 * @throws IOException if the value could not be read or is malformed
+	 */
+	static int readVarInt(DataInput in) throws IOException {
+		int value = 0;
+
+		for (int shift = 0; shift < 35; shift += 7) {
+			byte b = in.readByte();
+			value |= (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Malformed variable length int read from the stream");
+	}
+
+	/**
+	 * A pre-registered enum, with its type ID and fingerprint.
+	 */
+	static final class EnumType {
+
+		final byte fingerprint;
+
+		final int typeId;
+
+		final Class<?> enumClass;
+
+		final Enum[] constants;
+
+		EnumType(Class<?> enumClass, int typeId) {
+			this.enumClass = enumClass;
+			this.typeId = typeId;
+			this.constants = (Enum[]) enumClass.getEnumConstants();
+			this.fingerprint = fingerprint(enumClass);
+		}
+	}
+
+	/**
+	 * Table of the pre-registered enums, indexed by type ID.
+	 */
+	static final class EnumTable {
+
+		static final EnumTable EMPTY = new EnumTable(Collections.<Class<?>, Integer>emptyMap());
+
+		private final Map<Class<?>, EnumType> enumTypesByClass;
+
+		private final Map<Integer, EnumType> enumTypesById;
+
+		EnumTable(Map<Class<?>, Integer> typeIds) {
+			this.enumTypesByClass = new HashMap<Class<?>, EnumType>(typeIds.size() * 2);
+			this.enumTypesById = new HashMap<Integer, EnumType>(typeIds.size() * 2);
+
+			for (Map.Entry<Class<?>, Integer> entry : typeIds.entrySet()) {
+				Class<?> enumClass = entry.getKey();
+				int typeId = entry.getValue();
+
+				if (typeId <= UNREGISTERED_TYPE_ID) {
+					throw new IllegalArgumentException("Type ID " + typeId + " of enum " + enumClass
+						+ " must be greater than 0");
+				}
+
+				EnumType enumType = new EnumType(enumClass, typeId);
+				EnumType existingEnumType = enumTypesById.put(typeId, enumType);
+
+				if (existingEnumType != null) {
+					throw new IllegalArgumentException("Enums " + existingEnumType.enumClass + " and " + enumClass
+						+ " have the same type ID " + typeId + "; set explicit type IDs with setEnumTypeIds");
+				}
+
+				enumTypesByClass.put(enumClass, enumType);
+			}
+		}
+
+		boolean isEmpty() {
+			return enumTypesById.isEmpty();
+		}
+
+		Set<Class<?>> getEnumClasses() {
+			return enumTypesByClass.keySet();
+		}
+
+		EnumType getEnumType(Class<?> enumClass) {
+			return enumTypesByClass.get(enumClass);
+		}
+
+		Enum[] getEnumConstants(int typeId, byte fingerprint) throws IOException {
+			EnumType enumType = enumTypesById.get(typeId);
+
+			if (enumType == null) {
+				throw new IOException("Unknown enum type " + typeId + " read from the stream; registered enums are "
+					+ ObjectUtils.nullSafeToString(enumTypesByClass.keySet().toArray()));
+			}
+
+			if (enumType.fingerprint != fingerprint) {
+				throw new IOException("Enum type " + typeId + " read from the stream has fingerprint " + fingerprint
+					+ ", but the registered enum " + enumType.enumClass + " has fingerprint " + enumType.fingerprint
+					+ "; all members must pre-register the same enums, with the same type IDs and constants");
+			}
+
+			return enumType.constants;
+		}
+	}
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.Aware;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.AbstractBeanFactory;
+import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Injection plan of a class instantiated by the {@link WiringInstantiator}, precomputed once per class
+ * so that wiring a deserialized instance only takes a few direct field sets and method invocations,
+ * rather than going through the full bean configuration performed by the
+ * {@link org.springframework.beans.factory.wiring.BeanConfigurerSupport}.
+ *
+ * A plan covers the fields and methods annotated with {@link Autowired}, {@link Value} or {@literal @Inject},
+ * the injection points honored by the {@link AutowiredAnnotationBeanPostProcessor}. Dependencies resolving
+ * to singleton beans are resolved once, when the plan is created; any other dependency is resolved again
+ * for every instance. No plan is created for classes that need more than the injection of their annotated
+ * fields and methods, such as classes configured from a bean definition template, implementing
+ * {@link Aware} or {@link InitializingBean}, or using other injection or lifecycle annotations.
+ * No plan is created either when the bean factory has any {@link BeanPostProcessor} other than the Spring
+ * annotation and infrastructure processors, since the full bean configuration applies it to every instance.
+ *
+ * @see org.springframework.data.gemfire.serialization.WiringInstantiator
+ * @since 1.10.0
+ */
+class InjectionPlan {
+
+	private static final Set<String> UNSUPPORTED_ANNOTATION_TYPE_NAMES = new HashSet<String>(Arrays.asList(
+		"javax.annotation.PostConstruct", "javax.annotation.Resource", "javax.ejb.EJB",
+		"javax.persistence.PersistenceContext", "javax.persistence.PersistenceUnit",
+		"javax.xml.ws.WebServiceRef", "org.springframework.beans.factory.annotation.Required"));
+
+	// bean post processors whose effect on a class without a plan-rejected annotation or interface is either
+	// nothing or the annotation driven injection replayed by the plan
+	private static final Set<String> SUPPORTED_BEAN_POST_PROCESSOR_TYPE_NAMES = new HashSet<String>(Arrays.asList(
+		"org.springframework.beans.factory.annotation.RequiredAnnotationBeanPostProcessor",
+		"org.springframework.context.annotation.CommonAnnotationBeanPostProcessor",
+		"org.springframework.context.annotation.ConfigurationClassPostProcessor$EnhancedConfigurationBeanPostProcessor",
+		"org.springframework.context.annotation.ConfigurationClassPostProcessor$ImportAwareBeanPostProcessor",
+		"org.springframework.context.support.ApplicationContextAwareProcessor",
+		"org.springframework.context.support.ApplicationListenerDetector",
+		"org.springframework.context.support.PostProcessorRegistrationDelegate$BeanPostProcessorChecker",
+		"org.springframework.context.weaving.LoadTimeWeaverAwareProcessor",
+		"org.springframework.orm.jpa.support.PersistenceAnnotationBeanPostProcessor"));
+
+	private static final String INJECT_ANNOTATION_TYPE_NAME = "javax.inject.Inject";
+
+	private final List<InjectionPoint> injectionPoints;
+
+	private InjectionPlan(List<InjectionPoint> injectionPoints) {
+		this.injectionPoints = injectionPoints;
+	}
+
+	/**
+	 * Creates the injection plan of the given class.
+	 *
+	 * @param type class of the instances to wire.
+	 * @param beanFactory bean factory resolving the dependencies.
+	 * @return the injection plan of the given class or null if the instances of the class need to be configured
+	 * through the full bean configuration.
+	 */
+	static InjectionPlan create(Class<?> type, BeanFactory beanFactory) {
+		if (!(beanFactory instanceof AbstractBeanFactory && beanFactory instanceof AutowireCapableBeanFactory)) {
+			return null;
+		}
+
+		String beanName = type.getName();
+
+		if (beanFactory.containsBean(beanName) || Aware.class.isAssignableFrom(type)
+				|| InitializingBean.class.isAssignableFrom(type)) {
+			return null;
+		}
+
+		AutowireCapableBeanFactory autowireCapableBeanFactory = (AutowireCapableBeanFactory) beanFactory;
+
+		boolean annotationInjectionEnabled = false;
+
+		for (BeanPostProcessor beanPostProcessor : ((AbstractBeanFactory) beanFactory).getBeanPostProcessors()) {
+			if (beanPostProcessor instanceof AutowiredAnnotationBeanPostProcessor) {
+				annotationInjectionEnabled = true;
+			}
+			else if (!SUPPORTED_BEAN_POST_PROCESSOR_TYPE_NAMES.contains(beanPostProcessor.getClass().getName())) {
+				// the post processor may proxy or otherwise process every configured instance
+				return null;
+			}
+		}
+
+		if (!annotationInjectionEnabled) {
+			return new InjectionPlan(Collections.<InjectionPoint>emptyList());
+		}
+
+		try {
+			List<InjectionPoint> injectionPoints = new ArrayList<InjectionPoint>();
+
+			for (Class<?> currentType : typeHierarchy(type)) {
+				for (Field field : currentType.getDeclaredFields()) {
+					if (isUnsupported(field)) {
+						return null;
+					}
+
+					if (!Modifier.isStatic(field.getModifiers()) && isInjected(field)) {
+						DependencyDescriptor descriptor = new DependencyDescriptor(field, isRequired(field));
+						descriptor.setContainingClass(type);
+						injectionPoints.add(new FieldInjectionPoint(field, new Dependency(descriptor,
+							field.isAnnotationPresent(Value.class), autowireCapableBeanFactory, beanName)));
+					}
+				}
+
+				for (Method method : currentType.getDeclaredMethods()) {
+					if (isUnsupported(method)) {
+						return null;
+					}
+
+					Method bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
+
+					if (method.equals(bridgedMethod) && !Modifier.isStatic(method.getModifiers())
+							&& isInjected(method) && !isOverridden(method, type)) {
+
+						Dependency[] dependencies = new Dependency[method.getParameterTypes().length];
+
+						for (int index = 0; index < dependencies.length; index++) {
+							MethodParameter parameter = new MethodParameter(method, index);
+							DependencyDescriptor descriptor = new DependencyDescriptor(parameter, isRequired(method));
+							descriptor.setContainingClass(type);
+							dependencies[index] = new Dependency(descriptor, method.isAnnotationPresent(Value.class),
+								autowireCapableBeanFactory, beanName);
+						}
+
+						injectionPoints.add(new MethodInjectionPoint(method, dependencies));
+					}
+				}
+			}
+
+			return new InjectionPlan(injectionPoints);
+		}
+		catch (BeansException ex) {
+			// let the full bean configuration report the unresolvable dependency for every instance
+			return null;
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static List<Class<?>> typeHierarchy(Class<?> type) {
+		LinkedList<Class<?>> typeHierarchy = new LinkedList<Class<?>>();
+
+		for (Class<?> currentType = type; currentType != null && currentType != Object.class;
+				currentType = currentType.getSuperclass()) {
+			typeHierarchy.addFirst(currentType);
+		}
+
+		return typeHierarchy;
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isInjected(AnnotatedElement element) {
+		return (AnnotationUtils.getAnnotation(element, Autowired.class) != null
+			|| AnnotationUtils.getAnnotation(element, Value.class) != null
+			|| isAnnotationPresent(element, INJECT_ANNOTATION_TYPE_NAME));
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isRequired(AnnotatedElement element) {
+		Autowired autowired = AnnotationUtils.getAnnotation(element, Autowired.class);
+		return (autowired == null || autowired.required());
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isUnsupported(AnnotatedElement element) {
+		for (Annotation annotation : element.getAnnotations()) {
+			if (UNSUPPORTED_ANNOTATION_TYPE_NAMES.contains(annotation.annotationType().getName())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isAnnotationPresent(AnnotatedElement element, String annotationTypeName) {
+		for (Annotation annotation : element.getAnnotations()) {
+			if (annotation.annotationType().getName().equals(annotationTypeName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isOverridden(Method method, Class<?> type) {
+		if (Modifier.isPrivate(method.getModifiers())) {
+			return false;
+		}
+
+		Method mostSpecificMethod = ReflectionUtils.findMethod(type, method.getName(), method.getParameterTypes());
+
+		return (mostSpecificMethod != null && !mostSpecificMethod.equals(method));
+	}
+
+	/**
+	 * Wires the given instance according to this plan.
+	 *
+	 * @param instance instance to wire
+	 */
+	void inject(Object instance) {
+		for (InjectionPoint injectionPoint : injectionPoints) {
+			injectionPoint.inject(instance);
+		}
+	}
+
+	/**
+	 * Returns the number of fields and methods injected by this plan.
+	 *
+	 * @return the number of injection points
+	 */
+	int size() {
+		return injectionPoints.size();
+	}
+
+	/**
+	 * Dependency of an injection point, resolved once if it resolves to singleton beans.
+	 */
+	static class Dependency {
+
+		private final AutowireCapableBeanFactory beanFactory;
+
+		private final boolean cached;
+
+		private final DependencyDescriptor descriptor;
+
+		private final Object value;
+
+		private final String beanName;
+
+		Dependency(DependencyDescriptor descriptor, boolean valueAnnotated, AutowireCapableBeanFactory beanFactory,
+				String beanName) {
+
+			Set<String> autowiredBeanNames = new LinkedHashSet<String>(2);
+
+			this.beanFactory = beanFactory;
+			this.beanName = beanName;
+			this.descriptor = descriptor;
+			this.value = beanFactory.resolveDependency(descriptor, beanName, autowiredBeanNames, null);
+			this.cached = (autowiredBeanNames.isEmpty() ? (value != null && !valueAnnotated)
+				: areSingletons(autowiredBeanNames, beanFactory));
+		}
+
+		/* (non-Javadoc) */
+		private static boolean areSingletons(Set<String> beanNames, BeanFactory beanFactory) {
+			for (String beanName : beanNames) {
+				if (!beanFactory.isSingleton(beanName)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		Object resolve() {
+			return (cached ? value : beanFactory.resolveDependency(descriptor, beanName));
+		}
+	}
+
+	/**
+	 * Field or method injected by an injection plan.
+	 */
+	static abstract class InjectionPoint {
+
+		abstract void inject(Object instance);
+
+	}
+
+	static class FieldInjectionPoint extends InjectionPoint {
+
+		private final Dependency dependency;
+
+		private final Field field;
+
+		FieldInjectionPoint(Field field, Dependency dependency) {
+			ReflectionUtils.makeAccessible(field);
+			this.field = field;
+			this.dependency = dependency;
+		}
+
+		@Override
+		void inject(Object instance) {
+			Object value = dependency.resolve();
+
+			if (value != null) {
+				ReflectionUtils.setField(field, instance, value);
+			}
+		}
+	}
+
+	static class MethodInjectionPoint extends InjectionPoint {
+
+		private final Dependency[] dependencies;
+
+		private final Method method;
+
+		MethodInjectionPoint(Method method, Dependency[] dependencies) {
+			ReflectionUtils.makeAccessible(method);
+			this.method = method;
+			this.dependencies = dependencies;
+		}
+
+		@Override
+		void inject(Object instance) {
+			Object[] arguments = new Object[dependencies.length];
+
+			for (int index = 0; index < arguments.length; index++) {
+				arguments[index] = dependencies[index].resolve();
+
+				if (arguments[index] == null && !dependencies[index].descriptor.isRequired()) {
+					// optional dependency not available; the method is not invoked
+					return;
+				}
+			}
+
+			ReflectionUtils.invokeMethod(method, instance, arguments);
+		}
+	}
+}
@@ -41,6 +41,12 @@ import com.gemstone.gemfire.Instantiator;
  * Additionally, the instantiator registration is not distributed by default, to allow the application context
  * to be reused. This can be changed through {@link #setDistribute(boolean)}.
  * 
+ * Optionally, when no configurer is provided, the injection of annotated fields and methods can be planned
+ * once per class and replayed on every new instance, rather than fully configuring every instance
+ * (see {@link InjectionPlan} and {@link #setUseInjectionPlan(boolean)}). Classes relying on more than
+ * annotation driven injection, or containers with bean post processors the plan cannot replay, are always
+ * fully configured.
+ * 
  * @see org.springframework.beans.factory.wiring.BeanConfigurerSupport
  * @see org.springframework.beans.factory.wiring.BeanWiringInfoResolver
  * @see org.springframework.beans.factory.annotation.Autowired
@@ -56,6 +62,10 @@ public class WiringInstantiator extends Instantiator implements BeanFactoryAware
 	private BeanFactory beanFactory;
 	private boolean autoRegister = true;
 	private boolean distribute = false;
+	private boolean useInjectionPlan = false;
+	private boolean defaultConfigurer = false;
+	private volatile boolean injectionPlanResolved = false;
+	private volatile InjectionPlan injectionPlan;
 
 	public WiringInstantiator(Instantiator instantiator) {
 		super(instantiator.getInstantiatedClass(), instantiator.getId());
@@ -75,6 +85,7 @@ public class WiringInstantiator extends Instantiator implements BeanFactoryAware
 			configurer = new BeanConfigurerSupport();
 			configurer.setBeanFactory(beanFactory);
 			configurer.afterPropertiesSet();
+			defaultConfigurer = true;
 		}
 
 		if (autoRegister) {
@@ -94,10 +105,35 @@ public class WiringInstantiator extends Instantiator implements BeanFactoryAware
 	@Override
 	public DataSerializable newInstance() {
 		DataSerializable instance = createInstance();
-		configurer.configureBean(instance);
+		InjectionPlan injectionPlan = resolveInjectionPlan();
+
+		if (injectionPlan != null) {
+			injectionPlan.inject(instance);
+		}
+		else {
+			configurer.configureBean(instance);
+		}
+
 		return instance;
 	}
 
+	/**
+	 * Returns the injection plan of the instantiated class, created on first use.
+	 * 
+	 * @return the injection plan or null if instances are configured by the configurer
+	 */
+	InjectionPlan resolveInjectionPlan() {
+		if (!injectionPlanResolved) {
+			if (useInjectionPlan && defaultConfigurer) {
+				injectionPlan = InjectionPlan.create(getInstantiatedClass(), beanFactory);
+			}
+
+			injectionPlanResolved = true;
+		}
+
+		return injectionPlan;
+	}
+
 	private DataSerializable createInstance() {
 		if (instantiator != null) {
 			return instantiator.newInstance();
@@ -137,4 +173,17 @@ public class WiringInstantiator extends Instantiator implements BeanFactoryAware
 	public void setDistribute(boolean distribute) {
 		this.distribute = distribute;
 	}
+
+	/**
+	 * Sets whether the injection of annotated fields and methods is planned once for the instantiated class,
+	 * rather than fully configuring every new instance. Default is false. When enabled, new instances are still
+	 * fully configured if the instantiated class or the container needs more than the injection of annotated
+	 * fields and methods, for instance bean post processors other than the Spring annotation processors.
+	 * 
+	 * @see InjectionPlan
+	 * @param useInjectionPlan whether to wire new instances using an injection plan
+	 */
+	public void setUseInjectionPlan(boolean useInjectionPlan) {
+		this.useInjectionPlan = useInjectionPlan;
+	}
 }
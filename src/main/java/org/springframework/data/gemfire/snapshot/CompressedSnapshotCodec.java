@@ -0,0 +1,352 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The CompressedSnapshotCodec class compresses GemFire snapshot files into, and restores them from, a block format
+ * in which every block is Deflate compressed independently and carries the CRC-32 checksum of its uncompressed
+ * contents, so that corruption is detected on import and located to the block.
+ *
+ * A compressed snapshot starts with the {@link #MAGIC} bytes, a format version and the block size, followed by
+ * a sequence of blocks, each consisting of the uncompressed length, the compressed length, the checksum and
+ * the compressed bytes.  The stream is terminated by a block with an uncompressed length of -1, so that
+ * a truncated snapshot is detected as well.
+ *
+ * Since the block size is read from the untrusted header of a compressed snapshot and determines the size
+ * of the decompression buffers, it must not exceed {@link #MAX_BLOCK_SIZE}.
+ *
+ * Note that GemFire only saves and loads snapshots to and from files, so compressing a snapshot on export and
+ * decompressing it on import each write a full uncompressed temporary copy of the snapshot, roughly doubling
+ * the disk I/O of the snapshot in exchange for the smaller snapshot files.
+ *
+ * @see java.util.zip.CRC32
+ * @see java.util.zip.Deflater
+ * @see java.util.zip.Inflater
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public abstract class CompressedSnapshotCodec {
+
+	public static final byte[] MAGIC = { 'S', 'D', 'G', 'Z' };
+
+	public static final byte VERSION = 1;
+
+	public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+	public static final int MAX_BLOCK_SIZE = 16 * 1024 * 1024;
+
+	protected static final int END_OF_STREAM = -1;
+
+	/**
+	 * Determines whether the given file is a compressed snapshot by reading its leading {@link #MAGIC} bytes.
+	 *
+	 * @param file the snapshot file to evaluate.
+	 * @return a boolean indicating whether the file is a compressed snapshot.
+	 * @throws IOException if the file could not be read.
+	 */
+	public static boolean isCompressed(File file) throws IOException {
+		if (file == null || !file.isFile() || file.length() < MAGIC.length) {
+			return false;
+		}
+
+		InputStream in = new FileInputStream(file);
+
+		try {
+			byte[] magic = new byte[MAGIC.length];
+			new DataInputStream(in).readFully(magic);
+			return Arrays.equals(MAGIC, magic);
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Compresses the source snapshot file into the target file using the default block size.
+	 *
+	 * @param source the uncompressed snapshot file.
+	 * @param target the compressed snapshot file.
+	 * @return the number of compressed bytes written.
+	 * @throws IOException if the source could not be read or the target could not be written.
+	 */
+	public static long compress(File source, File target) throws IOException {
+		return compress(source, target, DEFAULT_BLOCK_SIZE, Deflater.BEST_SPEED);
+	}
+
+	/**
+	 * Compresses the source snapshot file into the target file.
+	 *
+	 * @param source the uncompressed snapshot file.
+	 * @param target the compressed snapshot file.
+	 * @param blockSize the number of uncompressed bytes per block.
+	 * @param level the Deflate compression level.
+	 * @return the number of compressed bytes written.
+	 * @throws IOException if the source could not be read or the target could not be written.
+	 */
+	public static long compress(File source, File target, int blockSize, int level) throws IOException {
+		InputStream in = new FileInputStream(source);
+
+		try {
+			OutputStream out = new FileOutputStream(target);
+
+			try {
+				compress(in, out, blockSize, level);
+			}
+			finally {
+				out.close();
+			}
+		}
+		finally {
+			in.close();
+		}
+
+		return target.length();
+	}
+
+	/**
+	 * Compresses the uncompressed snapshot stream into the given output stream.
+	 *
+	 * @param source the uncompressed snapshot stream.
+	 * @param target the stream to which the compressed snapshot is written.
+	 * @param blockSize the number of uncompressed bytes per block.
+	 * @param level the Deflate compression level.
+	 * @throws IOException if the source could not be read or the target could not be written.
+	 * @throws IllegalArgumentException if the block size is not greater than 0 or exceeds {@link #MAX_BLOCK_SIZE}.
+	 */
+	public static void compress(InputStream source, OutputStream target, int blockSize, int level) throws IOException {
+		if (!isValidBlockSize(blockSize)) {
+			throw new IllegalArgumentException(String.format(
+				"Block size [%1$d] must be greater than 0 and less than or equal to %2$d", blockSize, MAX_BLOCK_SIZE));
+		}
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(target, blockSize));
+
+		byte[] block = new byte[blockSize];
+		byte[] compressedBlock = new byte[maxCompressedLength(blockSize)];
+
+		CRC32 checksum = new CRC32();
+		Deflater deflater = new Deflater(level);
+
+		try {
+			out.write(MAGIC);
+			out.writeByte(VERSION);
+			out.writeInt(blockSize);
+
+			for (int length = readBlock(source, block); length > 0; length = readBlock(source, block)) {
+				deflater.reset();
+				deflater.setInput(block, 0, length);
+				deflater.finish();
+
+				int compressedLength = 0;
+
+				while (!deflater.finished()) {
+					if (compressedLength == compressedBlock.length) {
+						compressedBlock = Arrays.copyOf(compressedBlock, compressedBlock.length * 2);
+					}
+
+					compressedLength += deflater.deflate(compressedBlock, compressedLength,
+						compressedBlock.length - compressedLength);
+				}
+
+				checksum.reset();
+				checksum.update(block, 0, length);
+
+				out.writeInt(length);
+				out.writeInt(compressedLength);
+				out.writeInt((int) checksum.getValue());
+				out.write(compressedBlock, 0, compressedLength);
+			}
+
+			out.writeInt(END_OF_STREAM);
+			out.flush();
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Decompresses the compressed snapshot file into the target file, verifying the checksum of every block.
+	 *
+	 * @param source the compressed snapshot file.
+	 * @param target the uncompressed snapshot file.
+	 * @return the number of uncompressed bytes written.
+	 * @throws IOException if the source is not a valid compressed snapshot, is corrupt or truncated,
+	 * or the target could not be written.
+	 */
+	public static long decompress(File source, File target) throws IOException {
+		InputStream in = new FileInputStream(source);
+
+		try {
+			OutputStream out = new FileOutputStream(target);
+
+			try {
+				return decompress(in, out);
+			}
+			finally {
+				out.close();
+			}
+		}
+		catch (IOException e) {
+			throw new IOException(String.format("Failed to decompress snapshot (%1$s)", source), e);
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Decompresses the compressed snapshot stream into the given output stream, verifying the checksum of every block.
+	 *
+	 * @param source the compressed snapshot stream.
+	 * @param target the stream to which the uncompressed snapshot is written.
+	 * @return the number of uncompressed bytes written.
+	 * @throws IOException if the source is not a valid compressed snapshot, is corrupt or truncated,
+	 * or the target could not be written.
+	 */
+	public static long decompress(InputStream source, OutputStream target) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(source));
+
+		byte[] magic = new byte[MAGIC.length];
+
+		in.readFully(magic);
+
+		if (!Arrays.equals(MAGIC, magic)) {
+			throw new IOException("Not a compressed snapshot");
+		}
+
+		byte version = in.readByte();
+
+		if (version != VERSION) {
+			throw new IOException(String.format("Unsupported compressed snapshot version [%d]", version));
+		}
+
+		int blockSize = in.readInt();
+
+		if (!isValidBlockSize(blockSize)) {
+			throw new IOException(String.format("Invalid compressed snapshot block size [%d]", blockSize));
+		}
+
+		int maxCompressedLength = maxCompressedLength(blockSize);
+
+		byte[] block = new byte[blockSize];
+		byte[] compressedBlock = new byte[0];
+
+		CRC32 checksum = new CRC32();
+		Inflater inflater = new Inflater();
+
+		long totalLength = 0L;
+
+		try {
+			for (int blockNumber = 1; ; blockNumber++) {
+				int length = in.readInt();
+
+				if (length == END_OF_STREAM) {
+					return totalLength;
+				}
+
+				int compressedLength = in.readInt();
+				int expectedChecksum = in.readInt();
+
+				if (length < 0 || length > blockSize || compressedLength < 0
+						|| compressedLength > maxCompressedLength) {
+
+					throw new IOException(String.format("Corrupt header of block [%d]", blockNumber));
+				}
+
+				if (compressedBlock.length < compressedLength) {
+					compressedBlock = new byte[compressedLength];
+				}
+
+				in.readFully(compressedBlock, 0, compressedLength);
+
+				inflater.reset();
+				inflater.setInput(compressedBlock, 0, compressedLength);
+
+				int inflatedLength = 0;
+
+				while (inflatedLength < length && !inflater.finished()) {
+					int count = inflater.inflate(block, inflatedLength, length - inflatedLength);
+
+					if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+
+					inflatedLength += count;
+				}
+
+				checksum.reset();
+				checksum.update(block, 0, inflatedLength);
+
+				if (inflatedLength != length || (int) checksum.getValue() != expectedChecksum) {
+					throw new IOException(String.format("Checksum mismatch in block [%d]", blockNumber));
+				}
+
+				target.write(block, 0, length);
+				totalLength += length;
+			}
+		}
+		catch (EOFException e) {
+			throw new IOException("Compressed snapshot is truncated", e);
+		}
+		catch (DataFormatException e) {
+			throw new IOException("Compressed snapshot is corrupt", e);
+		}
+		finally {
+			inflater.end();
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isValidBlockSize(int blockSize) {
+		return (blockSize > 0 && blockSize <= MAX_BLOCK_SIZE);
+	}
+
+	/* (non-Javadoc) */
+	private static int maxCompressedLength(int blockSize) {
+		return (blockSize + (blockSize >> 3) + 64);
+	}
+
+	/* (non-Javadoc) */
+	private static int readBlock(InputStream in, byte[] block) throws IOException {
+		int length = 0;
+		int count;
+
+		while (length < block.length && (count = in.read(block, length, block.length - length)) > -1) {
+			length += count;
+		}
+
+		return length;
+	}
+}
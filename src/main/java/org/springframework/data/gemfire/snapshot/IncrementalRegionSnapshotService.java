@@ -0,0 +1,451 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static com.gemstone.gemfire.cache.snapshot.SnapshotOptions.SnapshotFormat;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import com.gemstone.gemfire.DataSerializer;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.snapshot.RegionSnapshotService;
+import com.gemstone.gemfire.cache.snapshot.SnapshotFilter;
+import com.gemstone.gemfire.cache.snapshot.SnapshotOptions;
+
+/**
+ * The IncrementalRegionSnapshotService class exports a GemFire Region as a full base snapshot followed by a chain
+ * of delta snapshots, each containing only the entries created or updated since the previous export, along with
+ * the keys of the entries destroyed.  Changes are recorded by a {@link SnapshotChangeJournal} registered
+ * on the Region.
+ *
+ * Given a base snapshot file {@literal /path/to/region.gfd}, delta snapshots are written to
+ * {@literal /path/to/region.gfd.delta-00001}, {@literal /path/to/region.gfd.delta-00002} and so on, with the destroyed
+ * keys of each delta written to a companion {@literal .destroyed} file.  Importing replays the base snapshot followed
+ * by every delta in order.  Compaction replaces the chain with a new base snapshot of the Region.
+ *
+ * The changes recorded by the journal are drained before each export so that changes made while the snapshot
+ * is being written are included in the next delta, and are put back into the journal if the export fails.
+ *
+ * The journal only records changes observed by the local member, so the Region must receive every change made to it,
+ * as is the case for a replicate Region or a client Region registering interest in all keys.
+ *
+ * @see org.springframework.data.gemfire.snapshot.SnapshotChangeJournal
+ * @see com.gemstone.gemfire.cache.snapshot.RegionSnapshotService
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class IncrementalRegionSnapshotService<K, V> implements InitializingBean, DisposableBean {
+
+	protected static final String BACKUP_PREFIX = "bak-";
+	protected static final String DELTA_SUFFIX = ".delta-";
+	protected static final String DESTROYED_KEYS_SUFFIX = ".destroyed";
+	protected static final String TEMPORARY_PREFIX = "tmp-";
+
+	private final File baseSnapshot;
+
+	protected final Log log = LogFactory.getLog(getClass());
+
+	private final Pattern deltaSnapshotPattern;
+
+	private final Region<K, V> region;
+
+	private final SnapshotChangeJournal<K, V> journal;
+
+	private SnapshotFormat format = SnapshotFormat.GEMFIRE;
+
+	/**
+	 * Constructs an instance of IncrementalRegionSnapshotService exporting the given Region
+	 * to a chain of snapshots starting with the given base snapshot file.
+	 *
+	 * @param region the GemFire Region to export.
+	 * @param baseSnapshot the file of the full base snapshot.
+	 */
+	public IncrementalRegionSnapshotService(Region<K, V> region, File baseSnapshot) {
+		this(region, baseSnapshot, new SnapshotChangeJournal<K, V>());
+	}
+
+	/* (non-Javadoc) */
+	IncrementalRegionSnapshotService(Region<K, V> region, File baseSnapshot, SnapshotChangeJournal<K, V> journal) {
+		Assert.notNull(region, "Region must not be null");
+		Assert.notNull(baseSnapshot, "Base snapshot must not be null");
+
+		this.region = region;
+		this.baseSnapshot = baseSnapshot;
+		this.journal = journal;
+		this.deltaSnapshotPattern = Pattern.compile(Pattern.quote(baseSnapshot.getName().concat(DELTA_SUFFIX))
+			.concat("(\\d+)"));
+	}
+
+	/**
+	 * Registers the {@link SnapshotChangeJournal} on the Region.
+	 *
+	 * @throws Exception if the journal could not be registered.
+	 */
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		region.getAttributesMutator().addCacheListener(journal);
+	}
+
+	/**
+	 * Unregisters the {@link SnapshotChangeJournal} from the Region.
+	 *
+	 * @throws Exception if the journal could not be unregistered.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		if (!region.isDestroyed()) {
+			region.getAttributesMutator().removeCacheListener(journal);
+		}
+	}
+
+	/**
+	 * Sets the format of the base and delta snapshots.
+	 *
+	 * @param format the {@link SnapshotFormat} of the snapshots.
+	 */
+	public void setFormat(SnapshotFormat format) {
+		this.format = (format != null ? format : SnapshotFormat.GEMFIRE);
+	}
+
+	/**
+	 * Gets the format of the base and delta snapshots.
+	 *
+	 * @return the {@link SnapshotFormat} of the snapshots.
+	 */
+	protected SnapshotFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * Gets the file of the full base snapshot.
+	 *
+	 * @return the base snapshot file.
+	 */
+	public File getBaseSnapshot() {
+		return baseSnapshot;
+	}
+
+	/**
+	 * Gets the {@link SnapshotChangeJournal} recording changes to the Region.
+	 *
+	 * @return the {@link SnapshotChangeJournal}.
+	 */
+	protected SnapshotChangeJournal<K, V> getJournal() {
+		return journal;
+	}
+
+	/**
+	 * Gets the RegionSnapshotService of the Region.
+	 *
+	 * @return the {@link RegionSnapshotService} of the Region.
+	 */
+	protected RegionSnapshotService<K, V> getSnapshotService() {
+		return region.getSnapshotService();
+	}
+
+	/**
+	 * Exports a full base snapshot of the Region and deletes all delta snapshots chained to the previous base.
+	 *
+	 * The snapshot is written to a temporary file in the same directory, which replaces the previous base snapshot
+	 * only once the export succeeded.  The delta snapshots chained to the previous base are deleted only after
+	 * the previous base has been replaced, so a failed export, or a failure to replace the previous base, leaves
+	 * the previous snapshot chain intact, with the changes drained for the export put back into the journal.
+	 * A member stopping after the base was replaced but before all the delta snapshots were deleted leaves stale
+	 * delta snapshots behind, which must be deleted before the chain is imported.
+	 *
+	 * @return the base snapshot file.
+	 * @throws ExportSnapshotException if the base snapshot could not be exported.
+	 */
+	public File exportBase() {
+		SnapshotChangeJournal.Changes<K> changes = journal.drain();
+
+		File temporaryBaseSnapshot = toTemporaryFile(baseSnapshot);
+
+		try {
+			delete(temporaryBaseSnapshot);
+			getSnapshotService().save(temporaryBaseSnapshot, getFormat());
+		}
+		catch (Exception e) {
+			delete(temporaryBaseSnapshot);
+			journal.restore(changes);
+
+			throw new ExportSnapshotException(String.format("Failed to export base snapshot (%1$s) of Region (%2$s)",
+				baseSnapshot, region.getFullPath()), e);
+		}
+
+		List<File> deltaSnapshots = getDeltaSnapshots();
+
+		if (!rename(temporaryBaseSnapshot, baseSnapshot)) {
+			delete(temporaryBaseSnapshot);
+			journal.restore(changes);
+
+			throw new ExportSnapshotException(String.format("Failed to replace base snapshot (%1$s) of Region (%2$s)"
+				+ " with (%3$s)", baseSnapshot, region.getFullPath(), temporaryBaseSnapshot));
+		}
+
+		for (File deltaSnapshot : deltaSnapshots) {
+			delete(deltaSnapshot);
+			delete(toDestroyedKeysFile(deltaSnapshot));
+		}
+
+		return baseSnapshot;
+	}
+
+	/**
+	 * Exports a delta snapshot of the entries changed since the last export.  A full base snapshot is exported instead
+	 * if no base snapshot exists yet or if the Region was cleared since the last export.
+	 *
+	 * @return the delta snapshot file, the base snapshot file if a base snapshot was exported,
+	 * or {@literal null} if the Region has not changed since the last export.
+	 * @throws ExportSnapshotException if the snapshot could not be exported.
+	 */
+	public File exportDelta() {
+		if (!baseSnapshot.isFile()) {
+			return exportBase();
+		}
+
+		SnapshotChangeJournal.Changes<K> changes = journal.drain();
+
+		if (changes.isCleared()) {
+			journal.restore(changes);
+			return exportBase();
+		}
+
+		if (changes.isEmpty()) {
+			return null;
+		}
+
+		List<File> deltaSnapshots = getDeltaSnapshots();
+
+		File deltaSnapshot = new File(baseSnapshot.getParentFile(), String.format("%1$s%2$s%3$05d",
+			baseSnapshot.getName(), DELTA_SUFFIX, (deltaSnapshots.isEmpty() ? 1
+				: toSequenceNumber(deltaSnapshots.get(deltaSnapshots.size() - 1)) + 1)));
+
+		try {
+			final Set<K> updatedKeys = changes.getUpdatedKeys();
+
+			SnapshotOptions<K, V> options = getSnapshotService().createOptions().setFilter(new SnapshotFilter<K, V>() {
+				@Override public boolean accept(Map.Entry<K, V> entry) {
+					return updatedKeys.contains(entry.getKey());
+				}
+			});
+
+			writeDestroyedKeys(toDestroyedKeysFile(deltaSnapshot), changes.getDestroyedKeys());
+			getSnapshotService().save(deltaSnapshot, getFormat(), options);
+		}
+		catch (Exception e) {
+			delete(deltaSnapshot);
+			delete(toDestroyedKeysFile(deltaSnapshot));
+			journal.restore(changes);
+
+			throw new ExportSnapshotException(String.format("Failed to export delta snapshot (%1$s) of Region (%2$s)",
+				deltaSnapshot, region.getFullPath()), e);
+		}
+
+		return deltaSnapshot;
+	}
+
+	/**
+	 * Imports the base snapshot followed by every delta snapshot in order, removing the destroyed keys
+	 * recorded by each delta before loading its entries.
+	 *
+	 * @throws ImportSnapshotException if any snapshot in the chain could not be imported.
+	 */
+	public void importChain() {
+		try {
+			getSnapshotService().load(baseSnapshot, getFormat());
+
+			for (File deltaSnapshot : getDeltaSnapshots()) {
+				for (K key : readDestroyedKeys(toDestroyedKeysFile(deltaSnapshot))) {
+					region.remove(key);
+				}
+
+				if (deltaSnapshot.length() > 0L) {
+					getSnapshotService().load(deltaSnapshot, getFormat());
+				}
+			}
+		}
+		catch (Exception e) {
+			throw new ImportSnapshotException(String.format("Failed to import snapshot chain (%1$s) into Region (%2$s)",
+				baseSnapshot, region.getFullPath()), e);
+		}
+
+		journal.drain();
+	}
+
+	/**
+	 * Compacts the snapshot chain by replacing the base snapshot and all its delta snapshots
+	 * with a new base snapshot of the Region.
+	 *
+	 * @return the base snapshot file.
+	 * @throws ExportSnapshotException if the base snapshot could not be exported.
+	 * @see #exportBase()
+	 */
+	public File compact() {
+		return exportBase();
+	}
+
+	/**
+	 * Returns the delta snapshots chained to the base snapshot, in the order they were exported.
+	 *
+	 * @return a List of delta snapshot files.
+	 */
+	public List<File> getDeltaSnapshots() {
+		File directory = baseSnapshot.getAbsoluteFile().getParentFile();
+		File[] files = (directory != null ? directory.listFiles() : null);
+
+		List<File> deltaSnapshots = new ArrayList<File>();
+
+		for (File file : (files != null ? files : new File[0])) {
+			if (file.isFile() && deltaSnapshotPattern.matcher(file.getName()).matches()) {
+				deltaSnapshots.add(file);
+			}
+		}
+
+		Collections.sort(deltaSnapshots, new Comparator<File>() {
+			@Override public int compare(File deltaSnapshotOne, File deltaSnapshotTwo) {
+				int sequenceNumberOne = toSequenceNumber(deltaSnapshotOne);
+				int sequenceNumberTwo = toSequenceNumber(deltaSnapshotTwo);
+				return (sequenceNumberOne < sequenceNumberTwo ? -1 : (sequenceNumberOne == sequenceNumberTwo ? 0 : 1));
+			}
+		});
+
+		return deltaSnapshots;
+	}
+
+	/* (non-Javadoc) */
+	int toSequenceNumber(File deltaSnapshot) {
+		Matcher matcher = deltaSnapshotPattern.matcher(deltaSnapshot.getName());
+		return (matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0);
+	}
+
+	/* (non-Javadoc) */
+	File toTemporaryFile(File snapshot) {
+		return new File(snapshot.getParentFile(), TEMPORARY_PREFIX.concat(snapshot.getName()));
+	}
+
+	/* (non-Javadoc) */
+	File toDestroyedKeysFile(File deltaSnapshot) {
+		return new File(deltaSnapshot.getParentFile(), deltaSnapshot.getName().concat(DESTROYED_KEYS_SUFFIX));
+	}
+
+	/* (non-Javadoc) */
+	void writeDestroyedKeys(File file, Set<K> destroyedKeys) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+
+		try {
+			out.writeInt(destroyedKeys.size());
+
+			for (K key : destroyedKeys) {
+				DataSerializer.writeObject(key, out);
+			}
+		}
+		finally {
+			out.close();
+		}
+	}
+
+	/* (non-Javadoc) */
+	List<K> readDestroyedKeys(File file) throws IOException, ClassNotFoundException {
+		if (!file.isFile()) {
+			return Collections.emptyList();
+		}
+
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+		try {
+			int size = in.readInt();
+
+			List<K> destroyedKeys = new ArrayList<K>(size);
+
+			for (int index = 0; index < size; index++) {
+				destroyedKeys.add(DataSerializer.<K>readObject(in));
+			}
+
+			return destroyedKeys;
+		}
+		catch (EOFException e) {
+			throw new IOException(String.format("Destroyed keys file (%1$s) is truncated", file), e);
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Renames the source file to the target file, replacing the target file.  The rename is atomic on file systems
+	 * supporting an atomic rename over an existing file; otherwise, the target file is first moved to a backup file,
+	 * which is moved back if the source file could not be renamed.
+	 *
+	 * @param source the file to rename.
+	 * @param target the file to replace.
+	 * @return a boolean indicating whether the source file was renamed; if not, the target file is left unchanged.
+	 */
+	boolean rename(File source, File target) {
+		if (source.renameTo(target)) {
+			return true;
+		}
+
+		File backup = new File(target.getParentFile(), BACKUP_PREFIX.concat(target.getName()));
+
+		delete(backup);
+
+		if (target.exists() && !target.renameTo(backup)) {
+			return false;
+		}
+
+		if (source.renameTo(target)) {
+			delete(backup);
+			return true;
+		}
+
+		if (backup.exists() && !backup.renameTo(target) && log.isWarnEnabled()) {
+			log.warn(String.format("Failed to restore snapshot file (%1$s) from (%2$s)", target, backup));
+		}
+
+		return false;
+	}
+
+	/* (non-Javadoc) */
+	private void delete(File file) {
+		if (file.exists() && !file.delete() && log.isWarnEnabled()) {
+			log.warn(String.format("Failed to delete snapshot file (%1$s)", file));
+		}
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.gemstone.gemfire.cache.EntryEvent;
+import com.gemstone.gemfire.cache.RegionEvent;
+import com.gemstone.gemfire.cache.util.CacheListenerAdapter;
+
+/**
+ * The SnapshotChangeJournal class is a GemFire {@link com.gemstone.gemfire.cache.CacheListener} recording the keys
+ * of the Region entries created, updated or destroyed since the journal was last drained, which is used to export
+ * delta snapshots containing only the changed entries.
+ *
+ * Recording a change only adds the key to a concurrent Set under a shared lock, keeping the overhead
+ * on the Region's event dispatch path to a minimum.  Draining the journal takes the lock exclusively
+ * so that no change is recorded into a set of changes that has already been handed out.
+ *
+ * @see com.gemstone.gemfire.cache.util.CacheListenerAdapter
+ * @see org.springframework.data.gemfire.snapshot.IncrementalRegionSnapshotService
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class SnapshotChangeJournal<K, V> extends CacheListenerAdapter<K, V> {
+
+	private volatile Changes<K> changes = new Changes<K>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void afterCreate(EntryEvent<K, V> event) {
+		recordUpdate(event.getKey());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void afterUpdate(EntryEvent<K, V> event) {
+		recordUpdate(event.getKey());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void afterInvalidate(EntryEvent<K, V> event) {
+		recordUpdate(event.getKey());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void afterDestroy(EntryEvent<K, V> event) {
+		recordDestroy(event.getKey());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void afterRegionClear(RegionEvent<K, V> event) {
+		recordClear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void afterRegionInvalidate(RegionEvent<K, V> event) {
+		recordClear();
+	}
+
+	/* (non-Javadoc) */
+	void recordUpdate(K key) {
+		lock.readLock().lock();
+
+		try {
+			changes.destroyedKeys.remove(key);
+			changes.updatedKeys.add(key);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/* (non-Javadoc) */
+	void recordDestroy(K key) {
+		lock.readLock().lock();
+
+		try {
+			changes.updatedKeys.remove(key);
+			changes.destroyedKeys.add(key);
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/* (non-Javadoc) */
+	void recordClear() {
+		lock.readLock().lock();
+
+		try {
+			changes.cleared = true;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the changes recorded since the journal was last drained and starts recording a new set of changes.
+	 *
+	 * @return the {@link Changes} recorded since the journal was last drained.
+	 */
+	public Changes<K> drain() {
+		lock.writeLock().lock();
+
+		try {
+			Changes<K> drainedChanges = changes;
+			changes = new Changes<K>();
+			return drainedChanges;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Puts changes previously returned by {@link #drain()} back into the journal, for example when exporting them
+	 * failed.  Changes recorded for a key since the journal was drained take precedence over the restored changes.
+	 *
+	 * @param drainedChanges the {@link Changes} to put back into the journal.
+	 */
+	public void restore(Changes<K> drainedChanges) {
+		lock.writeLock().lock();
+
+		try {
+			Changes<K> currentChanges = changes;
+
+			for (K key : drainedChanges.updatedKeys) {
+				if (!currentChanges.destroyedKeys.contains(key)) {
+					currentChanges.updatedKeys.add(key);
+				}
+			}
+
+			for (K key : drainedChanges.destroyedKeys) {
+				if (!currentChanges.updatedKeys.contains(key)) {
+					currentChanges.destroyedKeys.add(key);
+				}
+			}
+
+			currentChanges.cleared |= drainedChanges.cleared;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Determines whether any change has been recorded since the journal was last drained.
+	 *
+	 * @return a boolean indicating whether any change has been recorded.
+	 */
+	public boolean hasChanges() {
+		return !changes.isEmpty();
+	}
+
+	/**
+	 * Changes recorded by the SnapshotChangeJournal between 2 successive drains.  A key is either updated
+	 * or destroyed, depending on the last operation recorded for the key.
+	 *
+	 * @param <K> the class type of the Region key.
+	 */
+	public static class Changes<K> {
+
+		private volatile boolean cleared;
+
+		private final Set<K> destroyedKeys = Collections.newSetFromMap(new ConcurrentHashMap<K, Boolean>());
+		private final Set<K> updatedKeys = Collections.newSetFromMap(new ConcurrentHashMap<K, Boolean>());
+
+		/**
+		 * Determines whether the Region was cleared or invalidated, in which case a full snapshot is required.
+		 *
+		 * @return a boolean indicating whether the Region was cleared or invalidated.
+		 */
+		public boolean isCleared() {
+			return cleared;
+		}
+
+		/**
+		 * Returns the keys of the entries destroyed.
+		 *
+		 * @return an unmodifiable {@link Set} of destroyed keys.
+		 */
+		public Set<K> getDestroyedKeys() {
+			return Collections.unmodifiableSet(destroyedKeys);
+		}
+
+		/**
+		 * Returns the keys of the entries created, updated or invalidated.
+		 *
+		 * @return an unmodifiable {@link Set} of updated keys.
+		 */
+		public Set<K> getUpdatedKeys() {
+			return Collections.unmodifiableSet(updatedKeys);
+		}
+
+		/**
+		 * Determines whether no changes were recorded.
+		 *
+		 * @return a boolean indicating whether no changes were recorded.
+		 */
+		public boolean isEmpty() {
+			return (!cleared && destroyedKeys.isEmpty() && updatedKeys.isEmpty());
+		}
+	}
+}
@@ -20,14 +20,30 @@ import static com.gemstone.gemfire.cache.snapshot.SnapshotOptions.SnapshotFormat
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter;
 
 import java.io.Closeable;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -37,14 +53,25 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent;
+import org.springframework.data.gemfire.snapshot.filter.ComposableSnapshotFilter;
+import org.springframework.data.gemfire.snapshot.filter.KeyPartitionSnapshotFilter;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.util.Assert;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.ListenableFutureTask;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
 import com.gemstone.gemfire.cache.Cache;
 import com.gemstone.gemfire.cache.Region;
@@ -62,24 +89,49 @@ import com.gemstone.gemfire.cache.snapshot.SnapshotOptions;
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.FactoryBean
  * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.context.ApplicationEventPublisherAware
  * @see org.springframework.context.ApplicationListener
  * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent
  * @see com.gemstone.gemfire.cache.snapshot.CacheSnapshotService
  * @see com.gemstone.gemfire.cache.snapshot.RegionSnapshotService
  * @since 1.7.0
  */
 @SuppressWarnings("unused")
 public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotServiceAdapter<K, V>>,
-		InitializingBean, DisposableBean, ApplicationListener<SnapshotApplicationEvent<K, V>> {
+		InitializingBean, DisposableBean, ApplicationEventPublisherAware,
+			ApplicationListener<SnapshotApplicationEvent<K, V>> {
+
+	public static final int DEFAULT_PARALLELISM = 1;
 
 	protected static final SnapshotMetadata[] EMPTY_ARRAY = new SnapshotMetadata[0];
 
+	protected static final String CACHE_SNAPSHOT_KEY = "/";
+
+	protected final Log log = LogFactory.getLog(getClass());
+
+	private final ConcurrentMap<String, InFlightSnapshot> inFlightSnapshots =
+		new ConcurrentHashMap<String, InFlightSnapshot>();
+
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private Boolean asynchronous;
 	private Boolean suppressImportOnInit;
 
 	private Cache cache;
 
+	private Integer parallelism;
+
+	private Long maxBytesPerSecond;
+
 	private Region<K, V> region;
 
+	private String exportSchedule;
+
+	private ScheduledFuture<?> scheduledExport;
+
+	private ThreadPoolTaskScheduler taskScheduler;
+
 	private SnapshotMetadata<K, V>[] exports;
 	private SnapshotMetadata<K, V>[] imports;
 
@@ -101,6 +153,52 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		return (file != null && file.isFile());
 	}
 
+	/**
+	 * Sets the ApplicationEventPublisher used to publish a SnapshotProgressApplicationEvent
+	 * as each individual snapshot is imported or exported.
+	 *
+	 * @param applicationEventPublisher the Spring ApplicationEventPublisher used to publish progress events.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * Gets the ApplicationEventPublisher used to publish a SnapshotProgressApplicationEvent
+	 * as each individual snapshot is imported or exported.
+	 *
+	 * @return the Spring ApplicationEventPublisher used to publish progress events.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 */
+	protected ApplicationEventPublisher getApplicationEventPublisher() {
+		return applicationEventPublisher;
+	}
+
+	/**
+	 * Sets whether snapshots triggered by a SnapshotApplicationEvent are imported/exported asynchronously,
+	 * without blocking the thread publishing the event.
+	 *
+	 * @param asynchronous a Boolean value indicating whether event triggered snapshots are asynchronous.
+	 * @see #isAsynchronous()
+	 * @see #onApplicationEvent(SnapshotApplicationEvent)
+	 */
+	public void setAsynchronous(Boolean asynchronous) {
+		this.asynchronous = asynchronous;
+	}
+
+	/**
+	 * Determines whether snapshots triggered by a SnapshotApplicationEvent are imported/exported asynchronously.
+	 *
+	 * @return a boolean value indicating whether event triggered snapshots are asynchronous.
+	 * @see #setAsynchronous(Boolean)
+	 */
+	protected boolean isAsynchronous() {
+		return Boolean.TRUE.equals(asynchronous);
+	}
+
 	/**
 	 * Sets a reference to the GemFire Cache for which the snapshot will be taken.
 	 *
@@ -169,6 +267,76 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		return nullSafeArray(imports);
 	}
 
+	/**
+	 * Sets the cron expression on which the configured exports are performed periodically and asynchronously.
+	 *
+	 * @param exportSchedule a cron expression scheduling the configured exports.
+	 * @see org.springframework.scheduling.support.CronTrigger
+	 * @see #getExportSchedule()
+	 */
+	public void setExportSchedule(String exportSchedule) {
+		this.exportSchedule = exportSchedule;
+	}
+
+	/**
+	 * Gets the cron expression on which the configured exports are performed periodically and asynchronously.
+	 *
+	 * @return a cron expression scheduling the configured exports or {@literal null} if exports are not scheduled.
+	 * @see #setExportSchedule(String)
+	 */
+	protected String getExportSchedule() {
+		return exportSchedule;
+	}
+
+	/**
+	 * Sets the maximum disk bandwidth, in bytes per second, consumed by the snapshots imported or exported
+	 * by this FactoryBean's SnapshotService, so that snapshots do not starve the Region's disk stores.
+	 * By default, the bandwidth is not limited.  GemFire reads and writes each snapshot file at full speed;
+	 * the bandwidth is only averaged by pausing between snapshots, after each snapshot completes.
+	 *
+	 * @param maxBytesPerSecond maximum number of bytes read or written per second.
+	 * @see org.springframework.data.gemfire.snapshot.SnapshotThrottle
+	 */
+	public void setMaxBytesPerSecond(Long maxBytesPerSecond) {
+		Assert.isTrue(maxBytesPerSecond == null || maxBytesPerSecond > 0, String.format(
+			"Max bytes per second [%d] must be greater than 0", maxBytesPerSecond));
+		this.maxBytesPerSecond = maxBytesPerSecond;
+	}
+
+	/**
+	 * Gets the maximum disk bandwidth, in bytes per second, consumed by snapshots.
+	 *
+	 * @return the maximum number of bytes read or written per second or {@literal null} if the bandwidth
+	 * is not limited.
+	 */
+	protected Long getMaxBytesPerSecond() {
+		return maxBytesPerSecond;
+	}
+
+	/**
+	 * Sets the maximum number of snapshots (SnapshotMetadata entries or snapshot files) imported or exported
+	 * concurrently.  By default, snapshots are imported and exported sequentially.
+	 *
+	 * @param parallelism the maximum number of snapshots imported or exported concurrently.
+	 * @see #getParallelism()
+	 */
+	public void setParallelism(Integer parallelism) {
+		Assert.isTrue(parallelism == null || parallelism > 0, String.format(
+			"Parallelism [%d] must be greater than 0", parallelism));
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Gets the maximum number of snapshots (SnapshotMetadata entries or snapshot files) imported or exported
+	 * concurrently.
+	 *
+	 * @return the maximum number of snapshots imported or exported concurrently.
+	 * @see #setParallelism(Integer)
+	 */
+	protected int getParallelism() {
+		return (parallelism != null ? parallelism : DEFAULT_PARALLELISM);
+	}
+
 	/**
 	 * Sets a reference to the GemFire Region for which the snapshot will be taken.
 	 *
@@ -212,6 +380,19 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		return Boolean.TRUE.equals(suppressImportOnInit);
 	}
 
+	/**
+	 * Gets the statistics (number of snapshots, bytes and time) recorded for all imports and exports
+	 * performed by the SnapshotServiceAdapter created by this FactoryBean.
+	 *
+	 * @return the SnapshotStatistics of the SnapshotServiceAdapter or {@literal null} if the SnapshotServiceAdapter
+	 * has not been created or does not record statistics.
+	 * @see SnapshotServiceFactoryBean.SnapshotStatistics
+	 */
+	public SnapshotStatistics getSnapshotStatistics() {
+		return (snapshotServiceAdapter instanceof SnapshotServiceAdapterSupport
+			? ((SnapshotServiceAdapterSupport) snapshotServiceAdapter).getStatistics() : null);
+	}
+
 	/**
 	 * Gets the reference to the GemFire Snapshot Service created by this FactoryBean.
 	 *
@@ -265,6 +446,32 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		if (!getSuppressImportOnInit()) {
 			snapshotServiceAdapter.doImport(getImports());
 		}
+
+		if (StringUtils.hasText(getExportSchedule())) {
+			scheduledExport = getTaskScheduler().schedule(new Runnable() {
+				@Override public void run() {
+					exportAsync(getExports());
+				}
+			}, new CronTrigger(getExportSchedule()));
+		}
+	}
+
+	/**
+	 * Lazily creates the TaskScheduler running asynchronous and scheduled snapshots.
+	 *
+	 * @return the ThreadPoolTaskScheduler running asynchronous and scheduled snapshots.
+	 * @see org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler
+	 */
+	protected synchronized ThreadPoolTaskScheduler getTaskScheduler() {
+		if (taskScheduler == null) {
+			taskScheduler = new ThreadPoolTaskScheduler();
+			taskScheduler.setDaemon(true);
+			taskScheduler.setThreadNamePrefix("SnapshotScheduler-");
+			taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
+			taskScheduler.initialize();
+		}
+
+		return taskScheduler;
 	}
 
 	/**
@@ -276,11 +483,39 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	 * depending on the FactoryBean configuration.
 	 * @see #wrap(CacheSnapshotService)
 	 * @see #wrap(RegionSnapshotService)
+	 * @see #configure(SnapshotServiceAdapter)
 	 * @see #getRegion()
 	 */
 	protected SnapshotServiceAdapter create() {
 		Region<K, V> region = getRegion();
-		return (region != null ? wrap(region.getSnapshotService()) : wrap(getCache().getSnapshotService()));
+		return configure(region != null ? wrap(region.getSnapshotService()) : wrap(getCache().getSnapshotService()));
+	}
+
+	/**
+	 * Configures the parallelism and progress event publishing of the given SnapshotServiceAdapter.
+	 *
+	 * @param snapshotServiceAdapter the SnapshotServiceAdapter to configure.
+	 * @return the given SnapshotServiceAdapter.
+	 * @see SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport
+	 */
+	protected SnapshotServiceAdapter configure(SnapshotServiceAdapter snapshotServiceAdapter) {
+		if (snapshotServiceAdapter instanceof SnapshotServiceAdapterSupport) {
+			Region<K, V> region = getRegion();
+
+			SnapshotServiceAdapterSupport snapshotServiceAdapterSupport =
+				(SnapshotServiceAdapterSupport) snapshotServiceAdapter;
+
+			snapshotServiceAdapterSupport.setApplicationEventPublisher(getApplicationEventPublisher());
+			snapshotServiceAdapterSupport.setEventSource(this);
+			snapshotServiceAdapterSupport.setParallelism(getParallelism());
+			snapshotServiceAdapterSupport.setRegionPath(region != null ? region.getFullPath() : null);
+
+			if (getMaxBytesPerSecond() != null) {
+				snapshotServiceAdapterSupport.setThrottle(new SnapshotThrottle(getMaxBytesPerSecond()));
+			}
+		}
+
+		return snapshotServiceAdapter;
 	}
 
 	/**
@@ -312,7 +547,8 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	}
 
 	/**
-	 * Performs an export of the GemFire Cache or Region if configured.
+	 * Performs an export of the GemFire Cache or Region if configured and then shuts down the ExecutorService
+	 * used to run snapshots concurrently.
 	 *
 	 * @throws Exception if the Cache/Region data export operation fails.
 	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
@@ -321,7 +557,157 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	 */
 	@Override
 	public void destroy() throws Exception {
-		getObject().doExport(getExports());
+		shutdownTaskScheduler();
+
+		SnapshotServiceAdapter<K, V> snapshotServiceAdapter = getObject();
+
+		try {
+			snapshotServiceAdapter.doExport(getExports());
+		}
+		finally {
+			if (snapshotServiceAdapter instanceof SnapshotServiceAdapterSupport) {
+				((SnapshotServiceAdapterSupport) snapshotServiceAdapter).shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Cancels the scheduled exports and waits for any asynchronous snapshot operation in progress to complete
+	 * before shutting down the TaskScheduler.
+	 */
+	protected void shutdownTaskScheduler() {
+		ThreadPoolTaskScheduler taskScheduler;
+
+		synchronized (this) {
+			if (scheduledExport != null) {
+				scheduledExport.cancel(false);
+			}
+
+			taskScheduler = this.taskScheduler;
+		}
+
+		if (taskScheduler != null) {
+			InFlightSnapshot inFlightSnapshot = inFlightSnapshots.get(resolveSnapshotKey());
+
+			if (inFlightSnapshot != null) {
+				try {
+					inFlightSnapshot.future.get();
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+				catch (ExecutionException ignore) {
+				}
+			}
+
+			taskScheduler.shutdown();
+		}
+	}
+
+	/**
+	 * Exports the GemFire Cache or Region data asynchronously.  Only 1 snapshot operation runs per Cache/Region
+	 * at any given time; an export requested while another export of the same Cache/Region is in progress
+	 * returns the Future of the export in progress.
+	 *
+	 * @param configurations the SnapshotMetadata of the snapshots to export.
+	 * @return a ListenableFuture completed when the export completes.
+	 * @see #getTaskScheduler()
+	 */
+	public ListenableFuture<Void> exportAsync(final SnapshotMetadata<K, V>... configurations) {
+		return submit(SnapshotProgressApplicationEvent.Operation.EXPORT, new Callable<Void>() {
+			@Override public Void call() throws Exception {
+				getObject().doExport(configurations);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Imports the GemFire Cache or Region data asynchronously.  Only 1 snapshot operation runs per Cache/Region
+	 * at any given time; an import requested while another import of the same Cache/Region is in progress
+	 * returns the Future of the import in progress.
+	 *
+	 * @param configurations the SnapshotMetadata of the snapshots to import.
+	 * @return a ListenableFuture completed when the import completes.
+	 * @see #getTaskScheduler()
+	 */
+	public ListenableFuture<Void> importAsync(final SnapshotMetadata<K, V>... configurations) {
+		return submit(SnapshotProgressApplicationEvent.Operation.IMPORT, new Callable<Void>() {
+			@Override public Void call() throws Exception {
+				getObject().doImport(configurations);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Submits the snapshot operation for asynchronous execution unless an operation on the same Cache/Region
+	 * is already in progress, in which case the Future of the operation in progress is returned if it is
+	 * the same kind of operation; otherwise, the returned Future fails with an IllegalStateException.
+	 *
+	 * @param operation the kind of snapshot operation.
+	 * @param snapshot the snapshot operation to run.
+	 * @return a ListenableFuture completed when the snapshot operation completes.
+	 */
+	protected ListenableFuture<Void> submit(SnapshotProgressApplicationEvent.Operation operation,
+			Callable<Void> snapshot) {
+
+		String key = resolveSnapshotKey();
+		InFlightSnapshot inFlightSnapshot = new InFlightSnapshot(inFlightSnapshots, key, operation, snapshot);
+		InFlightSnapshot existingSnapshot = inFlightSnapshots.putIfAbsent(key, inFlightSnapshot);
+
+		if (existingSnapshot != null) {
+			if (existingSnapshot.operation == operation) {
+				return existingSnapshot.future;
+			}
+
+			SettableListenableFuture<Void> rejected = new SettableListenableFuture<Void>();
+
+			rejected.setException(new IllegalStateException(String.format(
+				"Cannot %1$s snapshot of [%2$s] while an %3$s is in progress", operation, key,
+					existingSnapshot.operation)));
+
+			return rejected;
+		}
+
+		try {
+			getTaskScheduler().execute(inFlightSnapshot.future);
+		}
+		catch (RuntimeException e) {
+			inFlightSnapshots.remove(key, inFlightSnapshot);
+			throw e;
+		}
+
+		inFlightSnapshot.future.addCallback(newFailureLoggingCallback(operation, key));
+
+		return inFlightSnapshot.future;
+	}
+
+	/**
+	 * Constructs a ListenableFutureCallback logging the failure of an asynchronous snapshot operation, which
+	 * would otherwise go unnoticed when the caller, such as the scheduled export, drops the returned Future.
+	 *
+	 * @param operation the kind of snapshot operation.
+	 * @param key the full path of the Region or the Cache key identifying the snapshot.
+	 * @return a ListenableFutureCallback logging snapshot failures.
+	 */
+	protected ListenableFutureCallback<Void> newFailureLoggingCallback(
+			final SnapshotProgressApplicationEvent.Operation operation, final String key) {
+
+		return new ListenableFutureCallback<Void>() {
+			@Override public void onSuccess(Void result) {
+			}
+
+			@Override public void onFailure(Throwable cause) {
+				log.error(String.format("Asynchronous %1$s snapshot of [%2$s] failed", operation, key), cause);
+			}
+		};
+	}
+
+	/* (non-Javadoc) */
+	private String resolveSnapshotKey() {
+		Region<K, V> region = getRegion();
+		return (region != null ? region.getFullPath() : CACHE_SNAPSHOT_KEY);
 	}
 
 	/**
@@ -342,10 +728,20 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		try {
 			if (isMatch(event)) {
 				if (event instanceof ExportSnapshotApplicationEvent) {
-					getObject().doExport(resolveSnapshotMetadata(event));
+					if (isAsynchronous()) {
+						exportAsync(resolveSnapshotMetadata(event));
+					}
+					else {
+						getObject().doExport(resolveSnapshotMetadata(event));
+					}
 				}
 				else {
-					getObject().doImport(resolveSnapshotMetadata(event));
+					if (isAsynchronous()) {
+						importAsync(resolveSnapshotMetadata(event));
+					}
+					else {
+						getObject().doImport(resolveSnapshotMetadata(event));
+					}
 				}
 			}
 		}
@@ -360,10 +756,13 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	 * @param event the SnapshotApplicationEvent containing details of the application requested data export.
 	 * @return a boolean value indicating whether the application requested snapshot event details match
 	 * the criteria required by this factory to trigger a GemFire Cache or Region data export.
+	 * SnapshotProgressApplicationEvents never match.
 	 * @see SnapshotApplicationEvent
+	 * @see SnapshotProgressApplicationEvent
 	 */
 	protected boolean isMatch(SnapshotApplicationEvent event) {
-		return (event.isCacheSnapshotEvent() || event.matches(getRegion()));
+		return (!(event instanceof SnapshotProgressApplicationEvent)
+			&& (event.isCacheSnapshotEvent() || event.matches(getRegion())));
 	}
 
 	/**
@@ -421,12 +820,75 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 
 		protected static final File TEMPORARY_DIRECTORY = new File(System.getProperty("java.io.tmpdir"));
 
+		protected static final long TRANSFER_SIZE = 1024L * 1024L;
+
+		private static final ThreadLocal<Boolean> SNAPSHOT_WORKER_THREAD = new ThreadLocal<Boolean>();
+
+		private ApplicationEventPublisher applicationEventPublisher;
+
+		private ExecutorService executorService;
+
+		private int parallelism = DEFAULT_PARALLELISM;
+
+		private Object eventSource;
+
 		protected final Log log = createLog();
 
+		private final SnapshotStatistics statistics = new SnapshotStatistics();
+
+		private String regionPath;
+
+		private SnapshotThrottle throttle;
+
 		Log createLog() {
 			return LogFactory.getLog(getClass());
 		}
 
+		public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+			this.applicationEventPublisher = applicationEventPublisher;
+		}
+
+		protected ApplicationEventPublisher getApplicationEventPublisher() {
+			return applicationEventPublisher;
+		}
+
+		public void setEventSource(Object eventSource) {
+			this.eventSource = eventSource;
+		}
+
+		protected Object getEventSource() {
+			return (eventSource != null ? eventSource : this);
+		}
+
+		public void setParallelism(int parallelism) {
+			Assert.isTrue(parallelism > 0, String.format("Parallelism [%d] must be greater than 0", parallelism));
+			this.parallelism = parallelism;
+		}
+
+		protected int getParallelism() {
+			return parallelism;
+		}
+
+		public void setRegionPath(String regionPath) {
+			this.regionPath = regionPath;
+		}
+
+		protected String getRegionPath() {
+			return regionPath;
+		}
+
+		public SnapshotStatistics getStatistics() {
+			return statistics;
+		}
+
+		public void setThrottle(SnapshotThrottle throttle) {
+			this.throttle = throttle;
+		}
+
+		protected SnapshotThrottle getThrottle() {
+			return throttle;
+		}
+
 		@Override
 		public SnapshotOptions<K, V> createOptions() {
 			throw new UnsupportedOperationException("not implemented");
@@ -438,18 +900,520 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 
 		@Override
 		public void doExport(SnapshotMetadata<K, V>... configurations) {
-			for (SnapshotMetadata<K, V> configuration : nullSafeArray(configurations)) {
-				save(configuration.getLocation(), configuration.getFormat(), createOptions(configuration.getFilter()));
+			SnapshotMetadata<K, V>[] resolvedConfigurations = nullSafeArray(configurations);
+			List<Runnable> exports = new ArrayList<Runnable>(resolvedConfigurations.length);
+			SnapshotProgress progress = new SnapshotProgress();
+
+			for (final SnapshotMetadata<K, V> configuration : resolvedConfigurations) {
+				exports.add(new SnapshotTask(SnapshotProgressApplicationEvent.Operation.EXPORT, configuration,
+						configuration.getLocation(), progress) {
+
+					@Override protected void doRun() {
+						if (configuration.isCompressed()) {
+							saveCompressed(configuration);
+						}
+						else {
+							save(configuration.getLocation(), configuration.getFormat(),
+								createOptions(configuration.getFilter()));
+						}
+					}
+				});
 			}
+
+			progress.totalCount = exports.size();
+			executeAllTimed(exports);
 		}
 
+		/**
+		 * Imports the snapshots described by the given SnapshotMetadata.  Snapshots in a ZIP or JAR archive are read
+		 * directly from the archive, one entry at a time, without extracting the archive up front.
+		 *
+		 * @param configurations the SnapshotMetadata describing the snapshots to import.
+		 * @see #isArchive(SnapshotMetadata)
+		 * @see #loadArchiveEntry(SnapshotMetadata, ZipFile, ZipEntry)
+		 */
 		@Override
 		public void doImport(SnapshotMetadata<K, V>... configurations) {
-			for (SnapshotMetadata<K, V> configuration : nullSafeArray(configurations)) {
-				load(configuration.getFormat(), createOptions(configuration.getFilter()), handleLocation(configuration));
+			List<Runnable> imports = new ArrayList<Runnable>();
+			List<ZipFile> archives = new ArrayList<ZipFile>();
+			SnapshotProgress progress = new SnapshotProgress();
+
+			try {
+				for (final SnapshotMetadata<K, V> configuration : nullSafeArray(configurations)) {
+					if (isArchive(configuration)) {
+						final ZipFile archive = openArchive(configuration.getLocation());
+
+						archives.add(archive);
+
+						for (final ZipEntry entry : CollectionUtils.iterable(archive.entries())) {
+							if (!entry.isDirectory()) {
+								imports.add(new SnapshotTask(SnapshotProgressApplicationEvent.Operation.IMPORT,
+										configuration, configuration.getLocation(), progress) {
+
+									@Override protected void doRun() {
+										loadArchiveEntry(configuration, archive, entry);
+									}
+
+									@Override protected long getByteCount() {
+										return Math.max(entry.getSize(), 0L);
+									}
+								});
+							}
+						}
+					}
+					else {
+						for (final File[] snapshots : partition(handleLocation(configuration))) {
+							File location = (snapshots.length == 1 ? snapshots[0] : configuration.getLocation());
+
+							imports.add(new SnapshotTask(SnapshotProgressApplicationEvent.Operation.IMPORT,
+									configuration, location, progress) {
+
+								@Override protected void doRun() {
+									loadSnapshots(configuration, snapshots);
+								}
+							});
+						}
+					}
+				}
+
+				progress.totalCount = imports.size();
+				executeAllTimed(imports);
+			}
+			finally {
+				for (ZipFile archive : archives) {
+					closeArchive(archive);
+				}
 			}
 		}
 
+		/**
+		 * Determines whether the location of the given SnapshotMetadata refers to a ZIP or JAR archive of snapshots.
+		 *
+		 * @param configuration the SnapshotMetadata to evaluate.
+		 * @return a boolean indicating whether the snapshot location is an archive.
+		 * @see SnapshotServiceFactoryBean.ArchiveFileFilter
+		 */
+		protected boolean isArchive(SnapshotMetadata<K, V> configuration) {
+			return (configuration.isFile() && ArchiveFileFilter.INSTANCE.accept(configuration.getLocation()));
+		}
+
+		/* (non-Javadoc) */
+		ZipFile openArchive(File file) {
+			try {
+				return (ArchiveFileFilter.INSTANCE.isJarFile(file) ? new JarFile(file, false, JarFile.OPEN_READ)
+					: new ZipFile(file, ZipFile.OPEN_READ));
+			}
+			catch (IOException e) {
+				throw new ImportSnapshotException(String.format("Failed to open archive (%1$s) to import", file), e);
+			}
+		}
+
+		/* (non-Javadoc) */
+		void closeArchive(ZipFile archive) {
+			try {
+				archive.close();
+			}
+			catch (IOException ignore) {
+				logDebug(ignore, "Failed to close archive (%1$s)", archive.getName());
+			}
+		}
+
+		/**
+		 * Loads a single snapshot entry of a ZIP or JAR archive.  GemFire's SnapshotService only reads snapshots
+		 * from a {@link File}, so the entry is streamed to a temporary file that is deleted as soon as the entry
+		 * has been loaded.  Therefore, the temporary space required is bounded by the size of the entries being
+		 * loaded concurrently rather than the size of the entire archive.
+		 *
+		 * @param configuration the SnapshotMetadata of the archive.
+		 * @param archive the archive containing the snapshot.
+		 * @param entry the archive entry of the snapshot to load.
+		 */
+		protected void loadArchiveEntry(SnapshotMetadata<K, V> configuration, ZipFile archive, ZipEntry entry) {
+			File snapshot = null;
+
+			try {
+				snapshot = File.createTempFile("snapshot-", "-".concat(toSimpleFilename(entry.getName())),
+					TEMPORARY_DIRECTORY);
+
+				extract(archive, entry, snapshot);
+			}
+			catch (IOException e) {
+				deleteTemporaryFile(snapshot);
+				throw new ImportSnapshotException(String.format("Failed to extract entry (%1$s) of archive (%2$s)",
+					entry.getName(), archive.getName()), e);
+			}
+
+			try {
+				loadSnapshots(configuration, snapshot);
+			}
+			finally {
+				deleteTemporaryFile(snapshot);
+			}
+		}
+
+		/**
+		 * Loads the given snapshot files, first decompressing any snapshot written in the compressed format
+		 * to a temporary file, which is deleted once the snapshots have been loaded.  Compressed snapshots
+		 * are detected automatically, regardless of the SnapshotMetadata compression setting.
+		 *
+		 * @param configuration the SnapshotMetadata of the snapshots.
+		 * @param snapshots the snapshot files to load.
+		 * @see CompressedSnapshotCodec
+		 */
+		protected void loadSnapshots(SnapshotMetadata<K, V> configuration, File... snapshots) {
+			List<File> temporaryFiles = new ArrayList<File>();
+
+			try {
+				File[] resolvedSnapshots = snapshots;
+
+				if (snapshots != null) {
+					resolvedSnapshots = new File[snapshots.length];
+
+					for (int index = 0; index < snapshots.length; index++) {
+						resolvedSnapshots[index] = (isCompressed(snapshots[index])
+							? decompress(snapshots[index], temporaryFiles) : snapshots[index]);
+					}
+				}
+
+				load(configuration.getFormat(), createOptions(configuration.getFilter()), resolvedSnapshots);
+			}
+			finally {
+				for (File temporaryFile : temporaryFiles) {
+					deleteTemporaryFile(temporaryFile);
+				}
+			}
+		}
+
+		/* (non-Javadoc) */
+		private boolean isCompressed(File snapshot) {
+			try {
+				return CompressedSnapshotCodec.isCompressed(snapshot);
+			}
+			catch (IOException ignore) {
+				logDebug(ignore, "Failed to determine whether snapshot (%1$s) is compressed", snapshot);
+				return false;
+			}
+		}
+
+		/* (non-Javadoc) */
+		private File decompress(File snapshot, List<File> temporaryFiles) {
+			try {
+				File decompressedSnapshot = File.createTempFile("snapshot-", "-".concat(snapshot.getName()),
+					TEMPORARY_DIRECTORY);
+
+				temporaryFiles.add(decompressedSnapshot);
+				CompressedSnapshotCodec.decompress(snapshot, decompressedSnapshot);
+
+				return decompressedSnapshot;
+			}
+			catch (IOException e) {
+				throw new ImportSnapshotException(String.format("Failed to decompress snapshot (%1$s)", snapshot), e);
+			}
+		}
+
+		/**
+		 * Exports a compressed snapshot by saving an uncompressed snapshot to a temporary location
+		 * and compressing each snapshot file written to the temporary location into the configured location.
+		 *
+		 * @param configuration the SnapshotMetadata of the compressed snapshot to export.
+		 * @see CompressedSnapshotCodec
+		 * @see #createTemporaryLocation()
+		 */
+		protected void saveCompressed(SnapshotMetadata<K, V> configuration) {
+			File location = configuration.getLocation();
+			File temporaryLocation = null;
+
+			try {
+				temporaryLocation = createTemporaryLocation();
+
+				save(temporaryLocation, configuration.getFormat(), createOptions(configuration.getFilter()));
+
+				if (temporaryLocation.isDirectory()) {
+					Assert.state(location.isDirectory() || location.mkdirs(), String.format(
+						"Failed to create directory (%1$s) in which to export compressed snapshots", location));
+
+					for (File snapshot : handleDirectoryLocation(temporaryLocation)) {
+						CompressedSnapshotCodec.compress(snapshot, new File(location, snapshot.getName()));
+					}
+				}
+				else {
+					CompressedSnapshotCodec.compress(temporaryLocation, location);
+				}
+			}
+			catch (IOException e) {
+				throw new ExportSnapshotException(String.format("Failed to export compressed snapshot (%1$s)",
+					location), e);
+			}
+			finally {
+				deleteTemporaryLocation(temporaryLocation);
+			}
+		}
+
+		/**
+		 * Creates the temporary location to which an uncompressed snapshot is saved before being compressed.
+		 *
+		 * @return a temporary snapshot file.
+		 * @throws IOException if the temporary location could not be created.
+		 */
+		protected File createTemporaryLocation() throws IOException {
+			return File.createTempFile("snapshot-", ".gfd", TEMPORARY_DIRECTORY);
+		}
+
+		/* (non-Javadoc) */
+		private void deleteTemporaryLocation(File location) {
+			if (nullSafeIsDirectory(location)) {
+				for (File file : handleDirectoryLocation(location)) {
+					deleteTemporaryFile(file);
+				}
+			}
+
+			deleteTemporaryFile(location);
+		}
+
+		/**
+		 * Streams the contents of the archive entry to the given file.
+		 *
+		 * @param archive the archive containing the entry.
+		 * @param entry the archive entry to extract.
+		 * @param target the file to which the entry is written.
+		 * @return the target file.
+		 * @throws IOException if the entry could not be read or the file could not be written.
+		 */
+		protected File extract(ZipFile archive, ZipEntry entry, File target) throws IOException {
+			InputStream entryInputStream = archive.getInputStream(entry);
+
+			try {
+				FileOutputStream entryOutputStream = new FileOutputStream(target);
+
+				try {
+					FileChannel targetChannel = entryOutputStream.getChannel();
+					ReadableByteChannel sourceChannel = Channels.newChannel(entryInputStream);
+
+					long position = 0L;
+					long count;
+
+					while ((count = targetChannel.transferFrom(sourceChannel, position, TRANSFER_SIZE)) > 0L) {
+						position += count;
+					}
+				}
+				finally {
+					exceptionSuppressingClose(entryOutputStream);
+				}
+			}
+			finally {
+				exceptionSuppressingClose(entryInputStream);
+			}
+
+			return target;
+		}
+
+		/* (non-Javadoc) */
+		private void deleteTemporaryFile(File file) {
+			if (file != null && file.exists() && !file.delete()) {
+				logDebug(null, "Failed to delete temporary snapshot file (%1$s)", file);
+				file.deleteOnExit();
+			}
+		}
+
+		/**
+		 * Partitions the snapshot files resolved from a single SnapshotMetadata location into the groups of files
+		 * loaded together.  When snapshots are imported sequentially, all files are loaded in a single group,
+		 * otherwise each file is loaded concurrently on its own.
+		 *
+		 * @param snapshots the snapshot files resolved from a SnapshotMetadata location.
+		 * @return a List of snapshot file groups.
+		 */
+		protected List<File[]> partition(File[] snapshots) {
+			List<File[]> partitions = new ArrayList<File[]>();
+
+			if (getParallelism() > 1 && snapshots != null && snapshots.length > 1) {
+				for (File snapshot : snapshots) {
+					partitions.add(new File[] { snapshot });
+				}
+			}
+			else {
+				partitions.add(snapshots);
+			}
+
+			return partitions;
+		}
+
+		/**
+		 * Runs the given snapshot tasks, using up to the configured parallelism number of threads.  Tasks are run
+		 * sequentially in the calling Thread when the parallelism is 1, when only 1 task is given, or when called
+		 * from a snapshot worker Thread, which prevents nested tasks from exhausting the bounded pool.
+		 *
+		 * When run concurrently, the first failure cancels all tasks that have not yet started
+		 * and is rethrown once all running tasks have finished.
+		 *
+		 * @param tasks the List of snapshot tasks to run.
+		 */
+		protected void executeAll(List<? extends Runnable> tasks) {
+			int threadCount = Math.min(getParallelism(), tasks.size());
+
+			if (threadCount < 2 || Boolean.TRUE.equals(SNAPSHOT_WORKER_THREAD.get())) {
+				for (Runnable task : tasks) {
+					task.run();
+				}
+			}
+			else {
+				ExecutorService executorService = getExecutorService();
+				List<Future<?>> futures = new ArrayList<Future<?>>(tasks.size());
+
+				for (final Runnable task : tasks) {
+					futures.add(executorService.submit(new Runnable() {
+						@Override public void run() {
+							SNAPSHOT_WORKER_THREAD.set(Boolean.TRUE);
+
+							try {
+								task.run();
+							}
+							finally {
+								SNAPSHOT_WORKER_THREAD.remove();
+							}
+						}
+					}));
+				}
+
+				awaitAll(futures);
+			}
+		}
+
+		/**
+		 * Returns the bounded ExecutorService used to import or export snapshots concurrently, creating it
+		 * on first use.  The same ExecutorService is reused by all imports and exports of this adapter
+		 * until the adapter is {@link #shutdown() shut down}.
+		 *
+		 * @return the ExecutorService running snapshot tasks concurrently.
+		 * @see #newExecutorService(int)
+		 */
+		protected synchronized ExecutorService getExecutorService() {
+			if (executorService == null) {
+				executorService = newExecutorService(getParallelism());
+			}
+
+			return executorService;
+		}
+
+		/**
+		 * Shuts down the ExecutorService used to import or export snapshots concurrently, if it was created.
+		 * A subsequent concurrent import or export creates a new ExecutorService.
+		 */
+		public void shutdown() {
+			ExecutorService localExecutorService;
+
+			synchronized (this) {
+				localExecutorService = this.executorService;
+				this.executorService = null;
+			}
+
+			if (localExecutorService != null) {
+				localExecutorService.shutdown();
+			}
+		}
+
+		/* (non-Javadoc) */
+		private void executeAllTimed(List<? extends Runnable> tasks) {
+			long startTime = System.nanoTime();
+
+			try {
+				executeAll(tasks);
+			}
+			finally {
+				statistics.elapsedTime.addAndGet(System.nanoTime() - startTime);
+			}
+		}
+
+		/* (non-Javadoc) */
+		private void awaitAll(List<Future<?>> futures) {
+			RuntimeException failure = null;
+
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				}
+				catch (CancellationException ignore) {
+				}
+				catch (ExecutionException e) {
+					if (failure == null) {
+						failure = toRuntimeException(e.getCause());
+
+						for (Future<?> pendingFuture : futures) {
+							pendingFuture.cancel(false);
+						}
+					}
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+
+					for (Future<?> pendingFuture : futures) {
+						pendingFuture.cancel(true);
+					}
+
+					throw new IllegalStateException("Interrupted while waiting for snapshots to complete", e);
+				}
+			}
+
+			if (failure != null) {
+				throw failure;
+			}
+		}
+
+		/* (non-Javadoc) */
+		private RuntimeException toRuntimeException(Throwable cause) {
+			if (cause instanceof RuntimeException) {
+				return (RuntimeException) cause;
+			}
+			else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			return new IllegalStateException(cause);
+		}
+
+		/**
+		 * Constructs the bounded ExecutorService used to import or export snapshots concurrently.
+		 * Called once per adapter, when the first concurrent import or export is performed.
+		 *
+		 * @param threadCount the number of Threads in the pool.
+		 * @return a new ExecutorService.
+		 */
+		protected ExecutorService newExecutorService(int threadCount) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("SnapshotService-");
+			threadFactory.setDaemon(true);
+			return Executors.newFixedThreadPool(threadCount, threadFactory);
+		}
+
+		/* (non-Javadoc) */
+		protected void publishProgress(SnapshotProgressApplicationEvent<K, V> event) {
+			ApplicationEventPublisher applicationEventPublisher = getApplicationEventPublisher();
+
+			if (applicationEventPublisher != null) {
+				applicationEventPublisher.publishEvent(event);
+			}
+		}
+
+		/**
+		 * Computes the size in bytes of the given snapshot file, or of all the files in the given snapshot directory.
+		 *
+		 * @param location the snapshot file or directory.
+		 * @return the size of the snapshot(s) in bytes.
+		 */
+		protected long sizeOf(File... location) {
+			long size = 0L;
+
+			for (File file : (location != null ? location : new File[0])) {
+				if (nullSafeIsDirectory(file)) {
+					size += sizeOf(handleDirectoryLocation(file));
+				}
+				else if (file != null) {
+					size += file.length();
+				}
+			}
+
+			return size;
+		}
+
 		protected abstract File[] handleLocation(SnapshotMetadata<K, V> configuration);
 
 		protected File[] handleDirectoryLocation(File directory) {
@@ -469,26 +1433,19 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 						String.format("Failed create directory (%1$s) in which to extract archive (%2$s)",
 							extractedArchiveDirectory, file));
 
-					ZipFile zipFile = (ArchiveFileFilter.INSTANCE.isJarFile(file)
-						? new JarFile(file, false, JarFile.OPEN_READ)
-							: new ZipFile(file, ZipFile.OPEN_READ));
-
-					for (ZipEntry entry : CollectionUtils.iterable(zipFile.entries())) {
-						if (!entry.isDirectory()) {
-							DataInputStream entryInputStream = new DataInputStream(zipFile.getInputStream(entry));
+					ZipFile zipFile = openArchive(file);
 
-							DataOutputStream entryOutputStream = new DataOutputStream(new FileOutputStream(
-								new File(extractedArchiveDirectory, toSimpleFilename(entry.getName()))));
-
-							try {
-								FileCopyUtils.copy(entryInputStream, entryOutputStream);
-							}
-							finally {
-								exceptionSuppressingClose(entryInputStream);
-								exceptionSuppressingClose(entryOutputStream);
+					try {
+						for (ZipEntry entry : CollectionUtils.iterable(zipFile.entries())) {
+							if (!entry.isDirectory()) {
+								extract(zipFile, entry, new File(extractedArchiveDirectory,
+									toSimpleFilename(entry.getName())));
 							}
 						}
 					}
+					finally {
+						closeArchive(zipFile);
+					}
 
 					return handleDirectoryLocation(extractedArchiveDirectory);
 				}
@@ -543,6 +1500,130 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 			pathname = (pathSeparatorIndex > -1 ? pathname.substring(pathSeparatorIndex + 1) : pathname);
 			return StringUtils.trimWhitespace(pathname);
 		}
+
+		/**
+		 * SnapshotTask imports or exports a single snapshot, recording statistics and publishing
+		 * a SnapshotProgressApplicationEvent when the snapshot starts and when it completes or fails.
+		 */
+		protected abstract class SnapshotTask implements Runnable {
+
+			private final File location;
+
+			private final SnapshotMetadata<K, V> configuration;
+
+			private final SnapshotProgress progress;
+
+			private final SnapshotProgressApplicationEvent.Operation operation;
+
+			protected SnapshotTask(SnapshotProgressApplicationEvent.Operation operation,
+					SnapshotMetadata<K, V> configuration, File location, SnapshotProgress progress) {
+
+				this.operation = operation;
+				this.configuration = configuration;
+				this.location = location;
+				this.progress = progress;
+			}
+
+			@Override
+			public void run() {
+				publishProgress(SnapshotProgressApplicationEvent.Status.STARTED, 0L, 0L,
+					progress.completedCount.get(), null);
+
+				long startTime = System.nanoTime();
+
+				try {
+					doRun();
+
+					long byteCount = getByteCount();
+
+					statistics.byteCount.addAndGet(byteCount);
+					statistics.snapshotCount.incrementAndGet();
+
+					publishProgress(SnapshotProgressApplicationEvent.Status.COMPLETED, byteCount,
+						elapsedTimeSince(startTime), progress.completedCount.incrementAndGet(), null);
+
+					if (throttle != null) {
+						throttle.pauseBetweenSnapshots(startTime, byteCount);
+					}
+				}
+				catch (RuntimeException e) {
+					statistics.failureCount.incrementAndGet();
+
+					publishProgress(SnapshotProgressApplicationEvent.Status.FAILED, 0L, elapsedTimeSince(startTime),
+						progress.completedCount.incrementAndGet(), e);
+
+					throw e;
+				}
+			}
+
+			protected abstract void doRun();
+
+			protected long getByteCount() {
+				return sizeOf(location);
+			}
+
+			/* (non-Javadoc) */
+			private long elapsedTimeSince(long startTime) {
+				return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+			}
+
+			/* (non-Javadoc) */
+			private void publishProgress(SnapshotProgressApplicationEvent.Status status, long byteCount,
+					long elapsedTime, int completed, Throwable cause) {
+
+				SnapshotServiceAdapterSupport.this.publishProgress(new SnapshotProgressApplicationEvent<K, V>(
+					getEventSource(), getRegionPath(), operation, status, configuration, location, byteCount,
+						elapsedTime, completed, progress.totalCount, cause));
+			}
+		}
+	}
+
+	/**
+	 * InFlightSnapshot is an asynchronous snapshot operation in progress on a Cache or Region, which is no longer
+	 * in progress as soon as the snapshot operation returns, before its Future completes.
+	 */
+	static final class InFlightSnapshot implements Callable<Void> {
+
+		final Callable<Void> snapshot;
+
+		final ConcurrentMap<String, InFlightSnapshot> inFlightSnapshots;
+
+		final ListenableFutureTask<Void> future;
+
+		final SnapshotProgressApplicationEvent.Operation operation;
+
+		final String key;
+
+		InFlightSnapshot(ConcurrentMap<String, InFlightSnapshot> inFlightSnapshots, String key,
+				SnapshotProgressApplicationEvent.Operation operation, Callable<Void> snapshot) {
+
+			this.inFlightSnapshots = inFlightSnapshots;
+			this.key = key;
+			this.operation = operation;
+			this.snapshot = snapshot;
+			this.future = new ListenableFutureTask<Void>(this);
+		}
+
+		@Override
+		public Void call() throws Exception {
+			try {
+				return snapshot.call();
+			}
+			finally {
+				inFlightSnapshots.remove(key, this);
+			}
+		}
+	}
+
+	/**
+	 * SnapshotProgress tracks the number of completed snapshots out of the total of a single import/export operation.
+	 */
+	static final class SnapshotProgress {
+
+		final AtomicInteger completedCount = new AtomicInteger(0);
+
+		volatile int totalCount;
+
 	}
 
 	/**
@@ -574,6 +1655,16 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 				: handleDirectoryLocation(configuration.getLocation()));
 		}
 
+		@Override
+		protected File createTemporaryLocation() throws IOException {
+			File temporaryDirectory = super.createTemporaryLocation();
+
+			Assert.state(temporaryDirectory.delete() && temporaryDirectory.mkdirs(), String.format(
+				"Failed to create temporary directory (%1$s)", temporaryDirectory));
+
+			return temporaryDirectory;
+		}
+
 		@Override
 		public void load(File directory, SnapshotFormat format) {
 			try {
@@ -648,7 +1739,8 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 
 		@Override
 		protected File[] handleLocation(final SnapshotMetadata<K, V> configuration) {
-			return new File[] { configuration.getLocation() };
+			return (configuration.isDirectory() ? handleDirectoryLocation(configuration.getLocation())
+				: new File[] { configuration.getLocation() });
 		}
 
 		@Override
@@ -664,16 +1756,33 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		}
 
 		@Override
-		public void load(SnapshotFormat format, SnapshotOptions<K, V> options, File... snapshots) {
+		public void load(final SnapshotFormat format, final SnapshotOptions<K, V> options, File... snapshots) {
 			try {
-				for (File snapshot : snapshots) {
-					getSnapshotService().load(snapshot, format, options);
+				List<Runnable> loads = new ArrayList<Runnable>(snapshots.length);
+
+				for (final File snapshot : snapshots) {
+					loads.add(new Runnable() {
+						@Override public void run() {
+							try {
+								getSnapshotService().load(snapshot, format, options);
+							}
+							catch (RuntimeException e) {
+								throw e;
+							}
+							catch (Exception e) {
+								throw new UndeclaredThrowableException(e);
+							}
+						}
+					});
 				}
+
+				executeAll(loads);
 			}
 			catch (Throwable t) {
 				throw new ImportSnapshotException(String.format(
 					"Failed to load snapshots (%1$s) in format (%2$s) using options (%3$s)",
-						Arrays.toString(snapshots), format, options), t);
+						Arrays.toString(snapshots), format, options),
+							(t instanceof UndeclaredThrowableException ? t.getCause() : t));
 			}
 		}
 
@@ -702,6 +1811,72 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		}
 	}
 
+	/**
+	 * The SnapshotStatistics class records the number of snapshots, bytes and time spent on all imports and exports
+	 * performed by a SnapshotServiceAdapter, from which the total snapshot throughput is derived.
+	 *
+	 * @see SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport
+	 */
+	public static class SnapshotStatistics {
+
+		private final AtomicLong byteCount = new AtomicLong(0L);
+		private final AtomicLong elapsedTime = new AtomicLong(0L);
+		private final AtomicLong failureCount = new AtomicLong(0L);
+		private final AtomicLong snapshotCount = new AtomicLong(0L);
+
+		/**
+		 * Gets the total number of bytes imported and exported.
+		 *
+		 * @return the total number of bytes imported and exported.
+		 */
+		public long getByteCount() {
+			return byteCount.get();
+		}
+
+		/**
+		 * Gets the total wall clock time in milliseconds spent on import and export operations.
+		 *
+		 * @return the total elapsed time in milliseconds.
+		 */
+		public long getElapsedTime() {
+			return TimeUnit.NANOSECONDS.toMillis(elapsedTime.get());
+		}
+
+		/**
+		 * Gets the number of snapshots that failed to import or export.
+		 *
+		 * @return the number of failed snapshots.
+		 */
+		public long getFailureCount() {
+			return failureCount.get();
+		}
+
+		/**
+		 * Gets the number of snapshots successfully imported and exported.
+		 *
+		 * @return the number of successful snapshots.
+		 */
+		public long getSnapshotCount() {
+			return snapshotCount.get();
+		}
+
+		/**
+		 * Computes the total throughput of all import and export operations in bytes per second.
+		 *
+		 * @return the throughput in bytes per second, or 0 if no time has elapsed.
+		 */
+		public double getThroughput() {
+			long elapsedNanoseconds = elapsedTime.get();
+			return (elapsedNanoseconds > 0L ? (getByteCount() * 1.0e9d / elapsedNanoseconds) : 0.0d);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ snapshotCount = %1$d, failureCount = %2$d, byteCount = %3$d, elapsedTime = %4$d ms }",
+				getSnapshotCount(), getFailureCount(), getByteCount(), getElapsedTime());
+		}
+	}
+
 	/**
 	 * The SnapshotMetadata class encapsulates details of the GemFire Cache or Region data snapshot
 	 * on either import or export.
@@ -711,6 +1886,8 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 	 */
 	public static class SnapshotMetadata<K, V> {
 
+		private final boolean compressed;
+
 		private final File location;
 
 		private final SnapshotFilter<K, V> filter;
@@ -722,11 +1899,27 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 		}
 
 		public SnapshotMetadata(File location, SnapshotFilter<K, V> filter, SnapshotFormat format) {
+			this(location, filter, format, false);
+		}
+
+		public SnapshotMetadata(File location, SnapshotFilter<K, V> filter, SnapshotFormat format, boolean compressed) {
 			Assert.notNull(location, "Location must not be null");
 
 			this.location = location;
 			this.filter = filter;
 			this.format = format;
+			this.compressed = compressed;
+		}
+
+		/**
+		 * Determines whether snapshots are exported in the compressed, checksummed format.  Compressed snapshots
+		 * are detected automatically on import.
+		 *
+		 * @return a boolean indicating whether snapshots are exported compressed.
+		 * @see CompressedSnapshotCodec
+		 */
+		public boolean isCompressed() {
+			return compressed;
 		}
 
 		public boolean isDirectory() {
@@ -753,10 +1946,45 @@ public class SnapshotServiceFactoryBean<K, V> implements FactoryBean<SnapshotSer
 			return (format != null ? format : SnapshotFormat.GEMFIRE);
 		}
 
+		/**
+		 * Partitions this Region snapshot into the given number of snapshots by the hash of the entry key.
+		 * This SnapshotMetadata's location is used as the directory containing a snapshot file per partition.
+		 * When exported with a parallelism greater than 1, the partitions are filtered and written concurrently,
+		 * and importing the directory loads the partitions concurrently as well.
+		 *
+		 * @param partitionCount the number of partitions.
+		 * @return an array of SnapshotMetadata, one per partition, each filtering the entries of its partition
+		 * in addition to this SnapshotMetadata's filter.
+		 * @throws IllegalArgumentException if the partition count is less than 1.
+		 * @throws IllegalStateException if the directory containing the partitions could not be created.
+		 * @see org.springframework.data.gemfire.snapshot.filter.KeyPartitionSnapshotFilter
+		 */
+		@SuppressWarnings("unchecked")
+		public SnapshotMetadata<K, V>[] partition(int partitionCount) {
+			Assert.isTrue(partitionCount > 0, String.format("Partition count [%d] must be greater than 0",
+				partitionCount));
+
+			Assert.state(isDirectory() || getLocation().mkdirs(), String.format(
+				"Failed to create directory (%1$s) in which to export the snapshot partitions", getLocation()));
+
+			SnapshotMetadata<K, V>[] partitions = new SnapshotMetadata[partitionCount];
+
+			for (int partition = 0; partition < partitionCount; partition++) {
+				SnapshotFilter<K, V> partitionFilter = new KeyPartitionSnapshotFilter<K, V>(partition, partitionCount);
+
+				partitions[partition] = new SnapshotMetadata<K, V>(
+					new File(getLocation(), String.format("partition-%1$05d.gfd", partition)),
+					(isFilterPresent() ? ComposableSnapshotFilter.and(partitionFilter, getFilter()) : partitionFilter),
+					getFormat(), isCompressed());
+			}
+
+			return partitions;
+		}
+
 		@Override
 		public String toString() {
-			return String.format("{ @type = %1$s, location = %2$s, filter = %2$s, format = %4$s }",
-				getClass().getName(), getLocation().getAbsolutePath(), getFilter(), getFormat());
+			return String.format("{ @type = %1$s, location = %2$s, filter = %3$s, format = %4$s, compressed = %5$s }",
+				getClass().getName(), getLocation().getAbsolutePath(), getFilter(), getFormat(), isCompressed());
 		}
 	}
 
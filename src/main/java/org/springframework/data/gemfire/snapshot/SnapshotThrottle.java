@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * The SnapshotThrottle class limits the average disk bandwidth consumed by snapshot imports and exports
+ * to a maximum number of bytes per second.  Since GemFire reads and writes the snapshot files itself,
+ * the bandwidth is limited between snapshots rather than within a snapshot; after each snapshot,
+ * the thread is paused until the bytes read or written by all snapshots sharing the throttle fit
+ * within the configured bandwidth.  Splitting a large snapshot into several smaller ones
+ * (e.g. by partitioning the Region snapshot) therefore makes the throttling smoother.
+ *
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class SnapshotThrottle {
+
+	private final long maxBytesPerSecond;
+
+	private long nextAvailableTime = System.nanoTime();
+
+	/**
+	 * Constructs an instance of SnapshotThrottle limiting snapshots to the given bandwidth.
+	 *
+	 * @param maxBytesPerSecond maximum number of bytes read or written per second by all snapshots.
+	 * @throws IllegalArgumentException if the maximum number of bytes per second is not greater than 0.
+	 */
+	public SnapshotThrottle(long maxBytesPerSecond) {
+		Assert.isTrue(maxBytesPerSecond > 0, String.format("Max bytes per second [%d] must be greater than 0",
+			maxBytesPerSecond));
+
+		this.maxBytesPerSecond = maxBytesPerSecond;
+	}
+
+	/**
+	 * Gets the maximum number of bytes read or written per second by all snapshots.
+	 *
+	 * @return the maximum number of bytes per second.
+	 */
+	public long getMaxBytesPerSecond() {
+		return maxBytesPerSecond;
+	}
+
+	/**
+	 * Pauses the calling thread, after a snapshot has completed and before the next snapshot starts, until
+	 * the given number of bytes, read or written by the snapshot started at the given time, fits within
+	 * the configured bandwidth.  The snapshot I/O itself is not throttled.
+	 *
+	 * @param startTime the time, in nanoseconds as returned by {@link System#nanoTime()}, the snapshot started.
+	 * @param byteCount the number of bytes read or written by the snapshot.
+	 * @see #reserve(long, long)
+	 */
+	public void pauseBetweenSnapshots(long startTime, long byteCount) {
+		long delay = reserve(startTime, byteCount);
+
+		if (delay > 0L) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(delay);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Reserves the bandwidth needed for the given number of bytes and computes how long the calling thread
+	 * must pause so that the average bandwidth does not exceed the configured maximum.
+	 *
+	 * @param startTime the time, in nanoseconds, the snapshot started.
+	 * @param byteCount the number of bytes read or written by the snapshot.
+	 * @return the number of nanoseconds to pause.
+	 */
+	synchronized long reserve(long startTime, long byteCount) {
+		long requiredTime = (long) (Math.max(byteCount, 0L) * (double) TimeUnit.SECONDS.toNanos(1)
+			/ maxBytesPerSecond);
+
+		nextAvailableTime = Math.max(nextAvailableTime, startTime) + requiredTime;
+
+		return (nextAvailableTime - System.nanoTime());
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.event;
+
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
+
+import java.io.File;
+
+/**
+ * The SnapshotProgressApplicationEvent class is a Spring ApplicationEvent signaling the progress of an individual
+ * GemFire Cache or Region data snapshot import or export.  Unlike the {@link ExportSnapshotApplicationEvent}
+ * and {@link ImportSnapshotApplicationEvent}, this event is informational and never triggers a snapshot.
+ *
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class SnapshotProgressApplicationEvent<K, V> extends SnapshotApplicationEvent<K, V> {
+
+	private final int completedCount;
+	private final int totalCount;
+
+	private final long byteCount;
+	private final long elapsedTime;
+
+	private final File location;
+
+	private final Operation operation;
+
+	private final Status status;
+
+	private final Throwable cause;
+
+	/**
+	 * Constructs an instance of SnapshotProgressApplicationEvent initialized with an event source, the pathname
+	 * of the Region being imported/exported, the kind of operation, its status and the snapshot meta-data.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region, or {@literal null} for a Cache-wide snapshot.
+	 * @param operation the snapshot {@link Operation} in progress.
+	 * @param status the {@link Status} of the snapshot operation.
+	 * @param snapshotMetadata the SnapshotMetadata of the snapshot being imported/exported.
+	 * @param location the snapshot file or directory being imported/exported.
+	 * @param byteCount number of bytes imported/exported, or 0 if the snapshot has not completed.
+	 * @param elapsedTime time in milliseconds spent on the snapshot, or 0 if the snapshot has just started.
+	 * @param completedCount number of snapshots of the operation that have completed, including this one.
+	 * @param totalCount total number of snapshots of the operation.
+	 * @param cause the {@link Throwable} causing the snapshot to fail, or {@literal null}.
+	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata
+	 */
+	@SuppressWarnings("unchecked")
+	public SnapshotProgressApplicationEvent(Object source, String regionPath, Operation operation, Status status,
+			SnapshotMetadata<K, V> snapshotMetadata, File location, long byteCount, long elapsedTime,
+			int completedCount, int totalCount, Throwable cause) {
+
+		super(source, regionPath, snapshotMetadata);
+
+		this.operation = operation;
+		this.status = status;
+		this.location = location;
+		this.byteCount = byteCount;
+		this.elapsedTime = elapsedTime;
+		this.completedCount = completedCount;
+		this.totalCount = totalCount;
+		this.cause = cause;
+	}
+
+	/**
+	 * Gets the number of bytes read or written by the snapshot.
+	 *
+	 * @return the number of bytes imported/exported.
+	 */
+	public long getByteCount() {
+		return byteCount;
+	}
+
+	/**
+	 * Gets the {@link Throwable} causing the snapshot to fail.
+	 *
+	 * @return the cause of the failure or {@literal null} if the snapshot did not fail.
+	 */
+	public Throwable getCause() {
+		return cause;
+	}
+
+	/**
+	 * Gets the number of snapshots of the import/export operation that have completed, successfully or not.
+	 *
+	 * @return the number of completed snapshots.
+	 */
+	public int getCompletedCount() {
+		return completedCount;
+	}
+
+	/**
+	 * Gets the time in milliseconds spent on the snapshot.
+	 *
+	 * @return the elapsed time in milliseconds.
+	 */
+	public long getElapsedTime() {
+		return elapsedTime;
+	}
+
+	/**
+	 * Gets the snapshot file or directory being imported/exported.
+	 *
+	 * @return the snapshot {@link File} location.
+	 */
+	public File getLocation() {
+		return location;
+	}
+
+	/**
+	 * Gets the kind of snapshot operation in progress.
+	 *
+	 * @return the snapshot {@link Operation}.
+	 */
+	public Operation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Gets the status of the snapshot.
+	 *
+	 * @return the snapshot {@link Status}.
+	 */
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * Gets the total number of snapshots of the import/export operation.
+	 *
+	 * @return the total number of snapshots.
+	 */
+	public int getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Computes the throughput of the snapshot in bytes per second.
+	 *
+	 * @return the throughput in bytes per second, or 0 if no time has elapsed.
+	 */
+	public double getThroughput() {
+		return (elapsedTime > 0L ? (byteCount * 1000.0d / elapsedTime) : 0.0d);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s %2$s of (%3$s) [%4$d of %5$d] in %6$d ms (%7$d bytes)", operation, status,
+			location, completedCount, totalCount, elapsedTime, byteCount);
+	}
+
+	/**
+	 * Snapshot operations reported by the SnapshotProgressApplicationEvent.
+	 */
+	public enum Operation {
+		EXPORT,
+		IMPORT
+	}
+
+	/**
+	 * Status of an individual snapshot import/export.
+	 */
+	public enum Status {
+		STARTED,
+		COMPLETED,
+		FAILED
+	}
+
+}
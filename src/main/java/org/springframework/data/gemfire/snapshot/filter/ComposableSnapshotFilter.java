@@ -24,6 +24,11 @@ import com.gemstone.gemfire.cache.snapshot.SnapshotFilter;
  * The ComposableSnapshotFilter class is a GemFire SnapshotFilter implementation of the Composition design pattern
  * allowing 2 or more SnapshotFilters to be combined by logical AND and OR operators acting as a single SnapshotFilter.
  *
+ * The composed SnapshotFilters are evaluated from the least to the most expensive, i.e. {@link KeySnapshotFilter}s
+ * first, then {@link PdxFieldSnapshotFilter}s and finally all other SnapshotFilters, and the evaluation stops
+ * as soon as the outcome is known.  The value of the Map Entry is read at most once for all composed SnapshotFilters,
+ * so it is only deserialized if and when a SnapshotFilter accessing the value is evaluated.
+ *
  * @author John Blum
  * @see com.gemstone.gemfire.cache.snapshot.SnapshotFilter
  * @since 1.7.0
@@ -52,6 +57,12 @@ public class ComposableSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
 		}
 	}
 
+	static final int KEY_COST = 0;
+	static final int PDX_FIELD_COST = 1;
+	static final int VALUE_COST = 2;
+
+	private final int cost;
+
 	private final Operator operator;
 
 	private final SnapshotFilter<K, V> leftOperand;
@@ -69,9 +80,26 @@ public class ComposableSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
 	 * @see com.gemstone.gemfire.cache.snapshot.SnapshotFilter
 	 */
 	private ComposableSnapshotFilter(SnapshotFilter<K, V> leftOperand, Operator operator, SnapshotFilter<K, V> rightOperand) {
-		this.leftOperand = leftOperand;
+		boolean swap = (costOf(rightOperand) < costOf(leftOperand));
+
+		this.leftOperand = (swap ? rightOperand : leftOperand);
 		this.operator = operator;
-		this.rightOperand = rightOperand;
+		this.rightOperand = (swap ? leftOperand : rightOperand);
+		this.cost = Math.max(costOf(leftOperand), costOf(rightOperand));
+	}
+
+	/**
+	 * Determines the relative cost of evaluating the given SnapshotFilter, based on whether the SnapshotFilter
+	 * accesses only the key, only PDX fields or the whole value of the Map Entry.
+	 *
+	 * @param snapshotFilter the SnapshotFilter to evaluate.
+	 * @return the relative cost of evaluating the SnapshotFilter.
+	 */
+	static int costOf(SnapshotFilter<?, ?> snapshotFilter) {
+		return (snapshotFilter instanceof KeySnapshotFilter ? KEY_COST
+			: (snapshotFilter instanceof PdxFieldSnapshotFilter ? PDX_FIELD_COST
+			: (snapshotFilter instanceof ComposableSnapshotFilter ? ((ComposableSnapshotFilter) snapshotFilter).cost
+			: VALUE_COST)));
 	}
 
 	/* (non-Javadoc) */
@@ -144,7 +172,53 @@ public class ComposableSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
 	 */
 	@Override
 	public boolean accept(final Map.Entry<K, V> entry) {
-		return operator.operate(leftOperand.accept(entry), rightOperand.accept(entry));
+		Map.Entry<K, V> resolvedEntry = (entry == null || entry instanceof ValueCachingEntry ? entry
+			: new ValueCachingEntry<K, V>(entry));
+
+		boolean leftResult = leftOperand.accept(resolvedEntry);
+
+		if (operator.isAnd() ? !leftResult : leftResult) {
+			return leftResult;
+		}
+
+		return operator.operate(leftResult, rightOperand.accept(resolvedEntry));
+	}
+
+	/**
+	 * ValueCachingEntry is a Map.Entry reading, and possibly deserializing, the value of the underlying Map Entry
+	 * at most once, on first access.
+	 */
+	static class ValueCachingEntry<K, V> implements Map.Entry<K, V> {
+
+		private boolean valueRead;
+
+		private final Map.Entry<K, V> entry;
+
+		private V value;
+
+		ValueCachingEntry(Map.Entry<K, V> entry) {
+			this.entry = entry;
+		}
+
+		@Override
+		public K getKey() {
+			return entry.getKey();
+		}
+
+		@Override
+		public V getValue() {
+			if (!valueRead) {
+				value = entry.getValue();
+				valueRead = true;
+			}
+
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			throw new UnsupportedOperationException("Snapshot entries are read-only");
+		}
 	}
 
 }
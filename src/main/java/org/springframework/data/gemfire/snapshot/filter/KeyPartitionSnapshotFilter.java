@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.filter;
+
+import org.springframework.util.Assert;
+
+/**
+ * The KeyPartitionSnapshotFilter class is a {@link KeySnapshotFilter} accepting only the entries whose key hashes
+ * to a given partition, out of a fixed number of partitions.  Exporting each partition to a separate snapshot file
+ * concurrently spreads the cost of filtering and writing the entries across multiple threads.
+ *
+ * @see org.springframework.data.gemfire.snapshot.filter.KeySnapshotFilter
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class KeyPartitionSnapshotFilter<K, V> extends KeySnapshotFilter<K, V> {
+
+	private final int partition;
+	private final int partitionCount;
+
+	/**
+	 * Constructs an instance of KeyPartitionSnapshotFilter accepting the entries of the given partition.
+	 *
+	 * @param partition the index of the partition accepted, from 0 to partitionCount - 1.
+	 * @param partitionCount the total number of partitions.
+	 * @throws IllegalArgumentException if the partition count is less than 1 or the partition is out of range.
+	 */
+	public KeyPartitionSnapshotFilter(int partition, int partitionCount) {
+		Assert.isTrue(partitionCount > 0, String.format("Partition count [%d] must be greater than 0",
+			partitionCount));
+
+		Assert.isTrue(partition >= 0 && partition < partitionCount, String.format(
+			"Partition [%1$d] must be greater than or equal to 0 and less than %2$d", partition, partitionCount));
+
+		this.partition = partition;
+		this.partitionCount = partitionCount;
+	}
+
+	/**
+	 * Computes the partition of the given key.
+	 *
+	 * @param key the key of the entry.
+	 * @param partitionCount the total number of partitions.
+	 * @return the index of the partition to which the key belongs.
+	 */
+	public static int partitionOf(Object key, int partitionCount) {
+		int hash = (key != null ? key.hashCode() : 0);
+		hash ^= (hash >>> 16);
+		return ((hash % partitionCount) + partitionCount) % partitionCount;
+	}
+
+	/**
+	 * Gets the index of the partition accepted by this filter.
+	 *
+	 * @return the index of the partition.
+	 */
+	public int getPartition() {
+		return partition;
+	}
+
+	/**
+	 * Gets the total number of partitions.
+	 *
+	 * @return the total number of partitions.
+	 */
+	public int getPartitionCount() {
+		return partitionCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean acceptKey(K key) {
+		return (partitionOf(key, partitionCount) == partition);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, partition = %2$d, partitionCount = %3$d }", getClass().getName(),
+			getPartition(), getPartitionCount());
+	}
+
+}
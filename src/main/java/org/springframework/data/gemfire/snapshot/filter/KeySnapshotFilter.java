@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.filter;
+
+import java.util.Map;
+
+import com.gemstone.gemfire.cache.snapshot.SnapshotFilter;
+
+/**
+ * The KeySnapshotFilter class is an abstract GemFire SnapshotFilter implementation evaluating only the key
+ * of the Map Entry.  The value is never accessed, and therefore never deserialized, and when composed with other
+ * SnapshotFilters using the {@link ComposableSnapshotFilter}, a KeySnapshotFilter is always evaluated first.
+ *
+ * @see com.gemstone.gemfire.cache.snapshot.SnapshotFilter
+ * @see org.springframework.data.gemfire.snapshot.filter.ComposableSnapshotFilter
+ * @since 1.10.0
+ */
+public abstract class KeySnapshotFilter<K, V> implements SnapshotFilter<K, V> {
+
+	/**
+	 * Determines whether the given Map Entry is accepted based on its key alone.
+	 *
+	 * @param entry the Map.Entry to evaluate.
+	 * @return a boolean value indicating whether this SnapshotFilter accepts the Map Entry.
+	 * @see #acceptKey(Object)
+	 */
+	@Override
+	public final boolean accept(Map.Entry<K, V> entry) {
+		return acceptKey(entry != null ? entry.getKey() : null);
+	}
+
+	/**
+	 * Determines whether the entry with the given key is accepted.
+	 *
+	 * @param key the key of the entry to evaluate.
+	 * @return a boolean value indicating whether this SnapshotFilter accepts the entry with the given key.
+	 */
+	protected abstract boolean acceptKey(K key);
+
+}
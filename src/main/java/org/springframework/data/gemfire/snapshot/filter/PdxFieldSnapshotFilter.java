@@ -0,0 +1,163 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.filter;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.gemstone.gemfire.cache.snapshot.SnapshotFilter;
+import com.gemstone.gemfire.pdx.PdxInstance;
+
+/**
+ * The PdxFieldSnapshotFilter class is an abstract GemFire SnapshotFilter implementation evaluating only the key
+ * and the declared fields of the Map Entry value.  When the value is a {@link PdxInstance}, as is the case when
+ * the GemFire Cache is configured with {@literal pdx-read-serialized}, the fields are read from the PdxInstance
+ * without deserializing the value into the domain object.  Otherwise, the fields are read from the domain object
+ * directly, using the {@link Field Fields} resolved once per domain object class.
+ *
+ * The field values are read into an array reused by all entries evaluated on the same Thread, so no objects
+ * are allocated per entry.
+ *
+ * When composed with other SnapshotFilters using the {@link ComposableSnapshotFilter}, a PdxFieldSnapshotFilter
+ * is evaluated after any {@link KeySnapshotFilter} and before any other SnapshotFilter.
+ *
+ * @see com.gemstone.gemfire.cache.snapshot.SnapshotFilter
+ * @see com.gemstone.gemfire.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.snapshot.filter.ComposableSnapshotFilter
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public abstract class PdxFieldSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
+
+	private final ConcurrentMap<Class<?>, Field[]> fieldsByType = new ConcurrentHashMap<Class<?>, Field[]>();
+
+	private final String[] fieldNames;
+
+	private final ThreadLocal<Object[]> fieldValues = new ThreadLocal<Object[]>() {
+		@Override protected Object[] initialValue() {
+			return new Object[fieldNames.length];
+		}
+	};
+
+	/**
+	 * Constructs an instance of PdxFieldSnapshotFilter initialized with the names of the fields evaluated.
+	 *
+	 * @param fieldNames the names of the fields of the value evaluated by this filter.
+	 * @throws IllegalArgumentException if no field names are given.
+	 */
+	protected PdxFieldSnapshotFilter(String... fieldNames) {
+		Assert.notEmpty(fieldNames, "At least 1 field name must be specified");
+		this.fieldNames = fieldNames.clone();
+	}
+
+	/**
+	 * Gets the names of the fields evaluated by this filter.
+	 *
+	 * @return a List of field names.
+	 */
+	public List<String> getFieldNames() {
+		return Arrays.asList(fieldNames.clone());
+	}
+
+	/**
+	 * Determines whether the given Map Entry is accepted based on its key and the declared fields of its value.
+	 *
+	 * @param entry the Map.Entry to evaluate.
+	 * @return a boolean value indicating whether this SnapshotFilter accepts the Map Entry.
+	 * @see #acceptFields(Object, Object[])
+	 */
+	@Override
+	public boolean accept(Map.Entry<K, V> entry) {
+		Object[] localFieldValues = fieldValues.get();
+
+		try {
+			Object value = (entry != null ? entry.getValue() : null);
+
+			if (value instanceof PdxInstance) {
+				PdxInstance pdxInstance = (PdxInstance) value;
+
+				for (int index = 0; index < fieldNames.length; index++) {
+					localFieldValues[index] = (pdxInstance.hasField(fieldNames[index])
+						? pdxInstance.getField(fieldNames[index]) : null);
+				}
+			}
+			else if (value != null) {
+				Field[] fields = resolveFields(value.getClass());
+
+				for (int index = 0; index < fields.length; index++) {
+					localFieldValues[index] = (fields[index] != null ? ReflectionUtils.getField(fields[index], value)
+						: null);
+				}
+			}
+
+			return acceptFields((entry != null ? entry.getKey() : null), localFieldValues);
+		}
+		finally {
+			Arrays.fill(localFieldValues, null);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Field[] resolveFields(Class<?> type) {
+		Field[] fields = fieldsByType.get(type);
+
+		if (fields == null) {
+			fields = new Field[fieldNames.length];
+
+			for (int index = 0; index < fieldNames.length; index++) {
+				fields[index] = ReflectionUtils.findField(type, fieldNames[index]);
+
+				if (fields[index] != null) {
+					ReflectionUtils.makeAccessible(fields[index]);
+				}
+			}
+
+			fieldsByType.putIfAbsent(type, fields);
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Determines whether the entry with the given key and field values is accepted.
+	 *
+	 * @param key the key of the entry to evaluate.
+	 * @param fieldValues the values of the declared fields of the entry value, in the order of
+	 * {@link #getFieldNames()}; a field value is {@literal null} if the value does not have the field or the value
+	 * itself is {@literal null}.  The array is reused for the next entry and must not be retained.
+	 * @return a boolean value indicating whether this SnapshotFilter accepts the entry.
+	 */
+	protected abstract boolean acceptFields(K key, Object[] fieldValues);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, fieldNames = %2$s }", getClass().getName(),
+			ObjectUtils.nullSafeToString(fieldNames));
+	}
+
+}
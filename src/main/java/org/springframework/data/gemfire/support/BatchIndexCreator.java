@@ -0,0 +1,641 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gemstone.gemfire.cache.RegionService;
+import com.gemstone.gemfire.cache.client.ClientCache;
+import com.gemstone.gemfire.cache.query.Index;
+import com.gemstone.gemfire.cache.query.IndexCreationException;
+import com.gemstone.gemfire.cache.query.IndexStatistics;
+import com.gemstone.gemfire.cache.query.MultiIndexCreationException;
+import com.gemstone.gemfire.cache.query.QueryService;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.gemfire.GemfireIndexException;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link BatchIndexCreator} class creates the {@link Index Indexes} defined by
+ * {@link org.springframework.data.gemfire.IndexFactoryBean IndexFactoryBeans} in batches, one batch per
+ * {@link com.gemstone.gemfire.cache.Region}, so that the entries of every {@link com.gemstone.gemfire.cache.Region}
+ * are iterated once for all of its {@link Index Indexes} with {@link QueryService#createDefinedIndexes()}.
+ *
+ * Every batch is defined on its own {@link QueryService}, obtained from the cache, which keeps the definitions
+ * of the batch apart from the other batches, and batches are created in parallel on a bounded pool of
+ * {@link Thread Threads}.  Should the cache return a shared {@link QueryService}, the batches are created
+ * one after another.  {@link Index Indexes} failing in a batch are retried individually.  The build time
+ * and entry count of every {@link Index} are logged and available from {@link #getResults()}.  Should any
+ * {@link Index} still fail, or a batch fail as a whole, {@link #start()} throws a {@link GemfireIndexException}
+ * once all batches are done, failing the startup of the Spring container just as the {@link Index Indexes}
+ * created one by one by the {@link org.springframework.data.gemfire.IndexFactoryBean IndexFactoryBeans} do.
+ *
+ * The {@link Index Indexes} are created when this {@link SmartLifecycle} starts, in the phase preceding the
+ * {@link RegionWarmUpService#DEFAULT_PHASE Region warm-up}, once all {@link com.gemstone.gemfire.cache.Region Regions}
+ * have been initialized.
+ *
+ * @see org.springframework.context.SmartLifecycle
+ * @see org.springframework.data.gemfire.IndexFactoryBean
+ * @see com.gemstone.gemfire.cache.query.QueryService#createDefinedIndexes()
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class BatchIndexCreator implements SmartLifecycle {
+
+	public static final int DEFAULT_PHASE = RegionWarmUpService.DEFAULT_PHASE - 1;
+	public static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+	public static final String THREAD_NAME_PREFIX = "IndexCreator-";
+
+	protected final Log log = LogFactory.getLog(getClass());
+
+	private volatile boolean running;
+
+	private int phase = DEFAULT_PHASE;
+	private int poolSize = DEFAULT_POOL_SIZE;
+
+	private final List<IndexCreationResult> results = Collections.synchronizedList(
+		new ArrayList<IndexCreationResult>());
+
+	private final Map<String, List<IndexDefinition>> batches = new LinkedHashMap<String, List<IndexDefinition>>();
+
+	private RegionService cache;
+
+	/**
+	 * Defines an {@link Index} created with the other {@link Index Indexes} of its {@link com.gemstone.gemfire.cache.Region}
+	 * when this {@link BatchIndexCreator} starts.
+	 *
+	 * @param indexName name of the {@link Index}.
+	 * @param indexType {@link IndexType} of the {@link Index}; {@literal null} for a functional {@link Index}.
+	 * @param expression indexed expression.
+	 * @param from FROM clause of the {@link Index}.
+	 * @param imports imports used by the {@link Index}; may be {@literal null}.
+	 * @throws IllegalStateException if the {@link Index Indexes} have already been created.
+	 */
+	public synchronized void define(String indexName, IndexType indexType, String expression, String from,
+			String imports) {
+
+		Assert.state(!running, String.format("Index [%s] defined after Indexes were created", indexName));
+
+		IndexDefinition indexDefinition = new IndexDefinition(indexName, indexType, expression, from, imports);
+		List<IndexDefinition> batch = batches.get(indexDefinition.getRegionPath());
+
+		if (batch == null) {
+			batch = new ArrayList<IndexDefinition>();
+			batches.put(indexDefinition.getRegionPath(), batch);
+		}
+
+		batch.add(indexDefinition);
+	}
+
+	/**
+	 * Creates all defined {@link Index Indexes}, in parallel per {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @throws GemfireIndexException if any {@link Index} could not be created.
+	 */
+	@Override
+	public synchronized void start() {
+		if (!running) {
+			running = true;
+
+			if (!batches.isEmpty()) {
+				Assert.state(cache != null, "A 'Cache' reference must be set");
+				createIndexes();
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void createIndexes() {
+		long startTime = System.nanoTime();
+
+		int indexCount = 0;
+
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(batches.size());
+
+		final AtomicInteger completedBatches = new AtomicInteger();
+		final int batchCount = batches.size();
+
+		final Map<String, Throwable> batchFailures = new ConcurrentHashMap<String, Throwable>();
+
+		for (final Map.Entry<String, List<IndexDefinition>> batch : batches.entrySet()) {
+			indexCount += batch.getValue().size();
+
+			tasks.add(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					try {
+						createIndexes(batch.getKey(), batch.getValue());
+					}
+					catch (Exception e) {
+						batchFailures.put(batch.getKey(), e);
+						log.warn(String.format("Failed to create Indexes on Region [%s]", batch.getKey()), e);
+					}
+
+					if (log.isInfoEnabled()) {
+						log.info(String.format("Created Indexes on Region [%1$s]; %2$d of %3$d Regions done",
+							batch.getKey(), completedBatches.incrementAndGet(), batchCount));
+					}
+
+					return null;
+				}
+			});
+		}
+
+		if (isSharedQueryService()) {
+			for (Callable<Void> task : tasks) {
+				call(task);
+			}
+		}
+		else {
+			invokeAll(tasks);
+		}
+
+		if (log.isInfoEnabled()) {
+			log.info(String.format("Created %1$d Index(es) on %2$d Region(s) in %3$d ms", indexCount, batchCount,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+		}
+
+		failOnIndexCreationFailures(batchFailures);
+	}
+
+	/* (non-Javadoc) */
+	private void failOnIndexCreationFailures(Map<String, Throwable> batchFailures) {
+		List<String> failedIndexes = new ArrayList<String>();
+		Throwable cause = null;
+
+		for (Map.Entry<String, Throwable> batchFailure : batchFailures.entrySet()) {
+			failedIndexes.add(String.format("all Indexes on Region [%s]", batchFailure.getKey()));
+			cause = (cause != null ? cause : batchFailure.getValue());
+		}
+
+		for (IndexCreationResult result : getResults()) {
+			if (!result.isSuccessful()) {
+				failedIndexes.add(String.format("Index [%1$s] on Region [%2$s]", result.getIndexName(),
+					result.getRegionPath()));
+				cause = (cause != null ? cause : result.getFailure());
+			}
+		}
+
+		if (!failedIndexes.isEmpty()) {
+			throw new GemfireIndexException(new IndexCreationException(String.format("Failed to create %s",
+				StringUtils.collectionToDelimitedString(failedIndexes, ", ")), cause));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void call(Callable<Void> task) {
+		try {
+			task.call();
+		}
+		catch (Exception e) {
+			throw new IllegalStateException("Index batch failed unexpectedly", e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void invokeAll(List<Callable<Void>> tasks) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+
+		threadFactory.setDaemon(true);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(Math.max(Math.min(poolSize, tasks.size()), 1),
+			threadFactory);
+
+		try {
+			for (Future<Void> future : executorService.invokeAll(tasks)) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException e) {
+					throw new IllegalStateException("Index batch failed unexpectedly", e.getCause());
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while creating Indexes", e);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Creates the {@link Index Indexes} of the given {@link com.gemstone.gemfire.cache.Region} in a single batch,
+	 * retrying individually the {@link Index Indexes} that failed.
+	 *
+	 * @param regionPath path of the {@link com.gemstone.gemfire.cache.Region}.
+	 * @param indexDefinitions {@link IndexDefinition IndexDefinitions} of the {@link com.gemstone.gemfire.cache.Region}.
+	 * @throws Exception if the {@link Index Indexes} could not be defined.
+	 */
+	protected void createIndexes(String regionPath, List<IndexDefinition> indexDefinitions) throws Exception {
+		QueryService queryService = newQueryService();
+
+		for (IndexDefinition indexDefinition : indexDefinitions) {
+			indexDefinition.define(queryService);
+		}
+
+		long startTime = System.nanoTime();
+
+		Collection<Index> indexes;
+		Map<String, Exception> failures = Collections.emptyMap();
+
+		try {
+			indexes = queryService.createDefinedIndexes();
+		}
+		catch (MultiIndexCreationException e) {
+			indexes = queryService.getIndexes();
+			failures = e.getExceptionsMap();
+		}
+
+		long batchBuildTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+		for (IndexDefinition indexDefinition : indexDefinitions) {
+			Index index = (failures.containsKey(indexDefinition.getName()) ? null
+				: find(indexes, indexDefinition.getName()));
+
+			if (index != null) {
+				record(IndexCreationResult.createdInBatch(index.getName(), regionPath, batchBuildTime,
+					countEntries(index)));
+			}
+			else {
+				retry(regionPath, indexDefinition, failures.get(indexDefinition.getName()));
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void retry(String regionPath, IndexDefinition indexDefinition, Exception cause) {
+		if (cause != null && log.isDebugEnabled()) {
+			log.debug(String.format("Retrying Index [%s] individually", indexDefinition.getName()), cause);
+		}
+
+		long startTime = System.nanoTime();
+
+		try {
+			Index index = indexDefinition.create(newQueryService());
+
+			record(IndexCreationResult.createdIndividually(indexDefinition.getName(), regionPath,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), countEntries(index), null));
+		}
+		catch (Exception e) {
+			record(IndexCreationResult.createdIndividually(indexDefinition.getName(), regionPath,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), 0L, e));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void record(IndexCreationResult result) {
+		results.add(result);
+
+		if (result.getFailure() != null) {
+			log.warn(String.format("Failed to create Index [%s]", result.getIndexName()), result.getFailure());
+		}
+		else if (log.isInfoEnabled()) {
+			log.info(result.toString());
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Index find(Collection<Index> indexes, String indexName) {
+		if (indexes != null) {
+			for (Index index : indexes) {
+				if (index.getName().equalsIgnoreCase(indexName)) {
+					return index;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/* (non-Javadoc) */
+	private long countEntries(Index index) {
+		IndexStatistics statistics = (index != null ? index.getStatistics() : null);
+		return (statistics != null ? statistics.getNumberOfValues() : 0L);
+	}
+
+	/* (non-Javadoc) */
+	private boolean isSharedQueryService() {
+		return (newQueryService() == newQueryService());
+	}
+
+	/* (non-Javadoc) */
+	QueryService newQueryService() {
+		return (cache instanceof ClientCache ? ((ClientCache) cache).getLocalQueryService() : cache.getQueryService());
+	}
+
+	/**
+	 * Returns the outcome of the creation of every {@link Index}, in order of creation.
+	 *
+	 * @return an unmodifiable {@link List} of {@link IndexCreationResult IndexCreationResults}.
+	 */
+	public List<IndexCreationResult> getResults() {
+		synchronized (results) {
+			return Collections.unmodifiableList(new ArrayList<IndexCreationResult>(results));
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void stop() {
+		running = false;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void stop(Runnable callback) {
+		stop();
+		callback.run();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isAutoStartup() {
+		return true;
+	}
+
+	/**
+	 * Sets a reference to the cache containing the indexed {@link com.gemstone.gemfire.cache.Region Regions}.
+	 *
+	 * @param cache the {@link RegionService} providing the {@link QueryService QueryServices}.
+	 */
+	public void setCache(RegionService cache) {
+		this.cache = cache;
+	}
+
+	public void setPhase(int phase) {
+		this.phase = phase;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int getPhase() {
+		return phase;
+	}
+
+	/**
+	 * Sets the maximum number of {@link com.gemstone.gemfire.cache.Region Regions} indexed concurrently.
+	 *
+	 * @param poolSize maximum number of concurrent batches.
+	 * @throws IllegalArgumentException if the pool size is less than {@literal 1}.
+	 */
+	public void setPoolSize(int poolSize) {
+		Assert.isTrue(poolSize > 0, String.format("Pool size [%d] must be greater than 0", poolSize));
+		this.poolSize = poolSize;
+	}
+
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/**
+	 * Definition of an {@link Index}, created in batch or individually.
+	 */
+	protected static class IndexDefinition {
+
+		private final IndexType indexType;
+
+		private final String expression;
+		private final String from;
+		private final String imports;
+		private final String name;
+
+		protected IndexDefinition(String name, IndexType indexType, String expression, String from, String imports) {
+			Assert.hasText(name, "Index 'name' is required");
+			Assert.hasText(expression, "Index 'expression' is required");
+			Assert.hasText(from, "Index 'from clause' is required");
+
+			this.name = name;
+			this.indexType = indexType;
+			this.expression = expression;
+			this.from = from;
+			this.imports = (StringUtils.hasText(imports) ? imports : null);
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the path of the {@link com.gemstone.gemfire.cache.Region} in the FROM clause of the {@link Index},
+		 * e.g. {@literal /Orders} for {@literal /Orders.entrySet e}.
+		 *
+		 * @return the path of the indexed {@link com.gemstone.gemfire.cache.Region}.
+		 */
+		public String getRegionPath() {
+			String regionPath = from.trim().split("\\s+")[0];
+			int pathEnd = regionPath.indexOf('.');
+
+			regionPath = (pathEnd > 0 ? regionPath.substring(0, pathEnd) : regionPath);
+
+			return (regionPath.startsWith("/") ? regionPath : "/".concat(regionPath));
+		}
+
+		/* (non-Javadoc) */
+		void define(QueryService queryService) throws Exception {
+			if (IndexType.isKey(indexType)) {
+				queryService.defineKeyIndex(name, expression, from);
+			}
+			else if (IndexType.isHash(indexType)) {
+				if (imports != null) {
+					queryService.defineHashIndex(name, expression, from, imports);
+				}
+				else {
+					queryService.defineHashIndex(name, expression, from);
+				}
+			}
+			else if (imports != null) {
+				queryService.defineIndex(name, expression, from, imports);
+			}
+			else {
+				queryService.defineIndex(name, expression, from);
+			}
+		}
+
+		/* (non-Javadoc) */
+		Index create(QueryService queryService) throws Exception {
+			if (IndexType.isKey(indexType)) {
+				return queryService.createKeyIndex(name, expression, from);
+			}
+			else if (IndexType.isHash(indexType)) {
+				return (imports != null ? queryService.createHashIndex(name, expression, from, imports)
+					: queryService.createHashIndex(name, expression, from));
+			}
+			else {
+				return (imports != null ? queryService.createIndex(name, expression, from, imports)
+					: queryService.createIndex(name, expression, from));
+			}
+		}
+	}
+
+	/**
+	 * Outcome of the creation of an {@link Index}.
+	 */
+	public static class IndexCreationResult {
+
+		public static final long UNKNOWN_TIME = -1L;
+
+		private final boolean retried;
+
+		private final long batchBuildTime;
+		private final long buildTime;
+		private final long entryCount;
+
+		private final String indexName;
+		private final String regionPath;
+
+		private final Throwable failure;
+
+		/**
+		 * Constructs the result of an {@link Index} created in batch, whose own build time is unknown.
+		 *
+		 * @param indexName name of the {@link Index}.
+		 * @param regionPath path of the indexed {@link com.gemstone.gemfire.cache.Region}.
+		 * @param batchBuildTime time, in milliseconds, spent building the whole batch.
+		 * @param entryCount number of entries in the {@link Index}.
+		 * @return a new {@link IndexCreationResult}.
+		 */
+		protected static IndexCreationResult createdInBatch(String indexName, String regionPath,
+				long batchBuildTime, long entryCount) {
+
+			return new IndexCreationResult(indexName, regionPath, UNKNOWN_TIME, batchBuildTime, entryCount,
+				false, null);
+		}
+
+		/**
+		 * Constructs the result of an {@link Index} created individually, after it failed in its batch.
+		 *
+		 * @param indexName name of the {@link Index}.
+		 * @param regionPath path of the indexed {@link com.gemstone.gemfire.cache.Region}.
+		 * @param buildTime time, in milliseconds, spent building the {@link Index}.
+		 * @param entryCount number of entries in the {@link Index}.
+		 * @param failure failure of the {@link Index} creation; {@literal null} if the {@link Index} was created.
+		 * @return a new {@link IndexCreationResult}.
+		 */
+		protected static IndexCreationResult createdIndividually(String indexName, String regionPath,
+				long buildTime, long entryCount, Throwable failure) {
+
+			return new IndexCreationResult(indexName, regionPath, buildTime, UNKNOWN_TIME, entryCount, true, failure);
+		}
+
+		protected IndexCreationResult(String indexName, String regionPath, long buildTime, long batchBuildTime,
+				long entryCount, boolean retried, Throwable failure) {
+
+			this.indexName = indexName;
+			this.regionPath = regionPath;
+			this.buildTime = buildTime;
+			this.batchBuildTime = batchBuildTime;
+			this.entryCount = entryCount;
+			this.retried = retried;
+			this.failure = failure;
+		}
+
+		/**
+		 * Returns the time spent building the whole batch in which the {@link Index} was created.
+		 *
+		 * @return the batch build time in milliseconds, or {@link #UNKNOWN_TIME} if the {@link Index}
+		 * was created individually.
+		 */
+		public long getBatchBuildTime() {
+			return batchBuildTime;
+		}
+
+		/**
+		 * Returns the time spent building the {@link Index} individually.  The build time of an {@link Index}
+		 * created in batch is not known, since all {@link Index Indexes} of a batch are built together.
+		 *
+		 * @return the build time in milliseconds, or {@link #UNKNOWN_TIME} if the {@link Index} was created
+		 * in batch.
+		 * @see #getBatchBuildTime()
+		 */
+		public long getBuildTime() {
+			return buildTime;
+		}
+
+		public long getEntryCount() {
+			return entryCount;
+		}
+
+		public Throwable getFailure() {
+			return failure;
+		}
+
+		public String getIndexName() {
+			return indexName;
+		}
+
+		public String getRegionPath() {
+			return regionPath;
+		}
+
+		public boolean isRetried() {
+			return retried;
+		}
+
+		public boolean isSuccessful() {
+			return (failure == null);
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		public String toString() {
+			return String.format("Index [%1$s] on Region [%2$s]: %3$d entries, %4$s%5$s", indexName, regionPath,
+				entryCount, (retried ? String.format("created individually in %d ms", buildTime)
+					: String.format("created in a batch built in %d ms", batchBuildTime)),
+						(failure != null ? String.format(", failed with %s", failure) : ""));
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link CompressionMetrics} class is a registry of the {@link MeteredCompressor MeteredCompressors}
+ * compressing {@link com.gemstone.gemfire.cache.Region Regions}, exposing the compression ratio
+ * and the compress and decompress latencies per {@link com.gemstone.gemfire.cache.Region}.
+ *
+ * @see org.springframework.data.gemfire.support.MeteredCompressor
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class CompressionMetrics {
+
+	private final ConcurrentMap<String, MeteredCompressor> compressors =
+		new ConcurrentHashMap<String, MeteredCompressor>();
+
+	/**
+	 * Registers the given {@link MeteredCompressor} under the name of the {@link com.gemstone.gemfire.cache.Region}
+	 * it compresses, replacing any {@link MeteredCompressor} previously registered for that
+	 * {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param compressor the {@link MeteredCompressor} to register.
+	 * @return the given {@link MeteredCompressor}.
+	 * @throws IllegalArgumentException if the {@link MeteredCompressor} or its Region name is null.
+	 */
+	public MeteredCompressor register(MeteredCompressor compressor) {
+		Assert.notNull(compressor, "MeteredCompressor must not be null");
+		Assert.notNull(compressor.getRegionName(), "Region name must not be null");
+
+		compressors.put(compressor.getRegionName(), compressor);
+
+		return compressor;
+	}
+
+	/**
+	 * Returns the {@link MeteredCompressor} compressing the named {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionName name of the compressed {@link com.gemstone.gemfire.cache.Region}.
+	 * @return the {@link MeteredCompressor} of the named {@link com.gemstone.gemfire.cache.Region},
+	 * or {@literal null} if the {@link com.gemstone.gemfire.cache.Region} is not metered.
+	 */
+	public MeteredCompressor getCompressor(String regionName) {
+		return compressors.get(regionName);
+	}
+
+	/**
+	 * Returns the names of all metered {@link com.gemstone.gemfire.cache.Region Regions}, in natural order.
+	 *
+	 * @return a {@link Set} of the names of the metered {@link com.gemstone.gemfire.cache.Region Regions}.
+	 */
+	public Set<String> getRegionNames() {
+		return Collections.unmodifiableSet(new TreeSet<String>(compressors.keySet()));
+	}
+
+	/**
+	 * Returns the compression ratio of the named {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionName name of the compressed {@link com.gemstone.gemfire.cache.Region}.
+	 * @return the compression ratio, or {@literal 0} if unknown.
+	 * @see MeteredCompressor#getCompressionRatio()
+	 */
+	public double getCompressionRatio(String regionName) {
+		MeteredCompressor compressor = getCompressor(regionName);
+		return (compressor != null ? compressor.getCompressionRatio() : 0.0d);
+	}
+
+	/**
+	 * Returns the average compress latency, in microseconds, of the named {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionName name of the compressed {@link com.gemstone.gemfire.cache.Region}.
+	 * @return the average compress latency in microseconds, or {@literal 0} if unknown.
+	 * @see MeteredCompressor#getAverageCompressTime()
+	 */
+	public double getAverageCompressTime(String regionName) {
+		MeteredCompressor compressor = getCompressor(regionName);
+		return (compressor != null ? compressor.getAverageCompressTime() : 0.0d);
+	}
+
+	/**
+	 * Returns the average decompress latency, in microseconds, of the named {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionName name of the compressed {@link com.gemstone.gemfire.cache.Region}.
+	 * @return the average decompress latency in microseconds, or {@literal 0} if unknown.
+	 * @see MeteredCompressor#getAverageDecompressTime()
+	 */
+	public double getAverageDecompressTime(String regionName) {
+		MeteredCompressor compressor = getCompressor(regionName);
+		return (compressor != null ? compressor.getAverageDecompressTime() : 0.0d);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, compressors = %2$s }", getClass().getName(), compressors.values());
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.gemstone.gemfire.compression.CompressionException;
+import com.gemstone.gemfire.compression.Compressor;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link DeflateCompressor} class is a GemFire {@link Compressor} compressing {@link com.gemstone.gemfire.cache.Region}
+ * entry values with the JDK's Deflate implementation, requiring no additional library on the classpath.
+ *
+ * A compressed value consists of the length of the uncompressed value, written as a 4 byte big-endian int,
+ * followed by the raw Deflate data.  A {@link Deflater} and an {@link Inflater} are reused per thread.
+ *
+ * Since the uncompressed length is read from the untrusted header of the compressed value and determines the size
+ * of the decompression buffer, it must not exceed the compressed length times {@link #MAX_COMPRESSION_RATIO},
+ * the most Deflate is able to expand its input.
+ *
+ * @see java.util.zip.Deflater
+ * @see java.util.zip.Inflater
+ * @see com.gemstone.gemfire.compression.Compressor
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class DeflateCompressor implements Compressor {
+
+	protected static final int HEADER_LENGTH = 4;
+
+	public static final int MAX_COMPRESSION_RATIO = 1032;
+
+	private final int level;
+
+	private final ThreadLocal<Deflater> deflater = new ThreadLocal<Deflater>() {
+		@Override
+		protected Deflater initialValue() {
+			return new Deflater(level, true);
+		}
+	};
+
+	private final ThreadLocal<Inflater> inflater = new ThreadLocal<Inflater>() {
+		@Override
+		protected Inflater initialValue() {
+			return new Inflater(true);
+		}
+	};
+
+	/**
+	 * Constructs an instance of {@link DeflateCompressor} favoring compression speed over compression ratio.
+	 *
+	 * @see java.util.zip.Deflater#BEST_SPEED
+	 */
+	public DeflateCompressor() {
+		this(Deflater.BEST_SPEED);
+	}
+
+	/**
+	 * Constructs an instance of {@link DeflateCompressor} using the given Deflate compression level.
+	 *
+	 * @param level Deflate compression level between {@literal 0} (no compression) and {@literal 9} (best compression).
+	 * @throws IllegalArgumentException if the compression level is not valid.
+	 */
+	public DeflateCompressor(int level) {
+		Assert.isTrue(level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION,
+			String.format("Compression level [%d] must be between 0 and 9", level));
+
+		this.level = level;
+	}
+
+	/**
+	 * Returns the Deflate compression level used by this {@link Compressor}.
+	 *
+	 * @return the Deflate compression level.
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public byte[] compress(byte[] input) {
+		Deflater deflater = this.deflater.get();
+
+		deflater.reset();
+		deflater.setInput(input);
+		deflater.finish();
+
+		byte[] output = new byte[HEADER_LENGTH + input.length + (input.length >> 3) + 16];
+
+		output[0] = (byte) (input.length >>> 24);
+		output[1] = (byte) (input.length >>> 16);
+		output[2] = (byte) (input.length >>> 8);
+		output[3] = (byte) input.length;
+
+		int length = HEADER_LENGTH;
+
+		while (!deflater.finished()) {
+			if (length == output.length) {
+				output = Arrays.copyOf(output, output.length * 2);
+			}
+
+			length += deflater.deflate(output, length, output.length - length);
+		}
+
+		return Arrays.copyOf(output, length);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public byte[] decompress(byte[] input) {
+		if (input.length < HEADER_LENGTH) {
+			throw new CompressionException("Compressed value is truncated");
+		}
+
+		int uncompressedLength = ((input[0] & 0xFF) << 24) | ((input[1] & 0xFF) << 16)
+			| ((input[2] & 0xFF) << 8) | (input[3] & 0xFF);
+
+		if (!isValidUncompressedLength(uncompressedLength, input.length - HEADER_LENGTH)) {
+			throw new CompressionException(String.format(
+				"Invalid uncompressed length [%1$d] for [%2$d] compressed bytes",
+					uncompressedLength, input.length - HEADER_LENGTH));
+		}
+
+		Inflater inflater = this.inflater.get();
+
+		inflater.reset();
+		inflater.setInput(input, HEADER_LENGTH, input.length - HEADER_LENGTH);
+
+		byte[] output = new byte[uncompressedLength];
+
+		try {
+			int length = 0;
+
+			while (length < uncompressedLength) {
+				int count = inflater.inflate(output, length, uncompressedLength - length);
+
+				if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+
+				length += count;
+			}
+
+			if (length != uncompressedLength) {
+				throw new CompressionException(String.format("Expected [%1$d] bytes but decompressed [%2$d]",
+					uncompressedLength, length));
+			}
+
+			return output;
+		}
+		catch (DataFormatException e) {
+			throw new CompressionException("Compressed value is corrupt", e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static boolean isValidUncompressedLength(int uncompressedLength, int compressedLength) {
+		return (uncompressedLength >= 0 && uncompressedLength <= (long) compressedLength * MAX_COMPRESSION_RATIO);
+	}
+}
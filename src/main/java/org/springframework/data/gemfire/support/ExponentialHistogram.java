@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link ExponentialHistogram} class is a lock-free histogram of non-negative values, e.g. latencies
+ * in nanoseconds or sizes in bytes, counted in buckets bounded by powers of 2.  Recording a value neither
+ * allocates nor blocks, and percentiles are approximated by the upper bound of the bucket they fall in,
+ * i.e. within a factor of 2.
+ *
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ * @see org.springframework.data.gemfire.support.RegionOperationMeters
+ * @since 1.10.0
+ */
+public class ExponentialHistogram {
+
+	protected static final int BUCKET_COUNT = 64;
+
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+	/* (non-Javadoc) */
+	static int bucketFor(long value) {
+		return (Long.SIZE - Long.numberOfLeadingZeros(value));
+	}
+
+	/* (non-Javadoc) */
+	static long upperBoundOf(int bucket) {
+		return (bucket < BUCKET_COUNT - 1 ? (1L << bucket) - 1L : Long.MAX_VALUE);
+	}
+
+	/**
+	 * Records the given value; negative values are recorded as {@literal 0}.
+	 *
+	 * @param value value to record.
+	 */
+	public void record(long value) {
+		long nonNegativeValue = Math.max(value, 0L);
+
+		buckets.incrementAndGet(bucketFor(nonNegativeValue));
+		count.incrementAndGet();
+		total.addAndGet(nonNegativeValue);
+
+		long currentMax = max.get();
+
+		while (nonNegativeValue > currentMax && !max.compareAndSet(currentMax, nonNegativeValue)) {
+			currentMax = max.get();
+		}
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 *
+	 * @return the number of recorded values.
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Returns the greatest recorded value.
+	 *
+	 * @return the greatest recorded value, or {@literal 0} if no value was recorded.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the mean of the recorded values.
+	 *
+	 * @return the mean of the recorded values, or {@literal 0} if no value was recorded.
+	 */
+	public double getMean() {
+		long count = getCount();
+		return (count > 0 ? (double) getTotal() / count : 0.0d);
+	}
+
+	/**
+	 * Returns an approximation of the given percentile of the recorded values, i.e. the upper bound of the bucket
+	 * containing the percentile, never greater than the greatest recorded value.
+	 *
+	 * @param percentile percentile between {@literal 0} and {@literal 100}, e.g. {@literal 99.9}.
+	 * @return the approximate percentile, or {@literal 0} if no value was recorded.
+	 * @throws IllegalArgumentException if the percentile is not between {@literal 0} and {@literal 100}.
+	 */
+	public long getPercentile(double percentile) {
+		Assert.isTrue(percentile >= 0.0d && percentile <= 100.0d,
+			String.format("Percentile [%s] must be between 0 and 100", percentile));
+
+		long count = getCount();
+		long rank = Math.max((long) Math.ceil(percentile / 100.0d * count), 1L);
+		long cumulativeCount = 0L;
+
+		for (int bucket = 0; count > 0 && bucket < BUCKET_COUNT; bucket++) {
+			cumulativeCount += buckets.get(bucket);
+
+			if (cumulativeCount >= rank) {
+				return Math.min(upperBoundOf(bucket), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	/**
+	 * Returns the sum of the recorded values.
+	 *
+	 * @return the sum of the recorded values.
+	 */
+	public long getTotal() {
+		return total.get();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("count = %1$d, mean = %2$.1f, p50 = %3$d, p99 = %4$d, max = %5$d", getCount(),
+			getMean(), getPercentile(50.0d), getPercentile(99.0d), getMax());
+	}
+}
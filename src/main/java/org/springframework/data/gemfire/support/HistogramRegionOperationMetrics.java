@@ -0,0 +1,198 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.gemstone.gemfire.cache.util.ObjectSizer;
+
+/**
+ * The {@link HistogramRegionOperationMetrics} class is a {@link RegionOperationMetrics} implementation recording
+ * per-{@link com.gemstone.gemfire.cache.Region}, per-{@link RegionOperation} latency, payload size and result size
+ * {@link ExponentialHistogram histograms} along with failure counts by exception type, in memory.
+ *
+ * Payload sizes are not recorded unless enabled with {@link #setRecordPayloadSize(boolean)}.  Payloads are then
+ * sized with a GemFire {@link ObjectSizer}, by default {@link ObjectSizer#DEFAULT}, which walks the object graph
+ * of every payload reflectively and may cost more than the operation itself; the values of a {@link Map} payload,
+ * e.g. of {@literal putAll}, are summed.  A cheaper {@link ObjectSizer}, e.g. one returning the length of
+ * serialized values, can be set with {@link #setObjectSizer(ObjectSizer)}.
+ *
+ * @see com.gemstone.gemfire.cache.util.ObjectSizer
+ * @see org.springframework.data.gemfire.support.RegionOperationMeters
+ * @see org.springframework.data.gemfire.support.RegionOperationMetrics
+ * @since 1.10.0
+ */
+public class HistogramRegionOperationMetrics implements RegionOperationMetrics {
+
+	private static final RegionOperation[] OPERATIONS = RegionOperation.values();
+
+	private volatile boolean enabled = true;
+	private volatile boolean recordPayloadSize = false;
+
+	private final ConcurrentMap<String, AtomicReferenceArray<RegionOperationMeters>> meters =
+		new ConcurrentHashMap<String, AtomicReferenceArray<RegionOperationMeters>>();
+
+	private ObjectSizer objectSizer = ObjectSizer.DEFAULT;
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void record(String regionPath, RegionOperation operation, long elapsedTime, Object payload,
+			int resultSize) {
+
+		resolveMeters(regionPath, operation).record(elapsedTime, sizeOf(payload), resultSize);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void recordFailure(String regionPath, RegionOperation operation, long elapsedTime, Throwable failure) {
+		resolveMeters(regionPath, operation).recordFailure(failure);
+	}
+
+	/* (non-Javadoc) */
+	private RegionOperationMeters resolveMeters(String regionPath, RegionOperation operation) {
+		AtomicReferenceArray<RegionOperationMeters> regionMeters = meters.get(regionPath);
+
+		if (regionMeters == null) {
+			AtomicReferenceArray<RegionOperationMeters> newRegionMeters =
+				new AtomicReferenceArray<RegionOperationMeters>(OPERATIONS.length);
+
+			regionMeters = meters.putIfAbsent(regionPath, newRegionMeters);
+			regionMeters = (regionMeters != null ? regionMeters : newRegionMeters);
+		}
+
+		RegionOperationMeters operationMeters = regionMeters.get(operation.ordinal());
+
+		if (operationMeters == null) {
+			regionMeters.compareAndSet(operation.ordinal(), null, new RegionOperationMeters(regionPath, operation));
+			operationMeters = regionMeters.get(operation.ordinal());
+		}
+
+		return operationMeters;
+	}
+
+	/* (non-Javadoc) */
+	private long sizeOf(Object payload) {
+		if (payload == null || !recordPayloadSize) {
+			return -1L;
+		}
+		else if (payload instanceof Map) {
+			long size = 0L;
+
+			for (Object value : ((Map<?, ?>) payload).values()) {
+				size += (value != null ? objectSizer.sizeof(value) : 0);
+			}
+
+			return size;
+		}
+		else {
+			return objectSizer.sizeof(payload);
+		}
+	}
+
+	/**
+	 * Returns the meters of all operations recorded so far, grouped by {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @return a {@link List} of {@link RegionOperationMeters}.
+	 */
+	public List<RegionOperationMeters> getMeters() {
+		List<RegionOperationMeters> meterList = new ArrayList<RegionOperationMeters>();
+
+		for (AtomicReferenceArray<RegionOperationMeters> regionMeters : meters.values()) {
+			for (int index = 0; index < regionMeters.length(); index++) {
+				if (regionMeters.get(index) != null) {
+					meterList.add(regionMeters.get(index));
+				}
+			}
+		}
+
+		return meterList;
+	}
+
+	/**
+	 * Returns the meters of the given operation on the given {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionPath full path of the {@link com.gemstone.gemfire.cache.Region}.
+	 * @param operation {@link RegionOperation} performed.
+	 * @return the {@link RegionOperationMeters} or {@literal null} if the operation was not recorded.
+	 */
+	public RegionOperationMeters getMeters(String regionPath, RegionOperation operation) {
+		AtomicReferenceArray<RegionOperationMeters> regionMeters = meters.get(regionPath);
+		return (regionMeters != null ? regionMeters.get(operation.ordinal()) : null);
+	}
+
+	/**
+	 * Discards all recorded meters.
+	 */
+	public void reset() {
+		meters.clear();
+	}
+
+	/**
+	 * Enables or disables recording; {@link org.springframework.data.gemfire.GemfireTemplate GemfireTemplates}
+	 * stop timing their operations while disabled.
+	 *
+	 * @param enabled boolean indicating whether operations are recorded.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Sets the {@link ObjectSizer} used to size payloads.
+	 *
+	 * @param objectSizer {@link ObjectSizer} sizing payloads; {@literal null} resets to {@link ObjectSizer#DEFAULT}.
+	 */
+	public void setObjectSizer(ObjectSizer objectSizer) {
+		this.objectSizer = (objectSizer != null ? objectSizer : ObjectSizer.DEFAULT);
+	}
+
+	protected ObjectSizer getObjectSizer() {
+		return objectSizer;
+	}
+
+	/**
+	 * Sets whether payload sizes are recorded.  Defaults to {@literal false} since the {@link ObjectSizer#DEFAULT
+	 * default ObjectSizer} reflectively walks the object graph of every payload, which for large or deep graphs
+	 * may cost more than the operation itself.
+	 *
+	 * @param recordPayloadSize boolean indicating whether payload sizes are recorded.
+	 */
+	public void setRecordPayloadSize(boolean recordPayloadSize) {
+		this.recordPayloadSize = recordPayloadSize;
+	}
+
+	public boolean isRecordPayloadSize() {
+		return recordPayloadSize;
+	}
+}
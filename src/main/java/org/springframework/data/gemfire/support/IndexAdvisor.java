@@ -0,0 +1,366 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+import com.gemstone.gemfire.cache.RegionService;
+import com.gemstone.gemfire.cache.client.ClientCache;
+import com.gemstone.gemfire.cache.query.Index;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.mapping.Indexed;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link IndexAdvisor} class compares the paths filtered on by the queries recorded by
+ * a {@link QueryStatisticsRecorder} against the existing {@link Index Indexes} and the
+ * {@link Indexed @Indexed} entity mapping meta-data, and recommends {@link Indexed @Indexed} declarations
+ * ranked by the estimated time they would save.
+ *
+ * A query shape filtering on at least one indexed path is considered served by an {@link Index}.  The time
+ * taken by the queries of any other shape is shared among the paths they filter on; the estimated time saved by
+ * an {@link Index} on a path is the sum of its shares, which is an upper bound since an {@link Index} lookup is not free.
+ * Equality conditions lead to a {@link IndexType#HASH} {@link Index} and range or {@literal LIKE} conditions to
+ * a {@link IndexType#FUNCTIONAL} {@link Index}.
+ *
+ * On a client, only the {@link Index Indexes} of local {@link com.gemstone.gemfire.cache.Region Regions} are known;
+ * the {@link Index Indexes} of the servers are not.
+ *
+ * @see org.springframework.data.gemfire.mapping.Indexed
+ * @see org.springframework.data.gemfire.support.IndexRecommendation
+ * @see org.springframework.data.gemfire.support.QueryStatisticsRecorder
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class IndexAdvisor implements ApplicationContextAware, DisposableBean {
+
+	public static final long DEFAULT_MINIMUM_QUERY_COUNT = 10L;
+
+	protected final Log log = LogFactory.getLog(getClass());
+
+	private boolean logOnShutdown = true;
+
+	private long minimumQueryCount = DEFAULT_MINIMUM_QUERY_COUNT;
+
+	private ApplicationContext applicationContext;
+
+	private MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
+
+	private final QueryStatisticsRecorder queryStatisticsRecorder;
+
+	private RegionService cache;
+
+	/**
+	 * Constructs an instance of {@link IndexAdvisor} advising on the queries recorded by
+	 * the given {@link QueryStatisticsRecorder}.
+	 *
+	 * @param queryStatisticsRecorder {@link QueryStatisticsRecorder} recording the executed queries.
+	 * @throws IllegalArgumentException if the {@link QueryStatisticsRecorder} is null.
+	 */
+	public IndexAdvisor(QueryStatisticsRecorder queryStatisticsRecorder) {
+		Assert.notNull(queryStatisticsRecorder, "QueryStatisticsRecorder must not be null");
+		this.queryStatisticsRecorder = queryStatisticsRecorder;
+	}
+
+	/**
+	 * Returns the recommended {@link Index Indexes}, in descending order of estimated time saved.
+	 *
+	 * @return a {@link List} of {@link IndexRecommendation IndexRecommendations}.
+	 */
+	public List<IndexRecommendation> getRecommendations() {
+		Set<String> indexedPaths = resolveIndexedPaths();
+		Set<String> declaredPaths = new HashSet<String>();
+		Map<String, GemfirePersistentProperty> entityProperties = new HashMap<String, GemfirePersistentProperty>();
+
+		resolveMappedPaths(declaredPaths, entityProperties);
+
+		Map<String, Candidate> candidates = new LinkedHashMap<String, Candidate>();
+
+		for (QueryShapeStatistics statistics : queryStatisticsRecorder.getStatistics()) {
+			QueryShape shape = statistics.getShape();
+			long count = statistics.getCount();
+
+			if (count >= minimumQueryCount && shape.getRegionPath() != null && !shape.getPaths().isEmpty()
+					&& !isServedByIndex(shape, indexedPaths)) {
+
+				long timeShare = statistics.getTotalTime(TimeUnit.NANOSECONDS) / shape.getPaths().size();
+
+				for (Map.Entry<String, Boolean> path : shape.getPaths().entrySet()) {
+					String key = toPathKey(shape.getRegionPath(), path.getKey());
+					Candidate candidate = candidates.get(key);
+
+					if (candidate == null) {
+						candidate = new Candidate();
+						candidates.put(key, candidate);
+					}
+
+					candidate.queryCount += count;
+					candidate.timeSaved += timeShare;
+					candidate.range |= Boolean.TRUE.equals(path.getValue());
+				}
+			}
+		}
+
+		List<IndexRecommendation> recommendations = new ArrayList<IndexRecommendation>(candidates.size());
+
+		for (Map.Entry<String, Candidate> entry : candidates.entrySet()) {
+			String[] regionPathAndExpression = entry.getKey().split("\\|", 2);
+			GemfirePersistentProperty entityProperty = entityProperties.get(entry.getKey());
+			Candidate candidate = entry.getValue();
+
+			recommendations.add(new IndexRecommendation(regionPathAndExpression[0], regionPathAndExpression[1],
+				(candidate.range ? IndexType.FUNCTIONAL : IndexType.HASH),
+					(entityProperty != null ? entityProperty.getOwner().getType() : null),
+						(entityProperty != null ? entityProperty.getName() : null),
+							declaredPaths.contains(entry.getKey()), candidate.queryCount, candidate.timeSaved));
+		}
+
+		Collections.sort(recommendations, new Comparator<IndexRecommendation>() {
+			@Override
+			public int compare(IndexRecommendation recommendationOne, IndexRecommendation recommendationTwo) {
+				long timeSavedOne = recommendationOne.getEstimatedTimeSaved(TimeUnit.NANOSECONDS);
+				long timeSavedTwo = recommendationTwo.getEstimatedTimeSaved(TimeUnit.NANOSECONDS);
+
+				return (timeSavedOne > timeSavedTwo ? -1 : (timeSavedOne < timeSavedTwo ? 1 : 0));
+			}
+		});
+
+		return recommendations;
+	}
+
+	/* (non-Javadoc) */
+	private boolean isServedByIndex(QueryShape shape, Set<String> indexedPaths) {
+		for (String path : shape.getPaths().keySet()) {
+			if (indexedPaths.contains(toPathKey(shape.getRegionPath(), path))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/* (non-Javadoc) */
+	private Set<String> resolveIndexedPaths() {
+		Set<String> indexedPaths = new HashSet<String>();
+
+		if (cache != null) {
+			Collection<Index> indexes = (cache instanceof ClientCache
+				? ((ClientCache) cache).getLocalQueryService() : cache.getQueryService()).getIndexes();
+
+			for (Index index : CollectionUtils.nullSafeCollection(indexes)) {
+				Matcher fromMatcher = QueryShape.FROM_PATTERN.matcher("FROM ".concat(
+					String.valueOf(index.getFromClause())));
+
+				if (fromMatcher.find() && index.getIndexedExpression() != null) {
+					String alias = fromMatcher.group(2);
+					String expression = QueryShape.stripAlias(index.getIndexedExpression(), alias);
+
+					if (expression != null) {
+						indexedPaths.add(toPathKey(fromMatcher.group(1), expression));
+					}
+				}
+			}
+		}
+
+		return indexedPaths;
+	}
+
+	/* (non-Javadoc) */
+	private void resolveMappedPaths(final Set<String> declaredPaths,
+			final Map<String, GemfirePersistentProperty> entityProperties) {
+
+		MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext =
+			resolveMappingContext();
+
+		if (mappingContext != null) {
+			for (GemfirePersistentEntity<?> persistentEntity : mappingContext.getPersistentEntities()) {
+				final String regionPath = persistentEntity.getRegionName();
+
+				persistentEntity.doWithProperties(new PropertyHandler<GemfirePersistentProperty>() {
+					@Override
+					public void doWithPersistentProperty(GemfirePersistentProperty persistentProperty) {
+						Indexed indexed = persistentProperty.findAnnotation(Indexed.class);
+
+						String expression = (indexed != null && StringUtils.hasText(indexed.expression())
+							? indexed.expression() : persistentProperty.getName());
+
+						String key = toPathKey(regionPath, expression);
+
+						entityProperties.put(key, persistentProperty);
+
+						if (indexed != null || persistentProperty.isIdProperty()) {
+							declaredPaths.add(key);
+						}
+					}
+				});
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> resolveMappingContext() {
+		if (mappingContext == null && applicationContext != null) {
+			String[] mappingContextBeanNames = applicationContext.getBeanNamesForType(GemfireMappingContext.class);
+
+			if (mappingContextBeanNames.length == 1) {
+				return applicationContext.getBean(mappingContextBeanNames[0], GemfireMappingContext.class);
+			}
+		}
+
+		return mappingContext;
+	}
+
+	/* (non-Javadoc) */
+	static String toPathKey(String regionPath, String path) {
+		String trimmedRegionPath = regionPath.trim();
+
+		return String.format("%1$s|%2$s", (trimmedRegionPath.startsWith("/") ? trimmedRegionPath
+			: "/".concat(trimmedRegionPath)), path.trim());
+	}
+
+	/**
+	 * Logs the statistics of the recorded query shapes and the recommended {@link Index Indexes}.
+	 */
+	public void logRecommendations() {
+		if (log.isInfoEnabled()) {
+			log.info(toReport());
+		}
+	}
+
+	/**
+	 * Returns a report of the statistics of the recorded query shapes and the recommended {@link Index Indexes}.
+	 *
+	 * @return the report.
+	 */
+	public String toReport() {
+		StringBuilder report = new StringBuilder("Query shapes, by total time:");
+
+		for (QueryShapeStatistics statistics : queryStatisticsRecorder.getStatistics()) {
+			report.append(String.format("%n  %s", statistics));
+		}
+
+		List<IndexRecommendation> recommendations = getRecommendations();
+
+		report.append(String.format("%nRecommended Indexes, by estimated time saved:%s",
+			(recommendations.isEmpty() ? " none" : "")));
+
+		for (int index = 0; index < recommendations.size(); index++) {
+			report.append(String.format("%n  %1$d. %2$s", index + 1, recommendations.get(index)));
+		}
+
+		return report.toString();
+	}
+
+	/**
+	 * Logs the recommended {@link Index Indexes} if configured to do so on shutdown.
+	 */
+	@Override
+	public void destroy() throws Exception {
+		if (logOnShutdown) {
+			logRecommendations();
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Sets a reference to the cache whose {@link Index Indexes} serve the recorded queries.
+	 *
+	 * @param cache the {@link RegionService} providing the existing {@link Index Indexes}.
+	 */
+	public void setCache(RegionService cache) {
+		this.cache = cache;
+	}
+
+	public void setLogOnShutdown(boolean logOnShutdown) {
+		this.logOnShutdown = logOnShutdown;
+	}
+
+	public boolean isLogOnShutdown() {
+		return logOnShutdown;
+	}
+
+	/**
+	 * Sets the {@link MappingContext} providing the {@link Indexed @Indexed} entity mapping meta-data.
+	 * Defaults to the single {@link GemfireMappingContext} bean of the Spring context, if any.
+	 *
+	 * @param mappingContext the {@link MappingContext} providing the entity mapping meta-data.
+	 */
+	public void setMappingContext(
+			MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext) {
+
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Sets the number of executions from which the queries of a shape are considered for recommendations.
+	 *
+	 * @param minimumQueryCount minimum number of queries of a shape.
+	 */
+	public void setMinimumQueryCount(long minimumQueryCount) {
+		this.minimumQueryCount = minimumQueryCount;
+	}
+
+	public long getMinimumQueryCount() {
+		return minimumQueryCount;
+	}
+
+	public QueryStatisticsRecorder getQueryStatisticsRecorder() {
+		return queryStatisticsRecorder;
+	}
+
+	/* (non-Javadoc) */
+	private static class Candidate {
+
+		private boolean range;
+
+		private long queryCount;
+		private long timeSaved;
+
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.gemfire.IndexType;
+
+/**
+ * The {@link IndexRecommendation} class is an {@link com.gemstone.gemfire.cache.query.Index} recommended by
+ * the {@link IndexAdvisor} for a path filtered on by queries that no {@link com.gemstone.gemfire.cache.query.Index}
+ * could serve.
+ *
+ * @see org.springframework.data.gemfire.support.IndexAdvisor
+ * @since 1.10.0
+ */
+public class IndexRecommendation {
+
+	private final boolean declared;
+
+	private final Class<?> entityType;
+
+	private final IndexType indexType;
+
+	private final long estimatedTimeSaved;
+	private final long queryCount;
+
+	private final String expression;
+	private final String propertyName;
+	private final String regionPath;
+
+	/**
+	 * Constructs an instance of {@link IndexRecommendation}.
+	 *
+	 * @param regionPath path of the {@link com.gemstone.gemfire.cache.Region} to index.
+	 * @param expression path to index, relative to the {@link com.gemstone.gemfire.cache.Region} entries.
+	 * @param indexType recommended {@link IndexType}.
+	 * @param entityType persistent entity type stored in the {@link com.gemstone.gemfire.cache.Region};
+	 * may be {@literal null}.
+	 * @param propertyName persistent entity property to annotate; may be {@literal null}.
+	 * @param declared whether the property is already annotated with {@link org.springframework.data.gemfire.mapping.Indexed}
+	 * though no {@link com.gemstone.gemfire.cache.query.Index} exists.
+	 * @param queryCount number of queries filtering on the path.
+	 * @param estimatedTimeSaved estimated time saved by the {@link com.gemstone.gemfire.cache.query.Index},
+	 * in nanoseconds.
+	 */
+	public IndexRecommendation(String regionPath, String expression, IndexType indexType, Class<?> entityType,
+			String propertyName, boolean declared, long queryCount, long estimatedTimeSaved) {
+
+		this.regionPath = regionPath;
+		this.expression = expression;
+		this.indexType = indexType;
+		this.entityType = entityType;
+		this.propertyName = propertyName;
+		this.declared = declared;
+		this.queryCount = queryCount;
+		this.estimatedTimeSaved = estimatedTimeSaved;
+	}
+
+	/**
+	 * Determines whether the persistent entity property is already annotated with
+	 * {@link org.springframework.data.gemfire.mapping.Indexed} though no {@link com.gemstone.gemfire.cache.query.Index}
+	 * exists, e.g. because {@link org.springframework.data.gemfire.config.annotation.EnableIndexes} is not enabled.
+	 *
+	 * @return a boolean indicating whether the {@link com.gemstone.gemfire.cache.query.Index} is declared.
+	 */
+	public boolean isDeclared() {
+		return declared;
+	}
+
+	public Class<?> getEntityType() {
+		return entityType;
+	}
+
+	/**
+	 * Returns the upper bound of the time the {@link com.gemstone.gemfire.cache.query.Index} would have saved,
+	 * i.e. the time taken by the queries filtering on the path, shared among the paths they filter on.
+	 *
+	 * @param unit {@link TimeUnit} of the returned time.
+	 * @return the estimated time saved.
+	 */
+	public long getEstimatedTimeSaved(TimeUnit unit) {
+		return unit.convert(estimatedTimeSaved, TimeUnit.NANOSECONDS);
+	}
+
+	public String getExpression() {
+		return expression;
+	}
+
+	public IndexType getIndexType() {
+		return indexType;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public long getQueryCount() {
+		return queryCount;
+	}
+
+	public String getRegionPath() {
+		return regionPath;
+	}
+
+	/**
+	 * Returns the {@link org.springframework.data.gemfire.mapping.Indexed} declaration creating the recommended
+	 * {@link com.gemstone.gemfire.cache.query.Index}, on the persistent entity property if known.
+	 *
+	 * @return the recommended {@link org.springframework.data.gemfire.mapping.Indexed} declaration.
+	 */
+	public String toDeclaration() {
+		return (entityType != null && propertyName != null
+			? String.format("@Indexed(type = IndexType.%1$s) on %2$s.%3$s", indexType, entityType.getName(),
+				propertyName)
+			: String.format("@Indexed(expression = \"%1$s\", from = \"%2$s\", type = IndexType.%3$s)", expression,
+				regionPath, indexType));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s%2$s; %3$d queries on [%4$s] filtering on [%5$s], est. %6$d ms saved",
+			toDeclaration(), (declared ? " (declared, but no Index exists)" : ""), queryCount, regionPath,
+				expression, getEstimatedTimeSaved(TimeUnit.MILLISECONDS));
+	}
+}
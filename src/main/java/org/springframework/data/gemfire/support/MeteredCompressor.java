@@ -0,0 +1,204 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gemstone.gemfire.compression.Compressor;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link MeteredCompressor} class is a GemFire {@link Compressor} decorator recording the compression ratio
+ * and the compress and decompress latencies of the {@link com.gemstone.gemfire.cache.Region} it compresses.
+ *
+ * @see com.gemstone.gemfire.compression.Compressor
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class MeteredCompressor implements Compressor {
+
+	private final AtomicLong compressedBytes = new AtomicLong();
+	private final AtomicLong compressions = new AtomicLong();
+	private final AtomicLong compressTime = new AtomicLong();
+	private final AtomicLong decompressions = new AtomicLong();
+	private final AtomicLong decompressTime = new AtomicLong();
+	private final AtomicLong uncompressedBytes = new AtomicLong();
+
+	private final Compressor delegate;
+
+	private final String regionName;
+
+	/**
+	 * Constructs an instance of {@link MeteredCompressor} recording the metrics of the given {@link Compressor}
+	 * for the named {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionName name of the {@link com.gemstone.gemfire.cache.Region} compressed by the {@link Compressor}.
+	 * @param delegate the {@link Compressor} compressing the {@link com.gemstone.gemfire.cache.Region} entry values.
+	 * @throws IllegalArgumentException if the {@link Compressor} is null.
+	 */
+	public MeteredCompressor(String regionName, Compressor delegate) {
+		Assert.notNull(delegate, "Compressor must not be null");
+
+		this.regionName = regionName;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Returns the {@link Compressor} compressing the {@link com.gemstone.gemfire.cache.Region} entry values.
+	 *
+	 * @return the decorated {@link Compressor}.
+	 */
+	public Compressor getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Returns the name of the {@link com.gemstone.gemfire.cache.Region} compressed by this {@link Compressor}.
+	 *
+	 * @return the name of the compressed {@link com.gemstone.gemfire.cache.Region}.
+	 */
+	public String getRegionName() {
+		return regionName;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public byte[] compress(byte[] input) {
+		long startTime = System.nanoTime();
+
+		byte[] output = delegate.compress(input);
+
+		compressTime.addAndGet(System.nanoTime() - startTime);
+		compressions.incrementAndGet();
+		uncompressedBytes.addAndGet(input.length);
+		compressedBytes.addAndGet(output.length);
+
+		return output;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public byte[] decompress(byte[] input) {
+		long startTime = System.nanoTime();
+
+		byte[] output = delegate.decompress(input);
+
+		decompressTime.addAndGet(System.nanoTime() - startTime);
+		decompressions.incrementAndGet();
+
+		return output;
+	}
+
+	/**
+	 * Returns the number of entry values compressed.
+	 *
+	 * @return the number of compressions.
+	 */
+	public long getCompressions() {
+		return compressions.get();
+	}
+
+	/**
+	 * Returns the number of entry values decompressed.
+	 *
+	 * @return the number of decompressions.
+	 */
+	public long getDecompressions() {
+		return decompressions.get();
+	}
+
+	/**
+	 * Returns the total size, in bytes, of the entry values before compression.
+	 *
+	 * @return the number of uncompressed bytes.
+	 */
+	public long getUncompressedBytes() {
+		return uncompressedBytes.get();
+	}
+
+	/**
+	 * Returns the total size, in bytes, of the entry values after compression.
+	 *
+	 * @return the number of compressed bytes.
+	 */
+	public long getCompressedBytes() {
+		return compressedBytes.get();
+	}
+
+	/**
+	 * Returns the ratio of the uncompressed size to the compressed size of all entry values compressed so far
+	 * (e.g. {@literal 4.0} when values are compressed to a quarter of their size).
+	 *
+	 * @return the compression ratio, or {@literal 0} if no entry value was compressed.
+	 */
+	public double getCompressionRatio() {
+		long compressedBytes = getCompressedBytes();
+		return (compressedBytes > 0L ? (double) getUncompressedBytes() / compressedBytes : 0.0d);
+	}
+
+	/**
+	 * Returns the average time, in microseconds, taken to compress an entry value.
+	 *
+	 * @return the average compress latency in microseconds.
+	 */
+	public double getAverageCompressTime() {
+		return average(compressTime.get(), getCompressions());
+	}
+
+	/**
+	 * Returns the average time, in microseconds, taken to decompress an entry value.
+	 *
+	 * @return the average decompress latency in microseconds.
+	 */
+	public double getAverageDecompressTime() {
+		return average(decompressTime.get(), getDecompressions());
+	}
+
+	/* (non-Javadoc) */
+	private static double average(long totalNanoseconds, long count) {
+		return (count > 0L ? (double) totalNanoseconds / count / TimeUnit.MICROSECONDS.toNanos(1) : 0.0d);
+	}
+
+	/**
+	 * Resets all metrics recorded by this {@link Compressor}.
+	 */
+	public void reset() {
+		compressedBytes.set(0L);
+		compressions.set(0L);
+		compressTime.set(0L);
+		decompressions.set(0L);
+		decompressTime.set(0L);
+		uncompressedBytes.set(0L);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, regionName = %2$s, compressor = %3$s, compressionRatio = %4$.2f,"
+			+ " averageCompressTime = %5$.1f us, averageDecompressTime = %6$.1f us }", getClass().getName(),
+				getRegionName(), getDelegate().getClass().getName(), getCompressionRatio(), getAverageCompressTime(),
+					getAverageDecompressTime());
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+/**
+ * The {@link NoOpRegionOperationMetrics} class is the disabled {@link RegionOperationMetrics} used by
+ * {@link org.springframework.data.gemfire.GemfireTemplate GemfireTemplates} unless metrics are configured.
+ *
+ * @see org.springframework.data.gemfire.support.RegionOperationMetrics
+ * @since 1.10.0
+ */
+public final class NoOpRegionOperationMetrics implements RegionOperationMetrics {
+
+	public static final NoOpRegionOperationMetrics INSTANCE = new NoOpRegionOperationMetrics();
+
+	private NoOpRegionOperationMetrics() {
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void record(String regionPath, RegionOperation operation, long elapsedTime, Object payload,
+			int resultSize) {
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void recordFailure(String regionPath, RegionOperation operation, long elapsedTime, Throwable failure) {
+	}
+}
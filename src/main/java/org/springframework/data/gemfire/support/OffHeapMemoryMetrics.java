@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.gemstone.gemfire.cache.GemFireCache;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.management.ManagementService;
+import com.gemstone.gemfire.management.MemberMXBean;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link OffHeapMemoryMetrics} class exposes the off-heap memory usage of a GemFire cache member,
+ * as reported by the member's {@link MemberMXBean}, along with the {@link Region Regions} storing
+ * their entry values off-heap.
+ *
+ * All metrics are {@literal 0} when the member has no off-heap memory configured
+ * or GemFire management is not available.
+ *
+ * @see com.gemstone.gemfire.cache.GemFireCache
+ * @see com.gemstone.gemfire.management.ManagementService
+ * @see com.gemstone.gemfire.management.MemberMXBean
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class OffHeapMemoryMetrics {
+
+	private final GemFireCache gemfireCache;
+
+	/**
+	 * Constructs an instance of {@link OffHeapMemoryMetrics} reporting the off-heap memory usage
+	 * of the given GemFire cache member.
+	 *
+	 * @param gemfireCache the GemFire cache.
+	 * @throws IllegalArgumentException if the GemFire cache is null.
+	 */
+	public OffHeapMemoryMetrics(GemFireCache gemfireCache) {
+		Assert.notNull(gemfireCache, "GemFireCache must not be null");
+		this.gemfireCache = gemfireCache;
+	}
+
+	/* (non-Javadoc) */
+	MemberMXBean getMemberMXBean() {
+		if (!gemfireCache.isClosed() && gemfireCache instanceof com.gemstone.gemfire.cache.Cache) {
+			ManagementService managementService = ManagementService.getExistingManagementService(
+				(com.gemstone.gemfire.cache.Cache) gemfireCache);
+
+			return (managementService != null ? managementService.getMemberMXBean() : null);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the amount of off-heap memory, in bytes, available for storing entry values.
+	 *
+	 * @return the amount of free off-heap memory in bytes.
+	 */
+	public long getFreeMemory() {
+		MemberMXBean memberMXBean = getMemberMXBean();
+		return (memberMXBean != null ? memberMXBean.getOffHeapFreeMemory() : 0L);
+	}
+
+	/**
+	 * Returns the amount of off-heap memory, in bytes, used to store entry values.
+	 *
+	 * @return the amount of used off-heap memory in bytes.
+	 */
+	public long getUsedMemory() {
+		MemberMXBean memberMXBean = getMemberMXBean();
+		return (memberMXBean != null ? memberMXBean.getOffHeapUsedMemory() : 0L);
+	}
+
+	/**
+	 * Returns the total amount of off-heap memory, in bytes, configured with {@literal off-heap-memory-size}.
+	 *
+	 * @return the total amount of off-heap memory in bytes.
+	 */
+	public long getTotalMemory() {
+		MemberMXBean memberMXBean = getMemberMXBean();
+
+		return (memberMXBean != null ? memberMXBean.getOffHeapFreeMemory() + memberMXBean.getOffHeapUsedMemory()
+			: 0L);
+	}
+
+	/**
+	 * Returns the percentage of the off-heap memory used to store entry values.
+	 *
+	 * @return the percentage of used off-heap memory, between {@literal 0} and {@literal 100}.
+	 */
+	public float getUsedMemoryPercentage() {
+		MemberMXBean memberMXBean = getMemberMXBean();
+
+		if (memberMXBean != null) {
+			long usedMemory = memberMXBean.getOffHeapUsedMemory();
+			long totalMemory = memberMXBean.getOffHeapFreeMemory() + usedMemory;
+
+			return (totalMemory > 0L ? (usedMemory * 100.0f / totalMemory) : 0.0f);
+		}
+
+		return 0.0f;
+	}
+
+	/**
+	 * Returns the number of entry values stored off-heap.
+	 *
+	 * @return the number of off-heap objects.
+	 */
+	public long getObjects() {
+		MemberMXBean memberMXBean = getMemberMXBean();
+		return (memberMXBean != null ? memberMXBean.getOffHeapObjects() : 0L);
+	}
+
+	/**
+	 * Returns the percentage of the free off-heap memory that is fragmented.
+	 *
+	 * @return the off-heap memory fragmentation percentage.
+	 */
+	public int getFragmentation() {
+		MemberMXBean memberMXBean = getMemberMXBean();
+		return (memberMXBean != null ? memberMXBean.getOffHeapFragmentation() : 0);
+	}
+
+	/**
+	 * Returns the full paths of all {@link Region Regions} in the GemFire cache storing their entry values off-heap.
+	 *
+	 * @return a {@link List} of the full paths of the off-heap {@link Region Regions}.
+	 * @see com.gemstone.gemfire.cache.RegionAttributes#getEnableOffHeapMemory()
+	 */
+	public List<String> getOffHeapRegionPaths() {
+		List<String> regionPaths = new ArrayList<String>();
+
+		if (!gemfireCache.isClosed()) {
+			for (Region<?, ?> region : gemfireCache.rootRegions()) {
+				collectOffHeapRegionPaths(region, regionPaths);
+			}
+		}
+
+		return regionPaths;
+	}
+
+	/* (non-Javadoc) */
+	private void collectOffHeapRegionPaths(Region<?, ?> region, Collection<String> regionPaths) {
+		if (region.getAttributes().getEnableOffHeapMemory()) {
+			regionPaths.add(region.getFullPath());
+		}
+
+		for (Region<?, ?> subregion : region.subregions(false)) {
+			collectOffHeapRegionPaths(subregion, regionPaths);
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, usedMemory = %2$d, freeMemory = %3$d, usedMemoryPercentage = %4$.1f,"
+			+ " objects = %5$d, fragmentation = %6$d }", getClass().getName(), getUsedMemory(), getFreeMemory(),
+				getUsedMemoryPercentage(), getObjects(), getFragmentation());
+	}
+}
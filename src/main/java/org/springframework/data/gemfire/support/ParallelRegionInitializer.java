@@ -0,0 +1,233 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import com.gemstone.gemfire.cache.Region;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link ParallelRegionInitializer} class initializes {@link Region Regions}, i.e. creates them and,
+ * when persistent, recovers their data from disk, concurrently on a bounded pool of {@link Thread Threads},
+ * rather than one after another while the Spring container instantiates the {@link Region} beans.
+ * Cache startup is then bounded by the slowest {@link Region} instead of the sum of all {@link Region Regions}.
+ *
+ * A {@link Region} colocated with another {@link Region} waits for the other {@link Region} to be initialized,
+ * as does a {@link Region} declared by more than one bean.  Since the bean of a colocated {@link Region} depends on
+ * the bean of the {@link Region} it is colocated with, the latter is always submitted first and the pool, which
+ * runs the initializations in order of submission, never waits on an initialization that is not running.
+ *
+ * Once all singleton beans have been instantiated, the {@link ParallelRegionInitializer} waits for all
+ * {@link Region Regions} to be initialized, logs the {@link RegionStartupTimeline} and fails the startup
+ * if any {@link Region} failed to initialize.
+ *
+ * @see org.springframework.data.gemfire.RegionLookupFactoryBean#setParallelRegionInitializer(ParallelRegionInitializer)
+ * @see org.springframework.data.gemfire.support.RegionStartupTimeline
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class ParallelRegionInitializer implements SmartInitializingSingleton, DisposableBean {
+
+	public static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+	public static final String THREAD_NAME_PREFIX = "RegionInitializer-";
+
+	protected final Log log = LogFactory.getLog(getClass());
+
+	private final ConcurrentMap<String, Future<?>> regionFutures = new ConcurrentHashMap<String, Future<?>>();
+
+	private final ExecutorService executorService;
+
+	private final RegionStartupTimeline timeline = new RegionStartupTimeline();
+
+	/**
+	 * Constructs an instance of {@link ParallelRegionInitializer} initializing {@link Region Regions}
+	 * on {@link #DEFAULT_POOL_SIZE} {@link Thread Threads}.
+	 */
+	public ParallelRegionInitializer() {
+		this(DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * Constructs an instance of {@link ParallelRegionInitializer} initializing {@link Region Regions}
+	 * on the given number of {@link Thread Threads}.
+	 *
+	 * @param poolSize maximum number of {@link Region Regions} initialized concurrently.
+	 * @throws IllegalArgumentException if the pool size is less than {@literal 1}.
+	 */
+	public ParallelRegionInitializer(int poolSize) {
+		Assert.isTrue(poolSize > 0, String.format("Pool size [%d] must be greater than 0", poolSize));
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+
+		threadFactory.setDaemon(true);
+
+		this.executorService = Executors.newFixedThreadPool(poolSize, threadFactory);
+	}
+
+	/**
+	 * Submits the initialization of the {@link Region} with the given path.
+	 *
+	 * @param <K> {@link Class} type of the {@link Region} key.
+	 * @param <V> {@link Class} type of the {@link Region} value.
+	 * @param regionPath name, or path for a {@link Region Sub-Region}, of the {@link Region}.
+	 * @param colocatedWith name or path of the {@link Region} the {@link Region} is colocated with;
+	 * {@literal null} if not colocated.
+	 * @param regionInitializer {@link Callable} creating or looking up the {@link Region}.
+	 * @return a {@link Future} of the initialized {@link Region}.
+	 * @throws IllegalArgumentException if the {@link Region} path is empty or the {@link Callable} is null.
+	 */
+	public <K, V> Future<Region<K, V>> submit(String regionPath, String colocatedWith,
+			final Callable<Region<K, V>> regionInitializer) {
+
+		Assert.hasText(regionPath, "Region path must be specified");
+		Assert.notNull(regionInitializer, "Region initializer must not be null");
+
+		final String regionKey = toRegionKey(regionPath);
+		final String colocatedRegionKey = (StringUtils.hasText(colocatedWith) ? toRegionKey(colocatedWith) : null);
+		final Future<?> colocatedRegionFuture = (colocatedRegionKey != null
+			? regionFutures.get(colocatedRegionKey) : null);
+
+		final RegionStartupTimeline.Entry entry = timeline.submitted(regionKey);
+
+		final Future<?>[] previousRegionFuture = new Future<?>[1];
+
+		FutureTask<Region<K, V>> regionFuture = new FutureTask<Region<K, V>>(new Callable<Region<K, V>>() {
+			@Override
+			public Region<K, V> call() throws Exception {
+				try {
+					await(colocatedRegionKey, colocatedRegionFuture, regionKey);
+					await(regionKey, previousRegionFuture[0], regionKey);
+
+					entry.started();
+
+					Region<K, V> region = regionInitializer.call();
+					entry.finished(null);
+					return region;
+				}
+				catch (Exception e) {
+					entry.finished(e);
+					throw e;
+				}
+				catch (Error e) {
+					entry.finished(e);
+					throw e;
+				}
+			}
+		});
+
+		previousRegionFuture[0] = regionFutures.put(regionKey, regionFuture);
+
+		executorService.execute(regionFuture);
+
+		return regionFuture;
+	}
+
+	/* (non-Javadoc) */
+	static String toRegionKey(String regionPath) {
+		String regionKey = regionPath.trim();
+		return (regionKey.startsWith(Region.SEPARATOR) ? regionKey.substring(1) : regionKey);
+	}
+
+	/* (non-Javadoc) */
+	private void await(String requiredRegionKey, Future<?> requiredRegionFuture, String regionKey) throws Exception {
+		if (requiredRegionFuture != null) {
+			try {
+				requiredRegionFuture.get();
+			}
+			catch (ExecutionException e) {
+				throw new IllegalStateException(String.format(
+					"Region [%1$s] required by Region [%2$s] failed to initialize", requiredRegionKey, regionKey),
+						e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Waits for all submitted {@link Region Regions} to be initialized.
+	 *
+	 * @throws BeanInitializationException if any {@link Region} failed to initialize or the current {@link Thread}
+	 * was interrupted.
+	 */
+	public void awaitAll() {
+		for (Map.Entry<String, Future<?>> regionFuture : regionFutures.entrySet()) {
+			try {
+				regionFuture.getValue().get();
+			}
+			catch (ExecutionException e) {
+				throw new BeanInitializationException(String.format("Failed to initialize Region [%s]",
+					regionFuture.getKey()), e.getCause());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new BeanInitializationException(String.format(
+					"Interrupted while waiting for Region [%s] to initialize", regionFuture.getKey()), e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link RegionStartupTimeline} recording the initialization of the {@link Region Regions}.
+	 *
+	 * @return the {@link RegionStartupTimeline}.
+	 */
+	public RegionStartupTimeline getTimeline() {
+		return timeline;
+	}
+
+	/**
+	 * Waits for all {@link Region Regions} to be initialized and logs the {@link RegionStartupTimeline}.
+	 *
+	 * @see #awaitAll()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		try {
+			awaitAll();
+		}
+		finally {
+			if (log.isInfoEnabled()) {
+				log.info(timeline.toReport());
+			}
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void destroy() throws Exception {
+		executorService.shutdownNow();
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link QueryShape} class is the shape of an OQL query, i.e. the query with its literals and bind parameters
+ * replaced by {@literal ?}, along with the {@link com.gemstone.gemfire.cache.Region} in its FROM clause
+ * and the paths its WHERE clause filters on.  Queries differing only by their literals,
+ * e.g. {@literal SELECT * FROM /Customers c WHERE c.lastName = 'Doe'} and
+ * {@literal SELECT * FROM /Customers c WHERE c.lastName = $1}, have the same shape.
+ *
+ * Query prefixes, i.e. {@literal <TRACE>}, {@literal <HINT 'IndexName'>} and {@literal IMPORT} statements,
+ * are not part of the shape.
+ *
+ * @see org.springframework.data.gemfire.support.QueryStatisticsRecorder
+ * @since 1.10.0
+ */
+public class QueryShape {
+
+	protected static final Pattern PREFIX_PATTERN = Pattern.compile(
+		"^\\s*(<[^>]*>|IMPORT\\s+[^;]*;)\\s*", Pattern.CASE_INSENSITIVE);
+
+	protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'(?:[^']|'')*'");
+
+	protected static final Pattern NUMBER_LITERAL_PATTERN = Pattern.compile(
+		"(?<![\\w.$])-?\\d+(?:\\.\\d+)?[LlFfDd]?\\b");
+
+	protected static final Pattern BIND_PARAMETER_PATTERN = Pattern.compile("\\$\\d+");
+
+	protected static final Pattern IN_LIST_PATTERN = Pattern.compile(
+		"\\bIN\\s*(?:SET|LIST)?\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)", Pattern.CASE_INSENSITIVE);
+
+	protected static final Pattern FROM_PATTERN = Pattern.compile(
+		"\\bFROM\\s+(/?[\\w/]+)(?:\\.\\w+(?:\\(\\))?)*(?:\\s+(?:AS\\s+)?(\\w+))?", Pattern.CASE_INSENSITIVE);
+
+	protected static final Pattern WHERE_PATTERN = Pattern.compile(
+		"\\bWHERE\\b(.*?)(?:\\bORDER\\s+BY\\b|\\bGROUP\\s+BY\\b|\\bLIMIT\\b|$)", Pattern.CASE_INSENSITIVE);
+
+	protected static final Pattern CONDITION_PATTERN = Pattern.compile(
+		"([A-Za-z_]\\w*(?:\\(\\))?(?:\\.[A-Za-z_]\\w*(?:\\(\\))?)*)\\s*(<>|!=|<=|>=|=|<|>|\\bLIKE\\b|\\bIN\\b)",
+			Pattern.CASE_INSENSITIVE);
+
+	protected static final Set<String> KEYWORDS = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+		"AND", "AS", "BY", "DISTINCT", "ELEMENT", "FALSE", "FROM", "GROUP", "IMPORT", "IN", "LIMIT", "LIKE", "NOT",
+			"NULL", "OR", "ORDER", "SELECT", "TRUE", "TYPE", "UNDEFINED", "WHERE")));
+
+	private final Map<String, Boolean> paths;
+
+	private final String regionPath;
+	private final String text;
+
+	/**
+	 * Parses the shape of the given OQL query.
+	 *
+	 * @param query OQL query.
+	 * @return the {@link QueryShape} of the query.
+	 * @throws IllegalArgumentException if the query is empty.
+	 */
+	public static QueryShape parse(String query) {
+		Assert.hasText(query, "Query must be specified");
+
+		String text = stripPrefixes(query);
+
+		text = STRING_LITERAL_PATTERN.matcher(text).replaceAll("?");
+		text = BIND_PARAMETER_PATTERN.matcher(text).replaceAll("?");
+		text = NUMBER_LITERAL_PATTERN.matcher(text).replaceAll("?");
+		text = IN_LIST_PATTERN.matcher(text).replaceAll("IN (?)");
+		text = text.replaceAll("\\s+", " ").trim();
+
+		String regionPath = null;
+		String alias = null;
+
+		Matcher fromMatcher = FROM_PATTERN.matcher(text);
+
+		if (fromMatcher.find()) {
+			regionPath = fromMatcher.group(1);
+			regionPath = (regionPath.startsWith("/") ? regionPath : "/".concat(regionPath));
+			alias = fromMatcher.group(2);
+			alias = (alias != null && !KEYWORDS.contains(alias.toUpperCase()) ? alias : null);
+		}
+
+		Map<String, Boolean> paths = new LinkedHashMap<String, Boolean>();
+
+		Matcher whereMatcher = WHERE_PATTERN.matcher(text);
+
+		if (whereMatcher.find()) {
+			Matcher conditionMatcher = CONDITION_PATTERN.matcher(whereMatcher.group(1));
+
+			while (conditionMatcher.find()) {
+				String path = stripAlias(conditionMatcher.group(1), alias);
+
+				if (path != null && !KEYWORDS.contains(path.toUpperCase())) {
+					String operator = conditionMatcher.group(2).toUpperCase();
+					boolean range = !("=".equals(operator) || "IN".equals(operator));
+					Boolean existingRange = paths.get(path);
+
+					paths.put(path, (range || Boolean.TRUE.equals(existingRange)));
+				}
+			}
+		}
+
+		return new QueryShape(text, regionPath, paths);
+	}
+
+	/* (non-Javadoc) */
+	static String stripPrefixes(String query) {
+		String text = query;
+
+		for (Matcher matcher = PREFIX_PATTERN.matcher(text); matcher.find(); matcher = PREFIX_PATTERN.matcher(text)) {
+			text = text.substring(matcher.end());
+		}
+
+		return text;
+	}
+
+	/**
+	 * Strips the alias of the iterated {@link com.gemstone.gemfire.cache.Region} from the given path,
+	 * e.g. {@literal c.address.city} becomes {@literal address.city} with the alias {@literal c}.
+	 *
+	 * @param path path in a WHERE clause or indexed expression.
+	 * @param alias alias of the iterated {@link com.gemstone.gemfire.cache.Region}; may be {@literal null}.
+	 * @return the path relative to the iterated {@link com.gemstone.gemfire.cache.Region} entries,
+	 * or {@literal null} if the path is the alias itself.
+	 */
+	public static String stripAlias(String path, String alias) {
+		String trimmedPath = path.trim();
+
+		if (StringUtils.hasText(alias)) {
+			if (trimmedPath.equals(alias)) {
+				return null;
+			}
+			else if (trimmedPath.startsWith(alias.concat("."))) {
+				return trimmedPath.substring(alias.length() + 1);
+			}
+		}
+
+		return trimmedPath;
+	}
+
+	/**
+	 * Constructs an instance of {@link QueryShape}.
+	 *
+	 * @param text normalized text of the query.
+	 * @param regionPath path of the {@link com.gemstone.gemfire.cache.Region} in the FROM clause;
+	 * may be {@literal null}.
+	 * @param paths paths filtered on, mapped to whether any of them is compared with a range operator.
+	 */
+	protected QueryShape(String text, String regionPath, Map<String, Boolean> paths) {
+		this.text = text;
+		this.regionPath = regionPath;
+		this.paths = Collections.unmodifiableMap(new LinkedHashMap<String, Boolean>(paths));
+	}
+
+	/**
+	 * Returns the paths the WHERE clause of the query filters on, relative to the iterated
+	 * {@link com.gemstone.gemfire.cache.Region} entries, mapped to {@literal true} if any of the conditions
+	 * on the path is not an equality, i.e. requires a functional rather than a hash {@link com.gemstone.gemfire.cache.query.Index}.
+	 *
+	 * @return an unmodifiable {@link Map} of the filtered paths.
+	 */
+	public Map<String, Boolean> getPaths() {
+		return paths;
+	}
+
+	/**
+	 * Returns the path of the first {@link com.gemstone.gemfire.cache.Region} in the FROM clause of the query.
+	 *
+	 * @return the {@link com.gemstone.gemfire.cache.Region} path or {@literal null} if it could not be determined.
+	 */
+	public String getRegionPath() {
+		return regionPath;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		return (obj == this || (obj instanceof QueryShape && text.equals(((QueryShape) obj).text)));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int hashCode() {
+		return text.hashCode();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return text;
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link QueryShapeStatistics} class records the number of executions and the latency of the queries
+ * of a {@link QueryShape}.  Latency percentiles are computed from a sample of the most recent executions.
+ *
+ * @see org.springframework.data.gemfire.support.QueryShape
+ * @see org.springframework.data.gemfire.support.QueryStatisticsRecorder
+ * @since 1.10.0
+ */
+public class QueryShapeStatistics {
+
+	public static final int DEFAULT_SAMPLE_SIZE = 512;
+
+	private int sampleCount;
+
+	private long count;
+	private long maxTime;
+	private long totalTime;
+
+	private final long[] samples;
+
+	private final QueryShape shape;
+
+	/**
+	 * Constructs an instance of {@link QueryShapeStatistics} for the given {@link QueryShape}.
+	 *
+	 * @param shape {@link QueryShape} of the recorded queries.
+	 * @param sampleSize number of most recent latencies from which percentiles are computed.
+	 * @throws IllegalArgumentException if the {@link QueryShape} is null or the sample size is less than {@literal 1}.
+	 */
+	public QueryShapeStatistics(QueryShape shape, int sampleSize) {
+		Assert.notNull(shape, "QueryShape must not be null");
+		Assert.isTrue(sampleSize > 0, String.format("Sample size [%d] must be greater than 0", sampleSize));
+
+		this.shape = shape;
+		this.samples = new long[sampleSize];
+	}
+
+	/**
+	 * Records the execution of a query of this shape.
+	 *
+	 * @param elapsedTime time taken to execute the query, in nanoseconds.
+	 */
+	public synchronized void record(long elapsedTime) {
+		samples[(int) (count % samples.length)] = elapsedTime;
+		sampleCount = Math.min(sampleCount + 1, samples.length);
+		count++;
+		totalTime += elapsedTime;
+		maxTime = Math.max(maxTime, elapsedTime);
+	}
+
+	public synchronized long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the longest time taken by a query of this shape.
+	 *
+	 * @param unit {@link TimeUnit} of the returned time.
+	 * @return the maximum latency.
+	 */
+	public synchronized long getMaxTime(TimeUnit unit) {
+		return unit.convert(maxTime, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the mean time taken by a query of this shape.
+	 *
+	 * @param unit {@link TimeUnit} of the returned time.
+	 * @return the mean latency, or {@literal 0} if no query was recorded.
+	 */
+	public synchronized long getMeanTime(TimeUnit unit) {
+		return (count > 0 ? unit.convert(totalTime / count, TimeUnit.NANOSECONDS) : 0L);
+	}
+
+	/**
+	 * Returns the given percentile of the latency of the most recent queries of this shape.
+	 *
+	 * @param percentile percentile between {@literal 0} and {@literal 100}, e.g. {@literal 99} or {@literal 99.9}.
+	 * @param unit {@link TimeUnit} of the returned time.
+	 * @return the latency percentile, or {@literal 0} if no query was recorded.
+	 * @throws IllegalArgumentException if the percentile is not between {@literal 0} and {@literal 100}.
+	 */
+	public long getPercentile(double percentile, TimeUnit unit) {
+		Assert.isTrue(percentile >= 0.0d && percentile <= 100.0d,
+			String.format("Percentile [%s] must be between 0 and 100", percentile));
+
+		long[] sortedSamples;
+
+		synchronized (this) {
+			sortedSamples = Arrays.copyOf(samples, sampleCount);
+		}
+
+		if (sortedSamples.length == 0) {
+			return 0L;
+		}
+
+		Arrays.sort(sortedSamples);
+
+		int index = (int) Math.ceil(percentile / 100.0d * sortedSamples.length) - 1;
+
+		return unit.convert(sortedSamples[Math.max(index, 0)], TimeUnit.NANOSECONDS);
+	}
+
+	public QueryShape getShape() {
+		return shape;
+	}
+
+	/**
+	 * Returns the cumulative time taken by all queries of this shape.
+	 *
+	 * @param unit {@link TimeUnit} of the returned time.
+	 * @return the total latency.
+	 */
+	public synchronized long getTotalTime(TimeUnit unit) {
+		return unit.convert(totalTime, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s: count = %2$d, mean = %3$d ms, p50 = %4$d ms, p95 = %5$d ms, p99 = %6$d ms,"
+			+ " max = %7$d ms, total = %8$d ms", shape, getCount(), getMeanTime(TimeUnit.MILLISECONDS),
+				getPercentile(50, TimeUnit.MILLISECONDS), getPercentile(95, TimeUnit.MILLISECONDS),
+					getPercentile(99, TimeUnit.MILLISECONDS), getMaxTime(TimeUnit.MILLISECONDS),
+						getTotalTime(TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link QueryStatisticsRecorder} class records the count and latency of the OQL queries executed by
+ * {@link org.springframework.data.gemfire.GemfireTemplate GemfireTemplates}, and therefore by repository
+ * query methods, per {@link QueryShape}.  The shape of a query string already seen, e.g. of a repository query method,
+ * is not parsed again.  Once the maximum number of shapes is reached, query strings not seen before are recorded
+ * in a single overflow bucket without being parsed, which bounds both the memory and the parsing time spent
+ * on queries built from literals rather than bind parameters.
+ *
+ * @see org.springframework.data.gemfire.GemfireTemplate#setQueryStatisticsRecorder(QueryStatisticsRecorder)
+ * @see org.springframework.data.gemfire.support.IndexAdvisor
+ * @see org.springframework.data.gemfire.support.QueryShape
+ * @see org.springframework.data.gemfire.support.QueryShapeStatistics
+ * @since 1.10.0
+ */
+public class QueryStatisticsRecorder {
+
+	public static final int DEFAULT_MAX_QUERY_SHAPES = 1000;
+
+	public static final String OVERFLOW_QUERY_SHAPE_TEXT = "<overflow>";
+
+	private final ConcurrentMap<String, QueryShapeStatistics> statistics =
+		new ConcurrentHashMap<String, QueryShapeStatistics>();
+
+	private final ConcurrentMap<String, QueryShapeStatistics> statisticsByQuery =
+		new ConcurrentHashMap<String, QueryShapeStatistics>();
+
+	private int maxQueryShapes = DEFAULT_MAX_QUERY_SHAPES;
+	private int sampleSize = QueryShapeStatistics.DEFAULT_SAMPLE_SIZE;
+
+	private volatile QueryShapeStatistics overflowStatistics = newOverflowStatistics();
+
+	/**
+	 * Records the execution of the given OQL query.
+	 *
+	 * @param query OQL query.
+	 * @param elapsedTime time taken to execute the query, in nanoseconds.
+	 */
+	public void record(String query, long elapsedTime) {
+		QueryShapeStatistics shapeStatistics = statisticsByQuery.get(query);
+
+		if (shapeStatistics == null && statistics.size() < maxQueryShapes) {
+			shapeStatistics = resolveStatistics(QueryShape.parse(query));
+
+			if (shapeStatistics != null && statisticsByQuery.size() < maxQueryShapes) {
+				statisticsByQuery.putIfAbsent(query, shapeStatistics);
+			}
+		}
+
+		(shapeStatistics != null ? shapeStatistics : overflowStatistics).record(elapsedTime);
+	}
+
+	/**
+	 * Records the execution of a query predicate on the given {@link com.gemstone.gemfire.cache.Region},
+	 * as executed by {@link com.gemstone.gemfire.cache.Region#query(String)}.
+	 *
+	 * @param regionPath full path of the queried {@link com.gemstone.gemfire.cache.Region}.
+	 * @param predicate WHERE clause of the query.
+	 * @param elapsedTime time taken to execute the query, in nanoseconds.
+	 */
+	public void recordPredicate(String regionPath, String predicate, long elapsedTime) {
+		record(String.format("SELECT * FROM %1$s WHERE %2$s", regionPath, predicate), elapsedTime);
+	}
+
+	/* (non-Javadoc) */
+	private QueryShapeStatistics newOverflowStatistics() {
+		return new QueryShapeStatistics(new QueryShape(OVERFLOW_QUERY_SHAPE_TEXT, null,
+			Collections.<String, Boolean>emptyMap()), sampleSize);
+	}
+
+	/* (non-Javadoc) */
+	private QueryShapeStatistics resolveStatistics(QueryShape shape) {
+		QueryShapeStatistics shapeStatistics = statistics.get(shape.getText());
+
+		if (shapeStatistics == null && statistics.size() < maxQueryShapes) {
+			QueryShapeStatistics newShapeStatistics = new QueryShapeStatistics(shape, sampleSize);
+
+			shapeStatistics = statistics.putIfAbsent(shape.getText(), newShapeStatistics);
+			shapeStatistics = (shapeStatistics != null ? shapeStatistics : newShapeStatistics);
+		}
+
+		return shapeStatistics;
+	}
+
+	/**
+	 * Returns the number of queries not recorded per shape because the maximum number of shapes was reached.
+	 *
+	 * @return the number of queries recorded in the overflow bucket.
+	 * @see #getOverflowStatistics()
+	 */
+	public long getDroppedQueryCount() {
+		return overflowStatistics.getCount();
+	}
+
+	/**
+	 * Returns the {@link QueryShapeStatistics} of the overflow bucket, which records the queries not seen before
+	 * the maximum number of shapes was reached, whatever their shape.  These queries are not parsed.
+	 *
+	 * @return the {@link QueryShapeStatistics} of the overflow bucket.
+	 * @see #OVERFLOW_QUERY_SHAPE_TEXT
+	 */
+	public QueryShapeStatistics getOverflowStatistics() {
+		return overflowStatistics;
+	}
+
+	/**
+	 * Returns the {@link QueryShapeStatistics} of all recorded {@link QueryShape QueryShapes}, in descending order
+	 * of the cumulative time taken by their queries.
+	 *
+	 * @return a {@link List} of {@link QueryShapeStatistics}.
+	 */
+	public List<QueryShapeStatistics> getStatistics() {
+		List<QueryShapeStatistics> statisticsList = new ArrayList<QueryShapeStatistics>(statistics.values());
+
+		Collections.sort(statisticsList, new Comparator<QueryShapeStatistics>() {
+			@Override
+			public int compare(QueryShapeStatistics statisticsOne, QueryShapeStatistics statisticsTwo) {
+				long totalTimeOne = statisticsOne.getTotalTime(TimeUnit.NANOSECONDS);
+				long totalTimeTwo = statisticsTwo.getTotalTime(TimeUnit.NANOSECONDS);
+
+				return (totalTimeOne > totalTimeTwo ? -1 : (totalTimeOne < totalTimeTwo ? 1 : 0));
+			}
+		});
+
+		return statisticsList;
+	}
+
+	/**
+	 * Discards all recorded statistics.
+	 */
+	public void reset() {
+		statisticsByQuery.clear();
+		statistics.clear();
+		overflowStatistics = newOverflowStatistics();
+	}
+
+	/**
+	 * Sets the maximum number of {@link QueryShape QueryShapes} recorded.
+	 *
+	 * @param maxQueryShapes maximum number of distinct {@link QueryShape QueryShapes}.
+	 * @throws IllegalArgumentException if the maximum is less than {@literal 1}.
+	 */
+	public void setMaxQueryShapes(int maxQueryShapes) {
+		Assert.isTrue(maxQueryShapes > 0, String.format("Max query shapes [%d] must be greater than 0",
+			maxQueryShapes));
+
+		this.maxQueryShapes = maxQueryShapes;
+	}
+
+	public int getMaxQueryShapes() {
+		return maxQueryShapes;
+	}
+
+	/**
+	 * Sets the number of most recent latencies of every {@link QueryShape} from which percentiles are computed.
+	 *
+	 * @param sampleSize number of latencies sampled per {@link QueryShape}.
+	 * @throws IllegalArgumentException if the sample size is less than {@literal 1}.
+	 */
+	public void setSampleSize(int sampleSize) {
+		Assert.isTrue(sampleSize > 0, String.format("Sample size [%d] must be greater than 0", sampleSize));
+		this.sampleSize = sampleSize;
+	}
+
+	public int getSampleSize() {
+		return sampleSize;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+/**
+ * The {@link RegionOperation} enum enumerates the {@link com.gemstone.gemfire.cache.Region} operations
+ * instrumented by {@link org.springframework.data.gemfire.GemfireTemplate GemfireTemplates} and repositories.
+ *
+ * @see org.springframework.data.gemfire.support.RegionOperationMetrics
+ * @since 1.10.0
+ */
+public enum RegionOperation {
+	CREATE("create"),
+	EXECUTE("execute"),
+	FIND("find"),
+	FIND_UNIQUE("findUnique"),
+	GET("get"),
+	GET_ALL("getAll"),
+	PUT("put"),
+	PUT_ALL("putAll"),
+	PUT_IF_ABSENT("putIfAbsent"),
+	QUERY("query"),
+	REMOVE("remove"),
+	REPLACE("replace"),
+	REPOSITORY_QUERY("repositoryQuery");
+
+	private final String tagValue;
+
+	RegionOperation(String tagValue) {
+		this.tagValue = tagValue;
+	}
+
+	/**
+	 * Returns the name identifying this operation in metric tags, e.g. {@literal getAll}.
+	 *
+	 * @return the tag value of this operation.
+	 */
+	public String getTagValue() {
+		return tagValue;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return tagValue;
+	}
+}
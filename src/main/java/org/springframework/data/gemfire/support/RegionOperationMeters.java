@@ -0,0 +1,215 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link RegionOperationMeters} class holds the meters of a single {@link RegionOperation} on a single
+ * {@link com.gemstone.gemfire.cache.Region}, as recorded by {@link HistogramRegionOperationMetrics}.
+ *
+ * The meter names and tags follow the dimensional naming conventions of metrics libraries such as Micrometer,
+ * so that an application can bind the meters to its registry, e.g. as function counters and gauges tagged
+ * with {@link #getTags()}.
+ *
+ * @see org.springframework.data.gemfire.support.ExponentialHistogram
+ * @see org.springframework.data.gemfire.support.HistogramRegionOperationMetrics
+ * @since 1.10.0
+ */
+public class RegionOperationMeters {
+
+	public static final String FAILURES_METER_NAME = "gemfire.region.operation.failures";
+	public static final String LATENCY_METER_NAME = "gemfire.region.operation.latency";
+	public static final String PAYLOAD_SIZE_METER_NAME = "gemfire.region.operation.payload.size";
+	public static final String RESULT_SIZE_METER_NAME = "gemfire.region.operation.result.size";
+
+	public static final String EXCEPTION_TAG = "exception";
+	public static final String OPERATION_TAG = "operation";
+	public static final String REGION_TAG = "region";
+
+	private final ConcurrentMap<String, AtomicLong> failureCounts = new ConcurrentHashMap<String, AtomicLong>();
+
+	private final ExponentialHistogram latency = new ExponentialHistogram();
+	private final ExponentialHistogram payloadSize = new ExponentialHistogram();
+	private final ExponentialHistogram resultSize = new ExponentialHistogram();
+
+	private final RegionOperation operation;
+
+	private final String regionPath;
+
+	/**
+	 * Constructs an instance of {@link RegionOperationMeters} for the given operation
+	 * on the given {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionPath full path of the {@link com.gemstone.gemfire.cache.Region}.
+	 * @param operation {@link RegionOperation} performed.
+	 * @throws IllegalArgumentException if the {@link com.gemstone.gemfire.cache.Region} path
+	 * or {@link RegionOperation} is null.
+	 */
+	public RegionOperationMeters(String regionPath, RegionOperation operation) {
+		Assert.hasText(regionPath, "Region path must be specified");
+		Assert.notNull(operation, "RegionOperation must not be null");
+
+		this.regionPath = regionPath;
+		this.operation = operation;
+	}
+
+	/**
+	 * Records the successful execution of the operation.
+	 *
+	 * @param elapsedTime time taken by the operation, in nanoseconds.
+	 * @param payloadSize size of the payload in bytes, or a negative value if unknown.
+	 * @param resultSize number of results, or {@link RegionOperationMetrics#NO_RESULT}.
+	 */
+	public void record(long elapsedTime, long payloadSize, int resultSize) {
+		this.latency.record(elapsedTime);
+
+		if (payloadSize >= 0) {
+			this.payloadSize.record(payloadSize);
+		}
+
+		if (resultSize >= 0) {
+			this.resultSize.record(resultSize);
+		}
+	}
+
+	/**
+	 * Records the failed execution of the operation, counted by type of {@link Throwable}.
+	 *
+	 * @param failure {@link Throwable} causing the operation to fail.
+	 */
+	public void recordFailure(Throwable failure) {
+		String exceptionType = failure.getClass().getName();
+		AtomicLong failureCount = failureCounts.get(exceptionType);
+
+		if (failureCount == null) {
+			AtomicLong newFailureCount = new AtomicLong();
+
+			failureCount = failureCounts.putIfAbsent(exceptionType, newFailureCount);
+			failureCount = (failureCount != null ? failureCount : newFailureCount);
+		}
+
+		failureCount.incrementAndGet();
+	}
+
+	/**
+	 * Returns the total number of failed executions.
+	 *
+	 * @return the number of failures.
+	 */
+	public long getFailureCount() {
+		long failureCount = 0L;
+
+		for (AtomicLong count : failureCounts.values()) {
+			failureCount += count.get();
+		}
+
+		return failureCount;
+	}
+
+	/**
+	 * Returns the number of failed executions by fully-qualified class name of the {@link Throwable} thrown,
+	 * i.e. the values of the {@link #EXCEPTION_TAG} of the {@link #FAILURES_METER_NAME} meter.
+	 *
+	 * @return a {@link Map} of failure counts keyed by exception type.
+	 */
+	public Map<String, Long> getFailureCounts() {
+		Map<String, Long> failureCountsSnapshot = new TreeMap<String, Long>();
+
+		for (Map.Entry<String, AtomicLong> entry : failureCounts.entrySet()) {
+			failureCountsSnapshot.put(entry.getKey(), entry.getValue().get());
+		}
+
+		return failureCountsSnapshot;
+	}
+
+	/**
+	 * Returns the latency histogram of the successful executions, in nanoseconds.
+	 *
+	 * @return the latency {@link ExponentialHistogram}.
+	 * @see #LATENCY_METER_NAME
+	 */
+	public ExponentialHistogram getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Returns the latency percentile of the successful executions.
+	 *
+	 * @param percentile percentile between {@literal 0} and {@literal 100}.
+	 * @param unit {@link TimeUnit} of the returned latency.
+	 * @return the approximate latency percentile.
+	 * @see ExponentialHistogram#getPercentile(double)
+	 */
+	public long getLatencyPercentile(double percentile, TimeUnit unit) {
+		return unit.convert(latency.getPercentile(percentile), TimeUnit.NANOSECONDS);
+	}
+
+	public RegionOperation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Returns the histogram of the payload sizes, in bytes.
+	 *
+	 * @return the payload size {@link ExponentialHistogram}.
+	 * @see #PAYLOAD_SIZE_METER_NAME
+	 */
+	public ExponentialHistogram getPayloadSize() {
+		return payloadSize;
+	}
+
+	public String getRegionPath() {
+		return regionPath;
+	}
+
+	/**
+	 * Returns the histogram of the number of results returned.
+	 *
+	 * @return the result size {@link ExponentialHistogram}.
+	 * @see #RESULT_SIZE_METER_NAME
+	 */
+	public ExponentialHistogram getResultSize() {
+		return resultSize;
+	}
+
+	/**
+	 * Returns the {@link #REGION_TAG} and {@link #OPERATION_TAG} tags common to all meters,
+	 * as alternating keys and values.
+	 *
+	 * @return the tags of the meters.
+	 */
+	public String[] getTags() {
+		return new String[] { REGION_TAG, regionPath, OPERATION_TAG, operation.getTagValue() };
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("%1$s %2$s {latency (ns) [%3$s], payload size (bytes) [%4$s], result size [%5$s],"
+			+ " failures %6$s}", operation, regionPath, latency, payloadSize, resultSize, getFailureCounts());
+	}
+}
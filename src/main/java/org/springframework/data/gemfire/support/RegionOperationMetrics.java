@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+/**
+ * The {@link RegionOperationMetrics} interface is the SPI through which
+ * {@link org.springframework.data.gemfire.GemfireTemplate GemfireTemplates} and repository query methods report
+ * the latency, payload size, result size and failures of the {@link RegionOperation RegionOperations} they perform.
+ *
+ * Operations are only timed while {@link #isEnabled()} returns {@literal true}, and a disabled implementation,
+ * e.g. the {@link NoOpRegionOperationMetrics} default, costs neither a clock read nor an allocation.
+ * Implementations must be thread-safe.
+ *
+ * @see org.springframework.data.gemfire.support.HistogramRegionOperationMetrics
+ * @see org.springframework.data.gemfire.support.NoOpRegionOperationMetrics
+ * @see org.springframework.data.gemfire.support.RegionOperation
+ * @since 1.10.0
+ */
+public interface RegionOperationMetrics {
+
+	/**
+	 * Result size reported for operations that do not return results, e.g. {@link RegionOperation#PUT_ALL}.
+	 */
+	int NO_RESULT = -1;
+
+	/**
+	 * Determines whether operations are timed and recorded.
+	 *
+	 * @return a boolean indicating whether operations are recorded.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Records the successful execution of an operation on the given {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionPath full path of the {@link com.gemstone.gemfire.cache.Region}.
+	 * @param operation {@link RegionOperation} performed.
+	 * @param elapsedTime time taken by the operation, in nanoseconds.
+	 * @param payload value written or read by the operation, or a {@link java.util.Map} of values;
+	 * may be {@literal null}.
+	 * @param resultSize number of results returned by the operation, or {@link #NO_RESULT}.
+	 */
+	void record(String regionPath, RegionOperation operation, long elapsedTime, Object payload, int resultSize);
+
+	/**
+	 * Records the failed execution of an operation on the given {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionPath full path of the {@link com.gemstone.gemfire.cache.Region}.
+	 * @param operation {@link RegionOperation} performed.
+	 * @param elapsedTime time taken by the operation until it failed, in nanoseconds.
+	 * @param failure {@link Throwable} thrown by GemFire or the application callback.
+	 */
+	void recordFailure(String regionPath, RegionOperation operation, long elapsedTime, Throwable failure);
+
+}
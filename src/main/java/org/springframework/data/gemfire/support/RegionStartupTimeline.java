@@ -0,0 +1,269 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link RegionStartupTimeline} class records when every {@link com.gemstone.gemfire.cache.Region} initialized
+ * by the {@link ParallelRegionInitializer} was submitted, started and finished initializing (i.e. was created
+ * and, if persistent, recovered from disk), and on which {@link Thread}.
+ *
+ * All times are in milliseconds, relative to the construction of the {@link RegionStartupTimeline}.
+ *
+ * @see org.springframework.data.gemfire.support.ParallelRegionInitializer
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class RegionStartupTimeline {
+
+	private final List<Entry> entries = new CopyOnWriteArrayList<Entry>();
+
+	private final long originNanos = System.nanoTime();
+
+	/**
+	 * Records the submission of the initialization of the {@link com.gemstone.gemfire.cache.Region}
+	 * with the given path.
+	 *
+	 * @param regionPath path of the {@link com.gemstone.gemfire.cache.Region}.
+	 * @return the {@link Entry} recording the initialization of the {@link com.gemstone.gemfire.cache.Region}.
+	 * @throws IllegalArgumentException if the {@link com.gemstone.gemfire.cache.Region} path is null.
+	 */
+	public Entry submitted(String regionPath) {
+		Assert.notNull(regionPath, "Region path must not be null");
+
+		Entry entry = new Entry(regionPath, elapsedMillis());
+
+		entries.add(entry);
+
+		return entry;
+	}
+
+	/* (non-Javadoc) */
+	long elapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - originNanos);
+	}
+
+	/**
+	 * Returns the recorded {@link Entry entries}, in order of submission.
+	 *
+	 * @return an unmodifiable {@link List} of the {@link Entry entries}.
+	 */
+	public List<Entry> getEntries() {
+		return Collections.unmodifiableList(new ArrayList<Entry>(entries));
+	}
+
+	/**
+	 * Returns the recorded {@link Entry} of the {@link com.gemstone.gemfire.cache.Region} with the given path.
+	 *
+	 * @param regionPath path of the {@link com.gemstone.gemfire.cache.Region}.
+	 * @return the most recent {@link Entry} of the {@link com.gemstone.gemfire.cache.Region} or {@literal null}
+	 * if the {@link com.gemstone.gemfire.cache.Region} was not initialized in parallel.
+	 */
+	public Entry getEntry(String regionPath) {
+		Entry matchingEntry = null;
+
+		for (Entry entry : entries) {
+			if (entry.getRegionPath().equals(regionPath)) {
+				matchingEntry = entry;
+			}
+		}
+
+		return matchingEntry;
+	}
+
+	/**
+	 * Returns the time at which the last {@link com.gemstone.gemfire.cache.Region} finished initializing,
+	 * i.e. the wall clock time spent initializing all {@link com.gemstone.gemfire.cache.Region Regions}.
+	 *
+	 * @return the time, in milliseconds, at which the last {@link com.gemstone.gemfire.cache.Region}
+	 * finished initializing, or {@literal 0} if no {@link com.gemstone.gemfire.cache.Region} finished initializing.
+	 */
+	public long getTotalTime() {
+		long totalTime = 0L;
+
+		for (Entry entry : entries) {
+			totalTime = Math.max(totalTime, Math.max(entry.getFinishTime(), 0L));
+		}
+
+		return totalTime;
+	}
+
+	/**
+	 * Returns the sum of the initialization times of all {@link com.gemstone.gemfire.cache.Region Regions},
+	 * i.e. the time initializing the {@link com.gemstone.gemfire.cache.Region Regions} one after another would take.
+	 *
+	 * @return the sum of the initialization times, in milliseconds.
+	 */
+	public long getCumulativeTime() {
+		long cumulativeTime = 0L;
+
+		for (Entry entry : entries) {
+			cumulativeTime += entry.getDuration();
+		}
+
+		return cumulativeTime;
+	}
+
+	/**
+	 * Returns a report of the timeline, listing the {@link Entry entries} in order of start time.
+	 *
+	 * @return a {@link String} report of the timeline.
+	 */
+	public String toReport() {
+		List<Entry> sortedEntries = new ArrayList<Entry>(entries);
+
+		Collections.sort(sortedEntries, new Comparator<Entry>() {
+			@Override
+			public int compare(Entry entry, Entry otherEntry) {
+				long startTime = (entry.getStartTime() < 0L ? Long.MAX_VALUE : entry.getStartTime());
+				long otherStartTime = (otherEntry.getStartTime() < 0L ? Long.MAX_VALUE : otherEntry.getStartTime());
+
+				return (startTime < otherStartTime ? -1 : (startTime > otherStartTime ? 1 : 0));
+			}
+		});
+
+		StringBuilder report = new StringBuilder(String.format(
+			"Initialized %1$d Region(s) in %2$d ms (%3$d ms if initialized sequentially)%n",
+				sortedEntries.size(), getTotalTime(), getCumulativeTime()));
+
+		for (Entry entry : sortedEntries) {
+			report.append("  ").append(entry).append(String.format("%n"));
+		}
+
+		return report.toString();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return toReport();
+	}
+
+	/**
+	 * Record of the initialization of a single {@link com.gemstone.gemfire.cache.Region}.
+	 */
+	public class Entry {
+
+		private final long submitTime;
+
+		private volatile long startTime = -1L;
+		private volatile long finishTime = -1L;
+
+		private final String regionPath;
+
+		private volatile String threadName;
+
+		private volatile Throwable failure;
+
+		/* (non-Javadoc) */
+		Entry(String regionPath, long submitTime) {
+			this.regionPath = regionPath;
+			this.submitTime = submitTime;
+		}
+
+		/**
+		 * Records the start of the initialization of the {@link com.gemstone.gemfire.cache.Region}
+		 * on the current {@link Thread}.
+		 */
+		public void started() {
+			this.threadName = Thread.currentThread().getName();
+			this.startTime = elapsedMillis();
+		}
+
+		/**
+		 * Records the end of the initialization of the {@link com.gemstone.gemfire.cache.Region}.
+		 *
+		 * @param failure {@link Throwable} thrown by the initialization; {@literal null} if successful.
+		 */
+		public void finished(Throwable failure) {
+			this.failure = failure;
+			this.finishTime = elapsedMillis();
+		}
+
+		public String getRegionPath() {
+			return regionPath;
+		}
+
+		public String getThreadName() {
+			return threadName;
+		}
+
+		public long getSubmitTime() {
+			return submitTime;
+		}
+
+		public long getStartTime() {
+			return startTime;
+		}
+
+		public long getFinishTime() {
+			return finishTime;
+		}
+
+		/**
+		 * Returns the time between submission and start, e.g. waiting for a free {@link Thread}
+		 * or for the colocated {@link com.gemstone.gemfire.cache.Region}.
+		 *
+		 * @return the wait time in milliseconds, or {@literal -1} if not started.
+		 */
+		public long getWaitTime() {
+			return (startTime < 0L ? -1L : startTime - submitTime);
+		}
+
+		/**
+		 * Returns the time spent creating and recovering the {@link com.gemstone.gemfire.cache.Region}.
+		 *
+		 * @return the initialization time in milliseconds, or {@literal 0} if not finished.
+		 */
+		public long getDuration() {
+			return (startTime < 0L || finishTime < 0L ? 0L : finishTime - startTime);
+		}
+
+		public Throwable getFailure() {
+			return failure;
+		}
+
+		public boolean isFinished() {
+			return (finishTime >= 0L);
+		}
+
+		public boolean isSuccessful() {
+			return (isFinished() && failure == null);
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		public String toString() {
+			return String.format("Region [%1$s] on Thread [%2$s]: waited %3$d ms, started at %4$d ms, took %5$d ms%6$s",
+				regionPath, threadName, Math.max(getWaitTime(), 0L), startTime, getDuration(),
+					(failure != null ? String.format(", failed with %s", failure)
+						: (isFinished() ? "" : ", not finished")));
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link RegionWarmUp} class describes how the {@link RegionWarmUpService} preloads a
+ * {@link com.gemstone.gemfire.cache.Region}: from a snapshot, from a list of keys or from the keys
+ * returned by an OQL query.  Keys are loaded in batches with {@link com.gemstone.gemfire.cache.Region#getAll},
+ * which invokes the {@link com.gemstone.gemfire.cache.CacheLoader} of a peer {@link com.gemstone.gemfire.cache.Region},
+ * or fetches the entries from the servers for a client {@link com.gemstone.gemfire.cache.Region}.
+ *
+ * @see org.springframework.data.gemfire.support.RegionWarmUpService
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class RegionWarmUp {
+
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	private final int batchSize;
+
+	private final List<Object> keys;
+
+	private final Resource snapshot;
+
+	private final String query;
+	private final String regionName;
+
+	/**
+	 * Constructs a {@link RegionWarmUp} loading the snapshot into the named {@link com.gemstone.gemfire.cache.Region}.
+	 * The snapshot, in the {@link com.gemstone.gemfire.cache.snapshot.RegionSnapshotService} format (e.g. exported
+	 * by the {@link org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean}), is imported without
+	 * removing the entries of the {@link com.gemstone.gemfire.cache.Region} that are not in the snapshot.
+	 * The snapshot is imported at full speed, regardless of the maximum number of entries loaded per second.
+	 *
+	 * @param regionName name or path of the {@link com.gemstone.gemfire.cache.Region} to warm up.
+	 * @param snapshot {@link Resource} of the snapshot to load.
+	 * @return a new {@link RegionWarmUp}.
+	 */
+	public static RegionWarmUp fromSnapshot(String regionName, Resource snapshot) {
+		Assert.notNull(snapshot, "Snapshot must not be null");
+		return new RegionWarmUp(regionName, snapshot, null, null, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs a {@link RegionWarmUp} loading the given keys into the named {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionName name or path of the {@link com.gemstone.gemfire.cache.Region} to warm up.
+	 * @param keys {@link Collection} of keys to load.
+	 * @return a new {@link RegionWarmUp}.
+	 */
+	public static RegionWarmUp fromKeys(String regionName, Collection<?> keys) {
+		Assert.notEmpty(keys, "Keys must not be empty");
+		return new RegionWarmUp(regionName, null, keys, null, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs a {@link RegionWarmUp} loading the keys returned by the given OQL query
+	 * into the named {@link com.gemstone.gemfire.cache.Region}.
+	 *
+	 * @param regionName name or path of the {@link com.gemstone.gemfire.cache.Region} to warm up.
+	 * @param query OQL query selecting the keys to load (e.g. {@literal SELECT DISTINCT o.customerId FROM /Orders o}).
+	 * @return a new {@link RegionWarmUp}.
+	 */
+	public static RegionWarmUp fromQuery(String regionName, String query) {
+		Assert.hasText(query, "Query must be specified");
+		return new RegionWarmUp(regionName, null, null, query, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Constructs an instance of {@link RegionWarmUp} combining any of a snapshot, keys and OQL query;
+	 * the snapshot is loaded first, then the keys, then the keys returned by the query.
+	 *
+	 * @param regionName name or path of the {@link com.gemstone.gemfire.cache.Region} to warm up.
+	 * @param snapshot {@link Resource} of the snapshot to load; may be {@literal null}.
+	 * @param keys {@link Collection} of keys to load; may be {@literal null}.
+	 * @param query OQL query selecting the keys to load; may be {@literal null}.
+	 * @param batchSize number of keys loaded by each {@link com.gemstone.gemfire.cache.Region#getAll} call.
+	 * @throws IllegalArgumentException if the {@link com.gemstone.gemfire.cache.Region} name is empty,
+	 * nothing is loaded or the batch size is less than {@literal 1}.
+	 */
+	public RegionWarmUp(String regionName, Resource snapshot, Collection<?> keys, String query, int batchSize) {
+		Assert.hasText(regionName, "Region name must be specified");
+		Assert.isTrue(snapshot != null || (keys != null && !keys.isEmpty()) || StringUtils.hasText(query),
+			String.format("Region [%s] warm-up must specify a snapshot, keys or a query", regionName));
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		this.regionName = regionName;
+		this.snapshot = snapshot;
+		this.keys = (keys != null ? Collections.unmodifiableList(new ArrayList<Object>(keys))
+			: Collections.<Object>emptyList());
+		this.query = (StringUtils.hasText(query) ? query : null);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns a copy of this {@link RegionWarmUp} loading keys in batches of the given size.
+	 *
+	 * @param batchSize number of keys loaded by each {@link com.gemstone.gemfire.cache.Region#getAll} call.
+	 * @return a new {@link RegionWarmUp}.
+	 */
+	public RegionWarmUp withBatchSize(int batchSize) {
+		return new RegionWarmUp(regionName, snapshot, keys, query, batchSize);
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public List<Object> getKeys() {
+		return keys;
+	}
+
+	public String getQuery() {
+		return query;
+	}
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	public Resource getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return String.format("{ @type = %1$s, regionName = %2$s, snapshot = %3$s, keys = %4$d, query = %5$s }",
+			getClass().getName(), regionName, snapshot, keys.size(), query);
+	}
+}
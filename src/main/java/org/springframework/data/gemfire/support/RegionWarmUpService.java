@@ -0,0 +1,555 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gemstone.gemfire.cache.GemFireCache;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.query.SelectResults;
+import com.gemstone.gemfire.cache.snapshot.SnapshotOptions;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * The {@link RegionWarmUpService} class preloads {@link Region Regions}, as described by {@link RegionWarmUp RegionWarmUps},
+ * once the Spring container has started, in parallel on a bounded pool of {@link Thread Threads} and limited
+ * to a maximum number of entries loaded per second across all {@link Region Regions}.
+ *
+ * The service is a {@link SmartLifecycle} started in the phase preceding the {@link Integer#MAX_VALUE last phase},
+ * in which the {@link org.springframework.data.gemfire.server.CacheServerFactoryBean cache servers} and gateway senders
+ * start.  When configured to await the warm-up, {@link #start()} blocks until all {@link Region Regions} are warm,
+ * so that clients and any later {@link SmartLifecycle} (e.g. an embedded web server) only get traffic once
+ * the caches are hot.  Otherwise, {@link #isReady()} signals when the warm-up has completed successfully,
+ * e.g. to a readiness probe.
+ *
+ * A failed {@link RegionWarmUp} is logged and recorded in {@link #getFailures()}; the {@link Region} then simply loads
+ * its entries on demand.  Since the caches are then not all hot, {@link #isReady()} reports {@literal false} once
+ * any {@link RegionWarmUp} has failed, while {@link #isComplete()} reports that all of them have finished.
+ *
+ * Snapshots are imported with the {@link com.gemstone.gemfire.cache.snapshot.RegionSnapshotService}, which puts
+ * the entries of the snapshot into the {@link Region}, overwriting the entries with the same keys and keeping
+ * all other entries.  A snapshot is imported in a single call, at full speed: the maximum number of entries
+ * per second does not limit the import itself, although the entries it adds count against the rate, delaying
+ * the key and query based warm-ups that follow.  Since the number of entries imported is not reported by
+ * the {@link com.gemstone.gemfire.cache.snapshot.RegionSnapshotService}, the entry count of a snapshot warm-up
+ * is approximated by the growth of the {@link Region}, not counting the entries of the snapshot that overwrite
+ * existing entries.
+ *
+ * @see org.springframework.context.SmartLifecycle
+ * @see org.springframework.data.gemfire.support.RegionWarmUp
+ * @since 1.10.0
+ */
+@SuppressWarnings("unused")
+public class RegionWarmUpService implements SmartLifecycle, DisposableBean {
+
+	public static final int DEFAULT_PHASE = Integer.MAX_VALUE - 1;
+	public static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+	public static final String THREAD_NAME_PREFIX = "RegionWarmUp-";
+
+	protected final Log log = LogFactory.getLog(getClass());
+
+	private boolean autoStartup = true;
+	private boolean awaitWarmUp = true;
+
+	private volatile boolean running;
+
+	private final ConcurrentMap<String, AtomicLong> entryCounts = new ConcurrentHashMap<String, AtomicLong>();
+
+	private final ConcurrentMap<String, Throwable> failures = new ConcurrentHashMap<String, Throwable>();
+
+	private volatile CountDownLatch readyLatch;
+
+	private ExecutorService executorService;
+
+	private GemFireCache cache;
+
+	private int phase = DEFAULT_PHASE;
+	private int poolSize = DEFAULT_POOL_SIZE;
+
+	private List<RegionWarmUp> warmUps = Collections.emptyList();
+
+	private long maxEntriesPerSecond;
+	private long nextAvailableTime = System.nanoTime();
+	private long warmUpTimeout;
+
+	/**
+	 * Submits all {@link RegionWarmUp RegionWarmUps} and, when configured to await the warm-up, waits for them
+	 * to complete, or for the warm-up timeout to elapse.
+	 */
+	@Override
+	public synchronized void start() {
+		if (!this.running) {
+			Assert.state(this.cache != null, "A 'Cache' reference must be set");
+
+			CountDownLatch readyLatch = new CountDownLatch(warmUps.size());
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+
+			threadFactory.setDaemon(true);
+
+			this.executorService = Executors.newFixedThreadPool(Math.max(Math.min(poolSize, warmUps.size()), 1),
+				threadFactory);
+
+			this.readyLatch = readyLatch;
+			this.running = true;
+
+			for (RegionWarmUp warmUp : warmUps) {
+				executorService.execute(newWarmUpTask(warmUp, readyLatch));
+			}
+
+			if (this.awaitWarmUp) {
+				if (!awaitCompletion(this.warmUpTimeout, TimeUnit.MILLISECONDS)) {
+					log.warn(String.format("Region warm-up did not complete within [%d] ms; continuing startup",
+						this.warmUpTimeout));
+				}
+				else if (!failures.isEmpty()) {
+					log.warn(String.format("Region warm-up failed for Regions %s; continuing startup",
+						failures.keySet()));
+				}
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Runnable newWarmUpTask(final RegionWarmUp warmUp, final CountDownLatch readyLatch) {
+		return new Runnable() {
+			@Override
+			public void run() {
+				long startTime = System.currentTimeMillis();
+
+				try {
+					long entryCount = warmUp(warmUp);
+
+					if (log.isInfoEnabled()) {
+						log.info(String.format("Warmed up Region [%1$s] with [%2$d] entries in [%3$d] ms",
+							warmUp.getRegionName(), entryCount, System.currentTimeMillis() - startTime));
+					}
+				}
+				catch (Throwable cause) {
+					failures.put(warmUp.getRegionName(), cause);
+					log.warn(String.format("Failed to warm up Region [%s]", warmUp.getRegionName()), cause);
+				}
+				finally {
+					readyLatch.countDown();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Preloads the {@link Region} described by the given {@link RegionWarmUp}.
+	 *
+	 * @param warmUp {@link RegionWarmUp} describing the entries to load.
+	 * @return the number of entries loaded.
+	 * @throws Exception if the {@link Region} does not exist or the entries could not be loaded.
+	 */
+	protected long warmUp(RegionWarmUp warmUp) throws Exception {
+		Region<Object, Object> region = cache.getRegion(warmUp.getRegionName());
+
+		Assert.state(region != null, String.format("Region [%s] not found", warmUp.getRegionName()));
+
+		AtomicLong entryCount = new AtomicLong();
+
+		entryCounts.put(warmUp.getRegionName(), entryCount);
+
+		if (warmUp.getSnapshot() != null) {
+			// the RegionSnapshotService neither reports nor paces the entries it imports; count the entries
+			// added to the Region against the rate once the snapshot has been imported
+			int initialSize = region.size();
+
+			loadSnapshot(region, warmUp.getSnapshot());
+
+			int loadedEntryCount = Math.max(region.size() - initialSize, 0);
+
+			entryCount.addAndGet(loadedEntryCount);
+			pace(loadedEntryCount);
+		}
+
+		getAll(region, warmUp.getKeys(), warmUp.getBatchSize(), entryCount);
+
+		if (warmUp.getQuery() != null) {
+			getAll(region, executeQuery(region, warmUp.getQuery()), warmUp.getBatchSize(), entryCount);
+		}
+
+		return entryCount.get();
+	}
+
+	/**
+	 * Imports the given snapshot into the {@link Region} with its
+	 * {@link com.gemstone.gemfire.cache.snapshot.RegionSnapshotService}, without removing
+	 * the entries of the {@link Region} that are not in the snapshot, unlike {@link Region#loadSnapshot}.
+	 * A snapshot {@link Resource} that is not a file, e.g. in a JAR, is first copied to a temporary file.
+	 *
+	 * @param region {@link Region} into which the snapshot is imported.
+	 * @param snapshot {@link Resource} of the snapshot to import.
+	 * @throws Exception if the snapshot could not be read or imported.
+	 */
+	protected void loadSnapshot(Region<Object, Object> region, Resource snapshot) throws Exception {
+		File snapshotFile = resolveFile(snapshot);
+		File temporarySnapshotFile = null;
+
+		if (snapshotFile == null) {
+			temporarySnapshotFile = File.createTempFile("region-warm-up-", ".gfd");
+			FileCopyUtils.copy(snapshot.getInputStream(), new FileOutputStream(temporarySnapshotFile));
+			snapshotFile = temporarySnapshotFile;
+		}
+
+		try {
+			region.getSnapshotService().load(snapshotFile, SnapshotOptions.SnapshotFormat.GEMFIRE);
+		}
+		finally {
+			if (temporarySnapshotFile != null && !temporarySnapshotFile.delete()) {
+				temporarySnapshotFile.deleteOnExit();
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private File resolveFile(Resource resource) {
+		try {
+			File file = resource.getFile();
+			return (file.isFile() ? file : null);
+		}
+		catch (IOException ignore) {
+			return null;
+		}
+	}
+
+	/* (non-Javadoc) */
+	private Collection<?> executeQuery(Region<Object, Object> region, String query) throws Exception {
+		Object results = region.getRegionService().getQueryService().newQuery(query).execute();
+
+		return (results instanceof SelectResults ? ((SelectResults<?>) results).asList()
+			: (results instanceof Collection ? (Collection<?>) results : Collections.singletonList(results)));
+	}
+
+	/* (non-Javadoc) */
+	private void getAll(Region<Object, Object> region, Collection<?> keys, int batchSize, AtomicLong entryCount) {
+		List<Object> batch = new ArrayList<Object>(Math.min(batchSize, keys.size()));
+
+		for (Object key : keys) {
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+
+			batch.add(key);
+
+			if (batch.size() == batchSize) {
+				getAll(region, batch, entryCount);
+				batch.clear();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			getAll(region, batch, entryCount);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void getAll(Region<Object, Object> region, List<Object> batch, AtomicLong entryCount) {
+		pace(batch.size());
+
+		Map<Object, Object> entries = region.getAll(batch);
+
+		for (Object value : entries.values()) {
+			if (value != null) {
+				entryCount.incrementAndGet();
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void pace(int entryCount) {
+		long delay = reserve(System.nanoTime(), entryCount);
+
+		if (delay > 0L) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(delay);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Reserves the time needed to load the given number of entries without exceeding the maximum number
+	 * of entries per second, across all {@link Region Regions}.
+	 *
+	 * @param now the current time, in nanoseconds as returned by {@link System#nanoTime()}.
+	 * @param entryCount the number of entries about to be loaded.
+	 * @return the number of nanoseconds to pause before loading the entries.
+	 */
+	synchronized long reserve(long now, int entryCount) {
+		if (maxEntriesPerSecond <= 0L) {
+			return 0L;
+		}
+
+		long availableTime = Math.max(nextAvailableTime, now);
+
+		nextAvailableTime = availableTime + (long) (Math.max(entryCount, 0) * (double) TimeUnit.SECONDS.toNanos(1)
+			/ maxEntriesPerSecond);
+
+		return (availableTime - now);
+	}
+
+	/**
+	 * Waits for all {@link RegionWarmUp RegionWarmUps} to complete and reports whether they all succeeded.
+	 *
+	 * @param timeout maximum time to wait; {@literal 0} or less to wait indefinitely.
+	 * @param unit {@link TimeUnit} of the timeout.
+	 * @return {@literal true} if the warm-up completed successfully, {@literal false} if any {@link RegionWarmUp}
+	 * failed, the timeout elapsed, the service is not started or the current {@link Thread} was interrupted.
+	 * @see #awaitCompletion(long, TimeUnit)
+	 */
+	public boolean awaitReady(long timeout, TimeUnit unit) {
+		return (awaitCompletion(timeout, unit) && failures.isEmpty());
+	}
+
+	/**
+	 * Waits for all {@link RegionWarmUp RegionWarmUps} to complete, successfully or not.
+	 *
+	 * @param timeout maximum time to wait; {@literal 0} or less to wait indefinitely.
+	 * @param unit {@link TimeUnit} of the timeout.
+	 * @return {@literal true} if the warm-up is complete, {@literal false} if the timeout elapsed, the service
+	 * is not started or the current {@link Thread} was interrupted.
+	 */
+	public boolean awaitCompletion(long timeout, TimeUnit unit) {
+		CountDownLatch readyLatch = this.readyLatch;
+
+		if (readyLatch == null) {
+			return false;
+		}
+
+		try {
+			if (timeout > 0L) {
+				return readyLatch.await(timeout, unit);
+			}
+
+			readyLatch.await();
+
+			return true;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Determines whether all {@link RegionWarmUp RegionWarmUps} have completed successfully.
+	 *
+	 * @return {@literal true} if the warm-up is complete and no {@link RegionWarmUp} failed.
+	 * @see #getFailures()
+	 * @see #isComplete()
+	 */
+	public boolean isReady() {
+		return (isComplete() && failures.isEmpty());
+	}
+
+	/**
+	 * Determines whether all {@link RegionWarmUp RegionWarmUps} have completed, successfully or not.
+	 *
+	 * @return {@literal true} if the warm-up is complete.
+	 */
+	public boolean isComplete() {
+		CountDownLatch readyLatch = this.readyLatch;
+		return (readyLatch != null && readyLatch.getCount() == 0L);
+	}
+
+	/**
+	 * Returns the number of entries loaded so far into the named {@link Region}.  The entries imported from
+	 * a snapshot are approximated by the growth of the {@link Region}, excluding overwritten entries.
+	 *
+	 * @param regionName name of the {@link Region}.
+	 * @return the number of entries loaded, or {@literal 0} if the {@link Region} warm-up has not started.
+	 */
+	public long getEntryCount(String regionName) {
+		AtomicLong entryCount = entryCounts.get(regionName);
+		return (entryCount != null ? entryCount.get() : 0L);
+	}
+
+	/**
+	 * Returns the failures of the {@link RegionWarmUp RegionWarmUps} that failed, by {@link Region} name.
+	 *
+	 * @return an unmodifiable {@link Map} of {@link Region} name to failure.
+	 */
+	public Map<String, Throwable> getFailures() {
+		return Collections.unmodifiableMap(failures);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public synchronized void stop() {
+		if (this.executorService != null) {
+			this.executorService.shutdownNow();
+		}
+
+		this.running = false;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void stop(Runnable callback) {
+		stop();
+		callback.run();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void destroy() throws Exception {
+		stop();
+	}
+
+	public void setAutoStartup(boolean autoStartup) {
+		this.autoStartup = autoStartup;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public boolean isAutoStartup() {
+		return this.autoStartup;
+	}
+
+	/**
+	 * Sets whether {@link #start()} blocks until the warm-up is complete.  Defaults to {@literal true}.
+	 *
+	 * @param awaitWarmUp {@literal true} to hold the later {@link SmartLifecycle} phases until the caches are hot.
+	 */
+	public void setAwaitWarmUp(boolean awaitWarmUp) {
+		this.awaitWarmUp = awaitWarmUp;
+	}
+
+	public boolean isAwaitWarmUp() {
+		return this.awaitWarmUp;
+	}
+
+	/**
+	 * Sets a reference to the {@link GemFireCache} containing the {@link Region Regions} to warm up.
+	 *
+	 * @param cache reference to the {@link GemFireCache}.
+	 */
+	public void setCache(GemFireCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Sets the maximum number of entries loaded per second across all {@link Region Regions}.  Snapshots
+	 * are imported at full speed, the entries they add only delaying the warm-ups that follow.
+	 *
+	 * @param maxEntriesPerSecond maximum number of entries per second; {@literal 0} or less for no limit.
+	 */
+	public void setMaxEntriesPerSecond(long maxEntriesPerSecond) {
+		this.maxEntriesPerSecond = maxEntriesPerSecond;
+	}
+
+	public long getMaxEntriesPerSecond() {
+		return this.maxEntriesPerSecond;
+	}
+
+	public void setPhase(int phase) {
+		this.phase = phase;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int getPhase() {
+		return this.phase;
+	}
+
+	/**
+	 * Sets the maximum number of {@link Region Regions} warmed up concurrently.
+	 *
+	 * @param poolSize maximum number of concurrent {@link RegionWarmUp RegionWarmUps}.
+	 * @throws IllegalArgumentException if the pool size is less than {@literal 1}.
+	 */
+	public void setPoolSize(int poolSize) {
+		Assert.isTrue(poolSize > 0, String.format("Pool size [%d] must be greater than 0", poolSize));
+		this.poolSize = poolSize;
+	}
+
+	public int getPoolSize() {
+		return this.poolSize;
+	}
+
+	/**
+	 * Sets the {@link RegionWarmUp RegionWarmUps} describing the {@link Region Regions} to warm up.
+	 *
+	 * @param warmUps {@link List} of {@link RegionWarmUp RegionWarmUps}.
+	 */
+	public void setWarmUps(List<RegionWarmUp> warmUps) {
+		this.warmUps = (warmUps != null ? new ArrayList<RegionWarmUp>(warmUps) : Collections.<RegionWarmUp>emptyList());
+	}
+
+	public List<RegionWarmUp> getWarmUps() {
+		return Collections.unmodifiableList(this.warmUps);
+	}
+
+	/**
+	 * Sets the maximum time {@link #start()} waits for the warm-up to complete.
+	 *
+	 * @param warmUpTimeout timeout in milliseconds; {@literal 0} or less to wait indefinitely.
+	 */
+	public void setWarmUpTimeout(long warmUpTimeout) {
+		this.warmUpTimeout = warmUpTimeout;
+	}
+
+	public long getWarmUpTimeout() {
+		return this.warmUpTimeout;
+	}
+}
@@ -0,0 +1,805 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import org.springframework.util.Assert;
+
+import com.gemstone.gemfire.CopyHelper;
+import com.gemstone.gemfire.cache.AttributesMutator;
+import com.gemstone.gemfire.cache.Cache;
+import com.gemstone.gemfire.cache.CacheStatistics;
+import com.gemstone.gemfire.cache.CacheTransactionManager;
+import com.gemstone.gemfire.cache.GemFireCache;
+import com.gemstone.gemfire.cache.InterestResultPolicy;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.RegionAttributes;
+import com.gemstone.gemfire.cache.RegionService;
+import com.gemstone.gemfire.cache.query.FunctionDomainException;
+import com.gemstone.gemfire.cache.query.NameResolutionException;
+import com.gemstone.gemfire.cache.query.QueryInvocationTargetException;
+import com.gemstone.gemfire.cache.query.SelectResults;
+import com.gemstone.gemfire.cache.query.TypeMismatchException;
+import com.gemstone.gemfire.cache.query.types.CollectionType;
+import com.gemstone.gemfire.cache.query.types.ObjectType;
+import com.gemstone.gemfire.cache.snapshot.RegionSnapshotService;
+
+/**
+ * The {@link TransactionAwareCopyOnReadRegion} class is a {@link Region} delegating all operations to the wrapped
+ * {@link Region} and returning copies of the cached values it reads only while a GemFire cache transaction
+ * is in progress on the calling Thread.
+ *
+ * Used together with {@link org.springframework.data.gemfire.GemfireTransactionManager#setCopyOnRead(boolean)}
+ * set to {@literal false}, transactional reads are protected against in-place modification of cached values
+ * while non-transactional reads keep returning direct references.  Every operation returning a cached value
+ * is covered: {@link #get(Object)}, {@link #getAll(Collection)}, {@link #getEntry(Object)},
+ * {@link #putIfAbsent(Object, Object)}, {@link #values()}, {@link #entrySet()}, {@link #selectValue(String)}
+ * and {@link #query(String)}, including the iterators of the returned collections.  Values are copied
+ * with {@link CopyHelper#copy(Object)} as they are read.
+ *
+ * Like {@link org.springframework.data.gemfire.CloseSuppressingRegion}, a {@link TransactionAwareCopyOnReadRegion}
+ * implements the {@link Region} interface only and is only equal to itself.
+ *
+ * @param <K> the Region key class type.
+ * @param <V> the Region value class type.
+ * @see com.gemstone.gemfire.CopyHelper#copy(Object)
+ * @see com.gemstone.gemfire.cache.CacheTransactionManager#exists()
+ * @see com.gemstone.gemfire.cache.Region
+ * @since 1.10.0
+ */
+@SuppressWarnings({ "deprecation", "unused" })
+public class TransactionAwareCopyOnReadRegion<K, V> implements Region<K, V> {
+
+	private volatile CacheTransactionManager cacheTransactionManager;
+
+	private final Region<K, V> delegate;
+
+	/**
+	 * Constructs an instance of {@link TransactionAwareCopyOnReadRegion} wrapping the given {@link Region}.
+	 *
+	 * @param delegate the {@link Region} to delegate to.
+	 * @throws IllegalArgumentException if the {@link Region} is null.
+	 */
+	public TransactionAwareCopyOnReadRegion(Region<K, V> delegate) {
+		Assert.notNull(delegate, "The Region to delegate to must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Returns the {@link Region} wrapped by this {@link TransactionAwareCopyOnReadRegion}.
+	 *
+	 * @return the native {@link Region}.
+	 */
+	public Region<K, V> getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Determines whether a GemFire cache transaction is in progress on the current Thread.
+	 *
+	 * @return a boolean indicating whether a cache transaction is in progress on the current Thread.
+	 * @see com.gemstone.gemfire.cache.CacheTransactionManager#exists()
+	 */
+	protected boolean isTransactionInProgress() {
+		CacheTransactionManager localCacheTransactionManager = this.cacheTransactionManager;
+
+		if (localCacheTransactionManager == null) {
+			RegionService regionService = delegate.getRegionService();
+
+			if (regionService instanceof GemFireCache) {
+				localCacheTransactionManager = ((GemFireCache) regionService).getCacheTransactionManager();
+				this.cacheTransactionManager = localCacheTransactionManager;
+			}
+		}
+
+		return (localCacheTransactionManager != null && localCacheTransactionManager.exists());
+	}
+
+	/* (non-Javadoc) */
+	static <T> T copy(T value) {
+		return (value != null ? CopyHelper.copy(value) : null);
+	}
+
+	/* (non-Javadoc) */
+	private <T extends K> Map<T, V> copyValues(Map<T, V> map) {
+		if (map == null || !isTransactionInProgress()) {
+			return map;
+		}
+
+		Map<T, V> copies = new HashMap<T, V>(map.size() * 4 / 3 + 1);
+
+		for (Map.Entry<T, V> entry : map.entrySet()) {
+			copies.put(entry.getKey(), copy(entry.getValue()));
+		}
+
+		return copies;
+	}
+
+	/* (non-Javadoc) */
+	private V copyValue(V value) {
+		return (value != null && isTransactionInProgress() ? CopyHelper.copy(value) : value);
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+
+	@Override
+	public String getFullPath() {
+		return delegate.getFullPath();
+	}
+
+	@Override
+	public <PK, PV> Region<PK, PV> getParentRegion() {
+		return delegate.getParentRegion();
+	}
+
+	@Override
+	public RegionAttributes<K, V> getAttributes() {
+		return delegate.getAttributes();
+	}
+
+	@Override
+	public AttributesMutator<K, V> getAttributesMutator() {
+		return delegate.getAttributesMutator();
+	}
+
+	@Override
+	public CacheStatistics getStatistics() {
+		return delegate.getStatistics();
+	}
+
+	@Override
+	public void invalidateRegion() {
+		delegate.invalidateRegion();
+	}
+
+	@Override
+	public void invalidateRegion(Object callbackArgument) {
+		delegate.invalidateRegion(callbackArgument);
+	}
+
+	@Override
+	public void localInvalidateRegion() {
+		delegate.localInvalidateRegion();
+	}
+
+	@Override
+	public void localInvalidateRegion(Object callbackArgument) {
+		delegate.localInvalidateRegion(callbackArgument);
+	}
+
+	@Override
+	public void destroyRegion() {
+		delegate.destroyRegion();
+	}
+
+	@Override
+	public void destroyRegion(Object callbackArgument) {
+		delegate.destroyRegion(callbackArgument);
+	}
+
+	@Override
+	public void localDestroyRegion() {
+		delegate.localDestroyRegion();
+	}
+
+	@Override
+	public void localDestroyRegion(Object callbackArgument) {
+		delegate.localDestroyRegion(callbackArgument);
+	}
+
+	@Override
+	public RegionSnapshotService<K, V> getSnapshotService() {
+		return delegate.getSnapshotService();
+	}
+
+	@Override
+	public void saveSnapshot(OutputStream outputStream) throws IOException {
+		delegate.saveSnapshot(outputStream);
+	}
+
+	@Override
+	public void loadSnapshot(InputStream inputStream) throws IOException, ClassNotFoundException {
+		delegate.loadSnapshot(inputStream);
+	}
+
+	@Override
+	public <SK, SV> Region<SK, SV> getSubregion(String path) {
+		return delegate.getSubregion(path);
+	}
+
+	@Override
+	public <SK, SV> Region<SK, SV> createSubregion(String subregionName, RegionAttributes<SK, SV> regionAttributes) {
+		return delegate.createSubregion(subregionName, regionAttributes);
+	}
+
+	@Override
+	public Set<Region<?, ?>> subregions(boolean recursive) {
+		return delegate.subregions(recursive);
+	}
+
+	@Override
+	public Entry<K, V> getEntry(Object key) {
+		Entry<K, V> entry = delegate.getEntry(key);
+		return (entry != null && isTransactionInProgress() ? new CopyOnReadEntry<K, V>(entry) : entry);
+	}
+
+	@Override
+	public V get(Object key) {
+		return copyValue(delegate.get(key));
+	}
+
+	@Override
+	public V get(Object key, Object callbackArgument) {
+		return copyValue(delegate.get(key, callbackArgument));
+	}
+
+	@Override
+	public Map<K, V> getAll(Collection<?> keys) {
+		return copyValues(delegate.getAll(keys));
+	}
+
+	@Override
+	public <T extends K> Map<T, V> getAll(Collection<T> keys, Object callbackArgument) {
+		return copyValues(delegate.getAll(keys, callbackArgument));
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return delegate.put(key, value);
+	}
+
+	@Override
+	public V put(K key, V value, Object callbackArgument) {
+		return delegate.put(key, value, callbackArgument);
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		delegate.putAll(map);
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map, Object callbackArgument) {
+		delegate.putAll(map, callbackArgument);
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return copyValue(delegate.putIfAbsent(key, value));
+	}
+
+	@Override
+	public void create(K key, V value) {
+		delegate.create(key, value);
+	}
+
+	@Override
+	public void create(K key, V value, Object callbackArgument) {
+		delegate.create(key, value, callbackArgument);
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		return delegate.replace(key, value);
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		return delegate.replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public void invalidate(Object key) {
+		delegate.invalidate(key);
+	}
+
+	@Override
+	public void invalidate(Object key, Object callbackArgument) {
+		delegate.invalidate(key, callbackArgument);
+	}
+
+	@Override
+	public void localInvalidate(Object key) {
+		delegate.localInvalidate(key);
+	}
+
+	@Override
+	public void localInvalidate(Object key, Object callbackArgument) {
+		delegate.localInvalidate(key, callbackArgument);
+	}
+
+	@Override
+	public V destroy(Object key) {
+		return delegate.destroy(key);
+	}
+
+	@Override
+	public V destroy(Object key, Object callbackArgument) {
+		return delegate.destroy(key, callbackArgument);
+	}
+
+	@Override
+	public void localDestroy(Object key) {
+		delegate.localDestroy(key);
+	}
+
+	@Override
+	public void localDestroy(Object key, Object callbackArgument) {
+		delegate.localDestroy(key, callbackArgument);
+	}
+
+	@Override
+	public V remove(Object key) {
+		return delegate.remove(key);
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		return delegate.remove(key, value);
+	}
+
+	@Override
+	public void removeAll(Collection<? extends K> keys) {
+		delegate.removeAll(keys);
+	}
+
+	@Override
+	public void removeAll(Collection<? extends K> keys, Object callbackArgument) {
+		delegate.removeAll(keys, callbackArgument);
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public void localClear() {
+		delegate.localClear();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return delegate.containsKey(key);
+	}
+
+	@Override
+	public boolean containsKeyOnServer(Object key) {
+		return delegate.containsKeyOnServer(key);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return delegate.containsValue(value);
+	}
+
+	@Override
+	public boolean containsValueForKey(Object key) {
+		return delegate.containsValueForKey(key);
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		final Set<Map.Entry<K, V>> entries = delegate.entrySet();
+
+		return (!isTransactionInProgress() ? entries : new AbstractSet<Map.Entry<K, V>>() {
+			@Override
+			public Iterator<Map.Entry<K, V>> iterator() {
+				return new CopyOnReadIterator<Map.Entry<K, V>>(entries.iterator()) {
+					@Override
+					Map.Entry<K, V> copyOf(Map.Entry<K, V> entry) {
+						return new AbstractMap.SimpleImmutableEntry<K, V>(entry.getKey(), copy(entry.getValue()));
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return entries.size();
+			}
+		});
+	}
+
+	@Override
+	public Set<Region.Entry<?, ?>> entrySet(boolean recursive) {
+		final Set<Region.Entry<?, ?>> entries = delegate.entrySet(recursive);
+
+		return (!isTransactionInProgress() ? entries : new AbstractSet<Region.Entry<?, ?>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Iterator<Region.Entry<?, ?>> iterator() {
+				return new CopyOnReadIterator<Region.Entry<?, ?>>(entries.iterator()) {
+					@Override
+					Region.Entry<?, ?> copyOf(Region.Entry<?, ?> entry) {
+						return new CopyOnReadEntry<Object, Object>((Region.Entry<Object, Object>) entry);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return entries.size();
+			}
+		});
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return delegate.keySet();
+	}
+
+	@Override
+	public Set<K> keySetOnServer() {
+		return delegate.keySetOnServer();
+	}
+
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	@Override
+	public Collection<V> values() {
+		final Collection<V> values = delegate.values();
+
+		return (!isTransactionInProgress() ? values : new AbstractCollection<V>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new CopyOnReadIterator<V>(values.iterator()) {
+					@Override
+					V copyOf(V value) {
+						return copy(value);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return values.size();
+			}
+		});
+	}
+
+	@Override
+	public Cache getCache() {
+		return delegate.getCache();
+	}
+
+	@Override
+	public RegionService getRegionService() {
+		return delegate.getRegionService();
+	}
+
+	@Override
+	public Object getUserAttribute() {
+		return delegate.getUserAttribute();
+	}
+
+	@Override
+	public void setUserAttribute(Object value) {
+		delegate.setUserAttribute(value);
+	}
+
+	@Override
+	public boolean isDestroyed() {
+		return delegate.isDestroyed();
+	}
+
+	@Override
+	public Lock getRegionDistributedLock() {
+		return delegate.getRegionDistributedLock();
+	}
+
+	@Override
+	public Lock getDistributedLock(Object key) {
+		return delegate.getDistributedLock(key);
+	}
+
+	@Override
+	public void becomeLockGrantor() {
+		delegate.becomeLockGrantor();
+	}
+
+	@Override
+	public void writeToDisk() {
+		delegate.writeToDisk();
+	}
+
+	@Override
+	public boolean existsValue(String queryPredicate) throws FunctionDomainException, TypeMismatchException,
+			NameResolutionException, QueryInvocationTargetException {
+
+		return delegate.existsValue(queryPredicate);
+	}
+
+	@Override
+	public <E> SelectResults<E> query(String queryPredicate) throws FunctionDomainException, TypeMismatchException,
+			NameResolutionException, QueryInvocationTargetException {
+
+		SelectResults<E> results = delegate.query(queryPredicate);
+		return (results != null && isTransactionInProgress() ? new CopyOnReadSelectResults<E>(results) : results);
+	}
+
+	@Override
+	public Object selectValue(String queryPredicate) throws FunctionDomainException, TypeMismatchException,
+			NameResolutionException, QueryInvocationTargetException {
+
+		Object value = delegate.selectValue(queryPredicate);
+		return (isTransactionInProgress() ? copy(value) : value);
+	}
+
+	@Override
+	public void registerInterest(K key) {
+		delegate.registerInterest(key);
+	}
+
+	@Override
+	public void registerInterest(K key, boolean isDurable) {
+		delegate.registerInterest(key, isDurable);
+	}
+
+	@Override
+	public void registerInterest(K key, boolean isDurable, boolean receiveValues) {
+		delegate.registerInterest(key, isDurable, receiveValues);
+	}
+
+	@Override
+	public void registerInterest(K key, InterestResultPolicy policy) {
+		delegate.registerInterest(key, policy);
+	}
+
+	@Override
+	public void registerInterest(K key, InterestResultPolicy policy, boolean isDurable) {
+		delegate.registerInterest(key, policy, isDurable);
+	}
+
+	@Override
+	public void registerInterest(K key, InterestResultPolicy policy, boolean isDurable, boolean receiveValues) {
+		delegate.registerInterest(key, policy, isDurable, receiveValues);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex) {
+		delegate.registerInterestRegex(regex);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, boolean isDurable) {
+		delegate.registerInterestRegex(regex, isDurable);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, boolean isDurable, boolean receiveValues) {
+		delegate.registerInterestRegex(regex, isDurable, receiveValues);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, InterestResultPolicy policy) {
+		delegate.registerInterestRegex(regex, policy);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, InterestResultPolicy policy, boolean isDurable) {
+		delegate.registerInterestRegex(regex, policy, isDurable);
+	}
+
+	@Override
+	public void registerInterestRegex(String regex, InterestResultPolicy policy, boolean isDurable,
+			boolean receiveValues) {
+
+		delegate.registerInterestRegex(regex, policy, isDurable, receiveValues);
+	}
+
+	@Override
+	public void unregisterInterest(K key) {
+		delegate.unregisterInterest(key);
+	}
+
+	@Override
+	public void unregisterInterestRegex(String regex) {
+		delegate.unregisterInterestRegex(regex);
+	}
+
+	@Override
+	public List<K> getInterestList() {
+		return delegate.getInterestList();
+	}
+
+	@Override
+	public List<String> getInterestListRegex() {
+		return delegate.getInterestListRegex();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+
+	/**
+	 * {@link Iterator} returning a copy of each element of the wrapped {@link Iterator}.
+	 */
+	abstract static class CopyOnReadIterator<T> implements Iterator<T> {
+
+		private final Iterator<T> delegate;
+
+		CopyOnReadIterator(Iterator<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		abstract T copyOf(T element);
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public T next() {
+			return copyOf(delegate.next());
+		}
+
+		@Override
+		public void remove() {
+			delegate.remove();
+		}
+	}
+
+	/**
+	 * {@link Region.Entry} returning a copy of the value of the wrapped {@link Region.Entry}.
+	 */
+	static class CopyOnReadEntry<K, V> implements Region.Entry<K, V> {
+
+		private final Region.Entry<K, V> delegate;
+
+		CopyOnReadEntry(Region.Entry<K, V> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public K getKey() {
+			return delegate.getKey();
+		}
+
+		@Override
+		public V getValue() {
+			return copy(delegate.getValue());
+		}
+
+		@Override
+		public Region<K, V> getRegion() {
+			return delegate.getRegion();
+		}
+
+		@Override
+		public boolean isLocal() {
+			return delegate.isLocal();
+		}
+
+		@Override
+		public CacheStatistics getStatistics() {
+			return delegate.getStatistics();
+		}
+
+		@Override
+		public Object getUserAttribute() {
+			return delegate.getUserAttribute();
+		}
+
+		@Override
+		public Object setUserAttribute(Object userAttribute) {
+			return delegate.setUserAttribute(userAttribute);
+		}
+
+		@Override
+		public boolean isDestroyed() {
+			return delegate.isDestroyed();
+		}
+
+		@Override
+		public V setValue(V value) {
+			return delegate.setValue(value);
+		}
+	}
+
+	/**
+	 * {@link SelectResults} returning copies of the query results of the wrapped {@link SelectResults}.
+	 */
+	static class CopyOnReadSelectResults<E> extends AbstractCollection<E> implements SelectResults<E> {
+
+		private final SelectResults<E> delegate;
+
+		CopyOnReadSelectResults(SelectResults<E> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return new CopyOnReadIterator<E>(delegate.iterator()) {
+				@Override
+				E copyOf(E element) {
+					return copy(element);
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return delegate.size();
+		}
+
+		@Override
+		public boolean isModifiable() {
+			return false;
+		}
+
+		@Override
+		public int occurrences(E element) {
+			return delegate.occurrences(element);
+		}
+
+		@Override
+		public Set<E> asSet() {
+			return new LinkedHashSet<E>(this);
+		}
+
+		@Override
+		public List<E> asList() {
+			return new ArrayList<E>(this);
+		}
+
+		@Override
+		public CollectionType getCollectionType() {
+			return delegate.getCollectionType();
+		}
+
+		@Override
+		public void setElementType(ObjectType elementType) {
+			delegate.setElementType(elementType);
+		}
+	}
+}
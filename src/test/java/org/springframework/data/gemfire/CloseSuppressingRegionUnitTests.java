@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gemstone.gemfire.cache.Region;
+
+/**
+ * Unit tests for {@link CloseSuppressingRegion}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.CloseSuppressingRegion
+ * @since 1.10.0
+ */
+public class CloseSuppressingRegionUnitTests {
+
+	private CloseSuppressingRegion<String, Object> region;
+
+	private Region<String, Object> mockRegion;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		mockRegion = mock(Region.class);
+		region = new CloseSuppressingRegion<String, Object>(mockRegion);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullRegionThrowsIllegalArgumentException() {
+		new CloseSuppressingRegion<Object, Object>(null);
+	}
+
+	@Test
+	public void closeIsSuppressed() {
+		region.close();
+
+		verify(mockRegion, never()).close();
+	}
+
+	@Test
+	public void operationsAreDelegated() {
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.get("key")).thenReturn("value");
+
+		assertThat(region.getDelegate(), is(sameInstance(mockRegion)));
+		assertThat(region.getFullPath(), is(equalTo("/Example")));
+		assertThat(region.get("key"), is(equalTo((Object) "value")));
+
+		region.put("key", "newValue");
+		region.removeAll(Collections.singletonList("key"));
+		region.localDestroyRegion();
+
+		verify(mockRegion).put("key", "newValue");
+		verify(mockRegion).removeAll(Collections.singletonList("key"));
+		verify(mockRegion).localDestroyRegion();
+	}
+
+	@Test
+	public void isOnlyEqualToItself() {
+		CloseSuppressingRegion<String, Object> otherRegion = new CloseSuppressingRegion<String, Object>(mockRegion);
+
+		assertThat(region.equals(region), is(true));
+		assertThat(region.equals(otherRegion), is(false));
+		assertThat(region.equals(mockRegion), is(false));
+		assertThat(region.hashCode(), is(equalTo(System.identityHashCode(region))));
+	}
+}
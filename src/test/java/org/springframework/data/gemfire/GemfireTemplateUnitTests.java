@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
@@ -31,6 +33,7 @@ import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -44,6 +47,7 @@ import com.gemstone.gemfire.cache.client.ClientCache;
 import com.gemstone.gemfire.cache.query.Query;
 import com.gemstone.gemfire.cache.query.QueryService;
 import com.gemstone.gemfire.cache.query.SelectResults;
+import com.gemstone.gemfire.cache.util.ObjectSizer;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -53,6 +57,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.support.HistogramRegionOperationMetrics;
+import org.springframework.data.gemfire.support.QueryShapeStatistics;
+import org.springframework.data.gemfire.support.QueryStatisticsRecorder;
+import org.springframework.data.gemfire.support.RegionOperation;
+import org.springframework.data.gemfire.support.RegionOperationMeters;
+import org.springframework.data.gemfire.support.RegionOperationMetrics;
 import org.springframework.data.gemfire.test.support.AbstractUnitAndIntegrationTestsWithMockSupport;
 
 /**
@@ -150,6 +160,8 @@ public class GemfireTemplateUnitTests extends AbstractUnitAndIntegrationTestsWit
 			public Object doInGemfire(Region<?, ?> region) throws GemFireCheckedException, GemFireException {
 				callbackInvoked.set(true);
 				assertThat(region).isNotSameAs(mockRegion);
+				assertThat(region).isInstanceOf(CloseSuppressingRegion.class);
+				assertThat(((CloseSuppressingRegion<?, ?>) region).getDelegate()).isSameAs(mockRegion);
 				return null;
 			}
 		});
@@ -184,6 +196,122 @@ public class GemfireTemplateUnitTests extends AbstractUnitAndIntegrationTestsWit
 		verifyZeroInteractions(mockSelectResults);
 	}
 
+	@Test
+	public void findRecordsQueryStatistics() throws Exception {
+		QueryStatisticsRecorder queryStatisticsRecorder = new QueryStatisticsRecorder();
+
+		when(mockQuery.execute(any(Object[].class))).thenReturn(mock(SelectResults.class));
+
+		template.setQueryStatisticsRecorder(queryStatisticsRecorder);
+		template.find("SELECT * FROM /Example e WHERE e.name = $1", "one");
+		template.find("SELECT * FROM /Example e WHERE e.name = $1", "two");
+
+		assertThat(queryStatisticsRecorder.getStatistics()).hasSize(1);
+
+		QueryShapeStatistics statistics = queryStatisticsRecorder.getStatistics().get(0);
+
+		assertThat(statistics.getCount()).isEqualTo(2L);
+		assertThat(statistics.getShape().getRegionPath()).isEqualTo("/Example");
+		assertThat(statistics.getShape().getPaths()).containsKey("name");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getRecordsRegionOperationMetrics() {
+		Region<Object, Object> mockExampleRegion = mock(Region.class);
+		ObjectSizer mockObjectSizer = mock(ObjectSizer.class);
+		HistogramRegionOperationMetrics regionOperationMetrics = new HistogramRegionOperationMetrics();
+
+		when(mockExampleRegion.getFullPath()).thenReturn("/Example");
+		when(mockExampleRegion.get(eq("one"))).thenReturn("value");
+		when(mockObjectSizer.sizeof(eq("value"))).thenReturn(48);
+
+		regionOperationMetrics.setObjectSizer(mockObjectSizer);
+		regionOperationMetrics.setRecordPayloadSize(true);
+
+		GemfireTemplate localTemplate = new GemfireTemplate(mockExampleRegion);
+
+		localTemplate.setRegionOperationMetrics(regionOperationMetrics);
+		localTemplate.get("one");
+		localTemplate.get("two");
+
+		RegionOperationMeters meters = regionOperationMetrics.getMeters("/Example", RegionOperation.GET);
+
+		assertThat(regionOperationMetrics.getMeters()).hasSize(1);
+		assertThat(meters.getLatency().getCount()).isEqualTo(2L);
+		assertThat(meters.getPayloadSize().getCount()).isEqualTo(1L);
+		assertThat(meters.getPayloadSize().getMax()).isEqualTo(48L);
+		assertThat(meters.getResultSize().getTotal()).isEqualTo(1L);
+		assertThat(meters.getFailureCount()).isEqualTo(0L);
+	}
+
+	@Test
+	public void findRecordsRegionOperationFailure() throws Exception {
+		HistogramRegionOperationMetrics regionOperationMetrics = new HistogramRegionOperationMetrics();
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockQuery.execute(any(Object[].class))).thenReturn(1);
+
+		template.setRegionOperationMetrics(regionOperationMetrics);
+
+		try {
+			template.find("SELECT 1 FROM /Example");
+		}
+		catch (InvalidDataAccessApiUsageException ignore) {
+		}
+
+		RegionOperationMeters meters = regionOperationMetrics.getMeters("/Example", RegionOperation.FIND);
+
+		assertThat(meters.getLatency().getCount()).isEqualTo(0L);
+		assertThat(meters.getFailureCounts()).containsEntry(InvalidDataAccessApiUsageException.class.getName(), 1L);
+	}
+
+	@Test
+	public void disabledRegionOperationMetricsAreNotRecorded() throws Exception {
+		RegionOperationMetrics mockRegionOperationMetrics = mock(RegionOperationMetrics.class);
+
+		when(mockRegionOperationMetrics.isEnabled()).thenReturn(false);
+		when(mockQuery.execute(any(Object[].class))).thenReturn(mock(SelectResults.class));
+
+		template.setRegionOperationMetrics(mockRegionOperationMetrics);
+		template.find("SELECT * FROM /Example");
+
+		verify(mockRegionOperationMetrics, never()).record(anyString(), any(RegionOperation.class), anyLong(),
+			any(), anyInt());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resultSizeIsNotComputedWhenRegionOperationMetricsAreDisabled() throws Exception {
+		final Region<Object, Object> mockResultRegion = mock(Region.class);
+		final Collection<Object> mockResultCollection = mock(Collection.class);
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object[].class))).thenReturn(mockSelectResults);
+
+		assertThat(template.getRegionOperationMetrics().isEnabled()).isFalse();
+
+		template.execute(new GemfireCallback<Object>() {
+			@Override
+			public Object doInGemfire(Region<?, ?> region) throws GemFireCheckedException, GemFireException {
+				return mockResultRegion;
+			}
+		});
+
+		template.execute(new GemfireCallback<Object>() {
+			@Override
+			public Object doInGemfire(Region<?, ?> region) throws GemFireCheckedException, GemFireException {
+				return mockResultCollection;
+			}
+		});
+
+		template.find("SELECT * FROM /Example");
+
+		verify(mockResultRegion, never()).size();
+		verify(mockResultCollection, never()).size();
+		verify(mockSelectResults, never()).size();
+	}
+
 	@Test(expected = InvalidDataAccessApiUsageException.class)
 	public void findWithSingleResultQueryThrowsInvalidDataAccessApiUsageException() throws Exception {
 		Object[] expectedParams = { "arg" };
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import com.gemstone.gemfire.cache.CommitConflictException;
+
+/**
+ * Unit tests for {@link GemfireTransactionRetryInterceptor}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.GemfireTransactionRetryInterceptor
+ * @since 1.10.0
+ */
+public class GemfireTransactionRetryInterceptorTests {
+
+	private GemfireTransactionRetryInterceptor interceptor;
+
+	private Method method;
+
+	@Before
+	public void setup() throws Exception {
+		interceptor = new GemfireTransactionRetryInterceptor() {
+			@Override
+			void sleep(long milliseconds) {
+			}
+		};
+
+		method = Object.class.getMethod("toString");
+	}
+
+	protected GemfireTransactionCommitException newCommitConflict() {
+		return new GemfireTransactionCommitException("conflict", new CommitConflictException("test"));
+	}
+
+	@Test
+	public void retriesOnCommitConflictUntilSuccessful() throws Throwable {
+		ProxyMethodInvocation mockInvocation = mock(ProxyMethodInvocation.class);
+		ProxyMethodInvocation mockOriginalInvocation = mock(ProxyMethodInvocation.class);
+		ProxyMethodInvocation mockInvocationClone = mock(ProxyMethodInvocation.class);
+
+		when(mockInvocation.getMethod()).thenReturn(method);
+		when(mockInvocation.proceed()).thenThrow(newCommitConflict());
+		when(mockInvocation.invocableClone()).thenReturn(mockOriginalInvocation);
+		when(mockOriginalInvocation.invocableClone()).thenReturn(mockInvocationClone);
+		when(mockInvocationClone.proceed()).thenThrow(newCommitConflict()).thenReturn("result");
+
+		assertThat(interceptor.invoke(mockInvocation), is(equalTo((Object) "result")));
+
+		verify(mockInvocation, times(1)).proceed();
+		verify(mockInvocation, times(1)).invocableClone();
+		verify(mockOriginalInvocation, never()).proceed();
+		verify(mockOriginalInvocation, times(2)).invocableClone();
+		verify(mockInvocationClone, times(2)).proceed();
+
+		GemfireTransactionRetryInterceptor.TransactionStatistics statistics =
+			interceptor.getTransactionStatistics(ClassUtils.getQualifiedMethodName(method));
+
+		assertThat(statistics.getAttempts(), is(equalTo(3L)));
+		assertThat(statistics.getConflicts(), is(equalTo(2L)));
+		assertThat(statistics.getCommits(), is(equalTo(1L)));
+		assertThat(statistics.getExhausted(), is(equalTo(0L)));
+	}
+
+	@Test
+	public void propagatesCommitConflictWhenAttemptsAreExhausted() throws Throwable {
+		ProxyMethodInvocation mockInvocation = mock(ProxyMethodInvocation.class);
+		GemfireTransactionCommitException conflict = newCommitConflict();
+
+		when(mockInvocation.getMethod()).thenReturn(method);
+		when(mockInvocation.proceed()).thenThrow(conflict);
+		when(mockInvocation.invocableClone()).thenReturn(mockInvocation);
+
+		interceptor.setMaxAttempts(2);
+
+		try {
+			interceptor.invoke(mockInvocation);
+			fail("Expected GemfireTransactionCommitException");
+		}
+		catch (GemfireTransactionCommitException expected) {
+			assertThat(expected, is(sameInstance(conflict)));
+		}
+
+		GemfireTransactionRetryInterceptor.TransactionStatistics statistics =
+			interceptor.getTransactionStatistics(ClassUtils.getQualifiedMethodName(method));
+
+		assertThat(statistics.getAttempts(), is(equalTo(2L)));
+		assertThat(statistics.getExhausted(), is(equalTo(1L)));
+		assertThat(statistics.getConflictRate(), is(equalTo(1.0d)));
+	}
+
+	@Test
+	public void doesNotRetryOtherExceptions() throws Throwable {
+		ProxyMethodInvocation mockInvocation = mock(ProxyMethodInvocation.class);
+
+		when(mockInvocation.getMethod()).thenReturn(method);
+		when(mockInvocation.proceed()).thenThrow(new IllegalStateException("test"));
+
+		try {
+			interceptor.invoke(mockInvocation);
+			fail("Expected IllegalStateException");
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected.getMessage(), is(equalTo("test")));
+		}
+
+		verify(mockInvocation, times(1)).proceed();
+		verify(mockInvocation, times(1)).invocableClone();
+	}
+
+	@Test
+	public void retriesRunThroughTransactionAdvice() {
+		ConflictingTransactionManager transactionManager = new ConflictingTransactionManager(1);
+		TransactionRecordingService target = new TransactionRecordingService();
+
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+
+		proxyFactory.addAdvice(interceptor);
+		proxyFactory.addAdvice(new TransactionInterceptor(transactionManager,
+			new MatchAlwaysTransactionAttributeSource()));
+
+		Service service = (Service) proxyFactory.getProxy();
+
+		assertThat(service.execute(), is(equalTo("result")));
+		assertThat(target.transactionActive, contains(true, true));
+		assertThat(transactionManager.commits, is(equalTo(2)));
+	}
+
+	interface Service {
+		String execute();
+	}
+
+	static class TransactionRecordingService implements Service {
+
+		final List<Boolean> transactionActive = new ArrayList<Boolean>();
+
+		@Override
+		public String execute() {
+			transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+			return "result";
+		}
+	}
+
+	@SuppressWarnings("serial")
+	class ConflictingTransactionManager extends AbstractPlatformTransactionManager {
+
+		int commits;
+		int conflicts;
+
+		ConflictingTransactionManager(int conflicts) {
+			this.conflicts = conflicts;
+		}
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+			commits++;
+
+			if (conflicts-- > 0) {
+				throw newCommitConflict();
+			}
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+
+	@Test
+	public void computeBackoffIsJitteredAndCapped() {
+		interceptor.setInitialBackoff(100L);
+		interceptor.setBackoffMultiplier(2.0d);
+		interceptor.setMaxBackoff(300L);
+
+		for (int count = 0; count < 100; count++) {
+			long first = interceptor.computeBackoff(1);
+			long third = interceptor.computeBackoff(3);
+
+			assertThat(first, is(greaterThanOrEqualTo(50L)));
+			assertThat(first, is(lessThanOrEqualTo(100L)));
+			assertThat(third, is(greaterThanOrEqualTo(150L)));
+			assertThat(third, is(lessThanOrEqualTo(300L)));
+		}
+	}
+}
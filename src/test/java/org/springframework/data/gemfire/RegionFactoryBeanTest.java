@@ -357,6 +357,7 @@ public class RegionFactoryBeanTest extends AbstractRegionFactoryBeanTest {
 		when(mockRegionAttributes.isDiskSynchronous()).thenReturn(true);
 		when(mockRegionAttributes.getEnableAsyncConflation()).thenReturn(false);
 		when(mockRegionAttributes.getEnableSubscriptionConflation()).thenReturn(false);
+		when(mockRegionAttributes.getEnableOffHeapMemory()).thenReturn(true);
 		when(mockRegionAttributes.getEntryIdleTimeout()).thenReturn(testExpirationAttributes);
 		when(mockRegionAttributes.getEntryTimeToLive()).thenReturn(testExpirationAttributes);
 		when(mockRegionAttributes.getEvictionAttributes()).thenReturn(testEvictionAttributes);
@@ -395,6 +396,7 @@ public class RegionFactoryBeanTest extends AbstractRegionFactoryBeanTest {
 		verify(mockRegionFactory).setDiskSynchronous(eq(true));
 		verify(mockRegionFactory).setEnableAsyncConflation(eq(false));
 		verify(mockRegionFactory).setEnableSubscriptionConflation(eq(false));
+		verify(mockRegionFactory).setEnableOffHeapMemory(eq(true));
 		verify(mockRegionFactory).setEntryIdleTimeout(same(testExpirationAttributes));
 		verify(mockRegionFactory).setEntryTimeToLive(same(testExpirationAttributes));
 		verify(mockRegionFactory).setEvictionAttributes(same(testEvictionAttributes));
@@ -428,6 +430,7 @@ public class RegionFactoryBeanTest extends AbstractRegionFactoryBeanTest {
 		verify(mockRegionFactory, never()).setDiskSynchronous(true);
 		verify(mockRegionFactory, never()).setEnableAsyncConflation(true);
 		verify(mockRegionFactory, never()).setEnableSubscriptionConflation(false);
+		verify(mockRegionFactory, never()).setEnableOffHeapMemory(true);
 		verify(mockRegionFactory, never()).setEntryIdleTimeout(any(ExpirationAttributes.class));
 		verify(mockRegionFactory, never()).setEntryTimeToLive(any(ExpirationAttributes.class));
 		verify(mockRegionFactory, never()).setEvictionAttributes(any(EvictionAttributes.class));
@@ -98,6 +98,7 @@ public class ClientRegionFactoryBeanTest {
 		when(mockRegionAttributes.getCustomEntryTimeToLive()).thenReturn(null);
 		when(mockRegionAttributes.getDiskStoreName()).thenReturn("TestDiskStoreOne");
 		when(mockRegionAttributes.isDiskSynchronous()).thenReturn(false);
+		when(mockRegionAttributes.getEnableOffHeapMemory()).thenReturn(false);
 		when(mockRegionAttributes.getEntryIdleTimeout()).thenReturn(mock(ExpirationAttributes.class));
 		when(mockRegionAttributes.getEntryTimeToLive()).thenReturn(mock(ExpirationAttributes.class));
 		when(mockRegionAttributes.getEvictionAttributes()).thenReturn(mock(EvictionAttributes.class));
@@ -125,6 +126,7 @@ public class ClientRegionFactoryBeanTest {
 		factoryBean.setBeanFactory(mockBeanFactory);
 		factoryBean.setDiskStoreName("TestDiskStoreTwo");
 		factoryBean.setEvictionAttributes(evictionAttributes);
+		factoryBean.setOffHeap(true);
 		factoryBean.setPersistent(false);
 		factoryBean.setPoolName("TestPoolTwo");
 		factoryBean.setSnapshot(mockSnapshot);
@@ -143,6 +145,7 @@ public class ClientRegionFactoryBeanTest {
 		verify(mockClientRegionFactory, times(1)).setCustomEntryTimeToLive(null);
 		verify(mockClientRegionFactory, times(1)).setDiskStoreName(eq("TestDiskStoreOne"));
 		verify(mockClientRegionFactory, times(1)).setDiskSynchronous(eq(false));
+		verify(mockClientRegionFactory, times(1)).setEnableOffHeapMemory(eq(false));
 		verify(mockClientRegionFactory, times(1)).setEntryIdleTimeout(any(ExpirationAttributes.class));
 		verify(mockClientRegionFactory, times(1)).setEntryTimeToLive(any(ExpirationAttributes.class));
 		verify(mockClientRegionFactory, times(1)).setEvictionAttributes(eq(evictionAttributes));
@@ -156,6 +159,7 @@ public class ClientRegionFactoryBeanTest {
 		verify(mockClientRegionFactory, times(1)).setValueConstraint(eq(Number.class));
 		verify(mockClientRegionFactory, times(1)).setPoolName(eq("TestPoolTwo"));
 		verify(mockClientRegionFactory, times(1)).setDiskStoreName(eq("TestDiskStoreTwo"));
+		verify(mockClientRegionFactory, times(1)).setEnableOffHeapMemory(eq(true));
 		verify(mockClientRegionFactory, times(1)).create(eq(testRegionName));
 		verify(mockRegion, never()).loadSnapshot(any(InputStream.class));
 	}
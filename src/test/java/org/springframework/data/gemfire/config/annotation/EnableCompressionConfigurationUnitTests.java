@@ -0,0 +1,164 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
+import org.springframework.data.gemfire.RegionLookupFactoryBean;
+import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.support.CompressionMetrics;
+import org.springframework.data.gemfire.support.DeflateCompressor;
+import org.springframework.data.gemfire.support.MeteredCompressor;
+
+import com.gemstone.gemfire.cache.RegionAttributes;
+import com.gemstone.gemfire.compression.Compressor;
+
+/**
+ * Unit tests for the {@link EnableCompression} annotation and {@link CompressionConfiguration} class.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.CompressionConfiguration
+ * @see org.springframework.data.gemfire.config.annotation.EnableCompression
+ * @since 1.10.0
+ */
+public class EnableCompressionConfigurationUnitTests {
+
+	protected <T extends RegionLookupFactoryBean<?, ?>> T newRegionFactoryBean(T regionFactoryBean,
+			String regionName) {
+
+		regionFactoryBean.setBeanName(regionName);
+		return regionFactoryBean;
+	}
+
+	@Test
+	public void compressesAndMetersAllRegionsWhenNoRegionNamesAreSpecified() {
+		Compressor compressor = new DeflateCompressor();
+		CompressionMetrics compressionMetrics = new CompressionMetrics();
+
+		CompressionConfiguration.CompressionBeanPostProcessor beanPostProcessor =
+			new CompressionConfiguration.CompressionBeanPostProcessor(new String[0], compressor, compressionMetrics);
+
+		PartitionedRegionFactoryBean<?, ?> partitionedRegionFactoryBean =
+			newRegionFactoryBean(new PartitionedRegionFactoryBean<Object, Object>(), "Example");
+
+		ClientRegionFactoryBean<?, ?> clientRegionFactoryBean =
+			newRegionFactoryBean(new ClientRegionFactoryBean<Object, Object>(), "ClientExample");
+
+		assertThat(beanPostProcessor.postProcessBeforeInitialization(partitionedRegionFactoryBean, "Example"))
+			.isSameAs(partitionedRegionFactoryBean);
+
+		beanPostProcessor.postProcessBeforeInitialization(clientRegionFactoryBean, "ClientExample");
+
+		assertThat(partitionedRegionFactoryBean.getCompressor()).isInstanceOf(MeteredCompressor.class);
+		assertThat(((MeteredCompressor) partitionedRegionFactoryBean.getCompressor()).getDelegate())
+			.isSameAs(compressor);
+		assertThat(clientRegionFactoryBean.getCompressor()).isSameAs(compressionMetrics.getCompressor("ClientExample"));
+		assertThat(compressionMetrics.getRegionNames()).containsExactly("ClientExample", "Example");
+	}
+
+	@Test
+	public void compressesOnlyNamedRegions() {
+		CompressionMetrics compressionMetrics = new CompressionMetrics();
+
+		CompressionConfiguration.CompressionBeanPostProcessor beanPostProcessor =
+			new CompressionConfiguration.CompressionBeanPostProcessor(new String[] { "Large" },
+				new DeflateCompressor(), compressionMetrics);
+
+		ReplicatedRegionFactoryBean<?, ?> largeRegionFactoryBean =
+			newRegionFactoryBean(new ReplicatedRegionFactoryBean<Object, Object>(), "Large");
+
+		ReplicatedRegionFactoryBean<?, ?> smallRegionFactoryBean =
+			newRegionFactoryBean(new ReplicatedRegionFactoryBean<Object, Object>(), "Small");
+
+		beanPostProcessor.postProcessBeforeInitialization(largeRegionFactoryBean, "Large");
+		beanPostProcessor.postProcessBeforeInitialization(smallRegionFactoryBean, "Small");
+
+		assertThat(largeRegionFactoryBean.getCompressor()).isNotNull();
+		assertThat(smallRegionFactoryBean.getCompressor()).isNull();
+		assertThat(compressionMetrics.getRegionNames()).containsExactly("Large");
+	}
+
+	@Test
+	public void metersCompressorConfiguredOnRegion() {
+		Compressor regionCompressor = mock(Compressor.class);
+		CompressionMetrics compressionMetrics = new CompressionMetrics();
+
+		CompressionConfiguration.CompressionBeanPostProcessor beanPostProcessor =
+			new CompressionConfiguration.CompressionBeanPostProcessor(null, new DeflateCompressor(),
+				compressionMetrics);
+
+		ReplicatedRegionFactoryBean<?, ?> regionFactoryBean =
+			newRegionFactoryBean(new ReplicatedRegionFactoryBean<Object, Object>(), "Example");
+
+		regionFactoryBean.setCompressor(regionCompressor);
+
+		beanPostProcessor.postProcessBeforeInitialization(regionFactoryBean, "Example");
+
+		MeteredCompressor meteredCompressor = compressionMetrics.getCompressor("Example");
+
+		assertThat(regionFactoryBean.getCompressor()).isSameAs(meteredCompressor);
+		assertThat(meteredCompressor.getDelegate()).isSameAs(regionCompressor);
+
+		beanPostProcessor.postProcessBeforeInitialization(regionFactoryBean, "Example");
+
+		assertThat(regionFactoryBean.getCompressor()).isSameAs(meteredCompressor);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void metersCompressorConfiguredInRegionAttributes() {
+		Compressor attributesCompressor = mock(Compressor.class);
+		CompressionMetrics compressionMetrics = new CompressionMetrics();
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegionAttributes.getCompressor()).thenReturn(attributesCompressor);
+
+		CompressionConfiguration.CompressionBeanPostProcessor beanPostProcessor =
+			new CompressionConfiguration.CompressionBeanPostProcessor(null, new DeflateCompressor(),
+				compressionMetrics);
+
+		PartitionedRegionFactoryBean<Object, Object> regionFactoryBean =
+			newRegionFactoryBean(new PartitionedRegionFactoryBean<Object, Object>(), "Example");
+
+		ClientRegionFactoryBean<Object, Object> clientRegionFactoryBean =
+			newRegionFactoryBean(new ClientRegionFactoryBean<Object, Object>(), "ClientExample");
+
+		regionFactoryBean.setAttributes(mockRegionAttributes);
+		clientRegionFactoryBean.setAttributes(mockRegionAttributes);
+
+		beanPostProcessor.postProcessBeforeInitialization(regionFactoryBean, "Example");
+		beanPostProcessor.postProcessBeforeInitialization(clientRegionFactoryBean, "ClientExample");
+
+		assertThat(((MeteredCompressor) regionFactoryBean.getCompressor()).getDelegate())
+			.isSameAs(attributesCompressor);
+		assertThat(((MeteredCompressor) clientRegionFactoryBean.getCompressor()).getDelegate())
+			.isSameAs(attributesCompressor);
+	}
+
+	@Test
+	public void ignoresOtherBeans() {
+		Object bean = new Object();
+
+		assertThat(new CompressionConfiguration.CompressionBeanPostProcessor(null, new DeflateCompressor(),
+			new CompressionMetrics()).postProcessBeforeInitialization(bean, "test")).isSameAs(bean);
+	}
+}
@@ -44,8 +44,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.gemfire.EvictionActionType;
 import org.springframework.data.gemfire.EvictionAttributesFactoryBean;
 import org.springframework.data.gemfire.EvictionPolicyType;
+import org.springframework.data.gemfire.ObjectSizerType;
 import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
 import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.MappingObjectSizer;
 import org.springframework.data.gemfire.util.ArrayUtils;
 
 /**
@@ -171,6 +174,19 @@ public class EnableEvictionConfigurationUnitTests {
 			lastMatchingEvictionAttributes);
 	}
 
+	@Test
+	public void usesMappingObjectSizerForAutoObjectSizer() {
+		applicationContext = newApplicationContext(AutoObjectSizerEvictionPolicyConfiguration.class);
+
+		EvictionAttributes evictionAttributes =
+			getRegion("PartitionRegion").getAttributes().getEvictionAttributes();
+
+		assertThat(evictionAttributes.getAlgorithm()).isEqualTo(EvictionPolicyType.MEMORY_SIZE.getEvictionAlgorithm());
+		assertThat(evictionAttributes.getObjectSizer()).isInstanceOf(MappingObjectSizer.class);
+		assertThat(((MappingObjectSizer) evictionAttributes.getObjectSizer()).getMappingContext())
+			.isSameAs(applicationContext.getBean(GemfireMappingContext.class));
+	}
+
 	@Configuration
 	@SuppressWarnings("unused")
 	static class CacheRegionConfiguration {
@@ -274,4 +290,14 @@ public class EnableEvictionConfigurationUnitTests {
 	})
 	static class LastMatchingWinsEvictionPolicyConfiguration extends CacheRegionConfiguration {
 	}
+
+	@EnableEviction(policies = @EvictionPolicy(maximum = 1024, type = EvictionPolicyType.MEMORY_SIZE,
+		objectSizer = ObjectSizerType.AUTO))
+	static class AutoObjectSizerEvictionPolicyConfiguration extends CacheRegionConfiguration {
+
+		@Bean
+		GemfireMappingContext mappingContext() {
+			return new GemfireMappingContext();
+		}
+	}
 }
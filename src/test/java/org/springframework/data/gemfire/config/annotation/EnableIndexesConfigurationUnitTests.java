@@ -20,9 +20,12 @@ package org.springframework.data.gemfire.config.annotation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import com.gemstone.gemfire.cache.Cache;
@@ -49,6 +52,7 @@ import org.springframework.data.gemfire.config.annotation.test.entities.GenericR
 import org.springframework.data.gemfire.config.annotation.test.entities.LocalRegionEntity;
 import org.springframework.data.gemfire.config.annotation.test.entities.NonEntity;
 import org.springframework.data.gemfire.config.annotation.test.entities.ReplicateRegionEntity;
+import org.springframework.data.gemfire.support.BatchIndexCreator;
 
 /**
  * Unit tests for the {@link EnableIndexes} and {@link IndexConfiguration} class.
@@ -105,6 +109,33 @@ public class EnableIndexesConfigurationUnitTests {
 		assertIndex(lastNameIdx, "LastNameIdx", "lastName", "Customers", IndexType.HASH);
 	}
 
+	@Test
+	public void pesistentEntityIndexesCreatedInBatchSuccessfully() {
+		applicationContext = newApplicationContext(BatchIndexedPersistentEntityConfiguration.class);
+
+		Index customersIdIdx = applicationContext.getBean("CustomersIdKeyIdx", Index.class);
+
+		assertIndex(customersIdIdx, "CustomersIdKeyIdx", "id", "Customers", IndexType.KEY);
+
+		Index customersFirstNameIdx = applicationContext.getBean("CustomersFirstNameFunctionalIdx", Index.class);
+
+		assertIndex(customersFirstNameIdx, "CustomersFirstNameFunctionalIdx", "first_name", "/LoyalCustomers",
+			IndexType.FUNCTIONAL);
+
+		Index lastNameIdx = applicationContext.getBean("LastNameIdx", Index.class);
+
+		assertIndex(lastNameIdx, "LastNameIdx", "lastName", "Customers", IndexType.HASH);
+
+		BatchIndexCreator batchIndexCreator = applicationContext.getBean(BatchIndexCreator.class);
+
+		assertThat(batchIndexCreator.getResults()).hasSize(3);
+
+		for (BatchIndexCreator.IndexCreationResult result : batchIndexCreator.getResults()) {
+			assertThat(result.isSuccessful()).isTrue();
+			assertThat(result.isRetried()).isFalse();
+		}
+	}
+
 	@Test
 	public void noIndexesCreatedForIndexedPersistentEntities() {
 		applicationContext = newApplicationContext(NoIndexesCreatedForIndexedPersistentEntityConfiguration.class);
@@ -145,6 +176,62 @@ public class EnableIndexesConfigurationUnitTests {
 		}
 	}
 
+	@Configuration
+	@SuppressWarnings("unused")
+	static class BatchCacheConfiguration {
+
+		@Bean
+		@SuppressWarnings("unchecked")
+		Cache gemfireCache() throws Exception {
+			Cache mockCache = new CacheConfiguration().gemfireCache();
+			QueryService mockQueryService = mockCache.getQueryService();
+
+			final List<Index> definedIndexes = new ArrayList<Index>();
+			final List<Index> indexes = new ArrayList<Index>();
+
+			doAnswer(new DefineIndexAnswer(definedIndexes, new HashIndexAnswer())).when(mockQueryService)
+				.defineHashIndex(anyString(), anyString(), anyString());
+
+			doAnswer(new DefineIndexAnswer(definedIndexes, new FunctionalIndexAnswer())).when(mockQueryService)
+				.defineIndex(anyString(), anyString(), anyString());
+
+			doAnswer(new DefineIndexAnswer(definedIndexes, new KeyIndexAnswer())).when(mockQueryService)
+				.defineKeyIndex(anyString(), anyString(), anyString());
+
+			when(mockQueryService.createDefinedIndexes()).thenAnswer(new Answer<List<Index>>() {
+				@Override
+				public List<Index> answer(InvocationOnMock invocation) throws Throwable {
+					List<Index> createdIndexes = new ArrayList<Index>(definedIndexes);
+					indexes.addAll(createdIndexes);
+					definedIndexes.clear();
+					return createdIndexes;
+				}
+			});
+
+			when(mockQueryService.getIndexes()).thenReturn(indexes);
+
+			return mockCache;
+		}
+	}
+
+	static class DefineIndexAnswer implements Answer<Void> {
+
+		private final AbstractIndexAnswer indexAnswer;
+
+		private final List<Index> definedIndexes;
+
+		DefineIndexAnswer(List<Index> definedIndexes, AbstractIndexAnswer indexAnswer) {
+			this.definedIndexes = definedIndexes;
+			this.indexAnswer = indexAnswer;
+		}
+
+		@Override
+		public Void answer(InvocationOnMock invocation) throws Throwable {
+			definedIndexes.add(indexAnswer.answer(invocation));
+			return null;
+		}
+	}
+
 	static abstract class AbstractIndexAnswer implements Answer<Index> {
 
 		@Override
@@ -191,7 +278,7 @@ public class EnableIndexesConfigurationUnitTests {
 		}
 	}
 
-	@EnableIndexes
+	@EnableIndexes(batch = false)
 	@EnableEntityDefinedRegions(basePackageClasses = NonEntity.class,
 		excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = {
 			ClientRegionEntity.class, CollocatedPartitionRegionEntity.class, GenericRegionEntity.class,
@@ -200,6 +287,15 @@ public class EnableIndexesConfigurationUnitTests {
 
 	}
 
+	@EnableIndexes
+	@EnableEntityDefinedRegions(basePackageClasses = NonEntity.class,
+		excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = {
+			ClientRegionEntity.class, CollocatedPartitionRegionEntity.class, GenericRegionEntity.class,
+			LocalRegionEntity.class, ReplicateRegionEntity.class }))
+	static class BatchIndexedPersistentEntityConfiguration extends BatchCacheConfiguration {
+
+	}
+
 	@EnableEntityDefinedRegions(basePackageClasses = NonEntity.class,
 		excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = {
 			ClientRegionEntity.class, CollocatedPartitionRegionEntity.class, GenericRegionEntity.class,
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
+import org.springframework.data.gemfire.RegionLookupFactoryBean;
+import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+
+/**
+ * Unit tests for the {@link EnableOffHeap} annotation and {@link OffHeapConfiguration} class.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.EnableOffHeap
+ * @see org.springframework.data.gemfire.config.annotation.OffHeapConfiguration
+ * @since 1.10.0
+ */
+public class EnableOffHeapConfigurationUnitTests {
+
+	protected <T extends RegionLookupFactoryBean<?, ?>> T newRegionFactoryBean(T regionFactoryBean,
+			String regionName) {
+
+		regionFactoryBean.setBeanName(regionName);
+		return regionFactoryBean;
+	}
+
+	@Test
+	public void setsOffHeapMemorySizeGemFireProperty() {
+		Map<String, Object> annotationAttributes = new HashMap<String, Object>();
+
+		annotationAttributes.put("memorySize", " 64g ");
+
+		Properties gemfireProperties = new OffHeapConfiguration().toGemFireProperties(annotationAttributes);
+
+		assertThat(gemfireProperties.getProperty("off-heap-memory-size")).isEqualTo("64g");
+	}
+
+	@Test
+	public void storesAllRegionsOffHeapWhenNoRegionNamesAreSpecified() {
+		OffHeapConfiguration.OffHeapBeanPostProcessor beanPostProcessor =
+			new OffHeapConfiguration.OffHeapBeanPostProcessor(new String[0]);
+
+		PartitionedRegionFactoryBean<?, ?> partitionedRegionFactoryBean =
+			newRegionFactoryBean(new PartitionedRegionFactoryBean<Object, Object>(), "Example");
+
+		ClientRegionFactoryBean<?, ?> clientRegionFactoryBean =
+			newRegionFactoryBean(new ClientRegionFactoryBean<Object, Object>(), "ClientExample");
+
+		assertThat(beanPostProcessor.postProcessBeforeInitialization(partitionedRegionFactoryBean, "Example"))
+			.isSameAs(partitionedRegionFactoryBean);
+
+		beanPostProcessor.postProcessBeforeInitialization(clientRegionFactoryBean, "ClientExample");
+
+		assertThat(partitionedRegionFactoryBean.getOffHeap()).isTrue();
+		assertThat(clientRegionFactoryBean.getOffHeap()).isTrue();
+	}
+
+	@Test
+	public void storesOnlyNamedRegionsOffHeap() {
+		OffHeapConfiguration.OffHeapBeanPostProcessor beanPostProcessor =
+			new OffHeapConfiguration.OffHeapBeanPostProcessor(new String[] { "Large" });
+
+		ReplicatedRegionFactoryBean<?, ?> largeRegionFactoryBean =
+			newRegionFactoryBean(new ReplicatedRegionFactoryBean<Object, Object>(), "Large");
+
+		ReplicatedRegionFactoryBean<?, ?> smallRegionFactoryBean =
+			newRegionFactoryBean(new ReplicatedRegionFactoryBean<Object, Object>(), "Small");
+
+		beanPostProcessor.postProcessBeforeInitialization(largeRegionFactoryBean, "Large");
+		beanPostProcessor.postProcessBeforeInitialization(smallRegionFactoryBean, "Small");
+
+		assertThat(largeRegionFactoryBean.getOffHeap()).isTrue();
+		assertThat(smallRegionFactoryBean.getOffHeap()).isNull();
+	}
+
+	@Test
+	public void ignoresOtherBeans() {
+		Object bean = new Object();
+
+		assertThat(new OffHeapConfiguration.OffHeapBeanPostProcessor(null).postProcessBeforeInitialization(
+			bean, "test")).isSameAs(bean);
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assume.assumeThat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.config.annotation.test.entities.ClientRegionEntity;
+import org.springframework.data.gemfire.config.annotation.test.entities.NonEntity;
+import org.springframework.data.gemfire.config.annotation.test.entities.PartitionRegionEntity;
+import org.springframework.data.gemfire.mapping.Region;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * Unit tests for {@link EntityDefinedRegionsIndex}, {@link EntityDefinedRegionsIndexProcessor}
+ * and the index based scan of the {@link GemFireComponentClassTypeScanner}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.support.EntityDefinedRegionsIndex
+ * @see org.springframework.data.gemfire.config.annotation.support.EntityDefinedRegionsIndexProcessor
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner
+ * @since 1.10.0
+ */
+public class EntityDefinedRegionsIndexUnitTests {
+
+	private static final String ENTITIES_PACKAGE = ClientRegionEntity.class.getPackage().getName();
+
+	private static final String UNINDEXED_ENTITIES_PACKAGE = Person.class.getPackage().getName();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	protected URL classpathRootOf(Class<?> type) {
+		return type.getProtectionDomain().getCodeSource().getLocation();
+	}
+
+	protected File newDirectory(File parent, String path) {
+		File directory = new File(parent, path.replace('/', File.separatorChar));
+
+		directory.mkdirs();
+
+		return directory;
+	}
+
+	protected GemFireComponentClassTypeScanner newScanner(String... basePackages) {
+		GemFireComponentClassTypeScanner scanner = GemFireComponentClassTypeScanner.from(basePackages);
+
+		for (Class<? extends Annotation> annotationType : Region.REGION_ANNOTATION_TYPES) {
+			scanner.withIncludes(new AnnotationTypeFilter(annotationType));
+		}
+
+		return scanner;
+	}
+
+	protected File newSourceFile(String className, String source) throws IOException {
+		File sourceFile = new File(temporaryFolder.getRoot(), className.replace('.', File.separatorChar) + ".java");
+
+		sourceFile.getParentFile().mkdirs();
+		FileCopyUtils.copy(source.getBytes("UTF-8"), sourceFile);
+
+		return sourceFile;
+	}
+
+	protected EntityDefinedRegionsIndex compile(File outputDirectory, File... sourceFiles) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+		assumeThat(compiler != null, is(true));
+
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+
+		try {
+			List<String> options = Arrays.asList("-proc:only",
+				"-processor", EntityDefinedRegionsIndexProcessor.class.getName(),
+				"-classpath", System.getProperty("java.class.path"),
+				"-d", outputDirectory.getAbsolutePath());
+
+			assertThat(compiler.getTask(null, fileManager, null, options, null,
+				fileManager.getJavaFileObjects(sourceFiles)).call()).isTrue();
+		}
+		finally {
+			fileManager.close();
+		}
+
+		Properties index = new Properties();
+		InputStream in = new FileInputStream(new File(outputDirectory, EntityDefinedRegionsIndex.INDEX_LOCATION));
+
+		try {
+			index.load(in);
+		}
+		finally {
+			in.close();
+		}
+
+		return EntityDefinedRegionsIndex.from(index);
+	}
+
+	@Test
+	public void processorIndexesRegionAnnotatedEntities() throws IOException {
+		File customerSource = newSourceFile("example.Customer",
+			"package example;\n"
+				+ "import org.springframework.data.gemfire.mapping.*;\n"
+				+ "@PartitionRegion(\"Customers\")\n"
+				+ "public class Customer {\n"
+				+ "  Long id;\n"
+				+ "  @Indexed String name;\n"
+				+ "  @Indexed public String getEmail() { return null; }\n"
+				+ "  public static class VipCustomer extends Customer { @Indexed String level; }\n"
+				+ "  @Region public abstract static class AbstractEntity { }\n"
+				+ "  @Region public class InnerEntity { }\n"
+				+ "}\n");
+
+		File nonEntitySource = newSourceFile("example.NonEntity", "package example;\npublic class NonEntity { }\n");
+
+		EntityDefinedRegionsIndex index = compile(temporaryFolder.newFolder("classes"), customerSource,
+			nonEntitySource);
+
+		assertThat(index.getEntityClassNames()).containsExactly("example.Customer", "example.Customer$VipCustomer");
+	}
+
+	@Test
+	public void processorKeepsEntitiesOfPreviousCompilations() throws IOException {
+		File outputDirectory = temporaryFolder.newFolder("classes");
+
+		compile(outputDirectory, newSourceFile("example.Customer",
+			"package example;\n@org.springframework.data.gemfire.mapping.Region\npublic class Customer { }\n"));
+
+		EntityDefinedRegionsIndex index = compile(outputDirectory, newSourceFile("example.Order",
+			"package example;\n@org.springframework.data.gemfire.mapping.LocalRegion\npublic class Order { }\n"));
+
+		assertThat(index.getEntityClassNames()).containsExactly("example.Customer", "example.Order");
+	}
+
+	@Test
+	public void indexFiltersEntitiesByBasePackage() {
+		Properties properties = new Properties();
+
+		properties.setProperty("example.Customer", "name,email");
+		properties.setProperty("example.model.Order", "");
+		properties.setProperty("examples.Account", "");
+
+		EntityDefinedRegionsIndex index = EntityDefinedRegionsIndex.from(properties);
+
+		assertThat(index.getEntityClassNames("example")).containsExactly("example.Customer", "example.model.Order");
+		assertThat(index.getEntityClassNames("example.model")).containsExactly("example.model.Order");
+		assertThat(index.getEntityClassNames("example.other")).isEmpty();
+	}
+
+	@Test
+	public void scanWithIndexFindsSameEntitiesAsClasspathScan() {
+		Set<Class<?>> scannedEntities = newScanner(ENTITIES_PACKAGE).scan();
+
+		Properties properties = new Properties();
+
+		for (Class<?> entity : scannedEntities) {
+			properties.setProperty(entity.getName(), "");
+		}
+
+		properties.setProperty(NonEntity.class.getName(), "");
+		properties.setProperty(ENTITIES_PACKAGE.concat(".MissingEntity"), "");
+		properties.setProperty("org.example.OtherEntity", "");
+
+		Set<Class<?>> indexedEntities = newScanner(ENTITIES_PACKAGE)
+			.withIndex(EntityDefinedRegionsIndex.from(properties, classpathRootOf(ClientRegionEntity.class))).scan();
+
+		assertThat(scannedEntities).contains(ClientRegionEntity.class, PartitionRegionEntity.class);
+		assertThat(indexedEntities).isEqualTo(scannedEntities);
+	}
+
+	@Test
+	public void scanWithIndexScansBasePackagesInClasspathRootsWithoutIndex() {
+		Set<Class<?>> scannedEntities = newScanner(ENTITIES_PACKAGE, UNINDEXED_ENTITIES_PACKAGE).scan();
+
+		Properties properties = new Properties();
+
+		properties.setProperty(ClientRegionEntity.class.getName(), "");
+
+		Set<Class<?>> indexedEntities = newScanner(ENTITIES_PACKAGE, UNINDEXED_ENTITIES_PACKAGE)
+			.withIndex(EntityDefinedRegionsIndex.from(properties)).scan();
+
+		Set<Class<?>> coveredEntities = newScanner(ENTITIES_PACKAGE)
+			.withIndex(EntityDefinedRegionsIndex.from(properties, classpathRootOf(ClientRegionEntity.class))).scan();
+
+		assertThat(scannedEntities).contains(ClientRegionEntity.class, PartitionRegionEntity.class, Person.class);
+		assertThat(indexedEntities).isEqualTo(scannedEntities);
+		assertThat(coveredEntities).containsExactly(ClientRegionEntity.class);
+	}
+
+	@Test
+	public void indexCoversOnlyBasePackagesWhoseClasspathRootsAllCarryAnIndex() throws IOException {
+		File indexedRoot = temporaryFolder.newFolder("indexed");
+		File unindexedRoot = temporaryFolder.newFolder("unindexed");
+
+		newDirectory(indexedRoot, "example/model");
+		newDirectory(indexedRoot, "example/shared");
+		newDirectory(unindexedRoot, "example/shared");
+
+		FileCopyUtils.copy("example.model.Customer=\n".getBytes("ISO-8859-1"),
+			new File(newDirectory(indexedRoot, "META-INF"), "spring.gemfire.entities"));
+
+		ClassLoader classLoader = new URLClassLoader(new URL[] { indexedRoot.toURI().toURL(),
+			unindexedRoot.toURI().toURL() }, null);
+
+		EntityDefinedRegionsIndex index = EntityDefinedRegionsIndex.load(classLoader);
+
+		assertThat(index).isNotNull();
+		assertThat(index.getEntityClassNames()).containsExactly("example.model.Customer");
+		assertThat(index.covers("example.model", classLoader)).isTrue();
+		assertThat(index.covers("example.shared", classLoader)).isFalse();
+		assertThat(index.covers("example", classLoader)).isFalse();
+		assertThat(EntityDefinedRegionsIndex.from(new Properties()).covers("example.model", classLoader)).isFalse();
+	}
+
+	@Test
+	public void loadReturnsNullWithoutIndex() {
+		assertThat(EntityDefinedRegionsIndex.load(new ClassLoader(null) { })).isNull();
+	}
+
+	/**
+	 * Compares the time to find the entities by scanning the classpath with the time to find them from the index.
+	 * Run with -Dbenchmark=true.
+	 */
+	@Test
+	public void scanThroughputBenchmark() {
+		assumeThat(Boolean.getBoolean("benchmark"), is(true));
+
+		String basePackage = "org.springframework.data.gemfire";
+		int iterations = 10;
+
+		long scanTime = System.nanoTime();
+		Set<Class<?>> scannedEntities = null;
+
+		for (int count = 0; count < iterations; count++) {
+			scannedEntities = newScanner(basePackage).scan();
+		}
+
+		scanTime = System.nanoTime() - scanTime;
+
+		Properties properties = new Properties();
+
+		for (Class<?> entity : scannedEntities) {
+			properties.setProperty(entity.getName(), "");
+		}
+
+		EntityDefinedRegionsIndex index = EntityDefinedRegionsIndex.from(properties,
+			classpathRootOf(EntityDefinedRegionsIndex.class), classpathRootOf(getClass()));
+
+		long indexTime = System.nanoTime();
+		Set<Class<?>> indexedEntities = null;
+
+		for (int count = 0; count < iterations; count++) {
+			indexedEntities = newScanner(basePackage).withIndex(index).scan();
+		}
+
+		indexTime = System.nanoTime() - indexTime;
+
+		System.out.printf("%1$d entities; classpath scan %2$d ms; index %3$d ms%n", scannedEntities.size(),
+			scanTime / iterations / 1000000, indexTime / iterations / 1000000);
+
+		assertThat(indexedEntities).isEqualTo(scannedEntities);
+	}
+}
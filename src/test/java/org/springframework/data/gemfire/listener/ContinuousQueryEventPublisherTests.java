@@ -0,0 +1,284 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.data.gemfire.listener.ContinuousQueryEventPublisher.OverflowAction;
+
+import com.gemstone.gemfire.cache.query.CqEvent;
+import com.gemstone.gemfire.cache.query.CqQuery;
+
+/**
+ * Unit tests for {@link ContinuousQueryEventPublisher}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryEventPublisher
+ * @since 1.10.0
+ */
+public class ContinuousQueryEventPublisherTests {
+
+	@Test
+	public void deliversBufferedEventsOnDemand() {
+		ContinuousQueryEventPublisher publisher = new ContinuousQueryEventPublisher(10, 2, OverflowAction.BLOCK);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		CqEvent eventOne = mock(CqEvent.class);
+		CqEvent eventTwo = mock(CqEvent.class);
+		CqEvent eventThree = mock(CqEvent.class);
+
+		publisher.subscribe(subscriber);
+		publisher.onEvent(eventOne);
+		publisher.onEvent(eventTwo);
+		publisher.onEvent(eventThree);
+
+		assertThat(subscriber.events.isEmpty(), is(true));
+		assertThat(publisher.getBufferedEventCount(), is(equalTo(3)));
+
+		subscriber.subscription.request(2);
+
+		assertThat(subscriber.events, contains(eventOne, eventTwo));
+		assertThat(publisher.getBufferedEventCount(), is(equalTo(1)));
+
+		publisher.close();
+
+		assertThat(subscriber.completed, is(false));
+
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.events, contains(eventOne, eventTwo, eventThree));
+		assertThat(subscriber.completed, is(true));
+	}
+
+	@Test
+	public void pausesAndResumesQueryAtWatermarks() throws Exception {
+		CqQuery mockCqQuery = mock(CqQuery.class);
+
+		ContinuousQueryEventPublisher publisher = new ContinuousQueryEventPublisher(2, 0, OverflowAction.PAUSE_QUERY);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		publisher.bind(mockCqQuery);
+		publisher.subscribe(subscriber);
+		publisher.onEvent(mock(CqEvent.class));
+		publisher.onEvent(mock(CqEvent.class));
+
+		assertThat(publisher.isPaused(), is(true));
+		assertThat(publisher.getPauseCount(), is(equalTo(1L)));
+
+		verify(mockCqQuery, times(1)).stop();
+
+		subscriber.subscription.request(2);
+
+		assertThat(publisher.isPaused(), is(false));
+		assertThat(subscriber.events.size(), is(equalTo(2)));
+
+		verify(mockCqQuery, times(1)).execute();
+	}
+
+	@Test
+	public void queryIsNotLeftPausedWhenBufferIsDrainedWhilePausing() throws Exception {
+		for (int iteration = 0; iteration < 500; iteration++) {
+			final int highWatermark = 4;
+
+			final ContinuousQueryEventPublisher publisher =
+				new ContinuousQueryEventPublisher(highWatermark, 0, OverflowAction.PAUSE_QUERY);
+
+			final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+			final CountDownLatch startLatch = new CountDownLatch(1);
+
+			publisher.bind(mock(CqQuery.class));
+			publisher.subscribe(subscriber);
+
+			for (int count = 1; count < highWatermark; count++) {
+				publisher.onEvent(mock(CqEvent.class));
+			}
+
+			final CqEvent lastEvent = mock(CqEvent.class);
+
+			Thread producer = new Thread(new Runnable() {
+				public void run() {
+					awaitQuietly(startLatch);
+					publisher.onEvent(lastEvent);
+				}
+			});
+
+			Thread consumer = new Thread(new Runnable() {
+				public void run() {
+					awaitQuietly(startLatch);
+					subscriber.subscription.request(highWatermark);
+				}
+			});
+
+			producer.start();
+			consumer.start();
+			startLatch.countDown();
+			producer.join();
+			consumer.join();
+
+			assertThat(subscriber.events.size(), is(equalTo(highWatermark)));
+			assertThat(publisher.getBufferedEventCount(), is(equalTo(0)));
+			assertThat(publisher.isPaused(), is(false));
+		}
+	}
+
+	static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void secondSubscriberReceivesError() {
+		ContinuousQueryEventPublisher publisher = new ContinuousQueryEventPublisher();
+		RecordingSubscriber subscriberOne = new RecordingSubscriber();
+		RecordingSubscriber subscriberTwo = new RecordingSubscriber();
+
+		publisher.subscribe(subscriberOne);
+		publisher.subscribe(subscriberTwo);
+
+		assertThat(subscriberOne.error, is(nullValue()));
+		assertThat(subscriberTwo.error, is(instanceOf(IllegalStateException.class)));
+	}
+
+	@Test
+	public void nonPositiveRequestSignalsError() {
+		ContinuousQueryEventPublisher publisher = new ContinuousQueryEventPublisher();
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+	}
+
+	@Test
+	public void dropsOldestEventsByDefaultWhenHighWatermarkIsReached() {
+		ContinuousQueryEventPublisher publisher = new ContinuousQueryEventPublisher(2, 0, null);
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		CqEvent eventOne = mock(CqEvent.class);
+		CqEvent eventTwo = mock(CqEvent.class);
+		CqEvent eventThree = mock(CqEvent.class);
+
+		publisher.subscribe(subscriber);
+		publisher.onEvent(eventOne);
+		publisher.onEvent(eventTwo);
+		publisher.onEvent(eventThree);
+
+		assertThat(publisher.getOverflowAction(), is(equalTo(OverflowAction.DROP_OLDEST)));
+		assertThat(publisher.getBufferedEventCount(), is(equalTo(2)));
+		assertThat(publisher.getDroppedEventCount(), is(equalTo(1L)));
+
+		subscriber.subscription.request(2);
+
+		assertThat(subscriber.events, contains(eventTwo, eventThree));
+	}
+
+	@Test
+	public void eventsAfterCancelAreNotBufferedOrDelivered() {
+		ContinuousQueryEventPublisher publisher = new ContinuousQueryEventPublisher();
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+
+		publisher.subscribe(subscriber);
+		publisher.onEvent(mock(CqEvent.class));
+		subscriber.subscription.cancel();
+		publisher.onEvent(mock(CqEvent.class));
+		subscriber.subscription.request(1);
+
+		assertThat(publisher.getBufferedEventCount(), is(equalTo(0)));
+		assertThat(subscriber.events.isEmpty(), is(true));
+	}
+
+	@Test
+	public void nonPositiveRequestFromOnNextSignalsErrorAfterDelivery() {
+		ContinuousQueryEventPublisher publisher = new ContinuousQueryEventPublisher();
+
+		final List<String> signals = new ArrayList<String>();
+
+		RecordingSubscriber subscriber = new RecordingSubscriber() {
+			@Override
+			public void onNext(CqEvent event) {
+				signals.add("onNext");
+				subscription.request(-1);
+				signals.add("returned");
+			}
+
+			@Override
+			public void onError(Throwable error) {
+				signals.add("onError");
+				super.onError(error);
+			}
+		};
+
+		publisher.subscribe(subscriber);
+		publisher.onEvent(mock(CqEvent.class));
+		subscriber.subscription.request(1);
+
+		assertThat(signals, contains("onNext", "returned", "onError"));
+		assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+	}
+
+	static class RecordingSubscriber implements Subscriber<CqEvent> {
+
+		boolean completed;
+
+		List<CqEvent> events = new ArrayList<CqEvent>();
+
+		Subscription subscription;
+
+		Throwable error;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(CqEvent event) {
+			events.add(event);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+}
@@ -23,6 +23,8 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -33,21 +35,35 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Executor;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.TestUtils;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
 
+import com.gemstone.gemfire.cache.Operation;
 import com.gemstone.gemfire.cache.RegionService;
 import com.gemstone.gemfire.cache.client.Pool;
+import com.gemstone.gemfire.cache.query.CqAttributes;
+import com.gemstone.gemfire.cache.query.CqEvent;
+import com.gemstone.gemfire.cache.query.CqListener;
+import com.gemstone.gemfire.cache.query.CqQuery;
+import com.gemstone.gemfire.cache.query.CqResults;
 import com.gemstone.gemfire.cache.query.QueryService;
+import com.gemstone.gemfire.cache.query.Struct;
 import com.gemstone.gemfire.internal.cache.PoolManagerImpl;
 
 /**
@@ -332,6 +348,30 @@ public class ContinuousQueryListenerContainerTests {
 		assertThat(listenerContainer.initExecutor(), is(instanceOf(Executor.class)));
 	}
 
+	@Test
+	public void initializesDefaultKeyPartitionedTaskExecutorWithDispatchSettings() throws Exception {
+		listenerContainer.setDispatchLaneCount(2);
+		listenerContainer.setDispatchQueueCapacity(64);
+		listenerContainer.setDispatchOverflowPolicy(KeyPartitionedTaskExecutor.OverflowPolicy.COALESCE);
+
+		Executor taskExecutor = listenerContainer.initExecutor();
+
+		try {
+			assertThat(taskExecutor, is(instanceOf(KeyPartitionedTaskExecutor.class)));
+			assertThat(listenerContainer.getTaskExecutor(), is(sameInstance(taskExecutor)));
+
+			KeyPartitionedTaskExecutor keyPartitionedTaskExecutor = (KeyPartitionedTaskExecutor) taskExecutor;
+
+			assertThat(keyPartitionedTaskExecutor.getLaneCount(), is(equalTo(2)));
+			assertThat(keyPartitionedTaskExecutor.getQueueCapacity(), is(equalTo(64)));
+			assertThat(keyPartitionedTaskExecutor.getOverflowPolicy(),
+				is(equalTo(KeyPartitionedTaskExecutor.OverflowPolicy.COALESCE)));
+		}
+		finally {
+			listenerContainer.destroy();
+		}
+	}
+
 	@Test
 	public void setCacheSetsQueryService() {
 		QueryService mockQueryService = mock(QueryService.class);
@@ -359,4 +399,214 @@ public class ContinuousQueryListenerContainerTests {
 
 		assertThat(listenerContainer.isAutoStartup(), is(true));
 	}
+
+	protected CqEvent mockCqEvent(Object key) {
+		CqEvent mockCqEvent = mock(CqEvent.class);
+		when(mockCqEvent.getKey()).thenReturn(key);
+		return mockCqEvent;
+	}
+
+	@Test
+	public void batchingListenerReceivesConflatedBatches() throws Exception {
+		CqQuery mockCqQuery = mock(CqQuery.class);
+		QueryService mockQueryService = mock(QueryService.class);
+
+		ArgumentCaptor<CqAttributes> cqAttributes = ArgumentCaptor.forClass(CqAttributes.class);
+
+		when(mockQueryService.newCq(anyString(), cqAttributes.capture(), anyBoolean())).thenReturn(mockCqQuery);
+
+		final List<List<CqEvent>> batches = Collections.synchronizedList(new ArrayList<List<CqEvent>>());
+
+		BatchingContinuousQueryListener listener = new BatchingContinuousQueryListener() {
+			public void onEvents(List<CqEvent> events) {
+				batches.add(events);
+			}
+
+			public void onEvent(CqEvent event) {
+			}
+		};
+
+		ContinuousQueryDefinition definition = new ContinuousQueryDefinition("SELECT * FROM /Example", listener);
+
+		definition.setBatchSize(2);
+		definition.setBatchTimeInterval(60000L);
+		definition.setConflate(true);
+
+		listenerContainer.setQueryService(mockQueryService);
+		listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+		listenerContainer.addListener(definition);
+
+		try {
+			CqListener cqListener = cqAttributes.getValue().getCqListener();
+
+			CqEvent eventOne = mockCqEvent("one");
+			CqEvent eventTwo = mockCqEvent("one");
+			CqEvent eventThree = mockCqEvent("two");
+			CqEvent eventFour = mockCqEvent("three");
+
+			cqListener.onEvent(eventOne);
+			cqListener.onEvent(eventTwo);
+
+			assertThat(batches.isEmpty(), is(true));
+
+			cqListener.onEvent(eventThree);
+
+			assertThat(batches.size(), is(equalTo(1)));
+			assertThat(batches.get(0), contains(eventTwo, eventThree));
+
+			cqListener.onEvent(eventFour);
+			cqListener.close();
+
+			assertThat(batches.size(), is(equalTo(2)));
+			assertThat(batches.get(1), contains(eventFour));
+		}
+		finally {
+			listenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void batchingListenerReceivesPendingBatchBeforeError() throws Exception {
+		CqQuery mockCqQuery = mock(CqQuery.class);
+		QueryService mockQueryService = mock(QueryService.class);
+
+		ArgumentCaptor<CqAttributes> cqAttributes = ArgumentCaptor.forClass(CqAttributes.class);
+
+		when(mockQueryService.newCq(anyString(), cqAttributes.capture(), anyBoolean())).thenReturn(mockCqQuery);
+
+		final List<Object> deliveries = Collections.synchronizedList(new ArrayList<Object>());
+
+		BatchingContinuousQueryListener listener = new BatchingContinuousQueryListener() {
+			public void onEvents(List<CqEvent> events) {
+				deliveries.add(events);
+			}
+
+			public void onEvent(CqEvent event) {
+				deliveries.add(event);
+			}
+		};
+
+		ContinuousQueryDefinition definition = new ContinuousQueryDefinition("SELECT * FROM /Example", listener);
+
+		definition.setBatchSize(10);
+		definition.setBatchTimeInterval(60000L);
+
+		listenerContainer.setQueryService(mockQueryService);
+		KeyPartitionedTaskExecutor taskExecutor = new KeyPartitionedTaskExecutor("BatchTest-", 4, 16, null);
+
+		listenerContainer.setTaskExecutor(taskExecutor);
+		listenerContainer.addListener(definition);
+
+		try {
+			CqListener cqListener = cqAttributes.getValue().getCqListener();
+
+			CqEvent event = mockCqEvent("one");
+			CqEvent errorEvent = mockCqEvent("two");
+
+			cqListener.onEvent(event);
+			cqListener.onError(errorEvent);
+		}
+		finally {
+			listenerContainer.destroy();
+			taskExecutor.destroy();
+		}
+
+		assertThat(deliveries.size(), is(equalTo(2)));
+		assertThat(((List<?>) deliveries.get(0)).size(), is(equalTo(1)));
+		assertThat(deliveries.get(1), is(sameInstance((Object) errorEvent)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void initialResultsDeliveredBeforeLiveEventsWithoutDuplicates() throws Exception {
+		CqListener mockDelegate = mock(CqListener.class);
+		CqQuery mockCqQuery = mock(CqQuery.class);
+		final CqResults<Object> mockCqResults = mock(CqResults.class);
+		Struct mockStruct = mock(Struct.class);
+
+		final ContinuousQueryListenerContainer.InitialResultsCqListener listener =
+			new ContinuousQueryListenerContainer.InitialResultsCqListener(mockDelegate);
+
+		final CqEvent duplicateEvent = mockCqEvent("one");
+		final CqEvent liveEvent = mockCqEvent("one");
+
+		when(duplicateEvent.getQueryOperation()).thenReturn(Operation.UPDATE);
+		when(duplicateEvent.getNewValue()).thenReturn("A");
+		when(liveEvent.getQueryOperation()).thenReturn(Operation.UPDATE);
+		when(liveEvent.getNewValue()).thenReturn("B");
+		when(mockStruct.get(eq("key"))).thenReturn("one");
+		when(mockStruct.get(eq("value"))).thenReturn("A");
+		when(mockCqResults.iterator()).thenReturn(Collections.<Object>singletonList(mockStruct).iterator());
+
+		when(mockCqQuery.executeWithInitialResults()).thenAnswer(new Answer<CqResults<Object>>() {
+			public CqResults<Object> answer(InvocationOnMock invocation) throws Throwable {
+				listener.onEvent(duplicateEvent);
+				listener.onEvent(liveEvent);
+				return mockCqResults;
+			}
+		});
+
+		assertThat(listener.beginInitialResults(), is(true));
+
+		listener.executeWithInitialResults(mockCqQuery);
+
+		assertThat(listener.beginInitialResults(), is(false));
+
+		ArgumentCaptor<CqEvent> events = ArgumentCaptor.forClass(CqEvent.class);
+
+		verify(mockDelegate, times(2)).onEvent(events.capture());
+
+		CqEvent initialResultEvent = events.getAllValues().get(0);
+
+		assertThat(initialResultEvent, is(instanceOf(ContinuousQueryListenerContainer.InitialResultCqEvent.class)));
+		assertThat(initialResultEvent.getKey(), is(equalTo((Object) "one")));
+		assertThat(initialResultEvent.getNewValue(), is(equalTo((Object) "A")));
+		assertThat(initialResultEvent.getBaseOperation(), is(equalTo(Operation.CREATE)));
+		assertThat(events.getAllValues().get(1), is(sameInstance(liveEvent)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void initialResultsNotOverwrittenByStaleEventOrderedBeforeSnapshot() throws Exception {
+		CqListener mockDelegate = mock(CqListener.class);
+		CqQuery mockCqQuery = mock(CqQuery.class);
+		final CqResults<Object> mockCqResults = mock(CqResults.class);
+		Struct mockStruct = mock(Struct.class);
+
+		final ContinuousQueryListenerContainer.InitialResultsCqListener listener =
+			new ContinuousQueryListenerContainer.InitialResultsCqListener(mockDelegate);
+
+		final CqEvent staleEvent = mockCqEvent("one");
+		final CqEvent currentEvent = mockCqEvent("one");
+
+		when(staleEvent.getQueryOperation()).thenReturn(Operation.UPDATE);
+		when(staleEvent.getNewValue()).thenReturn("B");
+		when(currentEvent.getQueryOperation()).thenReturn(Operation.UPDATE);
+		when(currentEvent.getNewValue()).thenReturn("A");
+		when(mockStruct.get(eq("key"))).thenReturn("one");
+		when(mockStruct.get(eq("value"))).thenReturn("A");
+		when(mockCqResults.iterator()).thenReturn(Collections.<Object>singletonList(mockStruct).iterator());
+
+		when(mockCqQuery.executeWithInitialResults()).thenAnswer(new Answer<CqResults<Object>>() {
+			public CqResults<Object> answer(InvocationOnMock invocation) throws Throwable {
+				listener.onEvent(staleEvent);
+				listener.onEvent(currentEvent);
+				return mockCqResults;
+			}
+		});
+
+		assertThat(listener.beginInitialResults(), is(true));
+
+		listener.executeWithInitialResults(mockCqQuery);
+
+		ArgumentCaptor<CqEvent> events = ArgumentCaptor.forClass(CqEvent.class);
+
+		verify(mockDelegate, times(1)).onEvent(events.capture());
+
+		CqEvent initialResultEvent = events.getValue();
+
+		assertThat(initialResultEvent, is(instanceOf(ContinuousQueryListenerContainer.InitialResultCqEvent.class)));
+		assertThat(initialResultEvent.getKey(), is(equalTo((Object) "one")));
+		assertThat(initialResultEvent.getNewValue(), is(equalTo((Object) "A")));
+	}
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.gemfire.listener.KeyPartitionedTaskExecutor.OverflowPolicy;
+
+/**
+ * Unit tests for {@link KeyPartitionedTaskExecutor}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.KeyPartitionedTaskExecutor
+ * @since 1.10.0
+ */
+public class KeyPartitionedTaskExecutorTests {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private KeyPartitionedTaskExecutor taskExecutor;
+
+	@After
+	public void tearDown() throws Exception {
+		if (taskExecutor != null) {
+			taskExecutor.destroy();
+		}
+	}
+
+	protected Runnable record(final List<Integer> results, final int value, final CountDownLatch latch) {
+		return new Runnable() {
+			public void run() {
+				results.add(value);
+				latch.countDown();
+			}
+		};
+	}
+
+	protected Runnable await(final CountDownLatch latch) {
+		return new Runnable() {
+			public void run() {
+				try {
+					latch.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+	}
+
+	@Test
+	public void constructWithInvalidLaneCountThrowsIllegalArgumentException() {
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("Lane count [0] must be greater than 0");
+
+		new KeyPartitionedTaskExecutor("test-", 0, 1, OverflowPolicy.BLOCK);
+	}
+
+	@Test
+	public void executesTasksForTheSameKeyInOrder() throws Exception {
+		taskExecutor = new KeyPartitionedTaskExecutor("test-", 4, 16, OverflowPolicy.BLOCK);
+
+		List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+
+		CountDownLatch latch = new CountDownLatch(100);
+
+		for (int value = 0; value < 100; value++) {
+			taskExecutor.execute("key", record(results, value, latch));
+		}
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertThat(results.size(), is(equalTo(100)));
+
+		for (int index = 0; index < results.size(); index++) {
+			assertThat(results.get(index), is(equalTo(index)));
+		}
+
+		assertThat(taskExecutor.getExecutedCount(), is(equalTo(100L)));
+	}
+
+	@Test
+	public void dropOldestDiscardsPendingTasks() throws Exception {
+		taskExecutor = new KeyPartitionedTaskExecutor("test-", 1, 2, OverflowPolicy.DROP_OLDEST);
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(2);
+
+		List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+
+		taskExecutor.execute("blocker", await(blocker));
+
+		while (taskExecutor.getQueueDepth() > 0) {
+			Thread.sleep(10);
+		}
+
+		taskExecutor.execute("key", record(results, 1, latch));
+		taskExecutor.execute("key", record(results, 2, latch));
+		taskExecutor.execute("key", record(results, 3, latch));
+
+		assertThat(taskExecutor.getQueueDepth(), is(equalTo(2)));
+		assertThat(taskExecutor.getDroppedCount(), is(equalTo(1L)));
+
+		blocker.countDown();
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertThat(results, contains(2, 3));
+	}
+
+	@Test
+	public void coalesceReplacesPendingTaskForTheSameKey() throws Exception {
+		taskExecutor = new KeyPartitionedTaskExecutor("test-", 1, 2, OverflowPolicy.COALESCE);
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(2);
+
+		List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+
+		taskExecutor.execute("blocker", await(blocker));
+
+		while (taskExecutor.getQueueDepth() > 0) {
+			Thread.sleep(10);
+		}
+
+		taskExecutor.execute("one", record(results, 1, latch));
+		taskExecutor.execute("two", record(results, 2, latch));
+		taskExecutor.execute("one", record(results, 3, latch));
+
+		assertThat(taskExecutor.getQueueDepth(), is(equalTo(2)));
+		assertThat(taskExecutor.getCoalescedCount(), is(equalTo(1L)));
+
+		blocker.countDown();
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertThat(results, contains(3, 2));
+	}
+
+	@Test
+	public void executeAfterDestroyThrowsTaskRejectedException() throws Exception {
+		taskExecutor = new KeyPartitionedTaskExecutor("test-", 1, 1, OverflowPolicy.BLOCK);
+		taskExecutor.destroy();
+
+		assertThat(taskExecutor.isShutdown(), is(true));
+
+		exception.expect(TaskRejectedException.class);
+
+		taskExecutor.execute("key", await(new CountDownLatch(0)));
+	}
+}
@@ -22,7 +22,10 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -216,6 +219,133 @@ public class QueryListenerAdapterTest {
 		doThrow(new IllegalArgumentException()).when(mock);
 	}
 
+	@Test
+	public void testListenerMethodResolvedPerMethodName() throws Exception {
+		Delegate mock = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter adapter = new ContinuousQueryListenerAdapter(mock) {
+			@Override
+			protected String getListenerMethodName(CqEvent event) {
+				return (event.getKey() instanceof String ? "handleKey" : "handleEvent");
+			}
+		};
+
+		CqEvent event = event();
+
+		adapter.onEvent(event);
+		adapter.onEvent(event);
+		verify(mock, times(2)).handleEvent(event);
+
+		CqEvent mockEvent = mock(CqEvent.class);
+		when(mockEvent.getKey()).thenReturn("key");
+
+		adapter.onEvent(mockEvent);
+		verify(mock).handleKey("key");
+	}
+
+	@Test
+	public void testArgumentExtractorsResolvedFromParameterTypes() {
+		Delegate mock = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter adapter = new ContinuousQueryListenerAdapter(mock) {
+			@Override
+			protected void handleListenerException(Throwable cause) {
+				throw new RuntimeException(cause);
+			}
+		};
+
+		CqEvent event = event();
+
+		adapter.setDefaultListenerMethod("handleOps");
+		adapter.onEvent(event);
+		verify(mock).handleOps(Operation.CACHE_CLOSE, Operation.CACHE_CREATE);
+
+		adapter.setDefaultListenerMethod("handleKV");
+		adapter.onEvent(event);
+		verify(mock).handleKV(event.getKey(), event.getNewValue());
+
+		adapter.setDefaultListenerMethod("handleAll");
+		adapter.onEvent(event);
+		verify(mock).handleAll(event, event.getCq(), event.getDeltaValue(), event.getKey(), Operation.CACHE_CLOSE,
+			event.getThrowable(), Operation.CACHE_CREATE, event.getNewValue());
+	}
+
+	@Test
+	public void testMethodInvokersCachedPerListenerMethodName() {
+		Delegate mock = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter adapter = new ContinuousQueryListenerAdapter(mock) {
+			@Override
+			protected String getListenerMethodName(CqEvent event) {
+				return (event.getKey() instanceof String ? "handleKey" : "handleEvent");
+			}
+		};
+
+		CqEvent event = event();
+		CqEvent keyEvent = mock(CqEvent.class);
+
+		when(keyEvent.getKey()).thenReturn("key");
+
+		adapter.onEvent(event);
+		adapter.onEvent(keyEvent);
+
+		assertSame(adapter.resolveMethodInvoker("handleEvent"), adapter.resolveMethodInvoker("handleEvent"));
+		assertSame(adapter.resolveMethodInvoker("handleKey"), adapter.resolveMethodInvoker("handleKey"));
+
+		adapter.onEvent(event);
+		adapter.onEvent(keyEvent);
+
+		verify(mock, times(2)).handleEvent(event);
+		verify(mock, times(2)).handleKey("key");
+	}
+
+	@Test
+	public void onlyTheOverloadWithTheMostParametersIsInvoked() {
+		OverloadedDelegate mock = mock(OverloadedDelegate.class);
+		ContinuousQueryListenerAdapter adapter = new ContinuousQueryListenerAdapter(mock);
+		CqEvent event = event();
+
+		adapter.onEvent(event);
+		adapter.onEvent(event);
+
+		verify(mock, times(2)).handleEvent(event.getKey(), event.getNewValue());
+		verify(mock, never()).handleEvent(event);
+		verify(mock, never()).handleEvent(event.getKey());
+	}
+
+	@Test
+	public void overriddenListenerMethodIsInvokedOnce() {
+		CountingListener listener = new CountingListener() {
+			@Override
+			public void handleEvent(CqEvent event) {
+				super.handleEvent(event);
+			}
+		};
+
+		new ContinuousQueryListenerAdapter(listener).onEvent(event());
+
+		assertThat(listener.count, is(1));
+	}
+
+	interface OverloadedDelegate {
+
+		void handleEvent(CqEvent event);
+
+		void handleEvent(Object key);
+
+		void handleEvent(Object key, Object value);
+
+	}
+
+	public static class CountingListener {
+
+		int count;
+
+		public void handleEvent(CqEvent event) {
+			count++;
+		}
+	}
+
 	/**
 	 * @see SGF-89
 	 */
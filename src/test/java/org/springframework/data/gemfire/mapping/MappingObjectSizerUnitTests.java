@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+
+/**
+ * Unit tests for {@link MappingObjectSizer}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.MappingObjectSizer
+ * @since 1.10.0
+ */
+public class MappingObjectSizerUnitTests {
+
+	private final MappingObjectSizer objectSizer = new MappingObjectSizer(new GemfireMappingContext());
+
+	@Test
+	public void sizesNullEnumAndClassAsZero() {
+		assertThat(objectSizer.sizeof(null)).isEqualTo(0);
+		assertThat(objectSizer.sizeof(Thread.State.NEW)).isEqualTo(0);
+		assertThat(objectSizer.sizeof(Object.class)).isEqualTo(0);
+	}
+
+	@Test
+	public void sizesStringsByLength() {
+		int emptySize = objectSizer.sizeof("");
+
+		assertThat(emptySize).isGreaterThan(MappingObjectSizer.OBJECT_HEADER_SIZE);
+		assertThat(objectSizer.sizeof("0123456789012345") - emptySize).isEqualTo(32);
+	}
+
+	@Test
+	public void sizesPrimitiveArraysExactly() {
+		assertThat(objectSizer.sizeof(new long[10])).isEqualTo(MappingObjectSizer.ARRAY_HEADER_SIZE + 80);
+		assertThat(objectSizer.sizeof(new byte[3])).isEqualTo(MappingObjectSizer.ARRAY_HEADER_SIZE + 8);
+	}
+
+	@Test
+	public void sizesEntityFromShallowSizeAndPropertyValues() {
+		Address address = new Address("Portland", "97201");
+		Customer customer = new Customer(1L, "Jon Doe", address);
+
+		int shallowSize = (int) objectSizer.getTypeLayout(Customer.class).getShallowSize();
+
+		assertThat(shallowSize).isEqualTo(MappingObjectSizer.OBJECT_HEADER_SIZE + 8 + 4 * 8);
+		assertThat(objectSizer.sizeof(customer)).isEqualTo(shallowSize + objectSizer.sizeof(1L)
+			+ objectSizer.sizeof("Jon Doe") + objectSizer.sizeof(address)
+			+ objectSizer.sizeof(customer.getOrders()));
+	}
+
+	@Test
+	public void sizesKnownEntityFromMappingMetaData() {
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		mappingContext.getPersistentEntity(Customer.class);
+
+		MappingObjectSizer knownEntityObjectSizer = new MappingObjectSizer(mappingContext);
+
+		Address address = new Address("Portland", "97201");
+		Customer customer = new Customer(1L, "Jon Doe", address);
+
+		assertThat(knownEntityObjectSizer.getTypeLayout(Customer.class).entity).isNotNull();
+		assertThat(knownEntityObjectSizer.sizeof(customer)).isEqualTo(objectSizer.sizeof(customer));
+	}
+
+	@Test
+	public void sizesUnknownTypesWithoutAddingEntitiesToMappingContext() {
+		Customer customer = new Customer(1L, "Jon Doe", new Address("Portland", "97201"));
+
+		assertThat(objectSizer.sizeof(customer)).isGreaterThan(
+			(int) objectSizer.getTypeLayout(Customer.class).getShallowSize());
+		assertThat(objectSizer.getTypeLayout(Customer.class).entity).isNull();
+		assertThat(objectSizer.getMappingContext().hasPersistentEntityFor(Customer.class)).isFalse();
+		assertThat(objectSizer.getMappingContext().hasPersistentEntityFor(Address.class)).isFalse();
+	}
+
+	@Test
+	public void sizesCollectionsAndMapsFromFirstElement() {
+		List<String> small = new ArrayList<String>(Arrays.asList("one"));
+		List<String> large = new ArrayList<String>(Arrays.asList("one", "two", "six", "ten"));
+
+		assertThat(objectSizer.sizeof(large)).isGreaterThan(objectSizer.sizeof(small) + 3 * objectSizer.sizeof("one"));
+
+		Map<String, Address> addresses = new HashMap<String, Address>();
+
+		addresses.put("home", new Address("Portland", "97201"));
+
+		assertThat(objectSizer.sizeof(addresses)).isGreaterThan(objectSizer.sizeof("home")
+			+ objectSizer.sizeof(addresses.get("home")));
+	}
+
+	@Test
+	public void sizesCyclicEntitiesWithinMaxDepth() {
+		Node node = new Node();
+
+		node.next = node;
+
+		assertThat(objectSizer.sizeof(node)).isEqualTo((int) objectSizer.getTypeLayout(Node.class).getShallowSize()
+			* (MappingObjectSizer.MAX_DEPTH + 1));
+	}
+
+	@Test
+	public void cachesTypeLayouts() {
+		assertThat(objectSizer.getTypeLayout(Customer.class)).isSameAs(objectSizer.getTypeLayout(Customer.class));
+	}
+
+	@SuppressWarnings("unused")
+	static class Address {
+
+		String city;
+		String postalCode;
+
+		Address(String city, String postalCode) {
+			this.city = city;
+			this.postalCode = postalCode;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class Customer {
+
+		@Id
+		Long id;
+
+		long createdTime;
+
+		String name;
+
+		Address address;
+
+		List<String> orders = new ArrayList<String>();
+
+		Customer(Long id, String name, Address address) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+		}
+
+		List<String> getOrders() {
+			return orders;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class Node {
+
+		Node next;
+
+	}
+}
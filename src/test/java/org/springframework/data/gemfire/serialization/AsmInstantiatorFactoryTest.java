@@ -24,6 +24,13 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -87,4 +94,32 @@ public class AsmInstantiatorFactoryTest {
 		Instantiator instance2 = asmFactory.getInstantiator(SomeClass.class, 125);
 		assertSame(instance1, instance2);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testConcurrentGenerationCreatesSingleInstantiator() throws Exception {
+		final CyclicBarrier barrier = new CyclicBarrier(8);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<Instantiator>> instantiators = new ArrayList<Future<Instantiator>>();
+
+			for (int i = 0; i < 8; i++) {
+				instantiators.add(executor.submit(new Callable<Instantiator>() {
+					public Instantiator call() throws Exception {
+						barrier.await();
+						return asmFactory.getInstantiator(SomeClass.class, 130);
+					}
+				}));
+			}
+
+			Instantiator expected = instantiators.get(0).get();
+
+			for (Future<Instantiator> instantiator : instantiators) {
+				assertSame(expected, instantiator.get());
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
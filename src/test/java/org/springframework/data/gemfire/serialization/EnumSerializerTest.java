@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.gemstone.gemfire.DataSerializer;
+
+/**
+ * Unit tests for {@link EnumSerializer}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.serialization.EnumSerializer
+ * @since 1.10.0
+ */
+public class EnumSerializerTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private final EnumSerializer serializer = new EnumSerializer();
+
+	protected byte[] toData(Object value) throws IOException {
+		return toData(serializer, value);
+	}
+
+	protected byte[] toData(EnumSerializer serializer, Object value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		assertThat(serializer.toData(value, new DataOutputStream(bytes)), is(true));
+		return bytes.toByteArray();
+	}
+
+	protected Object fromData(byte[] bytes) throws IOException, ClassNotFoundException {
+		return fromData(serializer, bytes);
+	}
+
+	protected Object fromData(EnumSerializer serializer, byte[] bytes) throws IOException, ClassNotFoundException {
+		return serializer.fromData(new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+	protected Map<Class<?>, Integer> typeIds(Class<?> enumType, int typeId) {
+		Map<Class<?>, Integer> typeIds = new HashMap<Class<?>, Integer>();
+		typeIds.put(enumType, typeId);
+		return typeIds;
+	}
+
+	@Test
+	public void varIntRoundTrip() throws IOException {
+		for (int value : new int[] { 0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE }) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			EnumSerializer.writeVarInt(value, new DataOutputStream(bytes));
+
+			assertThat(EnumSerializer.readVarInt(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))),
+				is(equalTo(value)));
+		}
+	}
+
+	@Test
+	public void enumIsWrittenAsClassAndIntOrdinalWithoutPreRegisteredEnums() throws Exception {
+		serializer.afterPropertiesSet();
+
+		ByteArrayOutputStream expectedBytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(expectedBytes);
+
+		DataSerializer.writeClass(TimeUnit.class, out);
+		out.writeInt(TimeUnit.HOURS.ordinal());
+
+		byte[] bytes = toData(TimeUnit.HOURS);
+
+		assertThat(Arrays.equals(bytes, expectedBytes.toByteArray()), is(true));
+		assertThat(fromData(bytes), is(sameInstance((Object) TimeUnit.HOURS)));
+	}
+
+	@Test
+	public void preRegisteredEnumIsWrittenAsTypeIdFingerprintAndOrdinal() throws Exception {
+		Map<Class<?>, Integer> typeIds = typeIds(TimeUnit.class, 2);
+
+		typeIds.put(Thread.State.class, 1);
+		serializer.setEnumTypeIds(typeIds);
+		serializer.afterPropertiesSet();
+
+		byte[] bytes = toData(TimeUnit.SECONDS);
+
+		assertThat(Arrays.equals(bytes, new byte[] { 2, EnumSerializer.fingerprint(TimeUnit.class),
+			(byte) TimeUnit.SECONDS.ordinal() }), is(true));
+		assertThat(fromData(bytes), is(sameInstance((Object) TimeUnit.SECONDS)));
+		assertThat(fromData(toData(Thread.State.BLOCKED)), is(sameInstance((Object) Thread.State.BLOCKED)));
+		assertThat(Arrays.asList(serializer.getSupportedClasses()).contains(TimeUnit.class), is(true));
+	}
+
+	@Test
+	public void derivedTypeIdDoesNotDependOnOtherPreRegisteredEnums() throws Exception {
+		EnumSerializer otherSerializer = new EnumSerializer();
+
+		serializer.setEnumTypes(TimeUnit.class);
+		serializer.afterPropertiesSet();
+		otherSerializer.setEnumTypes(Thread.State.class, TimeUnit.class);
+		otherSerializer.afterPropertiesSet();
+
+		byte[] bytes = toData(TimeUnit.DAYS);
+
+		assertThat(Arrays.equals(bytes, toData(otherSerializer, TimeUnit.DAYS)), is(true));
+		assertThat(bytes.length <= 4, is(true));
+		assertThat(fromData(otherSerializer, bytes), is(sameInstance((Object) TimeUnit.DAYS)));
+	}
+
+	@Test
+	public void fromDataWithMismatchedFingerprintThrowsIOException() throws Exception {
+		EnumSerializer otherSerializer = new EnumSerializer();
+
+		serializer.setEnumTypeIds(typeIds(TimeUnit.class, 1));
+		serializer.afterPropertiesSet();
+		otherSerializer.setEnumTypeIds(typeIds(Thread.State.class, 1));
+		otherSerializer.afterPropertiesSet();
+
+		exception.expect(IOException.class);
+		exception.expectMessage("fingerprint");
+
+		fromData(otherSerializer, toData(TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void duplicateTypeIdsThrowIllegalArgumentException() throws Exception {
+		Map<Class<?>, Integer> typeIds = typeIds(TimeUnit.class, 7);
+
+		typeIds.put(Thread.State.class, 7);
+		serializer.setEnumTypeIds(typeIds);
+
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("have the same type ID 7");
+
+		serializer.afterPropertiesSet();
+	}
+
+	@Test
+	public void unregisteredEnumIsWrittenWithClass() throws Exception {
+		serializer.setEnumTypes(Thread.State.class);
+		serializer.afterPropertiesSet();
+
+		byte[] bytes = toData(TimeUnit.MINUTES);
+
+		assertThat(bytes[0], is(equalTo((byte) 0)));
+		assertThat(bytes.length > 2, is(true));
+		assertThat(fromData(bytes), is(sameInstance((Object) TimeUnit.MINUTES)));
+	}
+
+	@Test
+	public void toDataWithNonEnumReturnsFalse() throws IOException {
+		assertThat(serializer.toData("test", new DataOutputStream(new ByteArrayOutputStream())), is(false));
+	}
+
+	@Test
+	public void fromDataWithUnknownTypeIdThrowsIOException() throws Exception {
+		serializer.setEnumTypeIds(typeIds(TimeUnit.class, 1));
+		serializer.afterPropertiesSet();
+
+		exception.expect(IOException.class);
+		exception.expectMessage("Unknown enum type 5");
+
+		fromData(new byte[] { 5, 0, 0 });
+	}
+
+	@Test
+	public void fromDataWithInvalidOrdinalThrowsIOException() throws Exception {
+		serializer.setEnumTypeIds(typeIds(TimeUnit.class, 1));
+		serializer.afterPropertiesSet();
+
+		exception.expect(IOException.class);
+		exception.expectMessage("Invalid ordinal 100");
+
+		fromData(new byte[] { 1, EnumSerializer.fingerprint(TimeUnit.class), 100 });
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setEnumTypesWithNonEnumThrowsIllegalArgumentException() throws Exception {
+		serializer.setEnumTypes(String.class);
+		serializer.afterPropertiesSet();
+	}
+
+}
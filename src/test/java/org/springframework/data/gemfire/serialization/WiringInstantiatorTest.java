@@ -18,20 +18,27 @@ package org.springframework.data.gemfire.serialization;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 import java.awt.Point;
 import java.awt.Shape;
+import java.awt.geom.Area;
 import java.beans.Beans;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
@@ -139,6 +146,111 @@ public class WiringInstantiatorTest {
 		assertSame(bean.beans, ctx.getBean("beans"));
 	}
 
+	@Test
+	public void testAutowiredBeanUsesInjectionPlan() throws Exception {
+		InjectionPlan plan = instantiator.resolveInjectionPlan();
+		assertNotNull(plan);
+		assertEquals(2, plan.size());
+
+		AnnotatedBean bean = (AnnotatedBean) instantiator.newInstance();
+		assertSame(bean.point, ctx.getBean("point"));
+		assertSame(bean.shape, ctx.getBean("area"));
+	}
+
+	@Test
+	public void testTemplateBeanDoesNotUseInjectionPlan() throws Exception {
+		WiringInstantiator instantiator2 = new WiringInstantiator(TemplateWiringBean.class, 98);
+		instantiator2.setBeanFactory(ctx.getAutowireCapableBeanFactory());
+		instantiator2.setAutoRegister(false);
+		instantiator2.setUseInjectionPlan(true);
+		instantiator2.afterPropertiesSet();
+
+		assertNull(instantiator2.resolveInjectionPlan());
+	}
+
+	@Test
+	public void testInjectionPlanIsOptIn() throws Exception {
+		WiringInstantiator instantiator2 = new WiringInstantiator(AnnotatedBean.class, 94);
+		instantiator2.setBeanFactory(ctx.getAutowireCapableBeanFactory());
+		instantiator2.setAutoRegister(false);
+		instantiator2.afterPropertiesSet();
+
+		assertNull(instantiator2.resolveInjectionPlan());
+
+		AnnotatedBean bean = (AnnotatedBean) instantiator2.newInstance();
+		assertSame(bean.point, ctx.getBean("point"));
+		assertSame(bean.shape, ctx.getBean("area"));
+	}
+
+	@Test
+	public void testCustomBeanPostProcessorDisablesInjectionPlan() throws Exception {
+		final List<Object> postProcessedBeans = new ArrayList<Object>();
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		AutowiredAnnotationBeanPostProcessor autowiredAnnotationBeanPostProcessor =
+			new AutowiredAnnotationBeanPostProcessor();
+		autowiredAnnotationBeanPostProcessor.setBeanFactory(beanFactory);
+		beanFactory.addBeanPostProcessor(autowiredAnnotationBeanPostProcessor);
+		beanFactory.addBeanPostProcessor(new BeanPostProcessor() {
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				return bean;
+			}
+
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				postProcessedBeans.add(bean);
+				return bean;
+			}
+		});
+		beanFactory.registerSingleton("point", new Point());
+		beanFactory.registerSingleton("area", new Area());
+
+		WiringInstantiator instantiator2 = new WiringInstantiator(AnnotatedBean.class, 93);
+		instantiator2.setBeanFactory(beanFactory);
+		instantiator2.setAutoRegister(false);
+		instantiator2.setUseInjectionPlan(true);
+		instantiator2.afterPropertiesSet();
+
+		assertNull(instantiator2.resolveInjectionPlan());
+
+		AnnotatedBean bean = (AnnotatedBean) instantiator2.newInstance();
+		assertSame(bean.point, beanFactory.getBean("point"));
+		assertSame(bean.shape, beanFactory.getBean("area"));
+		assertEquals(1, postProcessedBeans.size());
+		assertSame(bean, postProcessedBeans.get(0));
+	}
+
+	/**
+	 * Compares the wiring throughput of the injection plan with the full bean configuration.
+	 * Run with -Dbenchmark=true.
+	 */
+	@Test
+	public void testWiringThroughputBenchmark() throws Exception {
+		assumeTrue(Boolean.getBoolean("benchmark"));
+
+		WiringInstantiator configuredInstantiator = new WiringInstantiator(AnnotatedBean.class, 97);
+		configuredInstantiator.setBeanFactory(ctx.getAutowireCapableBeanFactory());
+		configuredInstantiator.setAutoRegister(false);
+		configuredInstantiator.setUseInjectionPlan(false);
+		configuredInstantiator.afterPropertiesSet();
+
+		int count = 200000;
+
+		for (WiringInstantiator wiringInstantiator : new WiringInstantiator[] { instantiator, configuredInstantiator,
+				instantiator, configuredInstantiator }) {
+
+			long startTime = System.nanoTime();
+
+			for (int i = 0; i < count; i++) {
+				wiringInstantiator.newInstance();
+			}
+
+			long elapsedTime = System.nanoTime() - startTime;
+
+			System.out.printf("%1$s: %2$d instances/s%n", (wiringInstantiator == instantiator ? "plan" : "configurer"),
+				count * 1000000000L / elapsedTime);
+		}
+	}
+
 	public void testInstantiatorFactoryBean() throws Exception {
 		@SuppressWarnings("unchecked")
 		List<Instantiator> list = (List<Instantiator>) ctx.getBean("instantiator-factory");
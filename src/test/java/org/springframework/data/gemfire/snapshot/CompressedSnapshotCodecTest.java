@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * Unit tests for {@link CompressedSnapshotCodec}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.CompressedSnapshotCodec
+ * @since 1.10.0
+ */
+public class CompressedSnapshotCodecTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	protected byte[] newSnapshotContent(int length) {
+		byte[] content = new byte[length];
+		Random random = new Random(length);
+
+		for (int index = 0; index < length; index++) {
+			content[index] = (byte) (index % 7 == 0 ? random.nextInt() : 'A' + (index % 26));
+		}
+
+		return content;
+	}
+
+	protected File newFile(String name, byte[] content) throws IOException {
+		File file = new File(temporaryFolder.getRoot(), name);
+		FileCopyUtils.copy(content, file);
+		return file;
+	}
+
+	@Test
+	public void compressAndDecompressRoundTrip() throws IOException {
+		byte[] content = newSnapshotContent(CompressedSnapshotCodec.DEFAULT_BLOCK_SIZE * 3 + 123);
+
+		File snapshot = newFile("example.gfd", content);
+		File compressedSnapshot = new File(temporaryFolder.getRoot(), "example.gfd.z");
+		File decompressedSnapshot = new File(temporaryFolder.getRoot(), "example.gfd.out");
+
+		long compressedLength = CompressedSnapshotCodec.compress(snapshot, compressedSnapshot);
+
+		assertThat(compressedLength < content.length, is(true));
+		assertThat(CompressedSnapshotCodec.isCompressed(compressedSnapshot), is(true));
+		assertThat(CompressedSnapshotCodec.isCompressed(snapshot), is(false));
+		assertThat(CompressedSnapshotCodec.decompress(compressedSnapshot, decompressedSnapshot),
+			is(equalTo((long) content.length)));
+		assertThat(Arrays.equals(FileCopyUtils.copyToByteArray(decompressedSnapshot), content), is(true));
+	}
+
+	@Test
+	public void compressAndDecompressEmptySnapshot() throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+
+		CompressedSnapshotCodec.compress(new ByteArrayInputStream(new byte[0]), compressed,
+			CompressedSnapshotCodec.DEFAULT_BLOCK_SIZE, Deflater.BEST_SPEED);
+
+		assertThat(CompressedSnapshotCodec.decompress(new ByteArrayInputStream(compressed.toByteArray()),
+			decompressed), is(equalTo(0L)));
+		assertThat(decompressed.size(), is(equalTo(0)));
+	}
+
+	@Test
+	public void isCompressedWithNonExistingFileReturnsFalse() throws IOException {
+		assertThat(CompressedSnapshotCodec.isCompressed(new File(temporaryFolder.getRoot(), "nonExisting.gfd")),
+			is(false));
+		assertThat(CompressedSnapshotCodec.isCompressed(null), is(false));
+	}
+
+	@Test
+	public void decompressCorruptBlockThrowsIOException() throws IOException {
+		File compressedSnapshot = new File(temporaryFolder.getRoot(), "corrupt.gfd.z");
+
+		CompressedSnapshotCodec.compress(newFile("corrupt.gfd", newSnapshotContent(4096)), compressedSnapshot);
+
+		RandomAccessFile file = new RandomAccessFile(compressedSnapshot, "rw");
+
+		try {
+			// flip a bit in the checksum of the first block
+			long checksumPosition = CompressedSnapshotCodec.MAGIC.length + 1 + 4 + 4 + 4;
+			file.seek(checksumPosition);
+			int checksum = file.readInt();
+			file.seek(checksumPosition);
+			file.writeInt(checksum ^ 1);
+		}
+		finally {
+			file.close();
+		}
+
+		exception.expect(IOException.class);
+		exception.expectMessage(String.format("Failed to decompress snapshot (%1$s)", compressedSnapshot));
+
+		CompressedSnapshotCodec.decompress(compressedSnapshot, new File(temporaryFolder.getRoot(), "corrupt.out"));
+	}
+
+	@Test
+	public void decompressTruncatedSnapshotThrowsIOException() throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+		CompressedSnapshotCodec.compress(new ByteArrayInputStream(newSnapshotContent(4096)), compressed,
+			1024, Deflater.BEST_SPEED);
+
+		byte[] truncated = Arrays.copyOf(compressed.toByteArray(), compressed.size() - 4);
+
+		exception.expect(IOException.class);
+		exception.expectMessage("Compressed snapshot is truncated");
+
+		CompressedSnapshotCodec.decompress(new ByteArrayInputStream(truncated), new ByteArrayOutputStream());
+	}
+
+	@Test
+	public void decompressUncompressedSnapshotThrowsIOException() throws IOException {
+		exception.expect(IOException.class);
+		exception.expectMessage("Not a compressed snapshot");
+
+		CompressedSnapshotCodec.decompress(new ByteArrayInputStream(newSnapshotContent(64)),
+			new ByteArrayOutputStream());
+	}
+
+	@Test
+	public void decompressSnapshotWithOversizedBlockSizeThrowsIOException() throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+		compressed.write(CompressedSnapshotCodec.MAGIC);
+		compressed.write(CompressedSnapshotCodec.VERSION);
+		compressed.write(new byte[] { (byte) 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF });
+
+		exception.expect(IOException.class);
+		exception.expectMessage(String.format("Invalid compressed snapshot block size [%d]", Integer.MAX_VALUE));
+
+		CompressedSnapshotCodec.decompress(new ByteArrayInputStream(compressed.toByteArray()),
+			new ByteArrayOutputStream());
+	}
+
+	@Test
+	public void compressWithOversizedBlockSizeThrowsIllegalArgumentException() throws IOException {
+		exception.expect(IllegalArgumentException.class);
+
+		CompressedSnapshotCodec.compress(new ByteArrayInputStream(newSnapshotContent(64)), new ByteArrayOutputStream(),
+			CompressedSnapshotCodec.MAX_BLOCK_SIZE + 1, Deflater.BEST_SPEED);
+	}
+
+	/**
+	 * Compares the time to compress and decompress a snapshot with the time to copy it uncompressed.
+	 * Run with -Dbenchmark=true.
+	 */
+	@Test
+	public void compressionThroughputBenchmark() throws IOException {
+		assumeThat(Boolean.getBoolean("benchmark"), is(true));
+
+		byte[] content = newSnapshotContent(64 * 1024 * 1024);
+
+		File snapshot = newFile("benchmark.gfd", content);
+		File copiedSnapshot = new File(temporaryFolder.getRoot(), "benchmark.gfd.copy");
+		File compressedSnapshot = new File(temporaryFolder.getRoot(), "benchmark.gfd.z");
+		File decompressedSnapshot = new File(temporaryFolder.getRoot(), "benchmark.gfd.out");
+
+		long copyTime = System.nanoTime();
+		FileCopyUtils.copy(snapshot, copiedSnapshot);
+		copyTime = System.nanoTime() - copyTime;
+
+		long compressTime = System.nanoTime();
+		long compressedLength = CompressedSnapshotCodec.compress(snapshot, compressedSnapshot);
+		compressTime = System.nanoTime() - compressTime;
+
+		long decompressTime = System.nanoTime();
+		CompressedSnapshotCodec.decompress(compressedSnapshot, decompressedSnapshot);
+		decompressTime = System.nanoTime() - decompressTime;
+
+		System.out.printf("copy %1$d ms; compress %2$d ms (ratio %3$.2f); decompress %4$d ms%n",
+			copyTime / 1000000, compressTime / 1000000, (double) content.length / compressedLength,
+			decompressTime / 1000000);
+
+		assertThat(decompressedSnapshot.length(), is(equalTo((long) content.length)));
+	}
+
+}
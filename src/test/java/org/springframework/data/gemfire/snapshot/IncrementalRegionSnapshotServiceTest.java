@@ -0,0 +1,291 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static com.gemstone.gemfire.cache.snapshot.SnapshotOptions.SnapshotFormat;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.snapshot.RegionSnapshotService;
+import com.gemstone.gemfire.cache.snapshot.SnapshotFilter;
+import com.gemstone.gemfire.cache.snapshot.SnapshotOptions;
+
+/**
+ * Unit tests for {@link IncrementalRegionSnapshotService} and {@link SnapshotChangeJournal}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.IncrementalRegionSnapshotService
+ * @see org.springframework.data.gemfire.snapshot.SnapshotChangeJournal
+ * @since 1.10.0
+ */
+@SuppressWarnings("unchecked")
+public class IncrementalRegionSnapshotServiceTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File baseSnapshot;
+
+	private IncrementalRegionSnapshotService<String, Object> snapshotService;
+
+	private Region<String, Object> mockRegion;
+
+	private RegionSnapshotService<String, Object> mockRegionSnapshotService;
+
+	private SnapshotChangeJournal<String, Object> journal;
+
+	private SnapshotOptions<String, Object> mockSnapshotOptions;
+
+	@Before
+	public void setup() throws Exception {
+		baseSnapshot = new File(temporaryFolder.getRoot(), "region.gfd");
+		journal = new SnapshotChangeJournal<String, Object>();
+		mockRegion = mock(Region.class, "MockRegion");
+		mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+		mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+		Answer<Void> createSnapshotFile = new Answer<Void>() {
+			@Override public Void answer(InvocationOnMock invocation) throws Throwable {
+				new FileOutputStream((File) invocation.getArguments()[0]).close();
+				return null;
+			}
+		};
+
+		doAnswer(createSnapshotFile).when(mockRegionSnapshotService).save(any(File.class), any(SnapshotFormat.class));
+		doAnswer(createSnapshotFile).when(mockRegionSnapshotService).save(any(File.class), any(SnapshotFormat.class),
+			any(SnapshotOptions.class));
+
+		snapshotService = new IncrementalRegionSnapshotService<String, Object>(mockRegion, baseSnapshot, journal);
+	}
+
+	@Test
+	public void journalKeepsLastOperationPerKey() {
+		journal.recordUpdate("one");
+		journal.recordUpdate("two");
+		journal.recordDestroy("one");
+
+		assertThat(journal.hasChanges(), is(true));
+
+		SnapshotChangeJournal.Changes<String> changes = journal.drain();
+
+		assertThat(changes.getUpdatedKeys(), is(equalTo(Collections.singleton("two"))));
+		assertThat(changes.getDestroyedKeys(), is(equalTo(Collections.singleton("one"))));
+		assertThat(changes.isCleared(), is(false));
+		assertThat(journal.hasChanges(), is(false));
+	}
+
+	@Test
+	public void exportDeltaExportsBaseFirst() {
+		assertThat(snapshotService.exportDelta(), is(equalTo(baseSnapshot)));
+		assertThat(baseSnapshot.isFile(), is(true));
+		assertThat(snapshotService.toTemporaryFile(baseSnapshot).exists(), is(false));
+
+		verify(mockRegionSnapshotService, times(1)).save(eq(snapshotService.toTemporaryFile(baseSnapshot)),
+			eq(SnapshotFormat.GEMFIRE));
+	}
+
+	@Test
+	public void failedExportDeltaRestoresChangesToJournal() {
+		snapshotService.exportBase();
+
+		journal.recordUpdate("one");
+		journal.recordDestroy("two");
+
+		doThrow(new IllegalStateException("TEST")).when(mockRegionSnapshotService).save(any(File.class),
+			any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		try {
+			snapshotService.exportDelta();
+			fail("Expected ExportSnapshotException");
+		}
+		catch (ExportSnapshotException expected) {
+			assertThat(expected.getCause(), is(instanceOf(IllegalStateException.class)));
+		}
+
+		journal.recordUpdate("two");
+
+		SnapshotChangeJournal.Changes<String> changes = journal.drain();
+
+		Set<String> expectedUpdatedKeys = new HashSet<String>(Arrays.asList("one", "two"));
+
+		assertThat(changes.getUpdatedKeys(), is(equalTo(expectedUpdatedKeys)));
+		assertThat(changes.getDestroyedKeys().isEmpty(), is(true));
+		assertThat(snapshotService.getDeltaSnapshots().isEmpty(), is(true));
+	}
+
+	@Test
+	public void failedExportBaseKeepsPreviousSnapshotChain() {
+		snapshotService.exportBase();
+		journal.recordUpdate("one");
+
+		File deltaSnapshot = snapshotService.exportDelta();
+
+		journal.recordUpdate("two");
+
+		doThrow(new IllegalStateException("TEST")).when(mockRegionSnapshotService).save(any(File.class),
+			any(SnapshotFormat.class));
+
+		try {
+			snapshotService.compact();
+			fail("Expected ExportSnapshotException");
+		}
+		catch (ExportSnapshotException expected) {
+			assertThat(expected.getCause(), is(instanceOf(IllegalStateException.class)));
+		}
+
+		assertThat(baseSnapshot.isFile(), is(true));
+		assertThat(snapshotService.getDeltaSnapshots(), is(equalTo(Collections.singletonList(deltaSnapshot))));
+		assertThat(snapshotService.toTemporaryFile(baseSnapshot).exists(), is(false));
+		assertThat(journal.drain().getUpdatedKeys(), is(equalTo(Collections.singleton("two"))));
+	}
+
+	@Test
+	public void failedBaseReplacementKeepsPreviousSnapshotChain() throws Exception {
+		snapshotService.exportBase();
+		journal.recordDestroy("one");
+
+		File deltaSnapshot = snapshotService.exportDelta();
+
+		journal.recordUpdate("two");
+
+		IncrementalRegionSnapshotService<String, Object> failingSnapshotService =
+			new IncrementalRegionSnapshotService<String, Object>(mockRegion, baseSnapshot, journal) {
+				@Override boolean rename(File source, File target) {
+					return false;
+				}
+			};
+
+		try {
+			failingSnapshotService.compact();
+			fail("Expected ExportSnapshotException");
+		}
+		catch (ExportSnapshotException expected) {
+			assertThat(expected.getMessage().startsWith("Failed to replace base snapshot"), is(true));
+		}
+
+		assertThat(baseSnapshot.isFile(), is(true));
+		assertThat(snapshotService.getDeltaSnapshots(), is(equalTo(Collections.singletonList(deltaSnapshot))));
+		assertThat(snapshotService.readDestroyedKeys(snapshotService.toDestroyedKeysFile(deltaSnapshot)),
+			is(equalTo(Collections.singletonList("one"))));
+		assertThat(snapshotService.toTemporaryFile(baseSnapshot).exists(), is(false));
+
+		SnapshotChangeJournal.Changes<String> changes = journal.drain();
+
+		assertThat(changes.getUpdatedKeys(), is(equalTo(Collections.singleton("two"))));
+		assertThat(changes.isCleared(), is(false));
+	}
+
+	@Test
+	public void exportDeltaWithoutChangesExportsNothing() {
+		snapshotService.exportBase();
+
+		assertThat(snapshotService.exportDelta(), is(nullValue()));
+
+		verify(mockRegionSnapshotService, never()).save(any(File.class), any(SnapshotFormat.class),
+			any(SnapshotOptions.class));
+	}
+
+	@Test
+	public void exportDeltaChainsChangedEntriesToBaseAndCompactionRemovesDeltas() throws Exception {
+		snapshotService.exportBase();
+
+		journal.recordUpdate("one");
+		journal.recordDestroy("two");
+
+		File deltaOne = snapshotService.exportDelta();
+
+		journal.recordUpdate("three");
+
+		File deltaTwo = snapshotService.exportDelta();
+
+		assertThat(deltaOne.getName(), is(equalTo("region.gfd.delta-00001")));
+		assertThat(deltaTwo.getName(), is(equalTo("region.gfd.delta-00002")));
+		assertThat(snapshotService.getDeltaSnapshots(), is(equalTo(Arrays.asList(deltaOne, deltaTwo))));
+		assertThat(snapshotService.readDestroyedKeys(snapshotService.toDestroyedKeysFile(deltaOne)),
+			is(equalTo(Collections.singletonList("two"))));
+
+		ArgumentCaptor<SnapshotFilter> filter = ArgumentCaptor.forClass(SnapshotFilter.class);
+
+		verify(mockSnapshotOptions, times(2)).setFilter(filter.capture());
+
+		SnapshotFilter<String, Object> deltaOneFilter = filter.getAllValues().get(0);
+
+		assertThat(deltaOneFilter.accept(new AbstractMap.SimpleEntry<String, Object>("one", 1)), is(true));
+		assertThat(deltaOneFilter.accept(new AbstractMap.SimpleEntry<String, Object>("three", 3)), is(false));
+
+		snapshotService.compact();
+
+		assertThat(snapshotService.getDeltaSnapshots().isEmpty(), is(true));
+		assertThat(snapshotService.toDestroyedKeysFile(deltaOne).exists(), is(false));
+	}
+
+	@Test
+	public void exportDeltaAfterRegionClearExportsBase() {
+		snapshotService.exportBase();
+		journal.recordUpdate("one");
+		journal.recordClear();
+
+		assertThat(snapshotService.exportDelta(), is(equalTo(baseSnapshot)));
+		assertThat(snapshotService.getDeltaSnapshots().isEmpty(), is(true));
+	}
+
+	@Test
+	public void importChainReplaysBaseThenDeltas() throws Exception {
+		snapshotService.exportBase();
+		journal.recordDestroy("two");
+		snapshotService.exportDelta();
+		snapshotService.importChain();
+
+		verify(mockRegionSnapshotService, times(1)).load(eq(baseSnapshot), eq(SnapshotFormat.GEMFIRE));
+		verify(mockRegion, times(1)).remove(eq("two"));
+	}
+}
@@ -20,6 +20,10 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport;
 
 import java.io.File;
@@ -31,6 +35,10 @@ import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.gemfire.test.support.FileSystemUtils;
 
+import com.gemstone.gemfire.cache.snapshot.SnapshotFilter;
+import com.gemstone.gemfire.cache.snapshot.SnapshotOptions;
+import com.gemstone.gemfire.cache.snapshot.SnapshotOptions.SnapshotFormat;
+
 /**
  * The SnapshotServiceFactoryBeanIntegrationTest class is a test suite of test cases testing the file archive handling
  * capabilities of the SnapshotServiceFactoryBean.SnapshotServiceAdpterSupport class.
@@ -93,6 +101,52 @@ public class SnapshotServiceFactoryBeanIntegrationTest {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void importArchiveLoadsEachEntryAndDeletesTemporaryFiles() throws Exception {
+		File cacheSnapshotZip = new ClassPathResource("/cache_snapshot.zip").getFile();
+
+		final SnapshotOptions<Object, Object> mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+		final List<File> loadedSnapshots = new ArrayList<File>();
+
+		SnapshotServiceAdapterSupport<Object, Object> snapshotService = new SnapshotServiceAdapterSupport<Object, Object>() {
+			@Override
+			public SnapshotOptions<Object, Object> createOptions() {
+				return mockSnapshotOptions;
+			}
+
+			@Override
+			protected File[] handleLocation(SnapshotMetadata<Object, Object> configuration) {
+				throw new UnsupportedOperationException("not implemented");
+			}
+
+			@Override
+			public void load(SnapshotFormat format, SnapshotOptions<Object, Object> options, File... snapshots) {
+				for (File snapshot : snapshots) {
+					assertThat(snapshot.isFile(), is(true));
+					loadedSnapshots.add(snapshot);
+				}
+			}
+		};
+
+		snapshotService.doImport(new SnapshotMetadata<Object, Object>(cacheSnapshotZip, SnapshotFormat.GEMFIRE));
+
+		assertThat(loadedSnapshots.size(), is(equalTo(3)));
+
+		List<String> loadedSnapshotNames = new ArrayList<String>(loadedSnapshots.size());
+
+		for (File loadedSnapshot : loadedSnapshots) {
+			assertThat(loadedSnapshot.exists(), is(false));
+			loadedSnapshotNames.add(loadedSnapshot.getName().substring(loadedSnapshot.getName().lastIndexOf('-') + 1));
+		}
+
+		assertThat(loadedSnapshotNames.containsAll(Arrays.asList(
+			"accounts.snapshot", "address.snapshot", "people.snapshot")), is(true));
+	}
+
 	protected static final class TestSnapshotServiceAdapter<K, V> extends SnapshotServiceAdapterSupport<K, V> {
 
 		@Override
@@ -26,10 +26,12 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -47,6 +49,12 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.logging.Log;
 import org.junit.After;
@@ -55,11 +63,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent;
+import org.springframework.data.gemfire.snapshot.filter.ComposableSnapshotFilter;
 import org.springframework.data.gemfire.test.support.FileSystemUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import com.gemstone.gemfire.cache.Cache;
 import com.gemstone.gemfire.cache.Region;
@@ -532,6 +547,140 @@ public class SnapshotServiceFactoryBeanTest {
 		verify(mockSnapshotService, never()).doImport(any(SnapshotMetadata.class));
 	}
 
+	@Test
+	public void onApplicationEventWhenAsynchronousDoesNotBlockAndCoalescesExports() throws Exception {
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		SnapshotApplicationEvent mockSnapshotEvent = mock(ExportSnapshotApplicationEvent.class,
+			"MockExportSnapshotApplicationEvent");
+
+		SnapshotMetadata factorySnapshotMetadata = newSnapshotMetadata(snapshotDat);
+
+		final SnapshotServiceAdapter mockSnapshotService = mock(SnapshotServiceAdapter.class, "MockSnapshotServiceAdapter");
+
+		final CountDownLatch exportStarted = new CountDownLatch(1);
+		final CountDownLatch exportReleased = new CountDownLatch(1);
+
+		when(mockRegion.getFullPath()).thenReturn("/AsyncExample");
+		when(mockSnapshotEvent.isCacheSnapshotEvent()).thenReturn(false);
+		when(mockSnapshotEvent.matches(eq(mockRegion))).thenReturn(true);
+		when(mockSnapshotEvent.getSnapshotMetadata()).thenReturn(null);
+
+		doAnswer(new Answer<Void>() {
+			@Override public Void answer(InvocationOnMock invocation) throws Throwable {
+				exportStarted.countDown();
+				exportReleased.await(5, TimeUnit.SECONDS);
+				return null;
+			}
+		}).when(mockSnapshotService).doExport(Matchers.<SnapshotMetadata>anyVararg());
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean() {
+			@Override public SnapshotServiceAdapter getObject() throws Exception {
+				return mockSnapshotService;
+			}
+		};
+
+		factoryBean.setAsynchronous(true);
+		factoryBean.setExports(toArray(factorySnapshotMetadata));
+		factoryBean.setRegion(mockRegion);
+
+		try {
+			factoryBean.onApplicationEvent(mockSnapshotEvent);
+
+			assertThat(exportStarted.await(5, TimeUnit.SECONDS), is(true));
+
+			ListenableFuture<Void> export = factoryBean.exportAsync(factorySnapshotMetadata);
+			ListenableFuture<Void> coalescedExport = factoryBean.exportAsync(factorySnapshotMetadata);
+			ListenableFuture<Void> rejectedImport = factoryBean.importAsync(factorySnapshotMetadata);
+
+			assertThat(coalescedExport, is(sameInstance(export)));
+			assertThat(export.isDone(), is(false));
+			assertThat(rejectedImport.isDone(), is(true));
+
+			exportReleased.countDown();
+			export.get(5, TimeUnit.SECONDS);
+
+			verify(mockSnapshotService, times(1)).doExport(eq(factorySnapshotMetadata));
+
+			try {
+				rejectedImport.get();
+				fail("Import during export should have been rejected");
+			}
+			catch (ExecutionException expected) {
+				assertThat(expected.getCause(), is(instanceOf(IllegalStateException.class)));
+			}
+		}
+		finally {
+			exportReleased.countDown();
+			factoryBean.shutdownTaskScheduler();
+		}
+	}
+
+	@Test
+	public void asynchronousSnapshotFailureIsReportedToFailureCallback() throws Exception {
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		SnapshotMetadata factorySnapshotMetadata = newSnapshotMetadata(snapshotDat);
+
+		final SnapshotServiceAdapter mockSnapshotService = mock(SnapshotServiceAdapter.class, "MockSnapshotServiceAdapter");
+
+		final CountDownLatch failureReported = new CountDownLatch(1);
+
+		final AtomicReference<Throwable> reportedFailure = new AtomicReference<Throwable>();
+
+		final IllegalStateException expectedFailure = new IllegalStateException("TEST");
+
+		when(mockRegion.getFullPath()).thenReturn("/FailingExample");
+
+		doThrow(expectedFailure).when(mockSnapshotService).doExport(Matchers.<SnapshotMetadata>anyVararg());
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean() {
+			@Override public SnapshotServiceAdapter getObject() throws Exception {
+				return mockSnapshotService;
+			}
+
+			@Override protected ListenableFutureCallback<Void> newFailureLoggingCallback(
+					SnapshotProgressApplicationEvent.Operation operation, String key) {
+
+				assertThat(operation, is(equalTo(SnapshotProgressApplicationEvent.Operation.EXPORT)));
+				assertThat(key, is(equalTo("/FailingExample")));
+
+				return new ListenableFutureCallback<Void>() {
+					@Override public void onSuccess(Void result) {
+					}
+
+					@Override public void onFailure(Throwable cause) {
+						reportedFailure.set(cause);
+						failureReported.countDown();
+					}
+				};
+			}
+		};
+
+		factoryBean.setRegion(mockRegion);
+
+		try {
+			factoryBean.exportAsync(factorySnapshotMetadata);
+
+			assertThat(failureReported.await(5, TimeUnit.SECONDS), is(true));
+			assertThat(reportedFailure.get(), is(sameInstance((Throwable) expectedFailure)));
+		}
+		finally {
+			factoryBean.shutdownTaskScheduler();
+		}
+	}
+
+	@Test
+	public void snapshotThrottleLimitsAverageBandwidthAcrossSnapshots() {
+		SnapshotThrottle throttle = new SnapshotThrottle(1000L);
+
+		long startTime = System.nanoTime();
+
+		assertThat(throttle.reserve(startTime, 500L) > TimeUnit.MILLISECONDS.toNanos(400), is(true));
+		assertThat(throttle.reserve(startTime, 500L) > TimeUnit.MILLISECONDS.toNanos(900), is(true));
+		assertThat(throttle.reserve(startTime, 0L) <= TimeUnit.SECONDS.toNanos(1), is(true));
+	}
+
 	@Test
 	public void resolveSnapshotMetadataFromEvent() {
 		SnapshotMetadata eventSnapshotMetadata = newSnapshotMetadata(snapshotDat);
@@ -844,6 +993,111 @@ public class SnapshotServiceFactoryBeanTest {
 		verify(mockSnapshotOptionsTwo, times(1)).setFilter(eq(mockSnapshotFilterTwo));
 	}
 
+	@Test
+	public void progressEventIsNotAMatch() {
+		SnapshotProgressApplicationEvent event = new SnapshotProgressApplicationEvent(this, null,
+			SnapshotProgressApplicationEvent.Operation.IMPORT, SnapshotProgressApplicationEvent.Status.COMPLETED,
+				newSnapshotMetadata(), snapshotDat, 0L, 0L, 1, 1, null);
+
+		assertThat(factoryBean.isMatch(event), is(false));
+	}
+
+	@Test
+	public void importRegionSnapshotsConcurrentlyAndPublishProgress() throws Exception {
+		final CyclicBarrier barrier = new CyclicBarrier(2);
+
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class,
+			"MockApplicationEventPublisher");
+
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+		doAnswer(new Answer<Void>() {
+			@Override public Void answer(InvocationOnMock invocation) throws Throwable {
+				barrier.await(5, TimeUnit.SECONDS);
+				return null;
+			}
+		}).when(mockRegionSnapshotService).load(any(File.class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		File snapshotDatTwo = mockFile("snapshot-2.dat");
+
+		RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+		adapter.setApplicationEventPublisher(mockApplicationEventPublisher);
+		adapter.setParallelism(2);
+		adapter.doImport(toArray(newSnapshotMetadata(snapshotDat), newSnapshotMetadata(snapshotDatTwo)));
+
+		assertThat(adapter.getStatistics().getSnapshotCount(), is(equalTo(2L)));
+		assertThat(adapter.getStatistics().getFailureCount(), is(equalTo(0L)));
+
+		verify(mockRegionSnapshotService, times(1)).load(eq(snapshotDat), eq(SnapshotFormat.GEMFIRE),
+			eq(mockSnapshotOptions));
+		verify(mockRegionSnapshotService, times(1)).load(eq(snapshotDatTwo), eq(SnapshotFormat.GEMFIRE),
+			eq(mockSnapshotOptions));
+		verify(mockApplicationEventPublisher, times(4)).publishEvent(
+			Matchers.isA(SnapshotProgressApplicationEvent.class));
+	}
+
+	@Test
+	public void importRegionSnapshotsConcurrentlyPropagatesFailure() throws Exception {
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+		doThrow(new ClassCastException("TEST")).when(mockRegionSnapshotService).load(eq(snapshotDat),
+			any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+		adapter.setParallelism(2);
+
+		try {
+			adapter.doImport(toArray(newSnapshotMetadata(snapshotDat), newSnapshotMetadata(mockFile("snapshot-2.dat"))));
+		}
+		catch (ImportSnapshotException expected) {
+			assertThat(expected.getCause(), is(instanceOf(ClassCastException.class)));
+			assertThat(adapter.getStatistics().getFailureCount(), is(equalTo(1L)));
+			return;
+		}
+
+		throw new AssertionError("Expected ImportSnapshotException");
+	}
+
+	@Test
+	public void concurrentImportsReuseExecutorServiceUntilShutdown() throws Exception {
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+
+		File snapshotDatTwo = mockFile("snapshot-2.dat");
+
+		RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+		adapter.setParallelism(2);
+		adapter.doImport(toArray(newSnapshotMetadata(snapshotDat), newSnapshotMetadata(snapshotDatTwo)));
+
+		ExecutorService executorService = adapter.getExecutorService();
+
+		adapter.doImport(toArray(newSnapshotMetadata(snapshotDat), newSnapshotMetadata(snapshotDatTwo)));
+
+		assertThat(adapter.getExecutorService(), is(sameInstance(executorService)));
+		assertThat(adapter.getStatistics().getSnapshotCount(), is(equalTo(4L)));
+
+		adapter.shutdown();
+
+		assertThat(executorService.isShutdown(), is(true));
+	}
+
 	@Test
 	public void createOptionsWithFilterOnSnapshotServiceAdapterSupport() {
 		SnapshotFilter mockSnapshotFilter = mock(SnapshotFilter.class, "MockSnapshotFilter");
@@ -1195,6 +1449,25 @@ public class SnapshotServiceFactoryBeanTest {
 		assertThat(snapshotMetadata.getFormat(), is(equalTo(SnapshotFormat.GEMFIRE)));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void partitionSnapshotMetadata() {
+		SnapshotFilter mockSnapshotFilter = mock(SnapshotFilter.class, "MockSnapshotFilter");
+
+		SnapshotMetadata metadata = new SnapshotMetadata(FileSystemUtils.WORKING_DIRECTORY, mockSnapshotFilter,
+			SnapshotFormat.GEMFIRE);
+
+		SnapshotMetadata[] partitions = metadata.partition(2);
+
+		assertThat(partitions.length, is(equalTo(2)));
+		assertThat(partitions[0].getLocation(), is(equalTo(new File(FileSystemUtils.WORKING_DIRECTORY,
+			"partition-00000.gfd"))));
+		assertThat(partitions[1].getLocation(), is(equalTo(new File(FileSystemUtils.WORKING_DIRECTORY,
+			"partition-00001.gfd"))));
+		assertThat(partitions[1].getFilter(), is(instanceOf(ComposableSnapshotFilter.class)));
+		assertThat(partitions[1].getFormat(), is(equalTo(SnapshotFormat.GEMFIRE)));
+	}
+
 	@Test
 	public void isJarFileIsTrue() {
 		// JRE
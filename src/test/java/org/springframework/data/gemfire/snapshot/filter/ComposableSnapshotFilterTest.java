@@ -25,9 +25,16 @@ import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.snapshot.filter.ComposableSnapshotFilter.Operator;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -35,6 +42,7 @@ import org.junit.Test;
 import org.springframework.data.gemfire.TestUtils;
 
 import com.gemstone.gemfire.cache.snapshot.SnapshotFilter;
+import com.gemstone.gemfire.pdx.PdxInstance;
 
 /**
  * The ComposableSnapshotFilterTest class is a test suite of test cases testing the contract and functionality
@@ -171,4 +179,117 @@ public class ComposableSnapshotFilterTest {
 		assertThat(composedFilter.accept(null), is(false));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void keySnapshotFilterIsEvaluatedFirstAndShortCircuits() {
+		SnapshotFilter<String, Object> valueFilter = mockSnapshotFilter(true);
+
+		SnapshotFilter<String, Object> keyFilter = new KeySnapshotFilter<String, Object>() {
+			@Override protected boolean acceptKey(String key) {
+				return "one".equals(key);
+			}
+		};
+
+		SnapshotFilter<String, Object> composedFilter = ComposableSnapshotFilter.and(keyFilter, valueFilter);
+
+		assertThat((SnapshotFilter<String, Object>) TestUtils.readField("leftOperand", composedFilter),
+			is(sameInstance(keyFilter)));
+
+		Map.Entry<String, Object> mockEntry = mock(Map.Entry.class);
+
+		when(mockEntry.getKey()).thenReturn("two");
+
+		assertThat(composedFilter.accept(mockEntry), is(false));
+
+		verify(valueFilter, never()).accept(any(Map.Entry.class));
+		verify(mockEntry, never()).getValue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void composedSnapshotFiltersReadValueOnce() {
+		SnapshotFilter<String, Object> valueFilter = new SnapshotFilter<String, Object>() {
+			@Override public boolean accept(Map.Entry<String, Object> entry) {
+				return (entry.getValue() != null);
+			}
+		};
+
+		Map.Entry<String, Object> mockEntry = mock(Map.Entry.class);
+
+		when(mockEntry.getValue()).thenReturn("test");
+
+		SnapshotFilter<String, Object> composedFilter = ComposableSnapshotFilter.and(valueFilter, valueFilter,
+			valueFilter);
+
+		assertThat(composedFilter.accept(mockEntry), is(true));
+
+		verify(mockEntry, times(1)).getValue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void pdxFieldSnapshotFilterReadsFieldsFromPdxInstance() {
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField("name")).thenReturn(true);
+		when(mockPdxInstance.getField("name")).thenReturn("Jon Doe");
+
+		SnapshotFilter<String, Object> pdxFieldFilter = new PdxFieldSnapshotFilter<String, Object>("name", "age") {
+			@Override protected boolean acceptFields(String key, Object[] fieldValues) {
+				return ("Jon Doe".equals(fieldValues[0]) && fieldValues[1] == null);
+			}
+		};
+
+		assertThat(pdxFieldFilter.accept(new AbstractMap.SimpleEntry<String, Object>("one", mockPdxInstance)),
+			is(true));
+
+		verify(mockPdxInstance, never()).getObject();
+		verify(mockPdxInstance, never()).getField("age");
+	}
+
+	@Test
+	public void pdxFieldSnapshotFilterReadsFieldsFromDomainObject() {
+		final List<Object> acceptedValues = new ArrayList<Object>();
+
+		SnapshotFilter<String, Object> pdxFieldFilter = new PdxFieldSnapshotFilter<String, Object>("name", "missing") {
+			@Override protected boolean acceptFields(String key, Object[] fieldValues) {
+				acceptedValues.addAll(Arrays.asList(fieldValues));
+				return "Jon Doe".equals(fieldValues[0]);
+			}
+		};
+
+		assertThat(pdxFieldFilter.accept(new AbstractMap.SimpleEntry<String, Object>("one", new Person("Jon Doe"))),
+			is(true));
+		assertThat(pdxFieldFilter.accept(new AbstractMap.SimpleEntry<String, Object>("two", new Person("Jane Doe"))),
+			is(false));
+		assertThat(acceptedValues, is(equalTo(Arrays.<Object>asList("Jon Doe", null, "Jane Doe", null))));
+	}
+
+	static class Person {
+
+		private final String name;
+
+		Person(String name) {
+			this.name = name;
+		}
+	}
+
+	@Test
+	public void keyPartitionSnapshotFiltersPartitionAllKeys() {
+		int partitionCount = 4;
+
+		for (int key = -100; key < 100; key++) {
+			int acceptedCount = 0;
+
+			for (int partition = 0; partition < partitionCount; partition++) {
+				if (new KeyPartitionSnapshotFilter<Integer, Object>(partition, partitionCount).accept(
+						new AbstractMap.SimpleEntry<Integer, Object>(key, null))) {
+					acceptedCount++;
+				}
+			}
+
+			assertThat(acceptedCount, is(equalTo(1)));
+		}
+	}
+
 }
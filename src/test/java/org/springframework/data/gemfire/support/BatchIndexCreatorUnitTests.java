@@ -0,0 +1,280 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gemstone.gemfire.cache.RegionService;
+import com.gemstone.gemfire.cache.query.Index;
+import com.gemstone.gemfire.cache.query.IndexInvalidException;
+import com.gemstone.gemfire.cache.query.IndexStatistics;
+import com.gemstone.gemfire.cache.query.MultiIndexCreationException;
+import com.gemstone.gemfire.cache.query.QueryService;
+
+import org.springframework.data.gemfire.GemfireIndexException;
+import org.springframework.data.gemfire.IndexType;
+
+/**
+ * Unit tests for {@link BatchIndexCreator}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.support.BatchIndexCreator
+ * @since 1.10.0
+ */
+public class BatchIndexCreatorUnitTests {
+
+	private BatchIndexCreator batchIndexCreator;
+
+	private QueryService mockQueryService;
+
+	private RegionService mockCache;
+
+	@Before
+	public void setup() {
+		mockCache = mock(RegionService.class);
+		mockQueryService = mock(QueryService.class);
+
+		when(mockCache.getQueryService()).thenReturn(mockQueryService);
+
+		batchIndexCreator = new BatchIndexCreator();
+		batchIndexCreator.setCache(mockCache);
+	}
+
+	/* (non-Javadoc) */
+	private Index mockIndex(String name, long entryCount) {
+		Index mockIndex = mock(Index.class, name);
+		IndexStatistics mockIndexStatistics = mock(IndexStatistics.class);
+
+		when(mockIndex.getName()).thenReturn(name);
+		when(mockIndex.getStatistics()).thenReturn(mockIndexStatistics);
+		when(mockIndexStatistics.getNumberOfValues()).thenReturn(entryCount);
+
+		return mockIndex;
+	}
+
+	@Test
+	public void regionPathIsResolvedFromTheFromClause() {
+		assertThat(new BatchIndexCreator.IndexDefinition("Idx", null, "id", "Customers", null).getRegionPath(),
+			is(equalTo("/Customers")));
+		assertThat(new BatchIndexCreator.IndexDefinition("Idx", null, "e.key", "/Orders.entrySet e", null)
+			.getRegionPath(), is(equalTo("/Orders")));
+		assertThat(new BatchIndexCreator.IndexDefinition("Idx", null, "o.id", " /Orders o ", null).getRegionPath(),
+			is(equalTo("/Orders")));
+	}
+
+	@Test
+	public void indexesAreCreatedInOneBatchPerRegion() throws Exception {
+		final List<List<String>> batches = new ArrayList<List<String>>();
+
+		batchIndexCreator = new BatchIndexCreator() {
+			@Override
+			protected void createIndexes(String regionPath, List<IndexDefinition> indexDefinitions) {
+				List<String> batch = new ArrayList<String>();
+
+				batch.add(regionPath);
+
+				for (IndexDefinition indexDefinition : indexDefinitions) {
+					batch.add(indexDefinition.getName());
+				}
+
+				batches.add(batch);
+			}
+		};
+
+		batchIndexCreator.setCache(mockCache);
+		batchIndexCreator.define("CustomersIdIdx", IndexType.KEY, "id", "/Customers", null);
+		batchIndexCreator.define("OrdersIdIdx", IndexType.KEY, "id", "/Orders", null);
+		batchIndexCreator.define("CustomersNameIdx", IndexType.HASH, "name", "/Customers c", null);
+		batchIndexCreator.start();
+
+		assertThat(batchIndexCreator.isRunning(), is(true));
+		assertThat(batches, is(equalTo(Arrays.asList(
+			Arrays.asList("/Customers", "CustomersIdIdx", "CustomersNameIdx"),
+				Arrays.asList("/Orders", "OrdersIdIdx")))));
+	}
+
+	@Test
+	public void indexesAreDefinedThenCreated() throws Exception {
+		Index mockIdIndex = mockIndex("CustomersIdIdx", 10L);
+		Index mockNameIndex = mockIndex("CustomersNameIdx", 8L);
+
+		when(mockQueryService.createDefinedIndexes()).thenReturn(Arrays.asList(mockIdIndex, mockNameIndex));
+
+		batchIndexCreator.define("CustomersIdIdx", IndexType.KEY, "id", "/Customers", null);
+		batchIndexCreator.define("CustomersNameIdx", IndexType.HASH, "name", "/Customers", "example.Customer");
+		batchIndexCreator.start();
+
+		verify(mockQueryService).defineKeyIndex(eq("CustomersIdIdx"), eq("id"), eq("/Customers"));
+		verify(mockQueryService).defineHashIndex(eq("CustomersNameIdx"), eq("name"), eq("/Customers"),
+			eq("example.Customer"));
+		verify(mockQueryService, times(1)).createDefinedIndexes();
+
+		List<BatchIndexCreator.IndexCreationResult> results = batchIndexCreator.getResults();
+
+		assertThat(results.size(), is(equalTo(2)));
+		assertThat(results.get(0).getIndexName(), is(equalTo("CustomersIdIdx")));
+		assertThat(results.get(0).getRegionPath(), is(equalTo("/Customers")));
+		assertThat(results.get(0).getEntryCount(), is(equalTo(10L)));
+		assertThat(results.get(0).isRetried(), is(false));
+		assertThat(results.get(0).isSuccessful(), is(true));
+		assertThat(results.get(1).getEntryCount(), is(equalTo(8L)));
+	}
+
+	@Test
+	public void failedIndexesAreRetriedIndividually() throws Exception {
+		Index mockIdIndex = mockIndex("CustomersIdIdx", 10L);
+		Index mockNameIndex = mockIndex("CustomersNameIdx", 8L);
+
+		HashMap<String, Exception> failures = new HashMap<String, Exception>();
+
+		failures.put("CustomersNameIdx", new IndexInvalidException("test"));
+
+		when(mockQueryService.createDefinedIndexes()).thenThrow(new MultiIndexCreationException(failures));
+		when(mockQueryService.getIndexes()).thenReturn(Arrays.asList(mockIdIndex));
+		when(mockQueryService.createIndex(anyString(), anyString(), anyString())).thenReturn(mockNameIndex);
+
+		batchIndexCreator.define("CustomersIdIdx", IndexType.KEY, "id", "/Customers", null);
+		batchIndexCreator.define("CustomersNameIdx", IndexType.FUNCTIONAL, "name", "/Customers", null);
+		batchIndexCreator.start();
+
+		verify(mockQueryService, never()).createKeyIndex(anyString(), anyString(), anyString());
+		verify(mockQueryService).createIndex(eq("CustomersNameIdx"), eq("name"), eq("/Customers"));
+
+		List<BatchIndexCreator.IndexCreationResult> results = batchIndexCreator.getResults();
+
+		assertThat(results.size(), is(equalTo(2)));
+		assertThat(results.get(0).isRetried(), is(false));
+		assertThat(results.get(1).getIndexName(), is(equalTo("CustomersNameIdx")));
+		assertThat(results.get(1).isRetried(), is(true));
+		assertThat(results.get(1).isSuccessful(), is(true));
+		assertThat(results.get(1).getEntryCount(), is(equalTo(8L)));
+	}
+
+	@Test
+	public void failedRetryIsRecorded() throws Exception {
+		IndexInvalidException expected = new IndexInvalidException("test");
+
+		HashMap<String, Exception> failures = new HashMap<String, Exception>();
+
+		failures.put("CustomersIdIdx", expected);
+
+		when(mockQueryService.createDefinedIndexes()).thenThrow(new MultiIndexCreationException(failures));
+		when(mockQueryService.createKeyIndex(anyString(), anyString(), anyString())).thenThrow(expected);
+
+		batchIndexCreator.define("CustomersIdIdx", IndexType.KEY, "id", "/Customers", null);
+
+		try {
+			batchIndexCreator.start();
+			fail("Failed Index should have failed start()");
+		}
+		catch (GemfireIndexException e) {
+			assertThat(e.getMessage(), containsString("Index [CustomersIdIdx] on Region [/Customers]"));
+			assertThat(e.getCause().getCause(), is(sameInstance((Throwable) expected)));
+		}
+
+		List<BatchIndexCreator.IndexCreationResult> results = batchIndexCreator.getResults();
+
+		assertThat(results.size(), is(equalTo(1)));
+		assertThat(results.get(0).isSuccessful(), is(false));
+		assertThat(results.get(0).getFailure(), is(notNullValue()));
+		assertThat(results.get(0).isRetried(), is(true));
+	}
+
+	@Test
+	public void failedBatchFailsStartAfterAllBatchesAreDone() throws Exception {
+		final List<String> batches = new ArrayList<String>();
+
+		batchIndexCreator = new BatchIndexCreator() {
+			@Override
+			protected void createIndexes(String regionPath, List<IndexDefinition> indexDefinitions)
+					throws Exception {
+
+				batches.add(regionPath);
+
+				if ("/Customers".equals(regionPath)) {
+					throw new IndexInvalidException("test");
+				}
+			}
+		};
+
+		batchIndexCreator.setCache(mockCache);
+		batchIndexCreator.define("CustomersIdIdx", IndexType.KEY, "id", "/Customers", null);
+		batchIndexCreator.define("OrdersIdIdx", IndexType.KEY, "id", "/Orders", null);
+
+		try {
+			batchIndexCreator.start();
+			fail("Failed batch should have failed start()");
+		}
+		catch (GemfireIndexException e) {
+			assertThat(e.getMessage(), containsString("all Indexes on Region [/Customers]"));
+			assertThat(e.getCause().getCause(), is(instanceOf(IndexInvalidException.class)));
+		}
+
+		assertThat(batches, is(equalTo(Arrays.asList("/Customers", "/Orders"))));
+	}
+
+	@Test
+	public void batchBuildTimeIsNotReportedAsIndexBuildTime() {
+		BatchIndexCreator.IndexCreationResult batchResult =
+			BatchIndexCreator.IndexCreationResult.createdInBatch("CustomersIdIdx", "/Customers", 30L, 10L);
+
+		BatchIndexCreator.IndexCreationResult individualResult =
+			BatchIndexCreator.IndexCreationResult.createdIndividually("CustomersNameIdx", "/Customers", 5L, 8L, null);
+
+		assertThat(batchResult.getBuildTime(), is(equalTo(BatchIndexCreator.IndexCreationResult.UNKNOWN_TIME)));
+		assertThat(batchResult.getBatchBuildTime(), is(equalTo(30L)));
+		assertThat(individualResult.getBuildTime(), is(equalTo(5L)));
+		assertThat(individualResult.getBatchBuildTime(),
+			is(equalTo(BatchIndexCreator.IndexCreationResult.UNKNOWN_TIME)));
+	}
+
+	@Test
+	public void startWithoutIndexesDoesNothing() {
+		batchIndexCreator.start();
+
+		assertThat(batchIndexCreator.isRunning(), is(true));
+		assertThat(batchIndexCreator.getResults().isEmpty(), is(true));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void defineAfterStartIsRejected() {
+		batchIndexCreator.start();
+		batchIndexCreator.define("CustomersIdIdx", IndexType.KEY, "id", "/Customers", null);
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.gemstone.gemfire.compression.CompressionException;
+
+/**
+ * Unit tests for {@link DeflateCompressor} and {@link MeteredCompressor}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.support.DeflateCompressor
+ * @see org.springframework.data.gemfire.support.MeteredCompressor
+ * @since 1.10.0
+ */
+public class DeflateCompressorTest {
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	protected byte[] newValue(int length) {
+		byte[] value = new byte[length];
+
+		for (int index = 0; index < length; index++) {
+			value[index] = (byte) ('A' + (index % 26));
+		}
+
+		return value;
+	}
+
+	@Test
+	public void compressAndDecompressRoundTrip() {
+		DeflateCompressor compressor = new DeflateCompressor();
+		byte[] value = newValue(4096);
+
+		byte[] compressedValue = compressor.compress(value);
+
+		assertThat(compressedValue.length < value.length, is(true));
+		assertThat(Arrays.equals(compressor.decompress(compressedValue), value), is(true));
+	}
+
+	@Test
+	public void compressAndDecompressEmptyValue() {
+		DeflateCompressor compressor = new DeflateCompressor(Deflater.BEST_COMPRESSION);
+
+		assertThat(compressor.decompress(compressor.compress(new byte[0])).length, is(equalTo(0)));
+	}
+
+	@Test
+	public void constructWithInvalidLevelThrowsIllegalArgumentException() {
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("Compression level [10] must be between 0 and 9");
+
+		new DeflateCompressor(10);
+	}
+
+	@Test
+	public void decompressTruncatedValueThrowsCompressionException() {
+		DeflateCompressor compressor = new DeflateCompressor();
+		byte[] compressedValue = compressor.compress(newValue(1024));
+
+		exception.expect(CompressionException.class);
+
+		compressor.decompress(Arrays.copyOf(compressedValue, compressedValue.length / 2));
+	}
+
+	@Test
+	public void compressAndDecompressHighlyCompressibleValue() {
+		DeflateCompressor compressor = new DeflateCompressor(Deflater.BEST_COMPRESSION);
+		byte[] value = new byte[4 * 1024 * 1024];
+
+		assertThat(Arrays.equals(compressor.decompress(compressor.compress(value)), value), is(true));
+	}
+
+	@Test
+	public void decompressValueWithOversizedLengthHeaderThrowsCompressionException() {
+		DeflateCompressor compressor = new DeflateCompressor();
+		byte[] compressedValue = compressor.compress(newValue(1024));
+
+		compressedValue[0] = (byte) 0x7F;
+
+		exception.expect(CompressionException.class);
+		exception.expectMessage(String.format("Invalid uncompressed length [%1$d] for [%2$d] compressed bytes",
+			0x7F000400, compressedValue.length - DeflateCompressor.HEADER_LENGTH));
+
+		compressor.decompress(compressedValue);
+	}
+
+	@Test
+	public void decompressValueWithNegativeLengthHeaderThrowsCompressionException() {
+		DeflateCompressor compressor = new DeflateCompressor();
+		byte[] compressedValue = compressor.compress(newValue(1024));
+
+		compressedValue[0] = (byte) 0xFF;
+
+		exception.expect(CompressionException.class);
+		exception.expectMessage("Invalid uncompressed length");
+
+		compressor.decompress(compressedValue);
+	}
+
+	@Test
+	public void meteredCompressorRecordsCompressionRatioAndLatencies() {
+		MeteredCompressor compressor = new MeteredCompressor("Example", new DeflateCompressor());
+		byte[] value = newValue(8192);
+
+		byte[] compressedValue = compressor.compress(value);
+
+		compressor.compress(value);
+		compressor.decompress(compressedValue);
+
+		assertThat(compressor.getRegionName(), is(equalTo("Example")));
+		assertThat(compressor.getCompressions(), is(equalTo(2L)));
+		assertThat(compressor.getDecompressions(), is(equalTo(1L)));
+		assertThat(compressor.getUncompressedBytes(), is(equalTo(2L * value.length)));
+		assertThat(compressor.getCompressedBytes(), is(equalTo(2L * compressedValue.length)));
+		assertThat(compressor.getCompressionRatio() > 1.0d, is(true));
+		assertThat(compressor.getAverageCompressTime() > 0.0d, is(true));
+
+		compressor.reset();
+
+		assertThat(compressor.getCompressions(), is(equalTo(0L)));
+		assertThat(compressor.getCompressionRatio(), is(equalTo(0.0d)));
+		assertThat(compressor.getAverageDecompressTime(), is(equalTo(0.0d)));
+	}
+}
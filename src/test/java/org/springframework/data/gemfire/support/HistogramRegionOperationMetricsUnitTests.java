@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gemstone.gemfire.cache.util.ObjectSizer;
+
+/**
+ * Unit tests for {@link HistogramRegionOperationMetrics}, {@link ExponentialHistogram}
+ * and {@link NoOpRegionOperationMetrics}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.support.ExponentialHistogram
+ * @see org.springframework.data.gemfire.support.HistogramRegionOperationMetrics
+ * @see org.springframework.data.gemfire.support.NoOpRegionOperationMetrics
+ * @since 1.10.0
+ */
+public class HistogramRegionOperationMetricsUnitTests {
+
+	private HistogramRegionOperationMetrics regionOperationMetrics;
+
+	@Before
+	public void setup() {
+		regionOperationMetrics = new HistogramRegionOperationMetrics();
+		regionOperationMetrics.setRecordPayloadSize(true);
+
+		regionOperationMetrics.setObjectSizer(new ObjectSizer() {
+			@Override
+			public int sizeof(Object value) {
+				return String.valueOf(value).length();
+			}
+		});
+	}
+
+	@Test
+	public void histogramApproximatesPercentilesWithinAFactorOfTwo() {
+		ExponentialHistogram histogram = new ExponentialHistogram();
+
+		for (long value = 1; value <= 1000; value++) {
+			histogram.record(value);
+		}
+
+		assertThat(histogram.getCount(), is(equalTo(1000L)));
+		assertThat(histogram.getTotal(), is(equalTo(500500L)));
+		assertThat(histogram.getMax(), is(equalTo(1000L)));
+		assertThat(histogram.getMean(), is(equalTo(500.5d)));
+		assertThat(histogram.getPercentile(50.0d), is(equalTo(511L)));
+		assertThat(histogram.getPercentile(99.0d), is(equalTo(1000L)));
+		assertThat(histogram.getPercentile(0.0d), is(equalTo(1L)));
+	}
+
+	@Test
+	public void emptyHistogramReturnsZero() {
+		ExponentialHistogram histogram = new ExponentialHistogram();
+
+		assertThat(histogram.getPercentile(99.0d), is(equalTo(0L)));
+		assertThat(histogram.getMean(), is(equalTo(0.0d)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void histogramRejectsInvalidPercentile() {
+		new ExponentialHistogram().getPercentile(100.1d);
+	}
+
+	@Test
+	public void recordsMetersPerRegionAndOperation() {
+		Map<String, String> values = new HashMap<String, String>();
+
+		values.put("one", "1");
+		values.put("two", "22");
+		values.put("three", null);
+
+		regionOperationMetrics.record("/Customers", RegionOperation.PUT_ALL, TimeUnit.MILLISECONDS.toNanos(3L),
+			values, RegionOperationMetrics.NO_RESULT);
+		regionOperationMetrics.record("/Customers", RegionOperation.GET, 100L, "value", 1);
+		regionOperationMetrics.record("/Orders", RegionOperation.GET, 200L, null, 0);
+
+		RegionOperationMeters putAllMeters = regionOperationMetrics.getMeters("/Customers", RegionOperation.PUT_ALL);
+
+		assertThat(regionOperationMetrics.getMeters().size(), is(equalTo(3)));
+		assertThat(putAllMeters.getPayloadSize().getTotal(), is(equalTo(3L)));
+		assertThat(putAllMeters.getResultSize().getCount(), is(equalTo(0L)));
+		assertThat(putAllMeters.getLatencyPercentile(50.0d, TimeUnit.MILLISECONDS), is(equalTo(3L)));
+		assertThat(putAllMeters.getTags(), is(equalTo(new String[] { "region", "/Customers", "operation", "putAll" })));
+
+		RegionOperationMeters getMeters = regionOperationMetrics.getMeters("/Orders", RegionOperation.GET);
+
+		assertThat(getMeters.getPayloadSize().getCount(), is(equalTo(0L)));
+		assertThat(getMeters.getResultSize().getCount(), is(equalTo(1L)));
+		assertThat(regionOperationMetrics.getMeters("/Orders", RegionOperation.PUT), is(nullValue()));
+	}
+
+	@Test
+	public void recordsFailuresByExceptionType() {
+		regionOperationMetrics.recordFailure("/Customers", RegionOperation.FIND, 100L, new IllegalStateException());
+		regionOperationMetrics.recordFailure("/Customers", RegionOperation.FIND, 100L, new IllegalStateException());
+		regionOperationMetrics.recordFailure("/Customers", RegionOperation.FIND, 100L, new RuntimeException());
+
+		RegionOperationMeters meters = regionOperationMetrics.getMeters("/Customers", RegionOperation.FIND);
+
+		assertThat(meters.getFailureCount(), is(equalTo(3L)));
+		assertThat(meters.getFailureCounts().get(IllegalStateException.class.getName()), is(equalTo(2L)));
+		assertThat(meters.getLatency().getCount(), is(equalTo(0L)));
+	}
+
+	@Test
+	public void payloadSizeIsNotRecordedByDefault() {
+		HistogramRegionOperationMetrics defaultRegionOperationMetrics = new HistogramRegionOperationMetrics();
+
+		defaultRegionOperationMetrics.record("/Customers", RegionOperation.PUT, 100L, "value",
+			RegionOperationMetrics.NO_RESULT);
+
+		assertThat(defaultRegionOperationMetrics.isRecordPayloadSize(), is(false));
+		assertThat(defaultRegionOperationMetrics.getMeters("/Customers", RegionOperation.PUT).getPayloadSize()
+			.getCount(), is(equalTo(0L)));
+	}
+
+	@Test
+	public void payloadSizeIsNotRecordedWhenDisabled() {
+		regionOperationMetrics.setRecordPayloadSize(false);
+		regionOperationMetrics.record("/Customers", RegionOperation.PUT, 100L, "value",
+			RegionOperationMetrics.NO_RESULT);
+
+		assertThat(regionOperationMetrics.getMeters("/Customers", RegionOperation.PUT).getPayloadSize().getCount(),
+			is(equalTo(0L)));
+	}
+
+	@Test
+	public void noOpRegionOperationMetricsIsDisabled() {
+		assertThat(NoOpRegionOperationMetrics.INSTANCE.isEnabled(), is(false));
+	}
+}
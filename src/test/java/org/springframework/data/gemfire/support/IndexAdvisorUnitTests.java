@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gemstone.gemfire.cache.RegionService;
+import com.gemstone.gemfire.cache.query.Index;
+import com.gemstone.gemfire.cache.query.QueryService;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.Indexed;
+import org.springframework.data.gemfire.mapping.Region;
+
+/**
+ * Unit tests for {@link IndexAdvisor}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.support.IndexAdvisor
+ * @since 1.10.0
+ */
+public class IndexAdvisorUnitTests {
+
+	private IndexAdvisor indexAdvisor;
+
+	private QueryStatisticsRecorder queryStatisticsRecorder;
+
+	@Before
+	public void setup() {
+		RegionService mockCache = mock(RegionService.class);
+		QueryService mockQueryService = mock(QueryService.class);
+		Index mockIndex = mock(Index.class);
+
+		when(mockCache.getQueryService()).thenReturn(mockQueryService);
+		when(mockQueryService.getIndexes()).thenReturn(Collections.singletonList(mockIndex));
+		when(mockIndex.getFromClause()).thenReturn("/Customers c");
+		when(mockIndex.getIndexedExpression()).thenReturn("c.id");
+
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		mappingContext.getPersistentEntity(Customer.class);
+
+		queryStatisticsRecorder = new QueryStatisticsRecorder();
+
+		indexAdvisor = new IndexAdvisor(queryStatisticsRecorder);
+		indexAdvisor.setCache(mockCache);
+		indexAdvisor.setMappingContext(mappingContext);
+		indexAdvisor.setMinimumQueryCount(2L);
+	}
+
+	/* (non-Javadoc) */
+	private void record(String query, int count, long latencyInMilliseconds) {
+		for (int index = 0; index < count; index++) {
+			queryStatisticsRecorder.record(query, TimeUnit.MILLISECONDS.toNanos(latencyInMilliseconds));
+		}
+	}
+
+	@Test
+	public void recommendsIndexesRankedByEstimatedTimeSaved() {
+		record("SELECT * FROM /Customers c WHERE c.lastName = $1", 10, 20L);
+		record("SELECT * FROM /Customers c WHERE c.age > $1", 5, 100L);
+		record("SELECT * FROM /Orders o WHERE o.amount >= 100 AND o.status = 'OPEN'", 4, 50L);
+
+		List<IndexRecommendation> recommendations = indexAdvisor.getRecommendations();
+
+		assertThat(recommendations.size(), is(equalTo(4)));
+
+		IndexRecommendation ageRecommendation = recommendations.get(0);
+
+		assertThat(ageRecommendation.getRegionPath(), is(equalTo("/Customers")));
+		assertThat(ageRecommendation.getExpression(), is(equalTo("age")));
+		assertThat(ageRecommendation.getIndexType(), is(equalTo(IndexType.FUNCTIONAL)));
+		assertThat(ageRecommendation.getEntityType().getName(), is(equalTo(Customer.class.getName())));
+		assertThat(ageRecommendation.getPropertyName(), is(equalTo("age")));
+		assertThat(ageRecommendation.getQueryCount(), is(equalTo(5L)));
+		assertThat(ageRecommendation.getEstimatedTimeSaved(TimeUnit.MILLISECONDS), is(equalTo(500L)));
+		assertThat(ageRecommendation.toDeclaration(), is(equalTo(String.format(
+			"@Indexed(type = IndexType.FUNCTIONAL) on %s.age", Customer.class.getName()))));
+
+		IndexRecommendation lastNameRecommendation = recommendations.get(1);
+
+		assertThat(lastNameRecommendation.getExpression(), is(equalTo("lastName")));
+		assertThat(lastNameRecommendation.getIndexType(), is(equalTo(IndexType.HASH)));
+		assertThat(lastNameRecommendation.isDeclared(), is(true));
+		assertThat(lastNameRecommendation.getEstimatedTimeSaved(TimeUnit.MILLISECONDS), is(equalTo(200L)));
+
+		IndexRecommendation orderRecommendation = recommendations.get(2);
+
+		assertThat(orderRecommendation.getRegionPath(), is(equalTo("/Orders")));
+		assertThat(orderRecommendation.getEntityType(), is(nullValue()));
+		assertThat(orderRecommendation.getEstimatedTimeSaved(TimeUnit.MILLISECONDS), is(equalTo(100L)));
+		assertThat(recommendations.get(3).getEstimatedTimeSaved(TimeUnit.MILLISECONDS), is(equalTo(100L)));
+	}
+
+	@Test
+	public void queriesServedByAnIndexAreNotConsidered() {
+		record("SELECT * FROM /Customers c WHERE c.id = $1 AND c.lastName = $2", 100, 10L);
+
+		assertThat(indexAdvisor.getRecommendations().isEmpty(), is(true));
+	}
+
+	@Test
+	public void infrequentQueriesAreNotConsidered() {
+		record("SELECT * FROM /Customers c WHERE c.age > $1", 1, 1000L);
+
+		assertThat(indexAdvisor.getRecommendations().isEmpty(), is(true));
+	}
+
+	@Region("Customers")
+	static class Customer {
+
+		@Id
+		Long id;
+
+		int age;
+
+		@Indexed
+		String lastName;
+
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.data.gemfire.RegionLookupFactoryBean;
+
+import com.gemstone.gemfire.cache.GemFireCache;
+import com.gemstone.gemfire.cache.Region;
+
+/**
+ * Unit tests for {@link ParallelRegionInitializer} and {@link RegionStartupTimeline}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.support.ParallelRegionInitializer
+ * @see org.springframework.data.gemfire.support.RegionStartupTimeline
+ * @since 1.10.0
+ */
+@SuppressWarnings("unchecked")
+public class ParallelRegionInitializerUnitTests {
+
+	private ParallelRegionInitializer parallelRegionInitializer = new ParallelRegionInitializer(2);
+
+	@After
+	public void tearDown() throws Exception {
+		parallelRegionInitializer.destroy();
+	}
+
+	protected Callable<Region<Object, Object>> newRegionInitializer(final Region<Object, Object> region,
+			final CountDownLatch latch, final List<String> initializationOrder) {
+
+		return new Callable<Region<Object, Object>>() {
+			@Override
+			public Region<Object, Object> call() throws Exception {
+				if (latch != null) {
+					latch.countDown();
+
+					if (!latch.await(5, TimeUnit.SECONDS)) {
+						throw new IllegalStateException("Regions not initialized concurrently");
+					}
+				}
+
+				initializationOrder.add(region.getName());
+
+				return region;
+			}
+		};
+	}
+
+	protected Region<Object, Object> mockRegion(String name) {
+		Region<Object, Object> mockRegion = mock(Region.class, name);
+		when(mockRegion.getName()).thenReturn(name);
+		return mockRegion;
+	}
+
+	@Test
+	public void independentRegionsAreInitializedConcurrently() throws Exception {
+		CountDownLatch latch = new CountDownLatch(2);
+		List<String> initializationOrder = Collections.synchronizedList(new ArrayList<String>());
+
+		Region<Object, Object> mockRegionOne = mockRegion("One");
+		Region<Object, Object> mockRegionTwo = mockRegion("Two");
+
+		Future<Region<Object, Object>> regionOne = parallelRegionInitializer.submit("One", null,
+			newRegionInitializer(mockRegionOne, latch, initializationOrder));
+
+		Future<Region<Object, Object>> regionTwo = parallelRegionInitializer.submit("/Two", null,
+			newRegionInitializer(mockRegionTwo, latch, initializationOrder));
+
+		parallelRegionInitializer.afterSingletonsInstantiated();
+
+		assertThat(regionOne.get(), is(sameInstance(mockRegionOne)));
+		assertThat(regionTwo.get(), is(sameInstance(mockRegionTwo)));
+		assertThat(initializationOrder.size(), is(equalTo(2)));
+
+		RegionStartupTimeline timeline = parallelRegionInitializer.getTimeline();
+
+		assertThat(timeline.getEntries().size(), is(equalTo(2)));
+		assertThat(timeline.getEntry("Two"), is(notNullValue()));
+		assertThat(timeline.getEntry("Two").isSuccessful(), is(true));
+		assertThat(timeline.getEntry("Two").getThreadName().startsWith(ParallelRegionInitializer.THREAD_NAME_PREFIX),
+			is(true));
+		assertThat(timeline.getEntry("Three"), is(nullValue()));
+		assertThat(timeline.toReport().contains("Region [One]"), is(true));
+	}
+
+	@Test
+	public void colocatedRegionIsInitializedAfterTheRegionItIsColocatedWith() throws Exception {
+		final CountDownLatch parentLatch = new CountDownLatch(1);
+		final List<String> initializationOrder = Collections.synchronizedList(new ArrayList<String>());
+		final Region<Object, Object> mockParent = mockRegion("Parent");
+
+		parallelRegionInitializer.submit("Parent", null, new Callable<Region<Object, Object>>() {
+			@Override
+			public Region<Object, Object> call() throws Exception {
+				parentLatch.await(5, TimeUnit.SECONDS);
+				initializationOrder.add(mockParent.getName());
+				return mockParent;
+			}
+		});
+
+		Future<Region<Object, Object>> child = parallelRegionInitializer.submit("Child", "/Parent",
+			newRegionInitializer(mockRegion("Child"), null, initializationOrder));
+
+		Thread.sleep(100);
+
+		assertThat(child.isDone(), is(false));
+
+		parentLatch.countDown();
+		parallelRegionInitializer.awaitAll();
+
+		assertThat(initializationOrder, is(equalTo(Arrays.asList("Parent", "Child"))));
+	}
+
+	@Test
+	public void colocatedRegionFailsWhenTheRegionItIsColocatedWithFails() throws Exception {
+		parallelRegionInitializer.submit("Parent", null, new Callable<Region<Object, Object>>() {
+			@Override
+			public Region<Object, Object> call() throws Exception {
+				throw new IllegalStateException("TEST");
+			}
+		});
+
+		Future<Region<Object, Object>> child = parallelRegionInitializer.submit("Child", "Parent",
+			newRegionInitializer(mockRegion("Child"), null, new ArrayList<String>()));
+
+		try {
+			child.get();
+			fail("Child Region initialized");
+		}
+		catch (ExecutionException expected) {
+			assertThat(expected.getCause().getMessage(),
+				is(equalTo("Region [Parent] required by Region [Child] failed to initialize")));
+		}
+
+		try {
+			parallelRegionInitializer.afterSingletonsInstantiated();
+			fail("Region initialization failure not reported");
+		}
+		catch (BeanInitializationException expected) {
+			assertThat(expected.getMessage().contains("Failed to initialize Region"), is(true));
+		}
+
+		assertThat(parallelRegionInitializer.getTimeline().getEntry("Parent").getFailure().getMessage(),
+			is(equalTo("TEST")));
+		assertThat(parallelRegionInitializer.getTimeline().getEntry("Child").getStartTime(), is(equalTo(-1L)));
+	}
+
+	@Test
+	public void regionLookupFactoryBeanInitializesRegionInParallel() throws Exception {
+		GemFireCache mockCache = mock(GemFireCache.class);
+		Region<Object, Object> mockRegion = mockRegion("Example");
+
+		when(mockCache.getRegion(eq("Example"))).thenReturn(mockRegion);
+
+		RegionLookupFactoryBean<Object, Object> regionFactoryBean = new RegionLookupFactoryBean<Object, Object>() { };
+
+		regionFactoryBean.setCache(mockCache);
+		regionFactoryBean.setParallelRegionInitializer(parallelRegionInitializer);
+		regionFactoryBean.setRegionName("Example");
+		regionFactoryBean.afterPropertiesSet();
+
+		assertThat(regionFactoryBean.getObject(), is(sameInstance(mockRegion)));
+		assertThat(parallelRegionInitializer.getTimeline().getEntry("Example").isSuccessful(), is(true));
+	}
+}
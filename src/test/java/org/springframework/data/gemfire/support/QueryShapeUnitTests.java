@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link QueryShape}, {@link QueryShapeStatistics} and {@link QueryStatisticsRecorder}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.support.QueryShape
+ * @see org.springframework.data.gemfire.support.QueryShapeStatistics
+ * @see org.springframework.data.gemfire.support.QueryStatisticsRecorder
+ * @since 1.10.0
+ */
+public class QueryShapeUnitTests {
+
+	@Test
+	public void parseReplacesLiteralsAndStripsPrefixes() {
+		QueryShape shape = QueryShape.parse("<TRACE> <HINT 'LastNameIdx'> SELECT * FROM /Customers c"
+			+ " WHERE c.lastName = 'O''Brien'  AND c.age >= 21 LIMIT 10");
+
+		assertThat(shape.getText(), is(equalTo(
+			"SELECT * FROM /Customers c WHERE c.lastName = ? AND c.age >= ? LIMIT ?")));
+		assertThat(shape.getRegionPath(), is(equalTo("/Customers")));
+		assertThat(shape.getPaths().size(), is(equalTo(2)));
+		assertThat(shape.getPaths().get("lastName"), is(false));
+		assertThat(shape.getPaths().get("age"), is(true));
+	}
+
+	@Test
+	public void queriesDifferingByLiteralsHaveTheSameShape() {
+		assertThat(QueryShape.parse("SELECT * FROM /Orders o WHERE o.status IN SET ('A', 'B')"),
+			is(equalTo(QueryShape.parse("SELECT * FROM /Orders o WHERE o.status IN SET ($1)"))));
+	}
+
+	@Test
+	public void parseQueryWithoutAlias() {
+		QueryShape shape = QueryShape.parse("IMPORT example.Customer; SELECT DISTINCT * FROM /Customers"
+			+ " WHERE lastName = $1 ORDER BY firstName");
+
+		assertThat(shape.getRegionPath(), is(equalTo("/Customers")));
+		assertThat(shape.getPaths().keySet().iterator().next(), is(equalTo("lastName")));
+		assertThat(shape.getPaths().size(), is(equalTo(1)));
+	}
+
+	@Test
+	public void parseNestedPathsAndLikeConditions() {
+		QueryShape shape = QueryShape.parse(
+			"SELECT * FROM /Orders.entrySet e WHERE e.value.customer.city LIKE 'S%' OR e.key = 5");
+
+		assertThat(shape.getRegionPath(), is(equalTo("/Orders")));
+		assertThat(shape.getPaths().get("value.customer.city"), is(true));
+		assertThat(shape.getPaths().get("key"), is(false));
+	}
+
+	@Test
+	public void stripAlias() {
+		assertThat(QueryShape.stripAlias("c.address.city", "c"), is(equalTo("address.city")));
+		assertThat(QueryShape.stripAlias("city", "c"), is(equalTo("city")));
+		assertThat(QueryShape.stripAlias("c", "c"), is(nullValue()));
+		assertThat(QueryShape.stripAlias("c.city", null), is(equalTo("c.city")));
+	}
+
+	@Test
+	public void statisticsComputePercentiles() {
+		QueryShapeStatistics statistics = new QueryShapeStatistics(
+			QueryShape.parse("SELECT * FROM /Customers"), 100);
+
+		for (int latency = 1; latency <= 100; latency++) {
+			statistics.record(TimeUnit.MILLISECONDS.toNanos(latency));
+		}
+
+		assertThat(statistics.getCount(), is(equalTo(100L)));
+		assertThat(statistics.getPercentile(50, TimeUnit.MILLISECONDS), is(equalTo(50L)));
+		assertThat(statistics.getPercentile(99, TimeUnit.MILLISECONDS), is(equalTo(99L)));
+		assertThat(statistics.getMaxTime(TimeUnit.MILLISECONDS), is(equalTo(100L)));
+		assertThat(statistics.getTotalTime(TimeUnit.MILLISECONDS), is(equalTo(5050L)));
+	}
+
+	@Test
+	public void recorderDropsQueriesBeyondMaxQueryShapes() {
+		QueryStatisticsRecorder recorder = new QueryStatisticsRecorder();
+
+		recorder.setMaxQueryShapes(2);
+		recorder.record("SELECT * FROM /Customers c WHERE c.id = 1", 10L);
+		recorder.record("SELECT * FROM /Customers c WHERE c.id = 2", 20L);
+		recorder.record("SELECT * FROM /Orders o WHERE o.id = 1", 5L);
+		recorder.record("SELECT * FROM /Products p WHERE p.id = 1", 40L);
+
+		assertThat(recorder.getStatistics().size(), is(equalTo(2)));
+		assertThat(recorder.getStatistics().get(0).getShape().getRegionPath(), is(equalTo("/Customers")));
+		assertThat(recorder.getStatistics().get(0).getCount(), is(equalTo(2L)));
+		assertThat(recorder.getDroppedQueryCount(), is(equalTo(1L)));
+	}
+
+	@Test
+	public void recorderRecordsUnseenQueriesInOverflowBucketOnceMaxQueryShapesIsReached() {
+		QueryStatisticsRecorder recorder = new QueryStatisticsRecorder();
+
+		recorder.setMaxQueryShapes(1);
+		recorder.record("SELECT * FROM /Customers c WHERE c.id = 1", 10L);
+		recorder.record("SELECT * FROM /Customers c WHERE c.id = 1", 20L);
+		recorder.record("SELECT * FROM /Customers c WHERE c.id = 2", 30L);
+		recorder.record("not an OQL query", 40L);
+
+		assertThat(recorder.getStatistics().size(), is(equalTo(1)));
+		assertThat(recorder.getStatistics().get(0).getCount(), is(equalTo(2L)));
+		assertThat(recorder.getOverflowStatistics().getShape().getText(),
+			is(equalTo(QueryStatisticsRecorder.OVERFLOW_QUERY_SHAPE_TEXT)));
+		assertThat(recorder.getOverflowStatistics().getCount(), is(equalTo(2L)));
+		assertThat(recorder.getOverflowStatistics().getTotalTime(TimeUnit.NANOSECONDS), is(equalTo(70L)));
+		assertThat(recorder.getDroppedQueryCount(), is(equalTo(2L)));
+
+		recorder.reset();
+
+		assertThat(recorder.getDroppedQueryCount(), is(equalTo(0L)));
+	}
+}
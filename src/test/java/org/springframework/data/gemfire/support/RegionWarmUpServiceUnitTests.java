@@ -0,0 +1,224 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.util.FileCopyUtils;
+
+import com.gemstone.gemfire.cache.GemFireCache;
+import com.gemstone.gemfire.cache.Region;
+import com.gemstone.gemfire.cache.RegionService;
+import com.gemstone.gemfire.cache.query.Query;
+import com.gemstone.gemfire.cache.query.QueryService;
+import com.gemstone.gemfire.cache.query.SelectResults;
+import com.gemstone.gemfire.cache.snapshot.RegionSnapshotService;
+import com.gemstone.gemfire.cache.snapshot.SnapshotOptions;
+
+/**
+ * Unit tests for {@link RegionWarmUpService} and {@link RegionWarmUp}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.support.RegionWarmUp
+ * @see org.springframework.data.gemfire.support.RegionWarmUpService
+ * @since 1.10.0
+ */
+@SuppressWarnings("unchecked")
+public class RegionWarmUpServiceUnitTests {
+
+	private GemFireCache mockCache;
+
+	private Region<Object, Object> mockRegion;
+
+	private List<List<Object>> batches = new ArrayList<List<Object>>();
+
+	private RegionWarmUpService regionWarmUpService;
+
+	@Before
+	public void setup() {
+		mockCache = mock(GemFireCache.class);
+		mockRegion = mock(Region.class);
+
+		when(mockCache.getRegion(eq("Example"))).thenReturn(mockRegion);
+
+		when(mockRegion.getAll(any(Collection.class))).thenAnswer(new Answer<Map<Object, Object>>() {
+			@Override
+			public Map<Object, Object> answer(InvocationOnMock invocation) throws Throwable {
+				Collection<Object> keys = (Collection<Object>) invocation.getArguments()[0];
+				Map<Object, Object> entries = new HashMap<Object, Object>();
+
+				batches.add(new ArrayList<Object>(keys));
+
+				for (Object key : keys) {
+					entries.put(key, (key.equals("missing") ? null : "value"));
+				}
+
+				return entries;
+			}
+		});
+
+		regionWarmUpService = new RegionWarmUpService();
+		regionWarmUpService.setCache(mockCache);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		regionWarmUpService.destroy();
+	}
+
+	@Test
+	public void warmUpLoadsKeysInBatches() {
+		regionWarmUpService.setWarmUps(Arrays.asList(RegionWarmUp.fromKeys("Example",
+			Arrays.asList("one", "two", "missing", "four", "five")).withBatchSize(2)));
+
+		assertThat(regionWarmUpService.isReady(), is(false));
+
+		regionWarmUpService.start();
+
+		assertThat(regionWarmUpService.isRunning(), is(true));
+		assertThat(regionWarmUpService.isReady(), is(true));
+		assertThat(batches.size(), is(equalTo(3)));
+		assertThat(batches.get(0), is(equalTo(Arrays.<Object>asList("one", "two"))));
+		assertThat(batches.get(2), is(equalTo(Arrays.<Object>asList("five"))));
+		assertThat(regionWarmUpService.getEntryCount("Example"), is(equalTo(4L)));
+		assertThat(regionWarmUpService.getFailures().isEmpty(), is(true));
+	}
+
+	@Test
+	public void warmUpLoadsKeysReturnedByQuery() throws Exception {
+		RegionService mockRegionService = mock(RegionService.class);
+		QueryService mockQueryService = mock(QueryService.class);
+		Query mockQuery = mock(Query.class);
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockRegion.getRegionService()).thenReturn(mockRegionService);
+		when(mockRegionService.getQueryService()).thenReturn(mockQueryService);
+		when(mockQueryService.newQuery(anyString())).thenReturn(mockQuery);
+		when(mockQuery.execute()).thenReturn(mockSelectResults);
+		when(mockSelectResults.asList()).thenReturn(Arrays.<Object>asList(1, 2, 3));
+
+		regionWarmUpService.setWarmUps(Arrays.asList(RegionWarmUp.fromQuery("Example",
+			"SELECT DISTINCT o.customerId FROM /Orders o")));
+
+		regionWarmUpService.start();
+
+		verify(mockQueryService).newQuery(eq("SELECT DISTINCT o.customerId FROM /Orders o"));
+		assertThat(batches, is(equalTo(Arrays.asList(Arrays.<Object>asList(1, 2, 3)))));
+		assertThat(regionWarmUpService.getEntryCount("Example"), is(equalTo(3L)));
+	}
+
+	@Test
+	public void failedWarmUpIsRecordedAndServiceIsNotReady() {
+		regionWarmUpService.setWarmUps(Arrays.asList(RegionWarmUp.fromKeys("Unknown", Arrays.asList("one")),
+			RegionWarmUp.fromKeys("Example", Arrays.asList("one"))));
+
+		regionWarmUpService.start();
+
+		assertThat(regionWarmUpService.isComplete(), is(true));
+		assertThat(regionWarmUpService.isReady(), is(false));
+		assertThat(regionWarmUpService.awaitReady(5, TimeUnit.SECONDS), is(false));
+		assertThat(regionWarmUpService.getFailures().get("Unknown"), is(instanceOf(IllegalStateException.class)));
+		assertThat(regionWarmUpService.getEntryCount("Example"), is(equalTo(1L)));
+	}
+
+	@Test
+	public void warmUpImportsSnapshotWithoutReplacingRegion() throws Exception {
+		RegionSnapshotService<Object, Object> mockSnapshotService = mock(RegionSnapshotService.class);
+
+		final List<String> importedSnapshots = new ArrayList<String>();
+
+		when(mockRegion.getSnapshotService()).thenReturn(mockSnapshotService);
+		when(mockRegion.size()).thenReturn(1, 3);
+
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+				importedSnapshots.add(new String(FileCopyUtils.copyToByteArray((File) invocation.getArguments()[0]),
+					"UTF-8"));
+				return null;
+			}
+		}).when(mockSnapshotService).load(any(File.class), eq(SnapshotOptions.SnapshotFormat.GEMFIRE));
+
+		regionWarmUpService.setWarmUps(Arrays.asList(RegionWarmUp.fromSnapshot("Example",
+			new ByteArrayResource("snapshot".getBytes("UTF-8")))));
+
+		regionWarmUpService.start();
+
+		assertThat(regionWarmUpService.isReady(), is(true));
+		assertThat(importedSnapshots, is(equalTo(Arrays.asList("snapshot"))));
+		assertThat(regionWarmUpService.getEntryCount("Example"), is(equalTo(2L)));
+		verify(mockRegion, never()).loadSnapshot(any(InputStream.class));
+	}
+
+	@Test
+	public void startWithoutAwaitingWarmUpReturnsImmediately() {
+		regionWarmUpService.setAwaitWarmUp(false);
+		regionWarmUpService.setWarmUps(Arrays.asList(RegionWarmUp.fromKeys("Example", Arrays.asList("one"))));
+		regionWarmUpService.start();
+
+		assertThat(regionWarmUpService.awaitReady(5, TimeUnit.SECONDS), is(true));
+		assertThat(regionWarmUpService.getEntryCount("Example"), is(equalTo(1L)));
+	}
+
+	@Test
+	public void reserveLimitsEntriesPerSecond() {
+		regionWarmUpService.setMaxEntriesPerSecond(100L);
+
+		long now = System.nanoTime();
+
+		assertThat(regionWarmUpService.reserve(now, 50), is(equalTo(0L)));
+		assertThat(regionWarmUpService.reserve(now, 50), is(equalTo(TimeUnit.MILLISECONDS.toNanos(500))));
+		assertThat(regionWarmUpService.reserve(now, 10), is(equalTo(TimeUnit.SECONDS.toNanos(1))));
+	}
+
+	@Test
+	public void reserveWithoutLimitNeverPauses() {
+		assertThat(regionWarmUpService.reserve(System.nanoTime(), 1000000), is(equalTo(0L)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void warmUpWithoutEntriesIsRejected() {
+		new RegionWarmUp("Example", null, null, null, RegionWarmUp.DEFAULT_BATCH_SIZE);
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gemstone.gemfire.cache.Cache;
+import com.gemstone.gemfire.cache.CacheTransactionManager;
+import com.gemstone.gemfire.cache.Region;
+
+/**
+ * Unit tests for {@link TransactionAwareCopyOnReadRegion}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.support.TransactionAwareCopyOnReadRegion
+ * @since 1.10.0
+ */
+public class TransactionAwareCopyOnReadRegionTests {
+
+	private CacheTransactionManager mockCacheTransactionManager;
+
+	private List<String> value;
+
+	private Region<String, List<String>> mockRegion;
+
+	private Region<String, List<String>> region;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		Cache mockCache = mock(Cache.class);
+
+		mockCacheTransactionManager = mock(CacheTransactionManager.class);
+		mockRegion = mock(Region.class);
+		value = new ArrayList<String>();
+		value.add("test");
+
+		when(mockCache.getCacheTransactionManager()).thenReturn(mockCacheTransactionManager);
+		when(mockRegion.getRegionService()).thenReturn(mockCache);
+		when(mockRegion.get(eq("key"))).thenReturn(value);
+
+		region = new TransactionAwareCopyOnReadRegion<String, List<String>>(mockRegion);
+	}
+
+	@Test
+	public void getReturnsDirectReferenceOutsideTransaction() {
+		when(mockCacheTransactionManager.exists()).thenReturn(false);
+
+		assertThat(region.get("key"), is(sameInstance(value)));
+
+		verify(mockRegion, times(1)).get(eq("key"));
+	}
+
+	@Test
+	public void getReturnsCopyInsideTransaction() {
+		when(mockCacheTransactionManager.exists()).thenReturn(true);
+
+		List<String> actualValue = region.get("key");
+
+		assertThat(actualValue, is(not(sameInstance(value))));
+		assertThat(actualValue, is(equalTo(value)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getEntryReturnsCopyOfValueInsideTransaction() {
+		Region.Entry<String, List<String>> mockEntry = mock(Region.Entry.class);
+
+		when(mockEntry.getValue()).thenReturn(value);
+		when(mockRegion.getEntry(eq("key"))).thenReturn(mockEntry);
+		when(mockCacheTransactionManager.exists()).thenReturn(true);
+
+		List<String> actualValue = region.getEntry("key").getValue();
+
+		assertThat(actualValue, is(not(sameInstance(value))));
+		assertThat(actualValue, is(equalTo(value)));
+	}
+
+	@Test
+	public void valuesAndEntrySetReturnCopiesInsideTransaction() {
+		when(mockRegion.values()).thenReturn(Collections.singletonList(value));
+		when(mockRegion.entrySet()).thenReturn(Collections.singletonMap("key", value).entrySet());
+		when(mockCacheTransactionManager.exists()).thenReturn(true);
+
+		List<String> actualValue = region.values().iterator().next();
+
+		assertThat(actualValue, is(not(sameInstance(value))));
+		assertThat(actualValue, is(equalTo(value)));
+
+		Map.Entry<String, List<String>> actualEntry = region.entrySet().iterator().next();
+
+		assertThat(actualEntry.getKey(), is(equalTo("key")));
+		assertThat(actualEntry.getValue(), is(not(sameInstance(value))));
+		assertThat(actualEntry.getValue(), is(equalTo(value)));
+	}
+
+	@Test
+	public void valuesReturnsRegionValuesOutsideTransaction() {
+		List<List<String>> values = Collections.singletonList(value);
+
+		when(mockRegion.values()).thenReturn(values);
+		when(mockCacheTransactionManager.exists()).thenReturn(false);
+
+		assertThat(region.values(), is(sameInstance((Object) values)));
+	}
+
+	@Test
+	public void selectValueReturnsCopyInsideTransaction() throws Exception {
+		when(mockRegion.selectValue(eq("key = 'key'"))).thenReturn(value);
+		when(mockCacheTransactionManager.exists()).thenReturn(true);
+
+		Object actualValue = region.selectValue("key = 'key'");
+
+		assertThat(actualValue, is(not(sameInstance((Object) value))));
+		assertThat(actualValue, is(equalTo((Object) value)));
+	}
+
+	@Test
+	public void selectValueReturnsDirectReferenceOutsideTransaction() throws Exception {
+		when(mockRegion.selectValue(eq("key = 'key'"))).thenReturn(value);
+		when(mockCacheTransactionManager.exists()).thenReturn(false);
+
+		assertThat(region.selectValue("key = 'key'"), is(sameInstance((Object) value)));
+	}
+
+	@Test
+	public void regionEqualsItselfOnly() {
+		assertThat(region.equals(region), is(true));
+		assertThat(region.equals(mockRegion), is(false));
+	}
+}